@@ -0,0 +1,18 @@
+package com.fairticket.domain.concert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.metadata-cache")
+public class MetadataCacheProperties {
+
+    // 인스턴스당 캐시할 최대 회차 수
+    private int maxSchedules = 1000;
+    // 무효화 메시지 유실 대비 최대 보관 시간 (분)
+    private int expireAfterWriteMinutes = 30;
+}
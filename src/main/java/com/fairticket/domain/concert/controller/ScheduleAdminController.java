@@ -0,0 +1,35 @@
+package com.fairticket.domain.concert.controller;
+
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Schedule Admin", description = "회차 메타데이터 관리 API (관리자용)")
+@RestController
+@RequestMapping("/api/v1/admin/schedules")
+@RequiredArgsConstructor
+public class ScheduleAdminController {
+
+    private final ScheduleMetadataCache metadataCache;
+
+    @Operation(summary = "회차 메타데이터 캐시 무효화", description = "회차·등급·구역 변경 후 호출. 모든 인스턴스에 전파된다.")
+    @PostMapping("/{scheduleId}/metadata/evict")
+    public Mono<ResponseEntity<Void>> evictMetadata(
+            @Parameter(required = true)
+            @PathVariable Long scheduleId) {
+        return metadataCache.evict(scheduleId)
+                .then(Mono.just(ResponseEntity.ok().build()));
+    }
+
+    @Operation(summary = "전체 메타데이터 캐시 무효화")
+    @PostMapping("/metadata/evict")
+    public Mono<ResponseEntity<Void>> evictAllMetadata() {
+        return metadataCache.evictAll()
+                .then(Mono.just(ResponseEntity.ok().build()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.fairticket.domain.concert.dto;
+
+import com.fairticket.domain.concert.entity.Grade;
+import com.fairticket.domain.concert.entity.Schedule;
+import com.fairticket.domain.concert.entity.Zone;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 회차·등급·구역 메타데이터 스냅샷 (판매 중 불변). 등급→구역 인덱스를 미리 계산해 둔다.
+// 캐시에서 공유되므로 꺼낸 엔티티를 수정하지 말 것
+@Getter
+public class ScheduleMetadata {
+
+    private final Schedule schedule;
+    private final List<Grade> grades;
+    private final List<Zone> zones;
+    private final Map<String, Zone> zonesByName;
+    private final Map<String, List<String>> zoneNamesByGrade;
+
+    public ScheduleMetadata(Schedule schedule, List<Grade> grades, List<Zone> zones) {
+        this.schedule = schedule;
+        this.grades = List.copyOf(grades);
+        this.zones = List.copyOf(zones);
+        this.zonesByName = Collections.unmodifiableMap(zones.stream()
+                .collect(Collectors.toMap(Zone::getZone, z -> z, (a, b) -> a, LinkedHashMap::new)));
+        this.zoneNamesByGrade = Collections.unmodifiableMap(zones.stream()
+                .collect(Collectors.groupingBy(Zone::getGrade, LinkedHashMap::new,
+                        Collectors.mapping(Zone::getZone, Collectors.toUnmodifiableList()))));
+    }
+
+    public Long getScheduleId() {
+        return schedule.getId();
+    }
+
+    public List<String> getZoneNames() {
+        return List.copyOf(zonesByName.keySet());
+    }
+
+    // 등급에 속한 구역명 목록 (없으면 빈 목록)
+    public List<String> zoneNamesOf(String grade) {
+        return zoneNamesByGrade.getOrDefault(grade, List.of());
+    }
+
+    public Optional<Zone> findZone(String zone) {
+        return Optional.ofNullable(zonesByName.get(zone));
+    }
+
+    // 구역이 해당 등급에 속하는지
+    public boolean isZoneInGrade(String grade, String zone) {
+        Zone z = zonesByName.get(zone);
+        return z != null && z.getGrade().equals(grade);
+    }
+
+    public Optional<Grade> findGrade(String grade) {
+        return grades.stream().filter(g -> g.getGrade().equals(grade)).findFirst();
+    }
+}
@@ -12,4 +12,7 @@ public interface ScheduleRepository extends ReactiveCrudRepository<Schedule, Lon
 
     // 티켓 오픈 시각이 주어진 시각 이전(이하)인 회차만 조회. 스케줄러에서 활성 회차만 처리할 때 사용 
     Flux<Schedule> findByTicketOpenAtLessThanEqual(LocalDateTime time);
+
+    // 티켓 오픈 시각이 [from, to] 구간인 회차. 오픈 직전 캐시 예열 대상 조회용
+    Flux<Schedule> findByTicketOpenAtBetween(LocalDateTime from, LocalDateTime to);
 }
@@ -2,25 +2,27 @@ package com.fairticket.domain.concert.service;
 
 import com.fairticket.domain.concert.dto.ConcertResponse;
 import com.fairticket.domain.concert.dto.GradeDetailResponse;
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
 import com.fairticket.domain.concert.dto.ScheduleResponse;
 import com.fairticket.domain.concert.entity.Concert;
 import com.fairticket.domain.concert.entity.Grade;
 import com.fairticket.domain.concert.entity.Schedule;
 import com.fairticket.domain.concert.entity.ScheduleStatus;
 import com.fairticket.domain.concert.repository.ConcertRepository;
-import com.fairticket.domain.concert.repository.GradeRepository;
 import com.fairticket.domain.concert.repository.ScheduleRepository;
 import com.fairticket.domain.concert.entity.Zone;
-import com.fairticket.domain.concert.repository.ZoneRepository;
 import com.fairticket.domain.seat.dto.GradeSeatCount;
 import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.domain.seat.service.SeatPoolService;
 import com.fairticket.global.exception.BusinessException;
 import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.global.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,9 +39,12 @@ public class ConcertService {
 
     private final ConcertRepository concertRepository;
     private final ScheduleRepository scheduleRepository;
-    private final GradeRepository gradeRepository;
-    private final ZoneRepository zoneRepository;
+    private final ScheduleMetadataCache metadataCache;
     private final SeatRepository seatRepository;
+    private final SeatPoolService seatPoolService;
+
+    // 공연 상세 동시 조회 병합 (잔여석 포함 응답을 짧게 공유)
+    private final SingleFlight<Long, ConcertResponse> concertFlight = new SingleFlight<>(Duration.ofMillis(500));
 
     public Flux<ConcertResponse> getConcerts() {
         return concertRepository.findAll()
@@ -47,9 +52,9 @@ public class ConcertService {
     }
 
     public Mono<ConcertResponse> getConcertById(Long concertId) {
-        return concertRepository.findById(concertId)
+        return concertFlight.execute(concertId, () -> concertRepository.findById(concertId)
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.CONCERT_NOT_FOUND)))
-                .flatMap(this::toConcertResponse);
+                .flatMap(this::toConcertResponse));
     }
 
     private Mono<ConcertResponse> toConcertResponse(Concert concert) {
@@ -128,18 +133,19 @@ public class ConcertService {
     }
 
     private Mono<List<GradeDetailResponse>> buildGrades(Schedule refSchedule) {
-        Mono<List<Grade>> gradesMono =
-                gradeRepository.findByScheduleId(refSchedule.getId()).collectList();
-        Mono<Map<String, Integer>> totalByGrade = zoneRepository.findByScheduleId(refSchedule.getId())
-                .collectList()
-                .map(zones -> zones.stream()
+        Mono<ScheduleMetadata> metadataMono = metadataCache.get(refSchedule.getId());
+        Mono<List<Grade>> gradesMono = metadataMono.map(ScheduleMetadata::getGrades);
+        Mono<Map<String, Integer>> totalByGrade = metadataMono
+                .map(metadata -> metadata.getZones().stream()
                         .collect(Collectors.groupingBy(Zone::getGrade,
                                 Collectors.summingInt(z -> z.getSeatCount() != null ? z.getSeatCount() : 0))));
-        Mono<Map<String, Long>> availableByGrade = seatRepository
-                .findAvailableSeatCountByScheduleIdGroupByGrade(refSchedule.getId())
-                .collectList()
-                .map(list -> list.stream()
-                        .collect(Collectors.toMap(GradeSeatCount::getGrade, GradeSeatCount::getCount)));
+        // 잔여석 카운터(HGETALL 한 번). 좌석 풀 구축 전 회차만 seats 테이블 집계로 대체
+        Mono<Map<String, Long>> availableByGrade = seatPoolService.getRemainingSeatsByGrade(refSchedule.getId())
+                .switchIfEmpty(Mono.defer(() -> seatRepository
+                        .findAvailableSeatCountByScheduleIdGroupByGrade(refSchedule.getId())
+                        .collectList()
+                        .map(list -> list.stream()
+                                .collect(Collectors.toMap(GradeSeatCount::getGrade, GradeSeatCount::getCount)))));
 
         return Mono.zip(gradesMono, totalByGrade, availableByGrade)
                 .map(tuple -> {
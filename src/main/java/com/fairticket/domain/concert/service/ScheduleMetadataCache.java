@@ -0,0 +1,130 @@
+package com.fairticket.domain.concert.service;
+
+import com.fairticket.domain.concert.config.MetadataCacheProperties;
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
+import com.fairticket.domain.concert.repository.GradeRepository;
+import com.fairticket.domain.concert.repository.ScheduleRepository;
+import com.fairticket.domain.concert.repository.ZoneRepository;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * 회차·등급·구역 메타데이터 인스턴스 로컬 캐시.
+ * 판매 중에는 사실상 불변이므로 클릭 경로에서 Postgres 조회를 제거한다.
+ * 변경 시 Redis pub/sub으로 모든 인스턴스에 무효화를 전파한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleMetadataCache {
+
+    private static final String INVALIDATE_ALL = "*";
+
+    private final ScheduleRepository scheduleRepository;
+    private final GradeRepository gradeRepository;
+    private final ZoneRepository zoneRepository;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final MetadataCacheProperties properties;
+
+    private AsyncCache<Long, ScheduleMetadata> cache;
+    private Disposable invalidationSubscription;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSchedules())
+                .expireAfterWrite(Duration.ofMinutes(properties.getExpireAfterWriteMinutes()))
+                .buildAsync();
+
+        // 구독이 끊기면 재연결. 재연결 사이 유실분은 전체 무효화로 보정
+        invalidationSubscription = redisTemplate.listenToChannel(RedisKeyGenerator.scheduleMetadataChannel())
+                .doOnSubscribe(s -> cache.synchronous().invalidateAll())
+                .map(message -> message.getMessage())
+                .doOnNext(this::applyInvalidation)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("메타데이터 무효화 채널 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * 회차 메타데이터 조회. 같은 회차의 동시 미스는 하나의 로드를 공유한다.
+     * 회차가 없으면 SCHEDULE_NOT_FOUND.
+     * 공유 future는 취소하지 않는다 (한 구독자 취소가 같은 로드를 기다리는 다른 요청까지 실패시키지 않도록)
+     */
+    public Mono<ScheduleMetadata> get(Long scheduleId) {
+        return Mono.fromFuture(cache.get(scheduleId, (id, executor) -> load(id).toFuture()), true)
+                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND)));
+    }
+
+    /**
+     * 캐시 예열 (티켓 오픈 전 호출)
+     */
+    public Mono<Void> warmUp(Long scheduleId) {
+        return get(scheduleId)
+                .doOnSuccess(m -> log.info("메타데이터 캐시 예열: scheduleId={}, grades={}, zones={}",
+                        scheduleId, m.getGrades().size(), m.getZones().size()))
+                .then();
+    }
+
+    /**
+     * 회차 메타데이터 변경 후 호출. 모든 인스턴스에 무효화를 전파한다.
+     */
+    public Mono<Void> evict(Long scheduleId) {
+        cache.synchronous().invalidate(scheduleId);
+        return redisTemplate.convertAndSend(RedisKeyGenerator.scheduleMetadataChannel(), String.valueOf(scheduleId))
+                .doOnSuccess(receivers -> log.info("메타데이터 무효화 전파: scheduleId={}, receivers={}", scheduleId, receivers))
+                .then();
+    }
+
+    public Mono<Void> evictAll() {
+        cache.synchronous().invalidateAll();
+        return redisTemplate.convertAndSend(RedisKeyGenerator.scheduleMetadataChannel(), INVALIDATE_ALL)
+                .then();
+    }
+
+    private void applyInvalidation(String payload) {
+        if (INVALIDATE_ALL.equals(payload)) {
+            cache.synchronous().invalidateAll();
+            return;
+        }
+        try {
+            cache.synchronous().invalidate(Long.parseLong(payload));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 메타데이터 무효화 메시지: {}", payload);
+        }
+    }
+
+    private Mono<ScheduleMetadata> load(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId)
+                .flatMap(schedule -> Mono.zip(
+                                gradeRepository.findByScheduleId(scheduleId).collectList(),
+                                zoneRepository.findByScheduleId(scheduleId).collectList())
+                        .map(tuple -> new ScheduleMetadata(schedule, tuple.getT1(), tuple.getT2())))
+                .doOnSuccess(m -> {
+                    if (m != null) {
+                        log.debug("메타데이터 로드: scheduleId={}", scheduleId);
+                    }
+                });
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface PaymentRepository extends ReactiveCrudRepository<Payment, Long> {
 
     Mono<Payment> findByMerchantUid(String merchantUid);
@@ -13,6 +15,8 @@ public interface PaymentRepository extends ReactiveCrudRepository<Payment, Long>
 
     Flux<Payment> findByStatus(String status);
 
+    Flux<Payment> findByReservationIdIn(Collection<Long> reservationIds);
+
     // userId 기준 조회는 Payment→Reservation JOIN 필요
     // → PaymentQueryRepository 사용
 }
\ No newline at end of file
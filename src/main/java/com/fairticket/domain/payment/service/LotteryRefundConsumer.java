@@ -0,0 +1,54 @@
+package com.fairticket.domain.payment.service;
+
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 추첨 미당첨 환불. 배정 작업이 미당첨 응모를 LOST로 바꾸며 남긴 LOTTERY_LOST 이벤트를 받아 결제를 환불한다.
+ * PG 호출이 느릴 수 있어 다른 후속 처리와 컨슈머 그룹을 나눈다. 실패하면 배치가 재전달되고, 이미 환불된 결제는 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LotteryRefundConsumer {
+
+    // PG 동시 호출 수
+    private static final int REFUND_CONCURRENCY = 8;
+
+    private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${fairticket.outbox.topic:domain-events}",
+            groupId = "fairticket-lottery-refund",
+            batch = "true")
+    public void consume(List<String> messages) {
+        Flux.fromIterable(messages)
+                .flatMap(this::parse)
+                .filter(message -> OutboxEventType.LOTTERY_LOST.name().equals(message.getEventType()))
+                .flatMap(message -> paymentService.refundCompletedPayment(message.getAggregateId(), "추첨 미당첨")
+                        .doOnSuccess(v -> log.info("추첨 미당첨 환불: reservationId={}", message.getAggregateId())),
+                        REFUND_CONCURRENCY)
+                .then()
+                .block(Duration.ofMinutes(2));
+    }
+
+    private Mono<OutboxMessage> parse(String message) {
+        try {
+            return Mono.just(objectMapper.readValue(message, OutboxMessage.class));
+        } catch (Exception e) {
+            log.error("도메인 이벤트 파싱 실패, 건너뜀: message={}", message, e);
+            return Mono.empty();
+        }
+    }
+}
@@ -8,18 +8,27 @@ import com.fairticket.domain.payment.repository.PaymentRepository;
 import com.fairticket.domain.payment.repository.PaymentQueryRepository;
 import com.fairticket.domain.reservation.constants.ReservationConstants;
 import com.fairticket.domain.reservation.entity.Reservation;
+import com.fairticket.domain.reservation.entity.ReservationStatus;
 import com.fairticket.domain.reservation.entity.TrackType;
 import com.fairticket.domain.reservation.repository.ReservationRepository;
 import com.fairticket.domain.reservation.service.LotteryTrackService;
+import com.fairticket.domain.reservation.service.ReservationWriteBehindService;
+import com.fairticket.domain.seat.repository.SeatRepository;
 import com.fairticket.global.exception.BusinessException;
 import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -30,13 +39,18 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentQueryRepository paymentQueryRepository;
     private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
     private final PortOneClient portOneClient;
     private final PaymentTimerService timerService;
     private final LotteryTrackService lotteryTrackService;
+    private final ReservationWriteBehindService writeBehindService;
+    private final OutboxService outboxService;
+    private final TransactionalOperator transactionalOperator;
 
-    // 결제 준비 (결제창 호출 전)
+    // 결제 준비 (결제창 호출 전). 쓰기 지연 모드에서 아직 반영되지 않은 예약은 먼저 반영한다
     public Mono<PaymentInitResponse> initiatePayment(Long reservationId, Long userId) {
-        return reservationRepository.findById(reservationId)
+        return writeBehindService.ensurePersisted(reservationId)
+                .then(reservationRepository.findById(reservationId))
                 .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.RESERVATION_NOT_FOUND)))
                 .flatMap(reservation -> {
                     int amount = calculateAmount(reservation);
@@ -91,24 +105,29 @@ public class PaymentService {
                             payment.setImpUid(request.getImpUid());
                             payment.setStatus(PaymentStatus.COMPLETED.name());
                             payment.setPaidAt(LocalDateTime.now());
-                            return paymentRepository.save(payment);
-                        }))
-                // 타이머 취소
-                .flatMap(payment -> timerService.cancelPaymentTimer(payment.getReservationId())
-                        .thenReturn(payment))
-                // 트랙별 후속 처리
-                .flatMap(payment -> reservationRepository.findById(payment.getReservationId())
-                        .flatMap(reservation -> {
-                            if (TrackType.LOTTERY.name().equals(reservation.getTrackType())) {
-                                return lotteryTrackService.onPaymentCompleted(
-                                        payment.getReservationId(),
-                                        reservation.getUserId(),
-                                        reservation.getScheduleId()
-                                ).thenReturn(payment);
-                            }
-                            // 라이브 트랙: 홀드 해제는 이슈 2에서 연동 예정
                             return Mono.just(payment);
                         }))
+                // 결제 확정 + 결제 완료 이벤트(아웃박스)를 한 트랜잭션으로 기록
+                .flatMap(payment -> reservationRepository.findById(payment.getReservationId())
+                        .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.RESERVATION_NOT_FOUND)))
+                        .flatMap(reservation -> paymentRepository.save(payment)
+                                // 라이브는 좌석이 이미 정해져 있으므로 결제와 함께 배정 완료·좌석 판매로 전이 (홀드 만료 대상에서 제외)
+                                .flatMap(saved -> markLiveAssigned(reservation).thenReturn(saved))
+                                .flatMap(saved -> outboxService.append(OutboxEventType.PAYMENT_COMPLETED,
+                                                reservation.getId(), paymentCompletedPayload(saved, reservation))
+                                        .thenReturn(saved))
+                                .as(transactionalOperator::transactional)
+                                // 타이머 취소
+                                .flatMap(saved -> timerService.cancelPaymentTimer(saved.getReservationId())
+                                        .thenReturn(saved))
+                                // 트랙별 후속 처리. 라이브 홀드 키 정리는 결제 완료 이벤트 컨슈머가 비동기로 처리
+                                .flatMap(saved -> TrackType.LOTTERY.name().equals(reservation.getTrackType())
+                                        ? lotteryTrackService.onPaymentCompleted(
+                                                saved.getReservationId(),
+                                                reservation.getUserId(),
+                                                reservation.getScheduleId()
+                                        ).thenReturn(saved)
+                                        : Mono.just(saved))))
                 .doOnSuccess(payment -> log.info("결제 완료: paymentId={}, merchantUid={}",
                         payment.getId(), payment.getMerchantUid()));
     }
@@ -131,6 +150,17 @@ public class PaymentService {
                 }));
     }
 
+    // 예약의 완료 결제 환불 (추첨 미당첨 등). 완료 결제가 없으면(이미 환불됨) 아무것도 하지 않아 재시도해도 안전
+    public Mono<Void> refundCompletedPayment(Long reservationId, String reason) {
+        return paymentRepository.findByReservationIdIn(List.of(reservationId))
+                .filter(payment -> PaymentStatus.COMPLETED.name().equals(payment.getStatus()))
+                .next()
+                .flatMap(payment -> refundPayment(payment.getId(), reason))
+                .flatMap(result -> result.isSuccess()
+                        ? Mono.<Void>empty()
+                        : Mono.<Void>error(new BusinessException(ErrorCode.REFUND_FAILED, result.getMessage())));
+    }
+
     // 결제 단건 조회
     public Mono<Payment> getPayment(Long paymentId) {
         return paymentRepository.findById(paymentId)
@@ -148,6 +178,29 @@ public class PaymentService {
         return paymentQueryRepository.findByUserId(userId);
     }
 
+    private Mono<Void> markLiveAssigned(Reservation reservation) {
+        if (!TrackType.LIVE.name().equals(reservation.getTrackType())) {
+            return Mono.empty();
+        }
+        reservation.setStatus(ReservationStatus.ASSIGNED.name());
+        reservation.setUpdatedAt(LocalDateTime.now());
+        return reservationRepository.save(reservation)
+                .then(seatRepository.markSoldByReservationId(reservation.getScheduleId(), reservation.getId()))
+                .then();
+    }
+
+    private static Map<String, Object> paymentCompletedPayload(Payment payment, Reservation reservation) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("paymentId", payment.getId());
+        payload.put("reservationId", reservation.getId());
+        payload.put("userId", reservation.getUserId());
+        payload.put("scheduleId", reservation.getScheduleId());
+        payload.put("trackType", reservation.getTrackType());
+        payload.put("amount", payment.getAmount());
+        payload.put("paidAt", payment.getPaidAt());
+        return payload;
+    }
+
     private String generateMerchantUid() {
         return "FAIR_" + System.currentTimeMillis() + "_" +
                 UUID.randomUUID().toString().substring(0, 8);
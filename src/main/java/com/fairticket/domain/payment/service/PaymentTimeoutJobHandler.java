@@ -0,0 +1,103 @@
+package com.fairticket.domain.payment.service;
+
+import com.fairticket.domain.payment.entity.PaymentStatus;
+import com.fairticket.domain.payment.repository.PaymentRepository;
+import com.fairticket.domain.reservation.entity.Reservation;
+import com.fairticket.domain.reservation.entity.ReservationStatus;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.domain.reservation.service.LotteryQuotaService;
+import com.fairticket.domain.reservation.service.UserLedgerService;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxService;
+import com.fairticket.infra.redis.DelayedJobHandler;
+import com.fairticket.infra.redis.DelayedJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 결제 타임아웃 지연 작업: 미결제(PENDING) 예약과 결제를 묶음으로 취소하고 참여 원장 수량·추첨 쿼터를 되돌림
+// 상태 조건부 UPDATE로 실제 취소한 예약만 되돌리므로 재전달·동시 결제와 겹쳐도 안전
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentTimeoutJobHandler implements DelayedJobHandler {
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserLedgerService userLedgerService;
+    private final LotteryQuotaService lotteryQuotaService;
+    private final OutboxService outboxService;
+    private final TransactionalOperator transactionalOperator;
+
+    @Override
+    public DelayedJobType type() {
+        return DelayedJobType.PAYMENT_TIMEOUT;
+    }
+
+    @Override
+    public Mono<Void> handle(List<String> payloads) {
+        List<Long> reservationIds = payloads.stream().map(Long::parseLong).toList();
+        LocalDateTime now = LocalDateTime.now();
+        return reservationRepository.findAllById(reservationIds)
+                .filter(reservation -> ReservationStatus.PENDING.name().equals(reservation.getStatus()))
+                .collectList()
+                .flatMap(candidates -> {
+                    if (candidates.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    // 예약·결제 취소와 취소 이벤트(아웃박스)는 한 트랜잭션.
+                    // 조회 후 결제가 완료됐을 수 있으므로 여전히 PENDING인 예약만 조건부로 취소한다
+                    return Flux.fromIterable(candidates)
+                            .concatMap(r -> reservationRepository.updateStatusIfCurrent(r.getId(),
+                                            ReservationStatus.PENDING.name(), ReservationStatus.CANCELLED.name(), now)
+                                    .filter(updated -> updated == 1)
+                                    .map(updated -> r))
+                            .collectList()
+                            .flatMap(cancelled -> cancelled.isEmpty()
+                                    ? Mono.just(cancelled)
+                                    : cancelPayments(cancelled, now).thenReturn(cancelled))
+                            .as(transactionalOperator::transactional)
+                            .flatMap(cancelled -> Flux.fromIterable(cancelled)
+                                    .flatMap(r -> userLedgerService.release(r.getScheduleId(), r.getUserId(),
+                                                    TrackType.valueOf(r.getTrackType()), r.getQuantity())
+                                            .then(TrackType.LOTTERY.name().equals(r.getTrackType())
+                                                    ? lotteryQuotaService.release(r.getScheduleId(), r.getGrade(), r.getQuantity())
+                                                    : Mono.<Void>empty()))
+                                    .then()
+                                    .doOnSuccess(v -> {
+                                        if (!cancelled.isEmpty()) {
+                                            log.warn("결제 타임아웃 취소: reservationIds={}",
+                                                    cancelled.stream().map(Reservation::getId).toList());
+                                        }
+                                    }));
+                });
+    }
+
+    // 취소한 예약의 미결제 결제 취소 + 취소 이벤트 기록
+    private Mono<Void> cancelPayments(List<Reservation> cancelled, LocalDateTime now) {
+        return paymentRepository.findByReservationIdIn(cancelled.stream().map(Reservation::getId).toList())
+                .filter(payment -> PaymentStatus.PENDING.name().equals(payment.getStatus()))
+                .doOnNext(payment -> {
+                    payment.setStatus(PaymentStatus.CANCELLED.name());
+                    payment.setUpdatedAt(now);
+                })
+                .collectList()
+                .flatMap(payments -> paymentRepository.saveAll(payments).then())
+                .then(Flux.fromIterable(cancelled)
+                        .concatMap(r -> outboxService.append(OutboxEventType.RESERVATION_CANCELLED, r.getId(),
+                                Map.of("reservationId", r.getId(),
+                                        "userId", r.getUserId(),
+                                        "scheduleId", r.getScheduleId(),
+                                        "trackType", r.getTrackType(),
+                                        "reason", "PAYMENT_TIMEOUT")))
+                        .then());
+    }
+}
@@ -5,6 +5,8 @@ import com.fairticket.domain.reservation.entity.TrackType;
 import com.fairticket.global.exception.BusinessException;
 import com.fairticket.global.exception.ErrorCode;
 import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.infra.redis.DelayedJobService;
+import com.fairticket.infra.redis.DelayedJobType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -19,14 +21,18 @@ import java.time.Duration;
 public class PaymentTimerService {
 
     private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final DelayedJobService delayedJobService;
 
     @Autowired
     public PaymentTimerService(
-            @Qualifier("reactiveRedisTemplate") ReactiveRedisTemplate<String, String> redisTemplate) {
+            @Qualifier("reactiveRedisTemplate") ReactiveRedisTemplate<String, String> redisTemplate,
+            DelayedJobService delayedJobService) {
         this.redisTemplate = redisTemplate;
+        this.delayedJobService = delayedJobService;
     }
 
     // 결제 타이머 시작 (추첨/라이브 공통 5분)
+    // 타이머 키는 남은 시간 표시용, 만료 시 자동 취소는 지연 작업(PAYMENT_TIMEOUT)이 수행
     public Mono<Void> startPaymentTimer(Long reservationId, TrackType trackType) {
         String timerKey = RedisKeyGenerator.paymentTimerKey(reservationId);
         // 타임라인 기준 결제 제한 시간: 추첨/라이브 공통 5분
@@ -37,6 +43,7 @@ public class PaymentTimerService {
 
         return redisTemplate.opsForValue()
                 .set(timerKey, "PENDING", ttl)
+                .then(delayedJobService.schedule(DelayedJobType.PAYMENT_TIMEOUT, reservationId.toString(), ttl))
                 .doOnSuccess(v -> log.info("결제 타이머 시작: reservationId={}, ttl={}분",
                         reservationId, ttl.toMinutes()))
                 .then();
@@ -45,7 +52,8 @@ public class PaymentTimerService {
     // 결제 타이머 취소 (결제 완료 시)
     public Mono<Boolean> cancelPaymentTimer(Long reservationId) {
         String timerKey = RedisKeyGenerator.paymentTimerKey(reservationId);
-        return redisTemplate.delete(timerKey)
+        return delayedJobService.cancel(DelayedJobType.PAYMENT_TIMEOUT, reservationId.toString())
+                .then(redisTemplate.delete(timerKey))
                 .map(deleted -> deleted > 0)
                 .doOnSuccess(success -> log.info("결제 타이머 취소: reservationId={}", reservationId));
     }
@@ -3,7 +3,10 @@ package com.fairticket.domain.payment.service;
 import com.fairticket.domain.payment.entity.PaymentStatus;
 import com.fairticket.domain.payment.repository.PaymentRepository;
 import com.fairticket.domain.reservation.entity.ReservationStatus;
+import com.fairticket.domain.reservation.entity.TrackType;
 import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.domain.reservation.service.LotteryQuotaService;
+import com.fairticket.domain.reservation.service.UserLedgerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -18,9 +22,14 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class PaymentVerificationScheduler {
 
+    private static final Set<String> LOTTERY_QUOTA_STATUSES = Set.of(
+            ReservationStatus.PENDING.name(), ReservationStatus.PAID_PENDING_SEAT.name());
+
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
     private final PortOneClient portOneClient;
+    private final UserLedgerService userLedgerService;
+    private final LotteryQuotaService lotteryQuotaService;
 
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void verifyPendingPayments() {
@@ -83,10 +92,19 @@ public class PaymentVerificationScheduler {
     private Mono<Void> updateReservationStatus(Long reservationId, String status) {
         return reservationRepository.findById(reservationId)
                 .flatMap(reservation -> {
+                    // 추첨 쿼터에 잡힌 예약(PENDING, PAID_PENDING_SEAT)이 취소되면 쿼터를 되돌린다
+                    Mono<Void> quotaRelease = TrackType.LOTTERY.name().equals(reservation.getTrackType())
+                            && ReservationStatus.CANCELLED.name().equals(status)
+                            && LOTTERY_QUOTA_STATUSES.contains(reservation.getStatus())
+                            ? lotteryQuotaService.release(reservation.getScheduleId(), reservation.getGrade(), reservation.getQuantity())
+                            : Mono.empty();
                     reservation.setStatus(status);
                     reservation.setUpdatedAt(LocalDateTime.now());
-                    return reservationRepository.save(reservation);
+                    return reservationRepository.save(reservation).flatMap(saved -> quotaRelease.thenReturn(saved));
                 })
+                // 상태 전이로 참여 원장 집계가 바뀌므로 폐기 후 다시 채우게 한다
+                .flatMap(saved -> userLedgerService.invalidate(saved.getScheduleId(), saved.getUserId())
+                        .thenReturn(saved))
                 .doOnSuccess(r -> log.info("예약 상태 업데이트: reservationId={}, status={}",
                         reservationId, status))
                 .then();
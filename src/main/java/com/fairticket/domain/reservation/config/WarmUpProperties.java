@@ -0,0 +1,18 @@
+package com.fairticket.domain.reservation.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.warm-up")
+public class WarmUpProperties {
+
+    // 티켓 오픈 N분 전부터 예열 시작
+    private int leadMinutes = 10;
+    // 인스턴스별 합성 호출 반복 횟수 (JIT·커넥션 예열)
+    private int syntheticIterations = 50;
+}
@@ -1,32 +1,80 @@
 package com.fairticket.domain.reservation.controller;
 
 import com.fairticket.domain.reservation.service.LiveTrackService;
+import com.fairticket.domain.seat.dto.SeatAvailabilityResponse;
+import com.fairticket.domain.seat.dto.SeatLayoutResponse;
 import com.fairticket.domain.seat.dto.SeatSelectionRequest;
 import com.fairticket.domain.seat.dto.SeatSelectionResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/v1/live")
 @RequiredArgsConstructor
 public class LiveTrackController {
+    private static final Duration LAYOUT_MAX_AGE = Duration.ofDays(365);
+    // 버전 없는 배치 URL은 재구축으로 배치가 바뀔 수 있으므로 짧게만 캐시하고 ETag로 재검증
+    private static final Duration LAYOUT_REVALIDATE_MAX_AGE = Duration.ofSeconds(60);
+
     private final LiveTrackService liveTrackService;
 
-    // 선택한 등급·구역 내 잔여 좌석 번호 목록 (구역 목록은 GET /api/v1/schedules/{scheduleId}/grades/{grade}/zones 사용)
+    // 잔여석 비트맵 스냅샷 (구역 목록은 GET /api/v1/schedules/{scheduleId}/grades/{grade}/zones 사용).
+    // zone 미지정 시 등급 전체 구역. If-None-Match가 현재 버전과 같으면 304
     @GetMapping("/{scheduleId}")
-    public Mono<ResponseEntity<List<String>>> getAvailableSeats(
+    public Mono<ResponseEntity<SeatAvailabilityResponse>> getAvailableSeats(
             @PathVariable Long scheduleId,
             @RequestParam String grade,
-            @RequestParam String zone) {
-        return liveTrackService.getAvailableSeats(scheduleId, grade, zone)
-                .map(ResponseEntity::ok);
+            @RequestParam(required = false) String zone,
+            ServerWebExchange exchange) {
+        return liveTrackService.getSeatAvailability(scheduleId, grade, zone)
+                .map(snapshot -> {
+                    if (exchange.checkNotModified(snapshot.getVersion())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(snapshot.getVersion())
+                                .<SeatAvailabilityResponse>build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(snapshot.getVersion())
+                            .cacheControl(CacheControl.noCache())
+                            .body(snapshot);
+                });
+    }
+
+    // 구역 좌석 배치 문서. v(잔여석 응답의 layoutVersion)가 현재 버전과 같으면 URL이 내용을 식별하므로
+    // CDN·클라이언트가 영구 캐시하고, v가 없거나 다르면 짧은 max-age + ETag 재검증만 허용한다
+    @GetMapping("/{scheduleId}/layout")
+    public Mono<ResponseEntity<SeatLayoutResponse>> getSeatLayout(
+            @PathVariable Long scheduleId,
+            @RequestParam String zone,
+            @RequestParam(required = false) String v,
+            ServerWebExchange exchange) {
+        return liveTrackService.getSeatLayout(scheduleId, zone)
+                .map(layout -> {
+                    if (exchange.checkNotModified(layout.getVersion())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(layout.getVersion())
+                                .<SeatLayoutResponse>build();
+                    }
+                    CacheControl cacheControl = layout.getVersion().equals(v)
+                            ? CacheControl.maxAge(LAYOUT_MAX_AGE).cachePublic().immutable()
+                            : CacheControl.maxAge(LAYOUT_REVALIDATE_MAX_AGE).cachePublic();
+                    return ResponseEntity.ok()
+                            .eTag(layout.getVersion())
+                            .cacheControl(cacheControl)
+                            .body(layout);
+                });
     }
 
     // 좌석 선택(홀드). Request body: grade, zone, seatNumber
+    // 본문 grade와 같은 값을 X-Seat-Grade 헤더로도 보내면 매진 등급 요청을 SoldOutFilter가 인증 전에 410으로 막는다
+    // (헤더가 없으면 서비스가 본문 등급으로 같은 판단을 한다)
     @PostMapping("/{scheduleId}")
     public Mono<ResponseEntity<SeatSelectionResponse>> selectSeat(
             @PathVariable Long scheduleId,
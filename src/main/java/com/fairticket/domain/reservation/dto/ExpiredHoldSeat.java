@@ -0,0 +1,18 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 홀드 만료 스윕 대상·취소된 예약 좌석 (좌석 반환·홀드 해제 대상)
+@Getter
+@AllArgsConstructor
+public class ExpiredHoldSeat {
+
+    // reservation_seats.id (키셋 페이지 기준)
+    private Long id;
+    private Long userId;
+    private String zone;
+    private String seatNumber;
+    // 취소 전 예약이 PENDING이었는지 (참여 원장 차감 대상)
+    private boolean counted;
+}
@@ -0,0 +1,27 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회차 추첨 배정 작업 상태 (lottery_assignment_jobs)
+@Getter
+@AllArgsConstructor
+public class LotteryAssignmentJob {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+
+    private Long scheduleId;
+    // 셔플 시드 (계획 재현·감사용)
+    private long seed;
+    private String status;
+    private int totalChunks;
+    // 다음에 처리할 청크 (이전 청크까지 커밋됨)
+    private int nextChunk;
+    private int totalSeats;
+    private int assignedSeats;
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+}
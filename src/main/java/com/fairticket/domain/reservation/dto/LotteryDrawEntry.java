@@ -0,0 +1,13 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 추첨 응모 1건 (결제 완료 추첨 예약, 가중치=수량)
+@Getter
+@AllArgsConstructor
+public class LotteryDrawEntry {
+
+    private Long reservationId;
+    private int quantity;
+}
@@ -1,14 +1,18 @@
 package com.fairticket.domain.reservation.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-// 추첨 예약 당첨/미당첨 결과 조회용
+// 추첨 예약 당첨/미당첨 결과 조회용 (배정 완료 시 Redis에 JSON으로 사전 계산해 둔다)
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class LotteryResultResponse {
     private Long id;
     private Long scheduleId;
@@ -26,6 +30,8 @@ public class LotteryResultResponse {
 
     @Getter
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class AssignedSeatDto {
         private String zone;
         private String seatNumber;
@@ -0,0 +1,15 @@
+package com.fairticket.domain.reservation.dto;
+
+import com.fairticket.domain.reservation.entity.Reservation;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 추첨 결과 사전 계산용 조회 행 (예약 1건 + 배정 좌석)
+@Getter
+@AllArgsConstructor
+public class LotteryResultRow {
+    private Reservation reservation;
+    private List<LotteryResultResponse.AssignedSeatDto> seats;
+}
@@ -0,0 +1,15 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 추첨 배정 계획의 좌석 1석 (청크 번호, 예약 ← 구역·좌석 번호)
+@Getter
+@AllArgsConstructor
+public class LotterySeatAssignment {
+
+    private int chunkNo;
+    private Long reservationId;
+    private String zone;
+    private String seatNumber;
+}
@@ -0,0 +1,36 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 지연 모드 예약 이벤트 (Kafka 메시지, 키=reservationId).
+ * 예약 행을 만들 수 있는 정보를 모두 담아 순서와 무관하게 멱등 반영된다.
+ * LIVE_SEAT: 라이브 좌석 1석 선점 (예약이 없으면 함께 생성), LOTTERY: 추첨 예약 생성
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationEvent {
+
+    public static final String LIVE_SEAT = "LIVE_SEAT";
+    public static final String LOTTERY = "LOTTERY";
+
+    private String type;
+    private Long reservationId;
+    private Long userId;
+    private Long scheduleId;
+    private String grade;
+    // 예약 생성 시 수량 (라이브는 좌석 반영 후 좌석 수로 다시 계산)
+    private int quantity;
+    // 라이브 좌석 (LOTTERY면 null)
+    private Long seatId;
+    private String zone;
+    private String seatNumber;
+    private LocalDateTime createdAt;
+}
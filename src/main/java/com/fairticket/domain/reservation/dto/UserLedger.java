@@ -0,0 +1,21 @@
+package com.fairticket.domain.reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 사용자별 회차 참여 원장 (reservations 집계). Redis 원장이 없을 때 채우는 용도
+@Getter
+@AllArgsConstructor
+public class UserLedger {
+
+    // 최초 참여 트랙 (LIVE/LOTTERY), 예약이 없으면 빈 문자열
+    private String track;
+    // 라이브 보유 수량 (PENDING, PAID_PENDING_SEAT, ASSIGNED)
+    private long liveQuantity;
+    // 추첨 신청 수량 (PENDING, PAID_PENDING_SEAT)
+    private long lotteryQuantity;
+    // 추첨 결제 완료 여부
+    private boolean lotteryPaid;
+    // 라이브 예약 ID (없으면 null). 쓰기 지연 모드에서 같은 예약에 좌석을 이어 붙일 때 사용
+    private Long liveReservationId;
+}
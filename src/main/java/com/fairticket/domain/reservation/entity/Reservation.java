@@ -30,7 +30,7 @@ public class Reservation {
 
     // 트랙 정보
     private String trackType;                // LOTTERY, LIVE
-    private String status;                   // PENDING, PAID, PAID_PENDING_SEAT, ASSIGNED, CANCELLED, REFUNDED
+    private String status;                   // PENDING, PAID, PAID_PENDING_SEAT, ASSIGNED, LOST, CANCELLED, REFUNDED
 
     // 시간 정보
     private LocalDateTime createdAt;
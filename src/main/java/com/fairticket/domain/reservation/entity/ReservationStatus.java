@@ -5,6 +5,7 @@ public enum ReservationStatus {
     PAID,
     PAID_PENDING_SEAT,
     ASSIGNED,
+    LOST,
     CANCELLED,
     REFUNDED
 }
@@ -0,0 +1,122 @@
+package com.fairticket.domain.reservation.repository;
+
+import com.fairticket.domain.reservation.dto.ExpiredHoldSeat;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 라이브 홀드 만료 스윕용 쿼리 (reservation_seats JOIN reservations).
+ * 일정 단위 키셋 페이지 조회와 집합 단위 취소를 DatabaseClient로 직접 수행
+ */
+@Repository
+@RequiredArgsConstructor
+public class LiveHoldQueryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // 만료된 PENDING 라이브 좌석이 있는 일정
+    public Flux<Long> findScheduleIdsWithExpiredHolds(LocalDateTime threshold) {
+        return databaseClient.sql("""
+                SELECT DISTINCT r.schedule_id
+                FROM reservation_seats rs
+                JOIN reservations r ON r.id = rs.reservation_id
+                WHERE rs.status = 'PENDING'
+                  AND rs.created_at < :threshold
+                  AND r.track_type = 'LIVE'
+                """)
+                .bind("threshold", threshold)
+                .map((row, metadata) -> row.get("schedule_id", Long.class))
+                .all();
+    }
+
+    // 만료 좌석 키셋 페이지 (id > afterId, id 오름차순). 결제 완료된 예약의 좌석은 제외
+    public Flux<ExpiredHoldSeat> findExpiredHolds(Long scheduleId, LocalDateTime threshold, long afterId, int limit) {
+        return databaseClient.sql("""
+                SELECT rs.id, r.user_id, rs.zone, rs.seat_number, r.status = 'PENDING' AS counted
+                FROM reservation_seats rs
+                JOIN reservations r ON r.id = rs.reservation_id
+                WHERE r.schedule_id = :scheduleId
+                  AND r.track_type = 'LIVE'
+                  AND r.status IN ('PENDING', 'CANCELLED')
+                  AND rs.status = 'PENDING'
+                  AND rs.created_at < :threshold
+                  AND rs.id > :afterId
+                ORDER BY rs.id
+                LIMIT :limit
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("threshold", threshold)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> toExpiredHoldSeat(row))
+                .all();
+    }
+
+    /**
+     * 좌석 취소와 예약 수량 차감을 한 문장으로 처리. 아직 PENDING인 좌석만 취소하므로
+     * 만료 스윕과 홀드 만료 작업이 겹쳐도 중복 차감되지 않는다 (두 경로 모두 이 문장을 쓴다). 수량이 0이 된 예약은 CANCELLED.
+     * counted는 취소 전 예약이 PENDING이었는지 (참여 원장 차감 대상)
+     * 예약별 만료 이벤트(LIVE_SEATS_EXPIRED)도 같은 문장에서 아웃박스에 기록한다
+     * @return 이번에 실제로 취소된 좌석
+     */
+    public Flux<ExpiredHoldSeat> cancelExpiredSeats(List<Long> reservationSeatIds, LocalDateTime now) {
+        return databaseClient.sql("""
+                WITH cancelled AS (
+                    UPDATE reservation_seats rs
+                    SET status = 'CANCELLED'
+                    FROM reservations r
+                    WHERE rs.id = ANY(:ids)
+                      AND rs.status = 'PENDING'
+                      AND r.id = rs.reservation_id
+                      AND r.track_type = 'LIVE'
+                      AND r.status IN ('PENDING', 'CANCELLED')
+                    RETURNING rs.id, rs.reservation_id, r.user_id, rs.zone, rs.seat_number, r.status = 'PENDING' AS counted
+                ), counts AS (
+                    SELECT reservation_id, COUNT(*) AS cnt
+                    FROM cancelled
+                    GROUP BY reservation_id
+                ), updated AS (
+                    UPDATE reservations r
+                    SET quantity = GREATEST(0, r.quantity - counts.cnt),
+                        status = CASE WHEN r.quantity - counts.cnt <= 0 THEN 'CANCELLED' ELSE r.status END,
+                        updated_at = :now
+                    FROM counts
+                    WHERE r.id = counts.reservation_id
+                    RETURNING r.id, r.user_id, r.schedule_id, r.quantity, r.status
+                ), events AS (
+                    INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at)
+                    SELECT 'RESERVATION', u.id, 'LIVE_SEATS_EXPIRED',
+                           json_build_object(
+                               'reservationId', u.id,
+                               'userId', u.user_id,
+                               'scheduleId', u.schedule_id,
+                               'seats', (SELECT json_agg(c.zone || ':' || c.seat_number)
+                                         FROM cancelled c WHERE c.reservation_id = u.id),
+                               'remainingQuantity', u.quantity,
+                               'status', u.status)::text,
+                           :now
+                    FROM updated u
+                )
+                SELECT id, user_id, zone, seat_number, counted FROM cancelled
+                """)
+                .bind("ids", reservationSeatIds.toArray(new Long[0]))
+                .bind("now", now)
+                .map((row, metadata) -> toExpiredHoldSeat(row))
+                .all();
+    }
+
+    private static ExpiredHoldSeat toExpiredHoldSeat(Row row) {
+        return new ExpiredHoldSeat(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("zone", String.class),
+                row.get("seat_number", String.class),
+                Boolean.TRUE.equals(row.get("counted", Boolean.class)));
+    }
+}
@@ -0,0 +1,222 @@
+package com.fairticket.domain.reservation.repository;
+
+import com.fairticket.domain.reservation.dto.LotteryAssignmentJob;
+import com.fairticket.domain.reservation.dto.LotteryDrawEntry;
+import com.fairticket.domain.reservation.dto.LotterySeatAssignment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추첨 좌석 배정 작업. 작업 생성 시 추첨 결과(당첨자·좌석) 배정 계획을 테이블에 고정하고(미당첨 응모는 LOST),
+ * 청크마다 체크포인트 전진·좌석 SOLD 전환·reservation_seats 다건 INSERT·예약 ASSIGNED 전환을
+ * 문장 하나로 처리한다. 체크포인트가 일치할 때만 반영되므로 여러 노드가 같은 청크를 실행해도 한 번만 적용된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LotteryAssignmentQueryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<LotteryAssignmentJob> findJob(Long scheduleId) {
+        return databaseClient.sql("""
+                SELECT schedule_id, seed, status, total_chunks, next_chunk, total_seats, assigned_seats
+                FROM lottery_assignment_jobs
+                WHERE schedule_id = :scheduleId
+                """)
+                .bind("scheduleId", scheduleId)
+                .map((row, metadata) -> new LotteryAssignmentJob(
+                        row.get("schedule_id", Long.class),
+                        row.get("seed", Long.class),
+                        row.get("status", String.class),
+                        row.get("total_chunks", Integer.class),
+                        row.get("next_chunk", Integer.class),
+                        row.get("total_seats", Integer.class),
+                        row.get("assigned_seats", Integer.class)))
+                .one();
+    }
+
+    /**
+     * 작업과 배정 계획을 한 문장으로 생성. 이미 작업이 있으면(다른 노드가 먼저 생성) 아무것도 하지 않는다.
+     * 같은 문장에서 계획에 없는 결제 완료 응모(미당첨)를 LOST로 바꾸고 환불을 시작할 LOTTERY_LOST 아웃박스 이벤트를 남긴다.
+     * @return 미당첨 처리한 예약 수 (-1이면 다른 노드가 만든 기존 작업 사용)
+     */
+    public Mono<Long> createJob(Long scheduleId, long seed, int totalChunks,
+                                List<LotterySeatAssignment> plan, LocalDateTime now) {
+        return databaseClient.sql("""
+                WITH job AS (
+                    INSERT INTO lottery_assignment_jobs
+                        (schedule_id, seed, status, total_chunks, next_chunk, total_seats, assigned_seats, created_at, updated_at, completed_at)
+                    VALUES (:scheduleId, :seed, CASE WHEN :totalChunks = 0 THEN 'COMPLETED' ELSE 'RUNNING' END,
+                            :totalChunks, 0, :totalSeats, 0, :now, :now, CASE WHEN :totalChunks = 0 THEN CAST(:now AS TIMESTAMP) END)
+                    ON CONFLICT (schedule_id) DO NOTHING
+                    RETURNING schedule_id
+                ), planned AS (
+                    INSERT INTO lottery_assignment_plan (schedule_id, chunk_no, reservation_id, zone, seat_number)
+                    SELECT job.schedule_id, t.chunk_no, t.reservation_id, t.zone, t.seat_number
+                    FROM job, UNNEST(:chunkNos, :reservationIds, :zones, :seatNumbers) AS t(chunk_no, reservation_id, zone, seat_number)
+                    RETURNING reservation_id
+                ), lost AS (
+                    UPDATE reservations r
+                    SET status = 'LOST',
+                        updated_at = :now
+                    FROM job
+                    WHERE r.schedule_id = job.schedule_id
+                      AND r.track_type = 'LOTTERY'
+                      AND r.status = 'PAID_PENDING_SEAT'
+                      AND r.id <> ALL(:reservationIds)
+                    RETURNING r.id, r.user_id, r.schedule_id, r.quantity
+                ), lost_events AS (
+                    INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at)
+                    SELECT 'RESERVATION', lost.id, 'LOTTERY_LOST',
+                           json_build_object('reservationId', lost.id, 'userId', lost.user_id, 'scheduleId', lost.schedule_id,
+                                             'trackType', 'LOTTERY', 'quantity', lost.quantity)::text,
+                           :now
+                    FROM lost
+                    RETURNING id
+                )
+                SELECT (SELECT COUNT(*) FROM job) AS created,
+                       (SELECT COUNT(*) FROM lost_events) AS losers
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("seed", seed)
+                .bind("totalChunks", totalChunks)
+                .bind("totalSeats", plan.size())
+                .bind("now", now)
+                .bind("chunkNos", plan.stream().map(LotterySeatAssignment::getChunkNo).toArray(Integer[]::new))
+                .bind("reservationIds", plan.stream().map(LotterySeatAssignment::getReservationId).toArray(Long[]::new))
+                .bind("zones", plan.stream().map(LotterySeatAssignment::getZone).toArray(String[]::new))
+                .bind("seatNumbers", plan.stream().map(LotterySeatAssignment::getSeatNumber).toArray(String[]::new))
+                .map((row, metadata) -> row.get("created", Long.class) > 0 ? row.get("losers", Long.class) : -1L)
+                .one();
+    }
+
+    // 추첨 응모 등급 목록 (결제 완료 예약이 있는 등급)
+    public Flux<String> findDrawGrades(Long scheduleId) {
+        return databaseClient.sql("""
+                SELECT DISTINCT grade
+                FROM reservations
+                WHERE schedule_id = :scheduleId
+                  AND track_type = 'LOTTERY'
+                  AND status = 'PAID_PENDING_SEAT'
+                ORDER BY grade
+                """)
+                .bind("scheduleId", scheduleId)
+                .map((row, metadata) -> row.get("grade", String.class))
+                .all();
+    }
+
+    // 추첨 응모(결제 완료 예약) id 키셋 페이지
+    public Flux<LotteryDrawEntry> findDrawEntries(Long scheduleId, String grade, long afterId, int limit) {
+        return databaseClient.sql("""
+                SELECT id, quantity
+                FROM reservations
+                WHERE schedule_id = :scheduleId
+                  AND track_type = 'LOTTERY'
+                  AND status = 'PAID_PENDING_SEAT'
+                  AND grade = :grade
+                  AND id > :afterId
+                ORDER BY id
+                LIMIT :limit
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("grade", grade)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> new LotteryDrawEntry(
+                        row.get("id", Long.class),
+                        row.get("quantity", Integer.class)))
+                .all();
+    }
+
+    // 청크 계획 (결제 완료 상태가 유지된 예약만. 그 사이 환불된 예약의 좌석은 배정하지 않음)
+    public Flux<LotterySeatAssignment> findPlanChunk(Long scheduleId, int chunkNo) {
+        return databaseClient.sql("""
+                SELECT p.chunk_no, p.reservation_id, p.zone, p.seat_number
+                FROM lottery_assignment_plan p
+                JOIN reservations r ON r.id = p.reservation_id
+                WHERE p.schedule_id = :scheduleId
+                  AND p.chunk_no = :chunkNo
+                  AND r.status = 'PAID_PENDING_SEAT'
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("chunkNo", chunkNo)
+                .map((row, metadata) -> new LotterySeatAssignment(
+                        row.get("chunk_no", Integer.class),
+                        row.get("reservation_id", Long.class),
+                        row.get("zone", String.class),
+                        row.get("seat_number", String.class)))
+                .all();
+    }
+
+    /**
+     * 청크 반영. 체크포인트(next_chunk)가 chunkNo일 때만 전진시키고 같은 문장에서 배정을 반영한다.
+     * 이번 실행이 풀에서 실제로 빼낸 좌석(pulled) 중 아직 AVAILABLE인 좌석만 SOLD로 바꾸고,
+     * 그렇게 바뀐 좌석에만 reservation_seats를 넣는다 (계획 이후 라이브로 팔린 좌석은 건너뜀).
+     * 예약의 좌석은 모두 한 청크에 있으므로 수량을 이번에 넣은 좌석 수로 맞춘다.
+     * @return ASSIGNED로 전환된 예약 수 (이미 반영된 청크면 0)
+     */
+    public Mono<Long> assignChunk(Long scheduleId, int chunkNo, List<LotterySeatAssignment> pulled, LocalDateTime now) {
+        return databaseClient.sql("""
+                WITH claim AS (
+                    UPDATE lottery_assignment_jobs
+                    SET next_chunk = next_chunk + 1,
+                        assigned_seats = assigned_seats + (
+                            SELECT COUNT(*) FROM lottery_assignment_plan
+                            WHERE schedule_id = :scheduleId AND chunk_no = :chunkNo),
+                        status = CASE WHEN next_chunk + 1 >= total_chunks THEN 'COMPLETED' ELSE status END,
+                        completed_at = CASE WHEN next_chunk + 1 >= total_chunks THEN CAST(:now AS TIMESTAMP) ELSE completed_at END,
+                        updated_at = :now
+                    WHERE schedule_id = :scheduleId
+                      AND next_chunk = :chunkNo
+                    RETURNING schedule_id
+                ), input AS (
+                    SELECT p.reservation_id, p.zone, p.seat_number
+                    FROM claim
+                    JOIN lottery_assignment_plan p ON p.schedule_id = claim.schedule_id
+                    JOIN reservations r ON r.id = p.reservation_id
+                    JOIN UNNEST(:pulledZones, :pulledSeatNumbers) AS pulled(zone, seat_number)
+                      ON pulled.zone = p.zone AND pulled.seat_number = p.seat_number
+                    WHERE p.chunk_no = :chunkNo
+                      AND r.status = 'PAID_PENDING_SEAT'
+                ), sold AS (
+                    UPDATE seats s
+                    SET status = 'SOLD'
+                    FROM input i
+                    WHERE s.schedule_id = :scheduleId
+                      AND s.zone = i.zone
+                      AND s.seat_number = i.seat_number
+                      AND s.status = 'AVAILABLE'
+                    RETURNING s.id, s.zone, s.seat_number
+                ), inserted AS (
+                    INSERT INTO reservation_seats (reservation_id, seat_id, seat_number, zone, status, assigned_at, created_at)
+                    SELECT i.reservation_id, sold.id, i.seat_number, i.zone, 'ASSIGNED', :now, :now
+                    FROM input i
+                    JOIN sold ON sold.zone = i.zone AND sold.seat_number = i.seat_number
+                    RETURNING reservation_id
+                ), counts AS (
+                    SELECT reservation_id, COUNT(*) AS cnt
+                    FROM inserted
+                    GROUP BY reservation_id
+                )
+                UPDATE reservations r
+                SET status = 'ASSIGNED',
+                    quantity = counts.cnt,
+                    updated_at = :now
+                FROM counts
+                WHERE r.id = counts.reservation_id
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("chunkNo", chunkNo)
+                .bind("pulledZones", pulled.stream().map(LotterySeatAssignment::getZone).toArray(String[]::new))
+                .bind("pulledSeatNumbers", pulled.stream().map(LotterySeatAssignment::getSeatNumber).toArray(String[]::new))
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+}
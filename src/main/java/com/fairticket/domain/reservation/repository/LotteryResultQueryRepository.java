@@ -0,0 +1,62 @@
+package com.fairticket.domain.reservation.repository;
+
+import com.fairticket.domain.reservation.dto.LotteryResultResponse;
+import com.fairticket.domain.reservation.dto.LotteryResultRow;
+import com.fairticket.domain.reservation.entity.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추첨 결과 사전 계산용 조회. 회차의 추첨 예약과 배정 좌석을 한 문장으로 읽는다
+ * (예약당 좌석 조회 N+1 없음). 사용자별로 묶을 수 있게 user_id 순으로 흘려 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LotteryResultQueryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<LotteryResultRow> streamResults(Long scheduleId) {
+        return databaseClient.sql("""
+                SELECT r.id, r.user_id, r.schedule_id, r.grade, r.quantity, r.track_type, r.status, r.created_at, r.updated_at,
+                       array_agg(rs.zone ORDER BY rs.id) FILTER (WHERE rs.id IS NOT NULL) AS zones,
+                       array_agg(rs.seat_number ORDER BY rs.id) FILTER (WHERE rs.id IS NOT NULL) AS seat_numbers
+                FROM reservations r
+                LEFT JOIN reservation_seats rs ON rs.reservation_id = r.id AND rs.status = 'ASSIGNED'
+                WHERE r.schedule_id = :scheduleId
+                  AND r.track_type = 'LOTTERY'
+                GROUP BY r.id
+                ORDER BY r.user_id, r.id
+                """)
+                .bind("scheduleId", scheduleId)
+                .map((row, metadata) -> {
+                    Reservation reservation = Reservation.builder()
+                            .id(row.get("id", Long.class))
+                            .userId(row.get("user_id", Long.class))
+                            .scheduleId(row.get("schedule_id", Long.class))
+                            .grade(row.get("grade", String.class))
+                            .quantity(row.get("quantity", Integer.class))
+                            .trackType(row.get("track_type", String.class))
+                            .status(row.get("status", String.class))
+                            .createdAt(row.get("created_at", LocalDateTime.class))
+                            .updatedAt(row.get("updated_at", LocalDateTime.class))
+                            .build();
+                    String[] zones = row.get("zones", String[].class);
+                    String[] seatNumbers = row.get("seat_numbers", String[].class);
+                    List<LotteryResultResponse.AssignedSeatDto> seats = new ArrayList<>();
+                    if (zones != null && seatNumbers != null) {
+                        for (int i = 0; i < zones.length; i++) {
+                            seats.add(new LotteryResultResponse.AssignedSeatDto(zones[i], seatNumbers[i]));
+                        }
+                    }
+                    return new LotteryResultRow(reservation, seats);
+                })
+                .all();
+    }
+}
@@ -2,11 +2,14 @@ package com.fairticket.domain.reservation.repository;
 
 import com.fairticket.domain.reservation.dto.GradeReservedSum;
 import com.fairticket.domain.reservation.entity.Reservation;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface ReservationRepository extends ReactiveCrudRepository<Reservation, Long> {
 
     Flux<Reservation> findByUserId(Long userId);
@@ -16,6 +19,16 @@ public interface ReservationRepository extends ReactiveCrudRepository<Reservatio
 
     Flux<Reservation> findByScheduleIdAndStatus(Long scheduleId, String status);
 
+    // 현재 상태가 fromStatus일 때만 상태 변경 (동시 결제·취소와 경합 시 한쪽만 성공, 반환 1이면 이 호출이 변경)
+    @Modifying
+    @Query("UPDATE reservations SET status = :toStatus, updated_at = :now WHERE id = :id AND status = :fromStatus")
+    Mono<Integer> updateStatusIfCurrent(Long id, String fromStatus, String toStatus, LocalDateTime now);
+
+    // 수량 증가를 SQL에서 처리 (홀드 만료 취소 문장과 겹쳐도 증감이 유실되지 않음)
+    @Modifying
+    @Query("UPDATE reservations SET quantity = quantity + :delta, updated_at = :now WHERE id = :id")
+    Mono<Integer> incrementQuantity(Long id, int delta, LocalDateTime now);
+
     @Query("SELECT * FROM reservations WHERE status = :status AND quantity = :quantity")
     Flux<Reservation> findByStatusAndQuantity(String status, Integer quantity);
 
@@ -16,6 +16,12 @@ public interface ReservationSeatRepository extends ReactiveCrudRepository<Reserv
     // 라이브 홀드 만료 스케줄러용: PENDING이며 생성 시각이 기준 시각 이전인 좌석
     Flux<ReservationSeat> findByStatusAndCreatedAtBefore(String status, LocalDateTime before);
 
+    // 홀드 만료 작업용: 일정·구역·좌석 번호로 PENDING 좌석 조회
+    @Query("SELECT rs.* FROM reservation_seats rs JOIN reservations r ON r.id = rs.reservation_id " +
+            "WHERE r.schedule_id = :scheduleId AND rs.zone = :zone AND rs.seat_number = :seatNumber " +
+            "AND rs.status = 'PENDING'")
+    Flux<ReservationSeat> findPendingByScheduleIdAndZoneAndSeatNumber(Long scheduleId, String zone, String seatNumber);
+
     // 해당 예약의 모든 좌석 상태를 CANCELLED로 일괄 업데이트
     @Modifying
     @Query("UPDATE reservation_seats SET status = 'CANCELLED' WHERE reservation_id = :reservationId")
@@ -0,0 +1,126 @@
+package com.fairticket.domain.reservation.repository;
+
+import com.fairticket.domain.reservation.dto.ReservationEvent;
+import com.fairticket.domain.reservation.entity.TrackType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 모드 예약 반영. 이벤트 묶음을 배열 바인딩 INSERT 두 번으로 반영하고,
+ * 모든 문장이 멱등이라 재전달·부분 실패 후 재시도해도 결과가 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationWriteBehindRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // 예약 ID 선할당 (reservations 시퀀스에서 n개)
+    public Flux<Long> allocateReservationIds(int count) {
+        return databaseClient.sql("SELECT nextval('reservations_id_seq') AS id FROM generate_series(1, :count)")
+                .bind("count", count)
+                .map((row, metadata) -> row.get("id", Long.class))
+                .all();
+    }
+
+    /**
+     * 예약·좌석 일괄 반영 후 라이브 예약 수량을 좌석 수로 다시 맞춘다.
+     * 같은 사용자·회차에 다른 ID의 예약이 이미 있으면(UNIQUE 충돌) 해당 예약과 좌석은 건너뛴다.
+     * @return 건너뛴 좌석의 예약 ID (좌석 하나당 하나, 호출 측 기록·집계용)
+     */
+    public Mono<List<Long>> persist(List<ReservationEvent> events, LocalDateTime now) {
+        Map<Long, ReservationEvent> reservations = new LinkedHashMap<>();
+        List<ReservationEvent> seats = new ArrayList<>();
+        for (ReservationEvent event : events) {
+            reservations.putIfAbsent(event.getReservationId(), event);
+            if (ReservationEvent.LIVE_SEAT.equals(event.getType())) {
+                seats.add(event);
+            }
+        }
+        return insertReservationsAndSeats(new ArrayList<>(reservations.values()), seats)
+                .flatMap(dropped -> (seats.isEmpty() ? Mono.<Void>empty() : recountLiveQuantity(
+                        seats.stream().map(ReservationEvent::getReservationId).distinct().toArray(Long[]::new), now))
+                        .thenReturn(dropped));
+    }
+
+    // 반환: 예약 행이 없어(UNIQUE 충돌로 건너뜀) 반영하지 못한 좌석의 예약 ID
+    private Mono<List<Long>> insertReservationsAndSeats(List<ReservationEvent> reservations, List<ReservationEvent> seats) {
+        return databaseClient.sql("""
+                WITH new_reservations AS (
+                    INSERT INTO reservations (id, user_id, schedule_id, grade, track_type, status, quantity, created_at, updated_at)
+                    SELECT t.id, t.user_id, t.schedule_id, t.grade, t.track_type, 'PENDING', t.quantity, t.created_at, t.created_at
+                    FROM UNNEST(:ids, :userIds, :scheduleIds, :grades, :trackTypes, :quantities, :createdAts)
+                         AS t(id, user_id, schedule_id, grade, track_type, quantity, created_at)
+                    ON CONFLICT DO NOTHING
+                    RETURNING id
+                ),
+                new_seats AS (
+                    INSERT INTO reservation_seats (reservation_id, seat_id, seat_number, zone, status, created_at)
+                    SELECT s.reservation_id, s.seat_id, s.seat_number, s.zone, 'PENDING', s.created_at
+                    FROM UNNEST(:seatReservationIds, :seatIds, :seatNumbers, :zones, :seatCreatedAts)
+                         AS s(reservation_id, seat_id, seat_number, zone, created_at)
+                    WHERE s.reservation_id IN (SELECT id FROM new_reservations)
+                       OR EXISTS (SELECT 1 FROM reservations r WHERE r.id = s.reservation_id)
+                    ON CONFLICT DO NOTHING
+                    RETURNING id
+                )
+                SELECT d.reservation_id
+                FROM UNNEST(:seatReservationIds) AS d(reservation_id)
+                WHERE d.reservation_id NOT IN (SELECT id FROM new_reservations)
+                  AND NOT EXISTS (SELECT 1 FROM reservations r WHERE r.id = d.reservation_id)
+                """)
+                .bind("ids", reservations.stream().map(ReservationEvent::getReservationId).toArray(Long[]::new))
+                .bind("userIds", reservations.stream().map(ReservationEvent::getUserId).toArray(Long[]::new))
+                .bind("scheduleIds", reservations.stream().map(ReservationEvent::getScheduleId).toArray(Long[]::new))
+                .bind("grades", reservations.stream().map(ReservationEvent::getGrade).toArray(String[]::new))
+                .bind("trackTypes", reservations.stream().map(ReservationWriteBehindRepository::trackTypeOf).toArray(String[]::new))
+                .bind("quantities", reservations.stream().map(ReservationEvent::getQuantity).toArray(Integer[]::new))
+                .bind("createdAts", reservations.stream().map(ReservationEvent::getCreatedAt).toArray(LocalDateTime[]::new))
+                .bind("seatReservationIds", seats.stream().map(ReservationEvent::getReservationId).toArray(Long[]::new))
+                .bind("seatIds", seats.stream().map(ReservationEvent::getSeatId).toArray(Long[]::new))
+                .bind("seatNumbers", seats.stream().map(ReservationEvent::getSeatNumber).toArray(String[]::new))
+                .bind("zones", seats.stream().map(ReservationEvent::getZone).toArray(String[]::new))
+                .bind("seatCreatedAts", seats.stream().map(ReservationEvent::getCreatedAt).toArray(LocalDateTime[]::new))
+                .map((row, metadata) -> row.get("reservation_id", Long.class))
+                .all()
+                .collectList();
+    }
+
+    // 라이브 예약 수량 = 취소되지 않은 좌석 수 (PENDING 예약만, 홀드 만료로 취소된 예약은 되살리지 않음)
+    private Mono<Void> recountLiveQuantity(Long[] reservationIds, LocalDateTime now) {
+        return databaseClient.sql("""
+                UPDATE reservations r
+                SET quantity = c.cnt,
+                    updated_at = :now
+                FROM (
+                    SELECT reservation_id, COUNT(*) AS cnt
+                    FROM reservation_seats
+                    WHERE reservation_id = ANY(:ids)
+                      AND status <> 'CANCELLED'
+                    GROUP BY reservation_id
+                ) c
+                WHERE r.id = c.reservation_id
+                  AND r.track_type = 'LIVE'
+                  AND r.status = 'PENDING'
+                  AND r.quantity <> c.cnt
+                """)
+                .bind("ids", reservationIds)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private static String trackTypeOf(ReservationEvent event) {
+        return ReservationEvent.LIVE_SEAT.equals(event.getType()) ? TrackType.LIVE.name() : TrackType.LOTTERY.name();
+    }
+}
@@ -0,0 +1,43 @@
+package com.fairticket.domain.reservation.repository;
+
+import com.fairticket.domain.reservation.dto.UserLedger;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자별 회차 참여 원장 집계. 기존 sum/exists 쿼리들을 한 번의 집계로 대체한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserLedgerQueryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<UserLedger> findLedger(Long scheduleId, Long userId) {
+        return databaseClient.sql("""
+                SELECT MIN(track_type) AS track,
+                       COALESCE(SUM(quantity) FILTER (
+                           WHERE track_type = 'LIVE' AND status IN ('PENDING', 'PAID_PENDING_SEAT', 'ASSIGNED')), 0) AS live_quantity,
+                       COALESCE(SUM(quantity) FILTER (
+                           WHERE track_type = 'LOTTERY' AND status IN ('PENDING', 'PAID_PENDING_SEAT')), 0) AS lottery_quantity,
+                       COALESCE(BOOL_OR(track_type = 'LOTTERY' AND status IN ('PAID_PENDING_SEAT', 'ASSIGNED')), FALSE) AS lottery_paid,
+                       MIN(id) FILTER (WHERE track_type = 'LIVE') AS live_reservation_id
+                FROM reservations
+                WHERE schedule_id = :scheduleId AND user_id = :userId
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("userId", userId)
+                .map((row, metadata) -> {
+                    String track = row.get("track", String.class);
+                    return new UserLedger(
+                            track != null ? track : "",
+                            row.get("live_quantity", Long.class),
+                            row.get("lottery_quantity", Long.class),
+                            Boolean.TRUE.equals(row.get("lottery_paid", Boolean.class)),
+                            row.get("live_reservation_id", Long.class));
+                })
+                .one();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 도메인 이벤트 후속 처리 (요청 경로에서 분리한 작업).
+ * 결제 완료(라이브): 예약 좌석의 Redis 홀드 키·만료 작업 정리 (좌석 SOLD 전이는 결제 트랜잭션에서 처리).
+ * 처리는 멱등이라 재전달되어도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventFollowUpConsumer {
+
+    private final LiveTrackService liveTrackService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${fairticket.outbox.topic:domain-events}",
+            groupId = "fairticket-reservation-followup",
+            batch = "true")
+    public void consume(List<String> messages) {
+        Flux.fromIterable(messages)
+                .flatMap(this::parse)
+                .filter(message -> OutboxEventType.PAYMENT_COMPLETED.name().equals(message.getEventType()))
+                .filter(message -> TrackType.LIVE.name().equals(message.getPayload().path("trackType").asText()))
+                .flatMap(message -> liveTrackService.finalizeHoldsForReservation(message.getAggregateId()))
+                .then()
+                .block(Duration.ofSeconds(30));
+    }
+
+    private Mono<OutboxMessage> parse(String message) {
+        try {
+            return Mono.just(objectMapper.readValue(message, OutboxMessage.class));
+        } catch (Exception e) {
+            log.error("도메인 이벤트 파싱 실패, 건너뜀: message={}", message, e);
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.ExpiredHoldSeat;
+import com.fairticket.domain.reservation.entity.ReservationSeat;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.LiveHoldQueryRepository;
+import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
+import com.fairticket.domain.seat.entity.SeatStatus;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.domain.seat.service.SeatHoldService;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.infra.redis.DelayedJobHandler;
+import com.fairticket.infra.redis.DelayedJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 홀드 만료 지연 작업 (라이브 트랙).
+ * 홀드가 아직 남아 있으면(재홀드, 앱 시계와 Redis TTL 차이) 남은 시간 뒤로 작업을 다시 예약하고,
+ * 나머지는 만료 스윕과 같은 조건부 집합 SQL로 예약 좌석 취소·수량 차감 후
+ * 실제 취소된 좌석만 참여 원장을 차감하고 구역별로 풀에 일괄 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldExpiryJobHandler implements DelayedJobHandler {
+
+    private static final int LOOKUP_CONCURRENCY = 16;
+
+    private final SeatHoldService seatHoldService;
+    private final SeatPoolService seatPoolService;
+    private final SeatRepository seatRepository;
+    private final ReservationSeatRepository reservationSeatRepository;
+    private final LiveHoldQueryRepository liveHoldQueryRepository;
+    private final UserLedgerService userLedgerService;
+
+    @Override
+    public DelayedJobType type() {
+        return DelayedJobType.HOLD_EXPIRY;
+    }
+
+    @Override
+    public Mono<Void> handle(List<String> payloads) {
+        return Flux.fromIterable(payloads)
+                .flatMap(payload -> Mono.justOrEmpty(HoldRef.parse(payload)))
+                // 홀드가 남아 있으면 만료 대상 아님: 남은 시간 뒤로 재예약
+                .filterWhen(ref -> seatHoldService.rescheduleExpiryIfHeld(ref.scheduleId(), ref.zone(), ref.seatNumber())
+                        .map(held -> !held), LOOKUP_CONCURRENCY)
+                .flatMap(ref -> reservationSeatRepository
+                        .findPendingByScheduleIdAndZoneAndSeatNumber(ref.scheduleId(), ref.zone(), ref.seatNumber())
+                        .collectList()
+                        .map(seats -> Map.entry(ref, seats)), LOOKUP_CONCURRENCY)
+                .collectList()
+                .flatMap(entries -> {
+                    List<HoldRef> orphans = new ArrayList<>();
+                    Map<Long, HoldRef> refBySeatId = new HashMap<>();
+                    for (Map.Entry<HoldRef, List<ReservationSeat>> entry : entries) {
+                        if (entry.getValue().isEmpty()) {
+                            orphans.add(entry.getKey());
+                        }
+                        for (ReservationSeat seat : entry.getValue()) {
+                            refBySeatId.put(seat.getId(), entry.getKey());
+                        }
+                    }
+                    return Flux.concat(
+                                    cancelSeats(refBySeatId),
+                                    releaseOrphans(orphans))
+                            .collectList()
+                            .flatMap(this::returnToPools);
+                });
+    }
+
+    /**
+     * 조건부 집합 SQL로 아직 PENDING인 좌석만 취소하고 예약 수량을 SQL에서 차감한다 (만료 이벤트 포함, 한 문장).
+     * 만료 스윕·라이브 좌석 추가와 겹쳐도 수량과 원장이 이중 차감되거나 증가가 유실되지 않는다.
+     * @return 이번에 실제로 취소된 좌석
+     */
+    private Flux<HoldRef> cancelSeats(Map<Long, HoldRef> refBySeatId) {
+        if (refBySeatId.isEmpty()) {
+            return Flux.empty();
+        }
+        return liveHoldQueryRepository.cancelExpiredSeats(new ArrayList<>(refBySeatId.keySet()), LocalDateTime.now())
+                .collectList()
+                .flatMapMany(cancelled -> {
+                    // 원장은 취소 전 PENDING 예약 좌석만 차감 (결제 타임아웃으로 이미 취소된 예약은 그때 차감됨)
+                    Map<LedgerKey, Integer> releases = new HashMap<>();
+                    for (ExpiredHoldSeat seat : cancelled) {
+                        if (seat.isCounted()) {
+                            releases.merge(new LedgerKey(refBySeatId.get(seat.getId()).scheduleId(), seat.getUserId()),
+                                    1, Integer::sum);
+                        }
+                    }
+                    return Flux.fromIterable(releases.entrySet())
+                            .flatMap(entry -> userLedgerService.release(entry.getKey().scheduleId(),
+                                    entry.getKey().userId(), TrackType.LIVE, entry.getValue()))
+                            .thenMany(Flux.fromIterable(cancelled).map(seat -> refBySeatId.get(seat.getId())));
+                });
+    }
+
+    // 예약 좌석 없이 홀드만 남았던 좌석 (예약 생성 실패 등): seats가 HELD인 경우에만 반환
+    private Flux<HoldRef> releaseOrphans(List<HoldRef> orphans) {
+        return Flux.fromIterable(orphans)
+                .flatMap(ref -> seatRepository.findByScheduleIdAndZoneAndSeatNumber(ref.scheduleId(), ref.zone(), ref.seatNumber())
+                        .filter(seat -> SeatStatus.HELD.name().equals(seat.getStatus()))
+                        .map(seat -> ref), LOOKUP_CONCURRENCY);
+    }
+
+    private Mono<Void> returnToPools(List<HoldRef> refs) {
+        if (refs.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<String, List<HoldRef>> byZone = new HashMap<>();
+        for (HoldRef ref : refs) {
+            byZone.computeIfAbsent(ref.scheduleId() + "|" + ref.zone(), k -> new ArrayList<>()).add(ref);
+        }
+        return Flux.fromIterable(byZone.values())
+                .flatMap(zoneRefs -> {
+                    Long scheduleId = zoneRefs.get(0).scheduleId();
+                    String zone = zoneRefs.get(0).zone();
+                    List<String> seatNumbers = zoneRefs.stream().map(HoldRef::seatNumber).toList();
+                    // 구역당 UPDATE 한 번 (HELD인 좌석만 복구해 그사이 결제된 좌석은 건드리지 않음)
+                    return seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumberIn(
+                                    SeatStatus.AVAILABLE.name(), SeatStatus.HELD.name(), scheduleId, zone, seatNumbers)
+                            .then(seatPoolService.returnSeats(scheduleId, zone, seatNumbers));
+                })
+                .then()
+                .doOnSuccess(v -> log.info("홀드 만료 좌석 반환: {}석", refs.size()));
+    }
+
+    private record LedgerKey(Long scheduleId, Long userId) {
+    }
+
+    private record HoldRef(Long scheduleId, String zone, String seatNumber) {
+
+        static HoldRef parse(String payload) {
+            String[] parts = payload.split("\\|", 3);
+            if (parts.length != 3) {
+                log.warn("잘못된 홀드 만료 payload: {}", payload);
+                return null;
+            }
+            return new HoldRef(Long.parseLong(parts[0]), parts[1], parts[2]);
+        }
+    }
+}
@@ -1,77 +1,132 @@
 package com.fairticket.domain.reservation.service;
 
-import com.fairticket.domain.reservation.entity.Reservation;
-import com.fairticket.domain.reservation.entity.ReservationSeat;
-import com.fairticket.domain.reservation.entity.ReservationSeatStatus;
-import com.fairticket.domain.reservation.entity.ReservationStatus;
 import com.fairticket.domain.reservation.constants.ReservationConstants;
-import com.fairticket.domain.reservation.repository.ReservationRepository;
-import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
+import com.fairticket.domain.reservation.dto.ExpiredHoldSeat;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.LiveHoldQueryRepository;
 import com.fairticket.domain.seat.service.SeatHoldService;
 import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.global.util.RedisKeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 // 라이브 트랙 좌석 홀드 만료 처리: 좌석 선택 후 최대 HOLD_MINUTES(10분) 경과 시 좌석 반환
-// 결제 완료 시에는 LiveTrackService.releaseHoldsForReservation으로 즉시 홀드 해제
+// 결제 완료 시에는 결제 트랜잭션이 좌석을 SOLD로 바꾸고, LiveTrackService.finalizeHoldsForReservation이 홀드 키를 정리
+// 정시 만료는 HoldExpiryJobHandler(지연 작업)가 처리하고, 이 스케줄러는 누락분을 잡는 백업
+// 일정별 분산 락을 잡은 인스턴스만 해당 일정을 스윕하며, id 키셋 페이지 단위로
+// 구역별 Redis 일괄 명령 + 집합 SQL 한 번으로 처리한다. Redis(멱등)를 먼저 처리하고 DB 취소는 그 뒤에 하므로
+// Redis 단계가 실패하면 좌석이 PENDING으로 남아 다음 스윕이 다시 잡는다
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LiveHoldExpiryScheduler {
 
-    private final ReservationSeatRepository reservationSeatRepository;
-    private final ReservationRepository reservationRepository;
+    private static final int PAGE_SIZE = 500;
+    private static final long LOCK_LEASE_SECONDS = 55;
+
+    private final LiveHoldQueryRepository liveHoldQueryRepository;
     private final SeatHoldService seatHoldService;
     private final SeatPoolService seatPoolService;
+    private final UserLedgerService userLedgerService;
+    private final RedissonClient redissonClient;
 
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void releaseExpiredHolds() {
         LocalDateTime expiryThreshold = LocalDateTime.now().minusMinutes(ReservationConstants.HOLD_MINUTES);
-        reservationSeatRepository.findByStatusAndCreatedAtBefore(
-                        ReservationSeatStatus.PENDING.name(), expiryThreshold)
-                .flatMap(rs -> reservationRepository.findById(rs.getReservationId())
-                        .filter(r -> "LIVE".equals(r.getTrackType()))
-                        .flatMap(reservation -> releaseOne(reservation, rs)))
-                .doOnSubscribe(s -> log.debug("라이브 홀드 만료 스캔 시작"))
-                .count()
-                .doOnSuccess(count -> {
-                    if (count > 0) {
-                        log.info("라이브 홀드 만료 처리: {}건 좌석 풀 반환", count);
-                    }
-                })
-                .onErrorResume(e -> {
-                    log.warn("라이브 홀드 만료 스케줄러 오류: {}", e.getMessage());
-                    return Mono.just(0L);
-                })
-                .subscribe();
+        List<Long> scheduleIds;
+        try {
+            scheduleIds = liveHoldQueryRepository.findScheduleIdsWithExpiredHolds(expiryThreshold)
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+        } catch (Exception e) {
+            log.warn("라이브 홀드 만료 스케줄러 오류: {}", e.getMessage());
+            return;
+        }
+        if (scheduleIds == null) {
+            return;
+        }
+        for (Long scheduleId : scheduleIds) {
+            sweepSchedule(scheduleId, expiryThreshold);
+        }
+    }
+
+    // 일정 단위 스윕. 락을 못 잡으면 다른 인스턴스가 처리 중이므로 건너뜀
+    private void sweepSchedule(Long scheduleId, LocalDateTime expiryThreshold) {
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.holdSweepLockKey(scheduleId));
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(0, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+            if (!acquired) return;
+
+            Long released = fetchPage(scheduleId, expiryThreshold, 0L)
+                    .expand(page -> page.size() < PAGE_SIZE
+                            ? Mono.empty()
+                            : fetchPage(scheduleId, expiryThreshold, page.get(page.size() - 1).getId()))
+                    .concatMap(page -> releasePage(scheduleId, page))
+                    .reduce(0L, Long::sum)
+                    .block(Duration.ofSeconds(LOCK_LEASE_SECONDS - 5));
+            if (released != null && released > 0) {
+                log.info("라이브 홀드 만료 처리: scheduleId={}, {}건 좌석 풀 반환", scheduleId, released);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("라이브 홀드 만료 스윕 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Mono<List<ExpiredHoldSeat>> fetchPage(Long scheduleId, LocalDateTime expiryThreshold, long afterId) {
+        return liveHoldQueryRepository.findExpiredHolds(scheduleId, expiryThreshold, afterId, PAGE_SIZE)
+                .collectList()
+                .filter(seats -> !seats.isEmpty());
     }
 
-    private Mono<Long> releaseOne(Reservation reservation, ReservationSeat seat) {
-        Long scheduleId = reservation.getScheduleId();
-        String zone = seat.getZone();
-        String seatNumber = seat.getSeatNumber();
-        return seatHoldService.releaseHold(scheduleId, zone, seatNumber)
-                .then(seatPoolService.returnSeat(scheduleId, zone, seatNumber))
-                .then(Mono.defer(() -> {
-                    seat.setStatus(ReservationSeatStatus.CANCELLED.name());
-                    return reservationSeatRepository.save(seat);
-                }))
-                .then(Mono.defer(() -> {
-                    int newQty = Math.max(0, reservation.getQuantity() - 1);
-                    reservation.setQuantity(newQty);
-                    reservation.setUpdatedAt(LocalDateTime.now());
-                    if (newQty == 0) {
-                        reservation.setStatus(ReservationStatus.CANCELLED.name());
-                    }
-                    return reservationRepository.save(reservation).thenReturn(1L);
-                }))
-                .doOnSuccess(v -> log.debug("홀드 만료 반환: scheduleId={}, zone={}, seat={}",
-                        scheduleId, zone, seatNumber));
+    // 한 페이지: 구역별 홀드 일괄 해제 → 풀에 일괄 반환 → DB 취소(집합 SQL) → 실제 취소된 좌석만 참여 원장 차감
+    // 홀드 해제는 기대 소유자의 홀드만 지우므로, 그 사이 다시 잡힌 좌석은 반환하지 않는다
+    private Mono<Long> releasePage(Long scheduleId, List<ExpiredHoldSeat> page) {
+        Map<String, Map<String, Long>> ownersByZone = new HashMap<>();
+        for (ExpiredHoldSeat seat : page) {
+            ownersByZone.computeIfAbsent(seat.getZone(), z -> new HashMap<>())
+                    .put(seat.getSeatNumber(), seat.getUserId());
+        }
+        List<Long> reservationSeatIds = page.stream().map(ExpiredHoldSeat::getId).toList();
+        return Flux.fromIterable(ownersByZone.entrySet())
+                .flatMap(zoneEntry -> seatHoldService.releaseHolds(scheduleId, zoneEntry.getKey(), zoneEntry.getValue())
+                        .flatMap(seatNumbers -> seatPoolService.returnSeats(scheduleId, zoneEntry.getKey(), seatNumbers)
+                                .thenReturn((long) seatNumbers.size())))
+                .reduce(0L, Long::sum)
+                .flatMap(returned -> liveHoldQueryRepository.cancelExpiredSeats(reservationSeatIds, LocalDateTime.now())
+                        .collectList()
+                        .flatMap(cancelled -> {
+                            Map<Long, Integer> releasedByUser = new HashMap<>();
+                            for (ExpiredHoldSeat seat : cancelled) {
+                                if (seat.isCounted()) {
+                                    releasedByUser.merge(seat.getUserId(), 1, Integer::sum);
+                                }
+                            }
+                            return Flux.fromIterable(releasedByUser.entrySet())
+                                    .flatMap(entry -> userLedgerService.release(scheduleId, entry.getKey(),
+                                            TrackType.LIVE, entry.getValue()))
+                                    .then(Mono.just(returned));
+                        }))
+                .doOnSuccess(count -> log.debug("홀드 만료 페이지 처리: scheduleId={}, rows={}, released={}",
+                        scheduleId, page.size(), count));
     }
 }
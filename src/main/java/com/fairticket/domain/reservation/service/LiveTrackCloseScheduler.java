@@ -1,9 +1,17 @@
 package com.fairticket.domain.reservation.service;
 
+import com.fairticket.domain.concert.entity.Schedule;
 import com.fairticket.domain.concert.repository.ScheduleRepository;
+import com.fairticket.domain.reservation.dto.LotteryResultRow;
+import com.fairticket.domain.reservation.entity.ReservationStatus;
+import com.fairticket.domain.reservation.repository.LotteryResultQueryRepository;
 import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.infra.notification.NotificationMessage;
+import com.fairticket.infra.notification.NotificationPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -11,13 +19,15 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 // 라이브 트랙 마감 조건:
 // 1. 라이브 시작(티켓 오픈) 1시간 경과 시 마감
 // 2. (보조) 대기열 0인 상태가 10분 이상 지속 시 마감. 단, 오픈 후 30분이 지난 뒤에만 적용
-// 추첨 좌석 배정은 라이브 트랙 시작(티켓 오픈) LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN분 후로 고정되어 실행된다.   
-// 배정 완료 시 사용자에게 알림을 보낸다 (TODO(알림): 알림 담당자 구현)
+// 추첨 좌석 배정은 라이브 트랙 시작(티켓 오픈) LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN분 후로 고정되어 실행된다 (재개 가능한 작업).
+// 배정 완료 시 사용자별 결과를 기록하고 당첨자 알림을 알림 토픽에 넣는다 (발송은 NotificationDispatcher)
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -31,10 +41,21 @@ public class LiveTrackCloseScheduler {
     private static final int MIN_OPEN_DURATION_MINUTES = 30;
     // 추첨 좌석 배정 실행 시점: 라이브 트랙 시작(티켓 오픈) 후 이 시간(분) 경과 시
     private static final int LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN = 60;
+    // 배정 작업 1회 실행 시간 예산 (초)과 락 임대 시간
+    private static final long ASSIGNMENT_BUDGET_SECONDS = 45;
+    private static final long ASSIGNMENT_LOCK_LEASE_SECONDS = 60;
+    // 라이브 마감 플래그가 설정된 뒤 이 시간(초)이 지나야 배정 시작 (마감 직전에 성립한 선점이 DB에 HELD로 반영될 여유)
+    private static final long LIVE_CLOSE_SETTLE_SECONDS = 10;
 
     private final ScheduleRepository scheduleRepository;
     private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final LotteryTrackService lotteryTrackService;
+    private final LotteryAssignmentJobService lotteryAssignmentJobService;
+    private final LotteryResultCacheService lotteryResultCacheService;
+    private final LotteryResultQueryRepository lotteryResultQueryRepository;
+    private final NotificationPublisher notificationPublisher;
+    private final RedissonClient redissonClient;
+
+    private final AtomicBoolean assigning = new AtomicBoolean();
 
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void checkAndCloseLiveTrackByQueueEmpty() {
@@ -93,29 +114,66 @@ public class LiveTrackCloseScheduler {
     }
 
     // 추첨 좌석 배정: 라이브 트랙 시작(티켓 오픈) LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN분 후로 고정.
-    // 1분마다 스캔하여, 오픈 후 1시간이 지났고 아직 배정되지 않은 회차에 대해 배정 실행 및 알림 호출.
+    // 1분마다 스캔하여, 오픈 후 1시간이 지났고 아직 배정되지 않은 회차의 배정 작업을 실행·재개하고 완료 시 알림 호출.
+    // 회차별 분산 락을 잡은 인스턴스만 실행하며, 한 번에 ASSIGNMENT_BUDGET_SECONDS만 처리하고 나머지는 다음 주기에 이어간다.
+    // 배정은 스케줄러 스레드를 막지 않도록 구독만 하고 반환하며, 이전 실행이 끝나지 않았으면 이번 주기는 건너뛴다.
+    // 추첨은 풀 스냅샷으로 좌석을 정하므로, 라이브 마감 플래그가 설정된 것을 확인한 회차만 시작한다
+    // (같은 주기에 마감 스케줄러보다 먼저 돌면 다음 주기로 미룸).
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void assignLotterySeatsAtFixedTimeAfterOpen() {
-        LocalDateTime now = LocalDateTime.now();
+        if (!assigning.compareAndSet(false, true)) {
+            return;
+        }
         // 티켓 오픈 후 60분이 지난 회차만 조회 (추첨 좌석 배정 시점)
-        LocalDateTime threshold = now.minusMinutes(LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN);
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN);
         scheduleRepository.findByTicketOpenAtLessThanEqual(threshold)
-                .flatMap(schedule -> {
-                    Long scheduleId = schedule.getId();
-                    String lotteryAssignedKey = RedisKeyGenerator.lotteryAssignedKey(scheduleId);
-                    return redisTemplate.hasKey(lotteryAssignedKey)
-                            .filter(assigned -> Boolean.FALSE.equals(assigned))
-                            .flatMap(ignored -> lotteryTrackService.assignSeatsToPaidLotteryAndMerge(scheduleId)
-                                    .then(redisTemplate.opsForValue().set(lotteryAssignedKey, "1", Duration.ofDays(1)))
-                                    .then(notifyLotterySeatAssignmentComplete(scheduleId))
-                                    .doOnSuccess(v -> log.info("추첨 좌석 배정 실행 완료(오픈 {}분 후): scheduleId={}", LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN, scheduleId)));
-                })
-                .doOnSubscribe(s -> log.debug("추첨 좌석 배정 스캔 시작"))
+                .map(Schedule::getId)
+                .filterWhen(scheduleId -> redisTemplate.hasKey(RedisKeyGenerator.lotteryAssignedKey(scheduleId))
+                        .map(assigned -> !assigned))
+                .filterWhen(this::isLiveClosedAndSettled)
+                .concatMap(this::runLotteryAssignment)
+                .doFinally(signal -> assigning.set(false))
+                .subscribe(null, e -> log.warn("추첨 좌석 배정 스케줄러 오류: {}", e.getMessage()));
+    }
+
+    private Mono<Void> runLotteryAssignment(Long scheduleId) {
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.lotteryAssignLockKey(scheduleId));
+        // 리액티브 체인은 스레드가 바뀌므로 락 소유자를 스레드 대신 실행별 ID로 둔다
+        long ownerId = ThreadLocalRandom.current().nextLong();
+        return Mono.fromCompletionStage(lock.tryLockAsync(0, ASSIGNMENT_LOCK_LEASE_SECONDS, TimeUnit.SECONDS, ownerId))
+                .filter(Boolean::booleanValue)
+                .flatMap(acquired -> lotteryAssignmentJobService
+                        .runOrResume(scheduleId, Duration.ofSeconds(ASSIGNMENT_BUDGET_SECONDS))
+                        .filter(Boolean::booleanValue)
+                        // 결과 조회가 몰리기 전에 사용자별 결과를 먼저 기록한다 (실패 시 완료 플래그 없이 다음 주기에 재시도)
+                        .flatMap(done -> lotteryResultCacheService.publish(scheduleId))
+                        // 알림은 큐에 넣기만 한다. 재시도로 다시 넣어도 발송 측에서 중복이 걸러진다
+                        .flatMap(users -> notifyLotterySeatAssignmentComplete(scheduleId))
+                        .flatMap(enqueued -> redisTemplate.opsForValue()
+                                .set(RedisKeyGenerator.lotteryAssignedKey(scheduleId), "1", Duration.ofDays(1)))
+                        // 락 임대가 끝나기 전에 멈춰 다른 인스턴스와 겹치지 않게 한다
+                        .timeout(Duration.ofSeconds(ASSIGNMENT_LOCK_LEASE_SECONDS - 5))
+                        .doOnNext(set -> log.info("추첨 좌석 배정 실행 완료(오픈 {}분 후): scheduleId={}",
+                                LOTTERY_ASSIGNMENT_DELAY_MINUTES_AFTER_OPEN, scheduleId))
+                        .doFinally(signal -> lock.unlockAsync(ownerId)))
                 .onErrorResume(e -> {
-                    log.warn("추첨 좌석 배정 스케줄러 오류: {}", e.getMessage());
+                    log.warn("추첨 좌석 배정 실패 (다음 주기에 재개): scheduleId={}, error={}", scheduleId, e.getMessage());
                     return Mono.empty();
                 })
-                .subscribe();
+                .then();
+    }
+
+    // 라이브 마감 플래그(값: 마감 시각 ms)가 있고 LIVE_CLOSE_SETTLE_SECONDS가 지났는지
+    private Mono<Boolean> isLiveClosedAndSettled(Long scheduleId) {
+        return redisTemplate.opsForValue().get(RedisKeyGenerator.liveClosedKey(scheduleId))
+                .map(closedAtMs -> System.currentTimeMillis() - Long.parseLong(closedAtMs)
+                        >= TimeUnit.SECONDS.toMillis(LIVE_CLOSE_SETTLE_SECONDS))
+                .defaultIfEmpty(false)
+                .doOnNext(closed -> {
+                    if (!closed) {
+                        log.debug("라이브 마감 확인 전이라 추첨 배정 보류: scheduleId={}", scheduleId);
+                    }
+                });
     }
 
     // 라이브 마감 플래그 설정 및 대기열 0 타이머 초기화.
@@ -127,11 +185,27 @@ public class LiveTrackCloseScheduler {
                 .then();
     }
 
-    // 추첨 좌석 배정이 완료되었을 때 해당 회차 당첨 사용자에게 알림을 보낸다.
-    // TODO(알림): 푸시/이메일/SMS 등 - 당첨자 목록 조회 후 발송. 알림 담당자 구현.
-    private Mono<Void> notifyLotterySeatAssignmentComplete(Long scheduleId) {
-        // TODO(알림): 해당 scheduleId의 추첨 결제 완료자 목록 조회 후 알림 발송
-        log.info("추첨 좌석 배정 완료 알림 대상: scheduleId={}", scheduleId);
-        return Mono.empty();
+    // 추첨 좌석 배정이 완료되었을 때 해당 회차 당첨(좌석 배정) 사용자 알림을 알림 토픽에 넣는다.
+    // 발송(묶음·초당 한도·재시도)은 NotificationDispatcher가 맡으므로 스케줄러는 적재만 기다린다.
+    private Mono<Long> notifyLotterySeatAssignmentComplete(Long scheduleId) {
+        if (!notificationPublisher.isEnabled()) {
+            log.info("알림 파이프라인 비활성, 추첨 배정 알림 생략: scheduleId={}", scheduleId);
+            return Mono.just(0L);
+        }
+        long enqueuedAt = System.currentTimeMillis();
+        return notificationPublisher.enqueue(lotteryResultQueryRepository.streamResults(scheduleId)
+                        .map(LotteryResultRow::getReservation)
+                        .filter(r -> ReservationStatus.ASSIGNED.name().equals(r.getStatus()))
+                        .map(r -> NotificationMessage.builder()
+                                .type(NotificationMessage.LOTTERY_SEAT_ASSIGNED)
+                                .userId(r.getUserId())
+                                .scheduleId(scheduleId)
+                                .reservationId(r.getId())
+                                .title("추첨 좌석 배정 완료")
+                                .body(String.format("%s석 %d매 좌석 배정이 완료되었습니다. 예매 내역에서 좌석을 확인해 주세요.",
+                                        r.getGrade(), r.getQuantity()))
+                                .enqueuedAt(enqueuedAt)
+                                .build()))
+                .doOnNext(count -> log.info("추첨 좌석 배정 완료 알림 적재: scheduleId={}, count={}", scheduleId, count));
     }
 }
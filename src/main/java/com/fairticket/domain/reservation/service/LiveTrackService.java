@@ -1,6 +1,7 @@
 package com.fairticket.domain.reservation.service;
 
 import com.fairticket.domain.concert.service.ScheduleService;
+import com.fairticket.domain.reservation.dto.ReservationEvent;
 import com.fairticket.domain.reservation.entity.Reservation;
 import com.fairticket.domain.reservation.entity.ReservationStatus;
 import com.fairticket.domain.reservation.entity.TrackType;
@@ -9,20 +10,28 @@ import com.fairticket.domain.reservation.entity.ReservationSeatStatus;
 import com.fairticket.domain.reservation.repository.ReservationRepository;
 import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
 import com.fairticket.domain.reservation.constants.ReservationConstants;
+import com.fairticket.domain.seat.dto.SeatAvailabilityResponse;
+import com.fairticket.domain.seat.dto.SeatLayoutResponse;
 import com.fairticket.domain.seat.dto.SeatSelectionRequest;
 import com.fairticket.domain.seat.dto.SeatSelectionResponse;
-import com.fairticket.domain.seat.repository.SeatRepository;
 import com.fairticket.domain.seat.service.SeatHoldService;
+import com.fairticket.domain.seat.service.SeatAvailabilityReplica;
+import com.fairticket.domain.seat.service.SeatClaimService;
+import com.fairticket.domain.seat.service.SeatLayoutService;
 import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.domain.seat.service.SoldOutRegistry;
 import com.fairticket.global.exception.BusinessException;
 import com.fairticket.global.exception.ErrorCode;
 import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.global.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -33,13 +42,20 @@ public class LiveTrackService {
 
     private final SeatPoolService seatPoolService;
     private final SeatHoldService seatHoldService;
-    private final SeatRepository seatRepository;
-    private final LotteryTrackService lotteryTrackService;
+    private final SeatLayoutService seatLayoutService;
+    private final SeatAvailabilityReplica seatAvailabilityReplica;
+    private final SoldOutRegistry soldOutRegistry;
+    private final SeatClaimService seatClaimService;
+    private final UserLedgerService userLedgerService;
+    private final ReservationWriteBehindService writeBehindService;
     private final ReservationRepository reservationRepository;
     private final ReservationSeatRepository reservationSeatRepository;
     private final ScheduleService scheduleService;
     private final ReactiveRedisTemplate<String, String> redisTemplate;
 
+    // 라이브 진행 여부 동시 조회 병합 (좌석 확보는 SREM이 최종 판단)
+    private final SingleFlight<Long, Boolean> liveOpenFlight = new SingleFlight<>(Duration.ofMillis(100));
+
 
     // 좌석 선택 (라이브 트랙). 플로우: 등급 선택 → 구역 선택 → 좌석 선택.
     // TODO(결제): 결제 5분 이내 미결제 시 취소 스케줄러는 payment 담당자 구현. 라이브/추첨 공통.
@@ -47,80 +63,47 @@ public class LiveTrackService {
         if (request.getGrade() == null || request.getGrade().isBlank()) {
             return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT));
         }
-        // 1. 티켓 오픈 시간 체크 (라이브 트랙: 티켓 오픈 시각부터)
-        return scheduleService.findScheduleOrThrow(scheduleId)
-                .flatMap(schedule -> {
-                    LocalDateTime now = LocalDateTime.now();
-                    if (now.isBefore(schedule.getTicketOpenAt())) {
-                        return Mono.error(new BusinessException(ErrorCode.TICKET_NOT_OPENED));
-                    }
-                    return Mono.just(schedule);
-                })
-                // 2. 잔여석 체크 + 대기열 0인 상태 10분 지속 시 마감
-                .then(requireLiveTrackOpen(isLiveTrackOpen(scheduleId)))
-                // 3. 추첨 결제 완료자 라이브 참여 불가
-                .then(requireTrue(
-                        lotteryTrackService.canParticipate(scheduleId, userId),
-                        ErrorCode.ALREADY_PARTICIPATED))
-                // 4. 라이브 1인당 최대 4장 제한
-                .then(requireTrue(
-                        reservationRepository.sumLiveQuantityByUserAndSchedule(scheduleId, userId)
-                                .map(qty -> (qty != null ? qty : 0L) < ReservationConstants.LIVE_MAX_QUANTITY_PER_USER),
-                        ErrorCode.LIVE_MAX_QUANTITY_EXCEEDED))
-                // 5. 등급·구역 검증: 선택한 구역이 해당 등급에 속하는지
-                .then(scheduleService.validateGradeAndZone(scheduleId, request.getGrade(), request.getZone()))
-                // 6. 좌석 풀에서 제거 후 7. 홀드 설정 (홀드 실패 시 풀에 좌석 반환)
-                .then(seatPoolService.selectSeat(
-                                scheduleId,
-                                request.getZone(),
-                                request.getSeatNumber())
-                        .flatMap(selected -> {
-                            if (!selected) {
-                                return Mono.error(new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN));
-                            }
-                            return seatHoldService.holdSeat(
-                                    scheduleId,
-                                    request.getZone(),
-                                    request.getSeatNumber(),
-                                    userId);
-                        })
-                        .flatMap(held -> {
-                            if (!held) {
-                                return seatPoolService.returnSeat(
-                                                scheduleId,
-                                                request.getZone(),
-                                                request.getSeatNumber())
-                                        .then(Mono.<Reservation>error(new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN)));
-                            }
-                            return Mono.just(true);
+        // 0. 매진된 회차·등급은 즉시 거절 (인스턴스 메모리 조회, 좌석 반환 시 자동 해제)
+        if (soldOutRegistry.isSoldOut(scheduleId, request.getGrade())) {
+            return Mono.error(new BusinessException(ErrorCode.SOLD_OUT));
+        }
+        // 로컬 복제본 기준 이미 점유된 좌석은 Redis·DB 작업 없이 즉시 거절 (최종 판단은 4단계 선점)
+        if (seatAvailabilityReplica.isKnownTaken(scheduleId, request.getZone(), request.getSeatNumber())) {
+            return Mono.error(new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN));
+        }
+        // 1~3. 서로 독립인 검증을 병렬 수행: 티켓 오픈 시각·등급/구역(메타데이터 캐시), 좌석 ID(배치 캐시)
+        return Mono.zip(
+                        scheduleService.findScheduleOrThrow(scheduleId)
+                                .filter(schedule -> !LocalDateTime.now().isBefore(schedule.getTicketOpenAt()))
+                                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.TICKET_NOT_OPENED))),
+                        scheduleService.validateGradeAndZone(scheduleId, request.getGrade(), request.getZone())
+                                .thenReturn(true),
+                        seatIdOf(scheduleId, request.getZone(), request.getSeatNumber()))
+                // 4. 선점: 라이브 마감 확인 + 풀 제거 + 홀드(스크립트 한 번)와 참여 원장 예약(추첨 참여자, 1인 4장 제한)을 동시에.
+                //    한쪽만 성공하면 되돌린다
+                .flatMap(checks -> seatClaimService.claim(
+                                scheduleId, request.getZone(), request.getGrade(), request.getSeatNumber(), userId)
+                        .flatMap(result -> switch (result) {
+                            case CLAIMED -> Mono.just(checks.getT3());
+                            case LIVE_CLOSED -> Mono.<Long>error(new BusinessException(ErrorCode.LIVE_TRACK_CLOSED));
+                            case REBUILDING -> Mono.<Long>error(new BusinessException(ErrorCode.SEAT_POOL_REBUILDING));
+                            case ALREADY_PARTICIPATED -> Mono.<Long>error(new BusinessException(ErrorCode.ALREADY_PARTICIPATED));
+                            case QUANTITY_EXCEEDED -> Mono.<Long>error(new BusinessException(ErrorCode.LIVE_MAX_QUANTITY_EXCEEDED));
+                            case TAKEN -> Mono.<Long>error(new BusinessException(ErrorCode.SEAT_ALREADY_TAKEN));
                         }))
-                // 8. 예약 생성 또는 기존 예약에 좌석 추가
-                .flatMap(ignored -> reservationRepository.findFirstByUserIdAndScheduleIdAndTrackType(
-                                userId, scheduleId, TrackType.LIVE.name())
-                        .flatMap(existing -> addSeatToReservation(existing, request.getZone(), request.getSeatNumber()))
-                        .switchIfEmpty(Mono.defer(() ->
-                                reservationRepository.existsByUserIdAndScheduleId(userId, scheduleId)
-                                        .flatMap(exists -> exists
-                                                ? Mono.<Reservation>error(new BusinessException(ErrorCode.ALREADY_PARTICIPATED))
-                                                : Mono.just(Reservation.builder()
-                                                .userId(userId)
-                                                .scheduleId(scheduleId)
-                                                .grade(request.getGrade())
-                                                .quantity(1)
-                                                .trackType(TrackType.LIVE.name())
-                                                .status(ReservationStatus.PENDING.name())
-                                                .createdAt(LocalDateTime.now())
-                                                .updatedAt(LocalDateTime.now())
-                                                .build()))
-                                        .flatMap(newReservation -> reservationRepository.save(newReservation)
-                                                .flatMap(newRes -> buildAndSaveReservationSeat(newRes.getId(), scheduleId, request.getZone(), request.getSeatNumber(), ReservationSeatStatus.PENDING.name())
-                                                        .thenReturn(newRes)))))
-                )
-                .map(reservation -> {
+                // 5. 예약 생성 또는 기존 예약에 좌석 추가 (다른 트랙 참여는 원장에서 이미 거절). 실패 시 선점을 되돌린다
+                .flatMap(seatId -> saveSelection(scheduleId, request, userId, seatId)
+                        .onErrorResume(e -> seatHoldService.releaseHold(scheduleId, request.getZone(), request.getSeatNumber())
+                                .then(seatPoolService.returnSeat(scheduleId, request.getZone(), request.getSeatNumber()))
+                                // 첫 라이브 좌석이었다면 트랙도 비워 추첨 참여가 막히지 않게 한다
+                                .then(userLedgerService.rollbackIfEmpty(scheduleId, userId, TrackType.LIVE, 1))
+                                .then(Mono.error(e))))
+                .map(reservationId -> {
                     log.info("라이브 트랙 좌석 선택: reservationId={}, userId={}, grade={}, zone={}, seat={}",
-                            reservation.getId(), userId, request.getGrade(), request.getZone(), request.getSeatNumber());
+                            reservationId, userId, request.getGrade(), request.getZone(), request.getSeatNumber());
                     LocalDateTime now = LocalDateTime.now();
                     return SeatSelectionResponse.builder()
+                            .reservationId(reservationId)
                             .scheduleId(scheduleId)
                             .grade(request.getGrade())
                             .zone(request.getZone())
@@ -142,16 +125,16 @@ public class LiveTrackService {
                 .then();
     }
 
-    // 라이브 예약 결제 완료 시 해당 예약의 좌석 홀드를 즉시 해제.
-    // PaymentService(또는 결제 콜백)에서 라이브 결제 완료 처리 후 반드시 호출할 것.
-    public Mono<Void> releaseHoldsForReservation(Long reservationId) {
+    // 라이브 예약 결제 완료 시 해당 예약의 좌석 홀드 키를 정리 (좌석 SOLD 전이는 결제 트랜잭션에서 완료).
+    // 결제 완료 이벤트(아웃박스)를 받은 DomainEventFollowUpConsumer가 호출한다 (멱등).
+    public Mono<Void> finalizeHoldsForReservation(Long reservationId) {
         return reservationRepository.findById(reservationId)
                 .filter(r -> TrackType.LIVE.name().equals(r.getTrackType()))
                 .flatMapMany(reservation -> reservationSeatRepository.findByReservationId(reservationId)
-                        .flatMap(seat -> seatHoldService.releaseHold(reservation.getScheduleId(), seat.getZone(), seat.getSeatNumber())
+                        .flatMap(seat -> seatHoldService.finalizeHold(reservation.getScheduleId(), seat.getZone(), seat.getSeatNumber())
                                 .thenReturn(seat)))
                 .then()
-                .doOnSuccess(v -> log.info("라이브 결제 완료로 홀드 해제: reservationId={}", reservationId));
+                .doOnSuccess(v -> log.info("라이브 결제 완료로 홀드 정리: reservationId={}", reservationId));
     }
 
     // 선택한 등급에 속한 구역 목록 (등급 선택 후 구역 선택용)
@@ -159,45 +142,95 @@ public class LiveTrackService {
         return scheduleService.getZonesByGrade(scheduleId, grade);
     }
 
-    // 한 구역의 선택 가능 좌석 번호 목록. 해당 구역이 등급에 속할 때만 조회 가능
-    public Mono<List<String>> getAvailableSeats(Long scheduleId, String grade, String zone) {
-        return scheduleService.validateGradeAndZone(scheduleId, grade, zone)
-                .then(seatPoolService.getAvailableSeats(scheduleId, zone).collectList());
+    // 잔여석 비트맵 스냅샷. zone 지정 시 해당 구역만(등급 소속 검증), 미지정 시 등급의 전체 구역
+    public Mono<SeatAvailabilityResponse> getSeatAvailability(Long scheduleId, String grade, String zone) {
+        Mono<List<String>> zonesMono = (zone == null || zone.isBlank())
+                ? scheduleService.getZonesByGrade(scheduleId, grade)
+                : scheduleService.validateGradeAndZone(scheduleId, grade, zone).thenReturn(List.of(zone));
+        return zonesMono
+                .flatMapMany(Flux::fromIterable)
+                .flatMapSequential(z -> seatLayoutService.getZoneAvailability(scheduleId, z))
+                .collectList()
+                .map(zones -> seatLayoutService.toAvailabilityResponse(scheduleId, grade, zones));
     }
 
-    private Mono<Reservation> addSeatToReservation(Reservation reservation, String zone, String seatNumber) {
-        return buildAndSaveReservationSeat(reservation.getId(), reservation.getScheduleId(), zone, seatNumber, ReservationSeatStatus.PENDING.name())
-                .then(Mono.defer(() -> {
-                    reservation.setQuantity(reservation.getQuantity() + 1);
-                    reservation.setUpdatedAt(LocalDateTime.now());
-                    return reservationRepository.save(reservation);
-                }));
+    // 구역 좌석 배치 문서 (불변). 등급 검증 없이 구역 기준으로 조회
+    public Mono<SeatLayoutResponse> getSeatLayout(Long scheduleId, String zone) {
+        return seatLayoutService.getLayout(scheduleId, zone)
+                .map(layout -> SeatLayoutResponse.builder()
+                        .scheduleId(scheduleId)
+                        .zone(layout.getZone())
+                        .grade(layout.getGrade())
+                        .version(layout.getVersion())
+                        .seatNumbers(layout.getSeatNumbers())
+                        .build());
     }
 
-    // seats 테이블에서 좌석 조회 후 ReservationSeat 저장 (seat_id 설정)
-    private Mono<ReservationSeat> buildAndSaveReservationSeat(Long reservationId, Long scheduleId, String zone, String seatNumber, String status) {
-        return seatRepository.findByScheduleIdAndZoneAndSeatNumber(scheduleId, zone, seatNumber)
-                .switchIfEmpty(Mono.error(new BusinessException(ErrorCode.INVALID_INPUT)))
-                .flatMap(seat -> reservationSeatRepository.save(ReservationSeat.builder()
-                        .reservationId(reservationId)
-                        .seatId(seat.getId())
-                        .zone(zone)
-                        .seatNumber(seatNumber)
-                        .status(status)
-                        .createdAt(LocalDateTime.now())
-                        .build()));
+    // 쓰기 지연 모드면 선점을 확정으로 보고 이벤트만 발행, 아니면 DB에 바로 저장. 반환: 예약 ID
+    private Mono<Long> saveSelection(Long scheduleId, SeatSelectionRequest request, Long userId, Long seatId) {
+        if (writeBehindService.isEnabled()) {
+            return writeBehindService.liveReservationId(scheduleId, userId)
+                    .flatMap(reservationId -> writeBehindService.publish(ReservationEvent.builder()
+                                    .type(ReservationEvent.LIVE_SEAT)
+                                    .reservationId(reservationId)
+                                    .userId(userId)
+                                    .scheduleId(scheduleId)
+                                    .grade(request.getGrade())
+                                    .quantity(1)
+                                    .seatId(seatId)
+                                    .zone(request.getZone())
+                                    .seatNumber(request.getSeatNumber())
+                                    .createdAt(LocalDateTime.now())
+                                    .build())
+                            .thenReturn(reservationId));
+        }
+        return reservationRepository.findFirstByUserIdAndScheduleIdAndTrackType(
+                        userId, scheduleId, TrackType.LIVE.name())
+                .flatMap(existing -> addSeatToReservation(existing, seatId, request.getZone(), request.getSeatNumber()))
+                .switchIfEmpty(Mono.defer(() -> reservationRepository.save(Reservation.builder()
+                                .userId(userId)
+                                .scheduleId(scheduleId)
+                                .grade(request.getGrade())
+                                .quantity(1)
+                                .trackType(TrackType.LIVE.name())
+                                .status(ReservationStatus.PENDING.name())
+                                .createdAt(LocalDateTime.now())
+                                .updatedAt(LocalDateTime.now())
+                                .build())
+                        .flatMap(newRes -> saveReservationSeat(newRes.getId(), seatId, request.getZone(), request.getSeatNumber())
+                                .thenReturn(newRes))))
+                .map(Reservation::getId);
+    }
+
+    private Mono<Reservation> addSeatToReservation(Reservation reservation, Long seatId, String zone, String seatNumber) {
+        return saveReservationSeat(reservation.getId(), seatId, zone, seatNumber)
+                .then(Mono.defer(() -> reservationRepository.incrementQuantity(reservation.getId(), 1, LocalDateTime.now())))
+                .thenReturn(reservation);
     }
 
-    // condition이 true일 때만 통과, false면 주어진 ErrorCode로 실패
-    private Mono<Boolean> requireTrue(Mono<Boolean> condition, ErrorCode whenFalse) {
-        return condition.flatMap(ok -> ok ? Mono.just(true) : Mono.error(new BusinessException(whenFalse)));
+    // 좌석 ID는 배치 캐시 기준 (판매 중 불변). 배치에 없는 좌석이면 INVALID_INPUT
+    private Mono<Long> seatIdOf(Long scheduleId, String zone, String seatNumber) {
+        return seatLayoutService.getLayout(scheduleId, zone)
+                .flatMap(layout -> {
+                    int idx = layout.indexOf(seatNumber);
+                    return idx < 0
+                            ? Mono.<Long>error(new BusinessException(ErrorCode.INVALID_INPUT))
+                            : Mono.just(layout.seatIdAt(idx));
+                });
     }
 
-    private Mono<Boolean> requireLiveTrackOpen(Mono<Boolean> openCondition) {
-        return requireTrue(openCondition, ErrorCode.LIVE_TRACK_CLOSED);
+    private Mono<ReservationSeat> saveReservationSeat(Long reservationId, Long seatId, String zone, String seatNumber) {
+        return reservationSeatRepository.save(ReservationSeat.builder()
+                .reservationId(reservationId)
+                .seatId(seatId)
+                .zone(zone)
+                .seatNumber(seatNumber)
+                .status(ReservationSeatStatus.PENDING.name())
+                .createdAt(LocalDateTime.now())
+                .build());
     }
 
-    // 전체 구역 합쳐 잔여석 1개 이상인지. API 상태/selectSeat 검증용 (Redis pipeline 사용)
+    // 전체 구역 합쳐 잔여석 1개 이상인지. API 상태/selectSeat 검증용 (풀 카운터 MGET 한 번)
     public Mono<Boolean> hasRemainingSeats(Long scheduleId) {
         return seatPoolService.getRemainingSeatsTotal(scheduleId)
                 .map(total -> total > 0);
@@ -205,10 +238,10 @@ public class LiveTrackService {
 
     // 라이브 트랙 오픈 여부: 잔여석 존재 + 대기열 0인 상태 10분 지속으로 마감되지 않음.
     public Mono<Boolean> isLiveTrackOpen(Long scheduleId) {
-        return hasRemainingSeats(scheduleId)
+        return liveOpenFlight.execute(scheduleId, () -> hasRemainingSeats(scheduleId)
                 .flatMap(hasSeats -> hasSeats
                         ? isLiveTrackClosedByQueue(scheduleId).map(closed -> !closed)
-                        : Mono.just(false));
+                        : Mono.just(false)));
     }
 
     // 대기열 사이즈 0이 10분 이상 지속되어 설정된 라이브 마감 플래그 존재 여부
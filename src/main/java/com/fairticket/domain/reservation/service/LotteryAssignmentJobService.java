@@ -0,0 +1,159 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.LotteryAssignmentJob;
+import com.fairticket.domain.reservation.dto.LotterySeatAssignment;
+import com.fairticket.domain.reservation.repository.LotteryAssignmentQueryRepository;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 추첨 좌석 배정 작업 (라이브 트랙 종료 후, 회차당 1회).
+ * 1) 작업 생성: LotteryDrawEngine이 결제 완료(PAID_PENDING_SEAT) 응모를 시드 기반 가중 추첨해 당첨자·좌석을 정하고,
+ *    예약 경계에 맞춘 청크 번호와 함께 작업·계획을 한 문장으로 기록한다. 시드가 작업에 남으므로 결과를 재현할 수 있다.
+ *    미당첨 응모는 같은 문장에서 LOST로 바꾸고 환불 이벤트(LOTTERY_LOST)를 아웃박스에 남긴다.
+ * 2) 청크 실행: 계획 청크의 좌석을 풀에서 일괄 제거(풀당 SREM 1회)한 뒤 실제로 빠진 좌석만 체크포인트 조건부 문장으로 DB에 반영한다.
+ *    계획 이후 라이브 선점 등으로 풀에 없던 좌석은 건너뛰고, DB에서도 AVAILABLE인 좌석만 SOLD로 바꾸므로 이중 판매되지 않는다.
+ *    DB 반영은 체크포인트가 맞을 때만 일어나므로, 중단 후 어느 노드에서 재개해도 좌석은 한 번만 배정된다.
+ *    (제거 직후 중단되면 그 좌석은 배정되지 않고 풀에서만 빠진 채 남으며, 정합성 점검기가 풀에 되돌린다)
+ * 실행은 시간 예산 단위로 끊고 다음 주기에 마지막 커밋 청크부터 이어간다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LotteryAssignmentJobService {
+
+    // 청크 크기 (좌석 수 기준, 예약 경계에서 자르므로 조금 넘을 수 있음)
+    private static final int CHUNK_SEATS = 1000;
+
+    private final LotteryAssignmentQueryRepository lotteryAssignmentQueryRepository;
+    private final LotteryDrawEngine lotteryDrawEngine;
+    private final SeatPoolService seatPoolService;
+    private final MeterRegistry meterRegistry;
+
+    // 회차별 진행률 (0~1) 게이지 값
+    private final Map<Long, AtomicInteger> progressPermille = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 실행 또는 재개. budget이 지나면 남은 청크는 다음 호출로 넘긴다.
+     * @return 배정 완료 여부
+     */
+    public Mono<Boolean> runOrResume(Long scheduleId, Duration budget) {
+        long deadline = System.currentTimeMillis() + budget.toMillis();
+        return lotteryAssignmentQueryRepository.findJob(scheduleId)
+                .switchIfEmpty(Mono.defer(() -> createJob(scheduleId)))
+                .flatMap(job -> {
+                    if (job.isCompleted()) {
+                        recordProgress(job);
+                        return Mono.just(true);
+                    }
+                    log.info("추첨 배정 작업 실행: scheduleId={}, seed={}, chunk={}/{}",
+                            scheduleId, job.getSeed(), job.getNextChunk(), job.getTotalChunks());
+                    return Flux.range(job.getNextChunk(), job.getTotalChunks() - job.getNextChunk())
+                            .concatMap(chunkNo -> System.currentTimeMillis() < deadline
+                                    ? processChunk(scheduleId, chunkNo)
+                                    : Mono.<Void>empty(), 0)
+                            .then(lotteryAssignmentQueryRepository.findJob(scheduleId))
+                            .doOnNext(this::recordProgress)
+                            .map(LotteryAssignmentJob::isCompleted);
+                });
+    }
+
+    // 배정 계획 생성 (추첨 엔진 결과에 청크 번호 부여). 다른 노드가 먼저 만들었으면 그 작업을 사용한다
+    private Mono<LotteryAssignmentJob> createJob(Long scheduleId) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        return lotteryDrawEngine.draw(scheduleId, seed)
+                .flatMap(drawn -> {
+                    // 한 예약의 좌석은 연속해 있으므로 예약이 바뀔 때만 청크를 넘긴다
+                    List<LotterySeatAssignment> plan = new ArrayList<>(drawn.size());
+                    int chunkNo = 0;
+                    int inChunk = 0;
+                    Long previousId = null;
+                    for (LotterySeatAssignment seat : drawn) {
+                        if (inChunk >= CHUNK_SEATS && !seat.getReservationId().equals(previousId)) {
+                            chunkNo++;
+                            inChunk = 0;
+                        }
+                        plan.add(new LotterySeatAssignment(chunkNo, seat.getReservationId(), seat.getZone(), seat.getSeatNumber()));
+                        previousId = seat.getReservationId();
+                        inChunk++;
+                    }
+                    int totalChunks = plan.isEmpty() ? 0 : chunkNo + 1;
+                    return lotteryAssignmentQueryRepository.createJob(scheduleId, seed, totalChunks, plan, LocalDateTime.now())
+                            .doOnNext(losers -> {
+                                if (losers >= 0) {
+                                    log.info("추첨 배정 작업 생성: scheduleId={}, seed={}, seats={}, chunks={}, losers={}",
+                                            scheduleId, seed, plan.size(), totalChunks, losers);
+                                }
+                            });
+                })
+                .then(lotteryAssignmentQueryRepository.findJob(scheduleId));
+    }
+
+    // 청크 실행: 풀 일괄 제거 → 실제로 빠진 좌석만 체크포인트 조건부 DB 반영
+    private Mono<Void> processChunk(Long scheduleId, int chunkNo) {
+        long startedAt = System.nanoTime();
+        return lotteryAssignmentQueryRepository.findPlanChunk(scheduleId, chunkNo)
+                .collectList()
+                .flatMap(chunk -> {
+                    Map<String, List<LotterySeatAssignment>> byZone = chunk.stream()
+                            .collect(Collectors.groupingBy(LotterySeatAssignment::getZone));
+                    return Flux.fromIterable(byZone.entrySet())
+                            .flatMap(entry -> seatPoolService.removeSeats(scheduleId, entry.getKey(), entry.getValue().stream()
+                                            .map(LotterySeatAssignment::getSeatNumber)
+                                            .toList())
+                                    .flatMapIterable(removed -> {
+                                        Set<String> removedSeats = new HashSet<>(removed);
+                                        return entry.getValue().stream()
+                                                .filter(seat -> removedSeats.contains(seat.getSeatNumber()))
+                                                .toList();
+                                    }))
+                            .collectList()
+                            .flatMap(pulled -> lotteryAssignmentQueryRepository
+                                    .assignChunk(scheduleId, chunkNo, pulled, LocalDateTime.now())
+                                    .doOnNext(assigned -> {
+                                        meterRegistry.timer("fairticket.lottery.assignment.chunk.duration")
+                                                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+                                        Counter.builder("fairticket.lottery.assignment.seats")
+                                                .register(meterRegistry)
+                                                .increment(pulled.size());
+                                        if (pulled.size() < chunk.size()) {
+                                            log.warn("추첨 배정 청크에서 풀에 없던 좌석 건너뜀: scheduleId={}, chunk={}, planned={}, pulled={}",
+                                                    scheduleId, chunkNo, chunk.size(), pulled.size());
+                                        }
+                                        log.debug("추첨 배정 청크 반영: scheduleId={}, chunk={}, seats={}, reservations={}",
+                                                scheduleId, chunkNo, pulled.size(), assigned);
+                                    }));
+                })
+                .then();
+    }
+
+    private void recordProgress(LotteryAssignmentJob job) {
+        int permille = job.getTotalChunks() == 0 ? 1000 : job.getNextChunk() * 1000 / job.getTotalChunks();
+        progressPermille.computeIfAbsent(job.getScheduleId(), scheduleId -> {
+            AtomicInteger value = new AtomicInteger();
+            Gauge.builder("fairticket.lottery.assignment.progress", value, v -> v.get() / 1000.0)
+                    .tag("scheduleId", String.valueOf(scheduleId))
+                    .register(meterRegistry);
+            return value;
+        }).set(permille);
+    }
+}
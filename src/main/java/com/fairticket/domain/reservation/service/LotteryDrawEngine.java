@@ -0,0 +1,238 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.LotteryDrawEntry;
+import com.fairticket.domain.reservation.dto.LotterySeatAssignment;
+import com.fairticket.domain.reservation.repository.LotteryAssignmentQueryRepository;
+import com.fairticket.domain.seat.dto.SeatLayout;
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import com.fairticket.domain.seat.service.SeatBlockAllocator;
+import com.fairticket.domain.seat.service.SeatLayoutService;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 추첨 엔진: 좌석이 아닌 응모(결제 완료 추첨 예약)를 대상으로 시드 기반 가중 추첨을 한다.
+ * 응모마다 (시드, 예약 ID)로 정해지는 난수 u에 대해 키 = ln(u) / 수량 (Efraimidis-Spirakis 가중 비복원 추출)을 매기고,
+ * 키가 큰 순서가 추첨 순위다. 키는 응모 순서와 무관하게 재현되므로 같은 시드면 언제 다시 돌려도 같은 결과가 나온다.
+ * 응모는 id 키셋 페이지로 한 번만 흘려 보내며, 수량별 최소 힙에 당첨 가능한 상위 응모(잔여석 / 수량 건)만 남기므로
+ * 응모가 수백만 건이어도 메모리는 등급 잔여석 수에 비례한다.
+ * 당첨자 좌석은 구역 배치에서 이어진 잔여석 구간을 기준으로 SeatBlockAllocator가 배치하므로
+ * 2매 이상 응모는 같은 구역의 붙은 좌석을 받고, 당첨자 사이의 위치는 시드 기반으로 무작위다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LotteryDrawEngine {
+
+    private static final int ENTRY_PAGE_SIZE = 5000;
+    // 배치에 없는 좌석끼리의 정렬: 숫자 좌석은 자릿수 → 사전순 (1, 2, ..., 10, 11)
+    private static final Comparator<ZoneSeatAssignmentResponse> SEAT_ORDER = Comparator
+            .comparingInt((ZoneSeatAssignmentResponse s) -> s.getSeatNumber().length())
+            .thenComparing(ZoneSeatAssignmentResponse::getSeatNumber);
+
+    private final LotteryAssignmentQueryRepository lotteryAssignmentQueryRepository;
+    private final SeatPoolService seatPoolService;
+    private final SeatLayoutService seatLayoutService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 회차 추첨. 반환: 당첨자 좌석 배정 계획 (청크 번호는 호출 측이 매긴다, 여기서는 0)
+     */
+    public Mono<List<LotterySeatAssignment>> draw(Long scheduleId, long seed) {
+        return lotteryAssignmentQueryRepository.findDrawGrades(scheduleId)
+                .concatMap(grade -> drawGrade(scheduleId, grade, seed))
+                .collectList();
+    }
+
+    private Flux<LotterySeatAssignment> drawGrade(Long scheduleId, String grade, long seed) {
+        return seatPoolService.getAvailableSeatsForGrade(scheduleId, grade)
+                .flatMapMany(seats -> {
+                    Draw draw = new Draw();
+                    return pickWinners(scheduleId, grade, seed, seats.size(), draw)
+                            .then(buildRuns(scheduleId, seats))
+                            .map(runs -> assignSeats(scheduleId, grade, seed, draw, runs, seats.size()))
+                            .flatMapIterable(plan -> plan);
+                });
+    }
+
+    /**
+     * 당첨 순위대로 남은 좌석 안에 드는 응모를 당첨자로 정한다 (남은 좌석보다 수량이 많은 응모는 건너뜀).
+     * 같은 수량의 응모는 한 번 건너뛰면 그 아래 순위도 모두 건너뛰므로 수량 q의 당첨자는 q 순위의 앞쪽
+     * 최대 잔여석 / q 건이다. 그보다 아래 응모는 당첨되지도, 남은 좌석을 바꾸지도 않으므로
+     * 수량별 상위만 남겨도 전체를 정렬한 결과와 같고 응모는 한 번만 읽는다.
+     */
+    private Mono<Void> pickWinners(Long scheduleId, String grade, long seed, int remaining, Draw draw) {
+        Ranking ranking = new Ranking(remaining);
+        return streamEntries(scheduleId, grade)
+                .doOnNext(entry -> {
+                    draw.entries++;
+                    ranking.offer(entry, drawKey(seed, entry));
+                })
+                .then(Mono.fromRunnable(() -> {
+                    int left = remaining;
+                    for (Ranked ranked : ranking.descending()) {
+                        LotteryDrawEntry entry = ranked.entry();
+                        if (entry.getQuantity() <= left) {
+                            draw.winners.add(entry);
+                            left -= entry.getQuantity();
+                            if (left == 0) {
+                                break;
+                            }
+                        }
+                    }
+                }));
+    }
+
+    // 구역별로 배치 순서에 정렬해, 배치 인덱스가 끊기는 곳(다른 사람이 가진 좌석)에서 구간을 나눈다
+    private Mono<List<List<ZoneSeatAssignmentResponse>>> buildRuns(Long scheduleId, List<ZoneSeatAssignmentResponse> seats) {
+        Map<String, List<ZoneSeatAssignmentResponse>> byZone = seats.stream()
+                .collect(Collectors.groupingBy(ZoneSeatAssignmentResponse::getZone, TreeMap::new, Collectors.toList()));
+        return Flux.fromIterable(byZone.entrySet())
+                .concatMap(entry -> seatLayoutService.getLayout(scheduleId, entry.getKey())
+                        .map(layout -> splitRuns(layout, entry.getValue())))
+                .collectList()
+                .map(zones -> zones.stream().flatMap(List::stream).toList());
+    }
+
+    private static List<List<ZoneSeatAssignmentResponse>> splitRuns(SeatLayout layout, List<ZoneSeatAssignmentResponse> seats) {
+        seats.sort(Comparator.comparingInt((ZoneSeatAssignmentResponse s) -> layout.indexOf(s.getSeatNumber()))
+                .thenComparing(SEAT_ORDER));
+        List<List<ZoneSeatAssignmentResponse>> runs = new ArrayList<>();
+        List<ZoneSeatAssignmentResponse> run = new ArrayList<>();
+        int previous = -2;
+        for (ZoneSeatAssignmentResponse seat : seats) {
+            int index = layout.indexOf(seat.getSeatNumber());
+            // 배치에 없는 좌석(-1)은 단독 구간
+            if (!run.isEmpty() && (index < 0 || index != previous + 1)) {
+                runs.add(run);
+                run = new ArrayList<>();
+            }
+            run.add(seat);
+            previous = index;
+        }
+        if (!run.isEmpty()) {
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    // 응모를 id 키셋 페이지로 순차 조회
+    private Flux<LotteryDrawEntry> streamEntries(Long scheduleId, String grade) {
+        return fetchPage(scheduleId, grade, 0L)
+                .expand(page -> page.size() < ENTRY_PAGE_SIZE
+                        ? Mono.empty()
+                        : fetchPage(scheduleId, grade, page.get(page.size() - 1).getReservationId()))
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<LotteryDrawEntry>> fetchPage(Long scheduleId, String grade, long afterId) {
+        return lotteryAssignmentQueryRepository.findDrawEntries(scheduleId, grade, afterId, ENTRY_PAGE_SIZE)
+                .collectList();
+    }
+
+    // 당첨자 좌석은 SeatBlockAllocator로 같은 구역의 연석에 배치한다
+    private List<LotterySeatAssignment> assignSeats(Long scheduleId, String grade, long seed, Draw draw,
+                                                    List<List<ZoneSeatAssignmentResponse>> runs, int seatCount) {
+        List<LotteryDrawEntry> winners = draw.winners;
+        int taken = winners.stream().mapToInt(LotteryDrawEntry::getQuantity).sum();
+        int[] quantities = winners.stream().mapToInt(LotteryDrawEntry::getQuantity).toArray();
+        List<List<ZoneSeatAssignmentResponse>> allocated =
+                SeatBlockAllocator.allocate(runs, quantities, new SplittableRandom(seed ^ grade.hashCode()));
+
+        List<LotterySeatAssignment> plan = new ArrayList<>(taken);
+        int split = 0;
+        for (int i = 0; i < winners.size(); i++) {
+            List<ZoneSeatAssignmentResponse> seats = allocated.get(i);
+            if (!isSingleZone(seats)) {
+                split++;
+            }
+            for (ZoneSeatAssignmentResponse seat : seats) {
+                plan.add(new LotterySeatAssignment(0, winners.get(i).getReservationId(), seat.getZone(), seat.getSeatNumber()));
+            }
+        }
+        long losers = draw.entries - winners.size();
+        meterRegistry.counter("fairticket.lottery.draw.entries", "result", "won").increment(winners.size());
+        meterRegistry.counter("fairticket.lottery.draw.entries", "result", "lost").increment(losers);
+        meterRegistry.counter("fairticket.lottery.draw.split.zones").increment(split);
+        log.info("추첨 완료: scheduleId={}, grade={}, seed={}, entries={}, winners={}, seats={}/{}, splitZones={}",
+                scheduleId, grade, seed, draw.entries, winners.size(), taken, seatCount, split);
+        return plan;
+    }
+
+    // 한 구역 안에 배치됐는지 (연석이 모자라 흩어 채우면 구역이 갈릴 수 있음)
+    private static boolean isSingleZone(List<ZoneSeatAssignmentResponse> seats) {
+        return seats.stream().map(ZoneSeatAssignmentResponse::getZone).distinct().count() <= 1;
+    }
+
+    // 응모별 추첨 키 (응모 순서와 무관, 시드·예약 ID로 결정). 클수록 높은 순위
+    private static double drawKey(long seed, LotteryDrawEntry entry) {
+        double u = new SplittableRandom(seed ^ (entry.getReservationId() * 0x9E3779B97F4A7C15L)).nextDouble();
+        // u=0이면 ln이 -∞이므로 가장 작은 양수로 보정
+        return Math.log(Math.max(u, Double.MIN_VALUE)) / Math.max(1, entry.getQuantity());
+    }
+
+    private record Ranked(LotteryDrawEntry entry, double key) {
+    }
+
+    // 등급 추첨 결과 (한 구독 안에서 순차 접근)
+    private static final class Draw {
+        private final List<LotteryDrawEntry> winners = new ArrayList<>();
+        private long entries;
+    }
+
+    /**
+     * 수량별 상위 응모만 남기는 최소 힙. 수량 q 힙은 잔여석 / q 건까지만 유지하고,
+     * 가득 차면 최하위보다 키가 큰 응모만 넣고 최하위를 뺀다 (잔여석보다 수량이 큰 응모는 받지 않음).
+     */
+    private static final class Ranking {
+
+        private static final Comparator<Ranked> BY_KEY = Comparator
+                .comparingDouble(Ranked::key)
+                .thenComparing(r -> -r.entry().getReservationId());
+
+        private final Map<Integer, PriorityQueue<Ranked>> heaps = new HashMap<>();
+        private final int capacity;
+
+        private Ranking(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(LotteryDrawEntry entry, double key) {
+            int quantity = Math.max(1, entry.getQuantity());
+            if (quantity > capacity) {
+                return;
+            }
+            int limit = capacity / quantity;
+            PriorityQueue<Ranked> heap = heaps.computeIfAbsent(quantity, q -> new PriorityQueue<>(BY_KEY));
+            Ranked ranked = new Ranked(entry, key);
+            if (heap.size() < limit) {
+                heap.add(ranked);
+            } else if (BY_KEY.compare(ranked, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        List<Ranked> descending() {
+            List<Ranked> ranked = new ArrayList<>();
+            heaps.values().forEach(ranked::addAll);
+            ranked.sort(BY_KEY.reversed());
+            return ranked;
+        }
+    }
+}
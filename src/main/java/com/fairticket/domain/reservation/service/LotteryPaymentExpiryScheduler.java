@@ -5,13 +5,17 @@ import com.fairticket.domain.reservation.constants.ReservationConstants;
 import com.fairticket.domain.reservation.entity.ReservationStatus;
 import com.fairticket.domain.reservation.entity.TrackType;
 import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 // 추첨 결제 마감(티켓 오픈 15분 전) 경과 시, 미결제(PENDING) 추첨 예약을 자동 취소한다
@@ -22,6 +26,10 @@ public class LotteryPaymentExpiryScheduler {
 
     private final ScheduleRepository scheduleRepository;
     private final ReservationRepository reservationRepository;
+    private final UserLedgerService userLedgerService;
+    private final LotteryQuotaService lotteryQuotaService;
+    private final OutboxService outboxService;
+    private final TransactionalOperator transactionalOperator;
 
     @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
     public void cancelUnpaidLotteryReservations() {
@@ -32,13 +40,24 @@ public class LotteryPaymentExpiryScheduler {
                 .flatMap(schedule -> reservationRepository
                         .findByScheduleIdAndTrackTypeAndStatus(
                                 schedule.getId(), TrackType.LOTTERY.name(), ReservationStatus.PENDING.name())
-                        .flatMap(reservation -> {
-                            reservation.setStatus(ReservationStatus.CANCELLED.name());
-                            reservation.setUpdatedAt(now);
-                            return reservationRepository.save(reservation)
-                                    .doOnSuccess(r -> log.info("추첨 미결제 자동 취소: reservationId={}, scheduleId={}, userId={}",
-                                            r.getId(), r.getScheduleId(), r.getUserId()));
-                        }))
+                        // 조회 후 결제가 완료됐을 수 있으므로 여전히 PENDING일 때만 취소하고, 취소한 경우에만 원장·쿼터를 되돌린다
+                        .flatMap(reservation -> reservationRepository.updateStatusIfCurrent(reservation.getId(),
+                                        ReservationStatus.PENDING.name(), ReservationStatus.CANCELLED.name(), now)
+                                .filter(updated -> updated == 1)
+                                .flatMap(updated -> outboxService.append(OutboxEventType.RESERVATION_CANCELLED, reservation.getId(),
+                                                Map.of("reservationId", reservation.getId(),
+                                                        "userId", reservation.getUserId(),
+                                                        "scheduleId", reservation.getScheduleId(),
+                                                        "trackType", reservation.getTrackType(),
+                                                        "reason", "LOTTERY_PAYMENT_CLOSED"))
+                                        .thenReturn(reservation))
+                                .as(transactionalOperator::transactional)
+                                .flatMap(r -> userLedgerService.release(r.getScheduleId(), r.getUserId(),
+                                                TrackType.LOTTERY, r.getQuantity())
+                                        .then(lotteryQuotaService.release(r.getScheduleId(), r.getGrade(), r.getQuantity()))
+                                        .thenReturn(r))
+                                .doOnNext(r -> log.info("추첨 미결제 자동 취소: reservationId={}, scheduleId={}, userId={}",
+                                        r.getId(), r.getScheduleId(), r.getUserId()))))
                 .doOnSubscribe(s -> log.debug("추첨 결제 마감 스캔 시작"))
                 .onErrorResume(e -> {
                     log.warn("추첨 결제 마감 스케줄러 오류: {}", e.getMessage());
@@ -0,0 +1,115 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.GradeReservedSum;
+import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.domain.seat.dto.GradeSeatCount;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회차·등급별 추첨 잔여 쿼터 (lottery-quota:{scheduleId} Hash).
+ * 쿼터는 등급 좌석 수의 절반이며, 신청 시 스크립트로 확인·차감을 한 번에 해 동시 신청에도 초과 예약되지 않는다.
+ * 취소·만료·예약 실패 시 release로 되돌린다. 쿼터가 없으면 seats·reservations 집계로 한 번 초기화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LotteryQuotaService {
+
+    private static final Duration QUOTA_TTL = Duration.ofDays(2);
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+
+    private RedisScript<Long> initScript;
+    private RedisScript<Long> takeScript;
+    private RedisScript<Long> releaseScript;
+
+    @PostConstruct
+    public void init() {
+        initScript = RedisScript.of(new ClassPathResource("scripts/lottery_quota_init.lua"), Long.class);
+        takeScript = RedisScript.of(new ClassPathResource("scripts/lottery_quota_take.lua"), Long.class);
+        releaseScript = RedisScript.of(new ClassPathResource("scripts/lottery_quota_release.lua"), Long.class);
+    }
+
+    /**
+     * 쿼터 차감. 부족하면 false. 쿼터가 없으면 초기화 후 한 번 재시도
+     */
+    public Mono<Boolean> take(Long scheduleId, String grade, int quantity) {
+        Mono<Long> attempt = redisTemplate.execute(takeScript,
+                        List.of(RedisKeyGenerator.lotteryQuotaKey(scheduleId)),
+                        List.of(grade, String.valueOf(quantity)))
+                .next();
+        return attempt
+                .flatMap(code -> code == -1 ? initialize(scheduleId).then(attempt) : Mono.just(code))
+                .map(code -> code == 1);
+    }
+
+    // 쿼터 반환 (추첨 예약이 PENDING·PAID_PENDING_SEAT에서 취소·환불될 때)
+    public Mono<Void> release(Long scheduleId, String grade, int quantity) {
+        if (quantity <= 0) {
+            return Mono.empty();
+        }
+        return redisTemplate.execute(releaseScript,
+                        List.of(RedisKeyGenerator.lotteryQuotaKey(scheduleId)),
+                        List.of(grade, String.valueOf(quantity)))
+                .then();
+    }
+
+    // 등급 잔여 쿼터
+    public Mono<Long> getRemaining(Long scheduleId, String grade) {
+        return getAll(scheduleId).map(remaining -> remaining.getOrDefault(grade, 0L));
+    }
+
+    // 전 등급 잔여 쿼터 (HGETALL 한 번)
+    public Mono<Map<String, Long>> getAll(Long scheduleId) {
+        Mono<Map<String, Long>> read = redisTemplate.<String, String>opsForHash()
+                .entries(RedisKeyGenerator.lotteryQuotaKey(scheduleId))
+                .collectMap(Map.Entry::getKey, entry -> Math.max(0L, Long.parseLong(entry.getValue())));
+        return read.flatMap(remaining -> remaining.isEmpty()
+                ? initialize(scheduleId).then(read)
+                : Mono.just(remaining));
+    }
+
+    /**
+     * 쿼터가 없을 때만 초기화: 등급별 (좌석 수 / 2) - 현재 추첨 예약 수량(PENDING, PAID_PENDING_SEAT)
+     */
+    public Mono<Void> initialize(Long scheduleId) {
+        Mono<Map<String, Long>> seatCounts = seatRepository.findSeatCountByScheduleIdGroupByGrade(scheduleId)
+                .collectMap(GradeSeatCount::getGrade, GradeSeatCount::getCount);
+        Mono<Map<String, Long>> reserved = reservationRepository.findLotteryReservedSumByScheduleIdGroupByGrade(scheduleId)
+                .collectMap(GradeReservedSum::getGrade, GradeReservedSum::getTotal);
+        return Mono.zip(seatCounts, reserved)
+                .flatMap(tuple -> {
+                    List<String> args = new ArrayList<>();
+                    args.add(String.valueOf(QUOTA_TTL.toSeconds()));
+                    tuple.getT1().forEach((grade, total) -> {
+                        args.add(grade);
+                        args.add(String.valueOf(Math.max(0L, total / 2 - tuple.getT2().getOrDefault(grade, 0L))));
+                    });
+                    return redisTemplate.execute(initScript,
+                                    List.of(RedisKeyGenerator.lotteryQuotaKey(scheduleId)), args)
+                            .next();
+                })
+                .doOnNext(initialized -> {
+                    if (initialized == 1) {
+                        log.info("추첨 쿼터 초기화: scheduleId={}", scheduleId);
+                    }
+                })
+                .then();
+    }
+}
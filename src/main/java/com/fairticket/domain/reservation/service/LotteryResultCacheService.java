@@ -0,0 +1,106 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.LotteryResultResponse;
+import com.fairticket.domain.reservation.dto.LotteryResultRow;
+import com.fairticket.domain.reservation.repository.LotteryResultQueryRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추첨 결과 사전 계산본 (lottery-results:{scheduleId} Hash, field=userId, value=결과 목록 JSON).
+ * 배정 완료 직후 당첨자 전원이 결과를 조회하므로, 배정 작업이 끝나면 회차 결과를 한 번에 읽어
+ * 사용자별 JSON으로 기록해 두고 조회는 HGET 한 번으로 끝낸다. 계산본에 없거나 읽을 수 없으면 호출 측이 DB로 조회한다.
+ * 배정 후 상태가 바뀌는 경우(환불)는 해당 사용자 필드를 지워 DB 조회로 돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LotteryResultCacheService {
+
+    private static final Duration RESULT_TTL = Duration.ofDays(2);
+    // HSET 한 번에 기록할 사용자 수
+    private static final int WRITE_BATCH_USERS = 1000;
+    private static final TypeReference<List<LotteryResultResponse>> RESULT_LIST = new TypeReference<>() {};
+
+    private final LotteryResultQueryRepository lotteryResultQueryRepository;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 회차 추첨 결과 사전 계산. user_id 순으로 흘려 받아 사용자 단위로 묶고, 묶음마다 HSET으로 기록한다.
+     * @return 기록한 사용자 수
+     */
+    public Mono<Long> publish(Long scheduleId) {
+        String key = RedisKeyGenerator.lotteryResultsKey(scheduleId);
+        return lotteryResultQueryRepository.streamResults(scheduleId)
+                .bufferUntilChanged(row -> row.getReservation().getUserId())
+                .buffer(WRITE_BATCH_USERS)
+                .concatMap(users -> {
+                    Map<String, String> fields = new HashMap<>(users.size() * 2);
+                    for (List<LotteryResultRow> rows : users) {
+                        String json = toJson(rows);
+                        if (json != null) {
+                            fields.put(String.valueOf(rows.get(0).getReservation().getUserId()), json);
+                        }
+                    }
+                    if (fields.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    return redisTemplate.<String, String>opsForHash().putAll(key, fields)
+                            .thenReturn((long) fields.size());
+                })
+                .reduce(0L, Long::sum)
+                .flatMap(users -> redisTemplate.expire(key, RESULT_TTL).thenReturn(users))
+                .doOnNext(users -> log.info("추첨 결과 사전 계산 완료: scheduleId={}, users={}", scheduleId, users));
+    }
+
+    // 사용자 결과 목록. 계산본이 없으면 empty
+    public Mono<List<LotteryResultResponse>> get(Long scheduleId, Long userId) {
+        return redisTemplate.<String, String>opsForHash()
+                .get(RedisKeyGenerator.lotteryResultsKey(scheduleId), String.valueOf(userId))
+                .flatMap(json -> {
+                    try {
+                        return Mono.just(objectMapper.readValue(json, RESULT_LIST));
+                    } catch (JsonProcessingException e) {
+                        log.warn("추첨 결과 계산본 파싱 실패, DB 조회: scheduleId={}, userId={}", scheduleId, userId);
+                        return Mono.empty();
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("추첨 결과 계산본 조회 실패, DB 조회: scheduleId={}, error={}", scheduleId, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    // 사용자 결과가 바뀌었을 때(환불 등) 계산본에서 제거
+    public Mono<Void> evict(Long scheduleId, Long userId) {
+        return redisTemplate.<String, String>opsForHash()
+                .remove(RedisKeyGenerator.lotteryResultsKey(scheduleId), String.valueOf(userId))
+                .then();
+    }
+
+    private String toJson(List<LotteryResultRow> rows) {
+        List<LotteryResultResponse> results = rows.stream()
+                .map(row -> LotteryTrackService.toLotteryResultResponse(row.getReservation(), row.getSeats()))
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(results);
+        } catch (JsonProcessingException e) {
+            // 이 사용자는 계산본 없이 DB 조회로 처리된다
+            log.error("추첨 결과 직렬화 실패: userId={}", rows.get(0).getReservation().getUserId(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
+import com.fairticket.domain.concert.entity.Schedule;
+import com.fairticket.domain.concert.repository.ScheduleRepository;
+import com.fairticket.domain.concert.service.ConcertService;
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.reservation.config.WarmUpProperties;
+import com.fairticket.domain.seat.service.SeatLayoutService;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 티켓 오픈 lead-minutes 전부터 회차를 예열한다.
+// 공용 준비(좌석 풀 구축)는 클러스터에서 1회, 로컬 준비(캐시·커넥션·합성 호출)는 인스턴스마다 1회 수행한다.
+// 오픈 첫 1초가 10분차와 같은 성능을 내도록 콜드 캐시·커넥션·JIT 비용을 미리 치른다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PreOpenWarmUpScheduler {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleMetadataCache metadataCache;
+    private final ConcertService concertService;
+    private final SeatPoolService seatPoolService;
+    private final SeatLayoutService seatLayoutService;
+    private final LiveTrackService liveTrackService;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final WarmUpProperties properties;
+
+    // 로컬 예열 완료 표시를 예열 구간(lead-minutes)보다 조금 더 보관 (오픈이 지난 회차는 다시 조회되지 않으므로 만료로 정리)
+    private static final Duration WARMED_RETENTION_MARGIN = Duration.ofMinutes(5);
+    private static final int MAX_WARMED_SCHEDULES = 10_000;
+
+    // 이 인스턴스에서 로컬 예열을 마친 회차
+    private Cache<Long, Boolean> warmedLocally;
+
+    @PostConstruct
+    public void init() {
+        warmedLocally = Caffeine.newBuilder()
+                .maximumSize(MAX_WARMED_SCHEDULES)
+                .expireAfterWrite(Duration.ofMinutes(properties.getLeadMinutes()).plus(WARMED_RETENTION_MARGIN))
+                .build();
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void warmUpUpcomingSchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        scheduleRepository.findByTicketOpenAtBetween(now, now.plusMinutes(properties.getLeadMinutes()))
+                .flatMap(schedule -> warmUp(schedule, now)
+                        .onErrorResume(e -> {
+                            log.warn("오픈 전 예열 실패: scheduleId={}, error={}", schedule.getId(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .onErrorResume(e -> {
+                    log.warn("오픈 전 예열 스케줄러 오류: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    private Mono<Void> warmUp(Schedule schedule, LocalDateTime now) {
+        return prepareShared(schedule, now)
+                .then(Mono.defer(() -> warmedLocally.getIfPresent(schedule.getId()) != null
+                        ? Mono.<Void>empty()
+                        : prepareLocal(schedule.getId())
+                                .doOnSuccess(v -> warmedLocally.put(schedule.getId(), Boolean.TRUE))));
+    }
+
+    // 공용 준비: 좌석 풀 구축(SETNX로 1회), 활성 회차 등록(매 주기 재등록. 대기열이 비면 QueueScheduler가 정리하므로)
+    private Mono<Void> prepareShared(Schedule schedule, LocalDateTime now) {
+        Long scheduleId = schedule.getId();
+        String preparedKey = RedisKeyGenerator.preOpenPreparedKey(scheduleId);
+        Duration ttl = Duration.between(now, schedule.getTicketOpenAt()).plusHours(1);
+        Mono<Void> buildPools = redisTemplate.opsForValue().setIfAbsent(preparedKey, "1", ttl)
+                .flatMap(acquired -> {
+                    if (!Boolean.TRUE.equals(acquired)) {
+                        return Mono.<Void>empty();
+                    }
+                    return seatPoolService.initializeSeatPools(scheduleId)
+                            .doOnSuccess(v -> log.info("오픈 전 좌석 풀 구축: scheduleId={}", scheduleId))
+                            // 실패 시 플래그를 지워 다음 주기에 재시도
+                            .onErrorResume(e -> redisTemplate.delete(preparedKey).then(Mono.error(e)));
+                });
+        return buildPools
+                .then(redisTemplate.opsForSet().add(RedisKeyGenerator.activeSchedulesKey(), scheduleId.toString()))
+                .then();
+    }
+
+    // 로컬 준비: 메타데이터·공연(가격) 캐시, 좌석 배치, DB·Redis 커넥션, 핫 경로 합성 호출
+    private Mono<Void> prepareLocal(Long scheduleId) {
+        long startedAt = System.currentTimeMillis();
+        return metadataCache.get(scheduleId)
+                .flatMap(metadata -> Mono.when(
+                                concertService.getConcertById(metadata.getSchedule().getConcertId()),
+                                Flux.fromIterable(metadata.getZoneNames())
+                                        .flatMap(zone -> seatLayoutService.getLayout(scheduleId, zone))
+                                        .then(),
+                                warmUpConnections())
+                        .then(runSyntheticCalls(metadata)))
+                .doOnSuccess(v -> log.info("오픈 전 로컬 예열 완료: scheduleId={}, elapsedMs={}",
+                        scheduleId, System.currentTimeMillis() - startedAt));
+    }
+
+    private Mono<Void> warmUpConnections() {
+        Mono<Void> r2dbc = connectionFactory instanceof ConnectionPool pool
+                ? pool.warmup().doOnSuccess(n -> log.debug("R2DBC 커넥션 예열: {}", n)).then()
+                : Mono.empty();
+        Mono<Void> redis = redisTemplate.execute(connection -> connection.ping()).then();
+        return Mono.when(r2dbc, redis);
+    }
+
+    // 라이브 좌석 조회·잔여석 집계·등급/구역 검증을 호출해 JIT와 직렬화 경로를 데운다 (상태 변경 없음)
+    // 등급 좌석 조회는 구역 풀 전체(SMEMBERS)를 읽으므로 등급마다 한 번만 호출하고,
+    // 반복 호출은 풀 키당 카운터 한 번 읽는 집계 경로만 쓴다 (인스턴스 수 × 반복 수만큼 풀 전체를 읽지 않도록)
+    private Mono<Void> runSyntheticCalls(ScheduleMetadata metadata) {
+        Long scheduleId = metadata.getScheduleId();
+        Mono<Void> seatViews = Flux.fromIterable(metadata.getGrades())
+                .concatMap(grade -> liveTrackService.getSeatAvailability(scheduleId, grade.getGrade(), null))
+                .then();
+        List<Mono<?>> calls = new ArrayList<>();
+        for (String zone : metadata.getZoneNames()) {
+            calls.add(seatPoolService.getRemainingSeats(scheduleId, zone));
+        }
+        calls.add(seatPoolService.getRemainingSeatsByGrade(scheduleId));
+        calls.add(seatPoolService.getRemainingSeatsTotal(scheduleId));
+        calls.add(liveTrackService.isLiveTrackOpen(scheduleId));
+        return seatViews
+                .thenMany(Flux.range(0, properties.getSyntheticIterations()))
+                .concatMap(i -> Mono.when(calls))
+                .then();
+    }
+}
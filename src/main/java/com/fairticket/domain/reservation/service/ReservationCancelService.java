@@ -2,6 +2,7 @@ package com.fairticket.domain.reservation.service;
 
 import com.fairticket.domain.reservation.entity.Reservation;
 import com.fairticket.domain.reservation.entity.ReservationStatus;
+import com.fairticket.domain.reservation.entity.TrackType;
 import com.fairticket.domain.reservation.repository.ReservationRepository;
 import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
 import com.fairticket.domain.seat.entity.SeatStatus;
@@ -9,13 +10,17 @@ import com.fairticket.domain.seat.repository.SeatRepository;
 import com.fairticket.domain.seat.service.SeatPoolService;
 import com.fairticket.global.exception.BusinessException;
 import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 // 추첨/라이브 두 트랙 모두, 티켓 오픈 2시간 후부터 24시간 동안 좌석 취소(환불) 가능.
 @Slf4j
@@ -28,6 +33,11 @@ public class ReservationCancelService {
     private final CancellationWindowService cancellationWindowService;
     private final SeatPoolService seatPoolService;
     private final SeatRepository seatRepository;
+    private final UserLedgerService userLedgerService;
+    private final LotteryQuotaService lotteryQuotaService;
+    private final OutboxService outboxService;
+    private final LotteryResultCacheService lotteryResultCacheService;
+    private final TransactionalOperator transactionalOperator;
 
     public Mono<Void> cancelReservation(Long reservationId, Long userId) {
         return reservationRepository.findById(reservationId)
@@ -52,13 +62,33 @@ public class ReservationCancelService {
     }
 
     private Mono<Void> applyCancellation(Reservation reservation) {
+        // 결제 후 좌석 배정 전인 추첨 예약은 쿼터에 잡혀 있으므로 되돌린다
+        boolean holdsLotteryQuota = TrackType.LOTTERY.name().equals(reservation.getTrackType())
+                && ReservationStatus.PAID_PENDING_SEAT.name().equals(reservation.getStatus());
         reservation.setStatus(ReservationStatus.REFUNDED.name());
         reservation.setUpdatedAt(LocalDateTime.now());
         Long reservationId = reservation.getId();
         Long scheduleId = reservation.getScheduleId();
-        return reservationRepository.save(reservation)
-                .then(reservationSeatRepository.findByReservationId(reservationId).collectList())
-                .flatMap(seats -> reservationSeatRepository.updateStatusToCancelledByReservationId(reservationId)
+        // 예약·좌석 취소와 환불 이벤트(아웃박스)는 한 트랜잭션, Redis 후속 처리는 커밋 후
+        return reservationSeatRepository.findByReservationId(reservationId).collectList()
+                .flatMap(seats -> reservationRepository.save(reservation)
+                        .then(reservationSeatRepository.updateStatusToCancelledByReservationId(reservationId))
+                        .then(outboxService.append(OutboxEventType.RESERVATION_REFUNDED, reservationId, Map.of(
+                                "reservationId", reservationId,
+                                "userId", reservation.getUserId(),
+                                "scheduleId", scheduleId,
+                                "trackType", reservation.getTrackType(),
+                                "quantity", reservation.getQuantity())))
+                        .as(transactionalOperator::transactional)
+                        .thenReturn(seats))
+                // 환불로 참여 원장 집계·추첨 결과가 바뀌므로 폐기 후 다시 채우게 한다
+                .flatMap(seats -> userLedgerService.invalidate(scheduleId, reservation.getUserId())
+                        .then(TrackType.LOTTERY.name().equals(reservation.getTrackType())
+                                ? lotteryResultCacheService.evict(scheduleId, reservation.getUserId())
+                                : Mono.<Void>empty())
+                        .then(holdsLotteryQuota
+                                ? lotteryQuotaService.release(scheduleId, reservation.getGrade(), reservation.getQuantity())
+                                : Mono.<Void>empty())
                         .thenReturn(seats))
                 .flatMap(seats -> Flux.fromIterable(seats)
                         .filter(rs -> rs.getZone() != null && rs.getSeatNumber() != null)
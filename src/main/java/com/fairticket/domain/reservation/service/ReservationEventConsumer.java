@@ -0,0 +1,34 @@
+package com.fairticket.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 예약 이벤트 일괄 반영 컨슈머 (쓰기 지연 모드).
+ * poll 한 번의 레코드를 묶어 반영하고, 반환 후 오프셋이 커밋된다 (실패 시 재전달, 반영은 멱등).
+ * 모드가 꺼져 있으면 리스너를 시작하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationEventConsumer {
+
+    private final ReservationWriteBehindService writeBehindService;
+
+    @KafkaListener(
+            topics = "${fairticket.write-behind.topic:reservation-events}",
+            groupId = "fairticket-reservation-writer",
+            batch = "true",
+            concurrency = "${fairticket.write-behind.concurrency:4}",
+            properties = "max.poll.records=${fairticket.write-behind.max-poll-records:1000}",
+            autoStartup = "${fairticket.write-behind.enabled:false}")
+    public void consume(List<String> payloads) {
+        // 리스너 스레드는 블로킹 가능. 반영이 끝나야 오프셋을 커밋한다
+        writeBehindService.persist(payloads).block();
+        log.debug("예약 이벤트 배치 처리: records={}", payloads.size());
+    }
+}
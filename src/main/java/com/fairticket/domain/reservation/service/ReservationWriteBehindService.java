@@ -0,0 +1,177 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.ReservationEvent;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.ReservationWriteBehindRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.global.util.SingleFlight;
+import com.fairticket.infra.kafka.WriteBehindProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 쓰기 지연(write-behind) 예약 저장.
+ * 켜져 있으면 Redis 선점(좌석 풀·참여 원장·추첨 쿼터)을 확정 시점으로 보고, 예약 행은 이벤트로 Kafka에 보낸 뒤
+ * ReservationEventConsumer가 묶음 INSERT로 반영한다. 예약 ID는 시퀀스에서 블록 단위로 미리 받아 두어
+ * 클릭 경로에서 DB 왕복이 없다.
+ * 반영 전 이벤트는 reservation-pending:{reservationId} 목록에도 남겨, 결제·취소처럼 DB 행이 필요한 진입점에서
+ * ensurePersisted로 즉시 반영한다 (자기 쓰기 읽기 보장). 컨슈머는 반영 후 목록에서 해당 이벤트를 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationWriteBehindService {
+
+    private final WriteBehindProperties properties;
+    private final ReservationWriteBehindRepository writeBehindRepository;
+    private final UserLedgerService userLedgerService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 선할당 예약 ID (인스턴스 로컬). 비면 한 번만 다시 채운다
+    private final Queue<Long> reservationIds = new ConcurrentLinkedQueue<>();
+    private final SingleFlight<String, List<Long>> idRefill = new SingleFlight<>(Duration.ZERO);
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Mono<Long> nextReservationId() {
+        return Mono.defer(() -> {
+            Long id = reservationIds.poll();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return idRefill.execute("reservations", () -> writeBehindRepository
+                            .allocateReservationIds(properties.getIdBlockSize())
+                            .collectList()
+                            .doOnNext(reservationIds::addAll))
+                    .then(Mono.defer(this::nextReservationId));
+        });
+    }
+
+    // 사용자의 라이브 예약 ID (원장 기준, 없으면 새로 할당해 기록. 동시 선택은 같은 ID를 받는다)
+    public Mono<Long> liveReservationId(Long scheduleId, Long userId) {
+        return userLedgerService.getOrAssignLiveReservationId(scheduleId, userId, nextReservationId());
+    }
+
+    /**
+     * 이벤트 발행. 미반영 목록에 먼저 기록한 뒤 Kafka로 보낸다 (발행 실패 시 호출 측이 선점을 되돌린다).
+     * 전송 실패 시 미반영 목록의 이벤트도 지운 뒤 오류를 넘긴다. 남겨 두면 선점을 되돌린 뒤에도
+     * 결제·취소 진입점의 ensurePersisted가 이 예약을 되살린다.
+     */
+    public Mono<Void> publish(ReservationEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        String pendingKey = RedisKeyGenerator.reservationPendingKey(event.getReservationId());
+        return redisTemplate.opsForList().rightPush(pendingKey, payload)
+                .then(redisTemplate.expire(pendingKey, Duration.ofMinutes(properties.getPendingTtlMinutes())))
+                // send는 메타데이터 대기 시 호출 스레드를 막으므로 이벤트 루프 밖에서 호출
+                .then(Mono.fromFuture(() -> kafkaTemplate.send(
+                                properties.getTopic(), event.getReservationId().toString(), payload))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .then()
+                .onErrorResume(e -> redisTemplate.opsForList().remove(pendingKey, 1, payload)
+                        .onErrorResume(removeError -> {
+                            log.error("미반영 이벤트 삭제 실패: reservationId={}", event.getReservationId(), removeError);
+                            return Mono.empty();
+                        })
+                        .then(Mono.error(e)));
+    }
+
+    /**
+     * 예약의 미반영 이벤트를 즉시 DB에 반영. 쓰기 지연 모드가 꺼져 있거나 미반영 이벤트가 없으면 아무것도 하지 않는다
+     */
+    public Mono<Void> ensurePersisted(Long reservationId) {
+        if (!isEnabled()) {
+            return Mono.empty();
+        }
+        return redisTemplate.opsForList().range(RedisKeyGenerator.reservationPendingKey(reservationId), 0, -1)
+                .collectList()
+                .filter(payloads -> !payloads.isEmpty())
+                .flatMap(this::persist);
+    }
+
+    /**
+     * 이벤트 묶음 반영 (컨슈머·동기 반영 공통). 반영 후 미반영 목록에서 지운다
+     */
+    public Mono<Void> persist(List<String> payloads) {
+        List<ReservationEvent> events = new ArrayList<>(payloads.size());
+        Map<String, ReservationEvent> pending = new LinkedHashMap<>();
+        for (String payload : payloads) {
+            try {
+                ReservationEvent event = objectMapper.readValue(payload, ReservationEvent.class);
+                events.add(event);
+                pending.put(payload, event);
+            } catch (JsonProcessingException e) {
+                // 형식이 깨진 이벤트는 재시도해도 반영할 수 없으므로 건너뛴다
+                log.error("예약 이벤트 파싱 실패, 건너뜀: payload={}", payload, e);
+            }
+        }
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return writeBehindRepository.persist(events, LocalDateTime.now())
+                .flatMap(dropped -> {
+                    recordDropped(dropped);
+                    Set<Long> droppedReservationIds = new HashSet<>(dropped);
+                    return Flux.fromIterable(pending.entrySet())
+                            .flatMap(entry -> redisTemplate.opsForList()
+                                    .remove(RedisKeyGenerator.reservationPendingKey(entry.getValue().getReservationId()),
+                                            1, entry.getKey())
+                                    // 목록에서 처음 지운 쪽만 차감 (재전달·ensurePersisted와 겹쳐도 한 번만)
+                                    .filter(removed -> removed > 0
+                                            && ReservationEvent.LIVE_SEAT.equals(entry.getValue().getType())
+                                            && droppedReservationIds.contains(entry.getValue().getReservationId()))
+                                    .flatMap(removed -> releaseDropped(entry.getValue())))
+                            .then();
+                })
+                .doOnSuccess(v -> log.debug("예약 이벤트 반영: events={}", events.size()));
+    }
+
+    // UNIQUE 충돌로 건너뛴 좌석: 사용자의 Redis 좌석 선점은 남아 있으므로 홀드 만료로 회수된다
+    private void recordDropped(List<Long> droppedSeatReservationIds) {
+        if (droppedSeatReservationIds.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter("fairticket.writebehind.seats.dropped").increment(droppedSeatReservationIds.size());
+        log.warn("예약 충돌로 좌석 반영 건너뜀: seats={}, reservationIds={}",
+                droppedSeatReservationIds.size(), droppedSeatReservationIds.stream().distinct().toList());
+    }
+
+    // 건너뛴 좌석은 예약 좌석 행이 없어 홀드 만료가 원장을 차감하지 않으므로 여기서 라이브 수량 1을 돌려준다
+    private Mono<Void> releaseDropped(ReservationEvent event) {
+        return userLedgerService.release(event.getScheduleId(), event.getUserId(), TrackType.LIVE, 1)
+                .onErrorResume(e -> {
+                    log.warn("건너뛴 좌석 원장 차감 실패: reservationId={}, userId={}, error={}",
+                            event.getReservationId(), event.getUserId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,143 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.UserLedgerQueryRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자별 회차 참여 원장 (user-ledger:{scheduleId}:{userId} Hash).
+ * 참여 트랙, 라이브 보유 수량, 추첨 신청 수량, 추첨 결제 여부를 Redis에 두고
+ * 한도 검사와 증가를 스크립트 한 번으로 처리해 클릭 경로의 reservations 집계 쿼리를 없앤다.
+ * 원장이 없으면(최초 참여, TTL 만료, Redis 유실) reservations 집계로 한 번 채운 뒤 다시 시도한다.
+ * 수량이 줄어드는 경로(홀드 만료, 결제 타임아웃, 예약 실패)는 release로 차감한다.
+ * 쓰기 지연 모드에서는 사용자의 라이브 예약 ID도 함께 보관한다 (liveReservationId).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserLedgerService {
+
+    public static final Duration LEDGER_TTL = Duration.ofDays(1);
+    private static final String LIVE_RESERVATION_ID = "liveReservationId";
+
+    public enum Result {
+        RESERVED, ALREADY_PARTICIPATED, QUANTITY_EXCEEDED
+    }
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final UserLedgerQueryRepository userLedgerQueryRepository;
+
+    private RedisScript<Long> hydrateScript;
+    private RedisScript<Long> reserveScript;
+    private RedisScript<Long> releaseScript;
+
+    @PostConstruct
+    public void init() {
+        hydrateScript = RedisScript.of(new ClassPathResource("scripts/user_ledger_hydrate.lua"), Long.class);
+        reserveScript = RedisScript.of(new ClassPathResource("scripts/user_ledger_reserve.lua"), Long.class);
+        releaseScript = RedisScript.of(new ClassPathResource("scripts/user_ledger_release.lua"), Long.class);
+    }
+
+    /**
+     * 트랙 수량 예약 (트랙 정책 + 1인 한도 검사 후 증가). 원장이 없으면 채운 뒤 한 번 재시도
+     */
+    public Mono<Result> reserve(Long scheduleId, Long userId, TrackType track, int quantity, int maxQuantity) {
+        Mono<Long> attempt = redisTemplate.execute(reserveScript,
+                        List.of(RedisKeyGenerator.userLedgerKey(scheduleId, userId)),
+                        List.of(track.name(), String.valueOf(quantity), String.valueOf(maxQuantity),
+                                String.valueOf(LEDGER_TTL.toSeconds())))
+                .next();
+        return attempt
+                .flatMap(code -> code == -3 ? hydrate(scheduleId, userId).then(attempt) : Mono.just(code))
+                .map(code -> {
+                    if (code == 1) {
+                        return Result.RESERVED;
+                    }
+                    if (code == -4) {
+                        return Result.QUANTITY_EXCEEDED;
+                    }
+                    // -2, 또는 채운 직후에도 원장이 없으면 (비정상) 참여 불가로 처리
+                    return Result.ALREADY_PARTICIPATED;
+                });
+    }
+
+    // 수량 차감 (취소·만료)
+    public Mono<Void> release(Long scheduleId, Long userId, TrackType track, int quantity) {
+        return executeRelease(scheduleId, userId, track, quantity, "0");
+    }
+
+    // 예약 생성 자체가 실패했을 때: 수량 차감 + 트랙 비움
+    public Mono<Void> rollback(Long scheduleId, Long userId, TrackType track, int quantity) {
+        return executeRelease(scheduleId, userId, track, quantity, "1");
+    }
+
+    // 좌석 단위 저장이 실패했을 때: 수량 차감, 남은 수량이 0이면(이번이 첫 좌석) 트랙도 비움
+    public Mono<Void> rollbackIfEmpty(Long scheduleId, Long userId, TrackType track, int quantity) {
+        return executeRelease(scheduleId, userId, track, quantity, "2");
+    }
+
+    /**
+     * 라이브 예약 ID. 원장에 없으면 후보 ID를 HSETNX로 기록하고 실제 기록된 값을 돌려준다 (동시 클릭은 같은 ID 공유)
+     * 원장이 없으면 먼저 채운다.
+     */
+    public Mono<Long> getOrAssignLiveReservationId(Long scheduleId, Long userId, Mono<Long> candidate) {
+        String key = RedisKeyGenerator.userLedgerKey(scheduleId, userId);
+        Mono<String> existing = redisTemplate.<String, String>opsForHash().get(key, LIVE_RESERVATION_ID);
+        return hydrate(scheduleId, userId)
+                .then(existing)
+                .switchIfEmpty(Mono.defer(() -> candidate
+                        .flatMap(id -> redisTemplate.<String, String>opsForHash()
+                                .putIfAbsent(key, LIVE_RESERVATION_ID, id.toString()))
+                        .then(existing)))
+                .map(Long::parseLong);
+    }
+
+    // 원장 폐기. 다음 조회 때 reservations에서 다시 채운다 (상태 전이가 드문 경로용)
+    public Mono<Void> invalidate(Long scheduleId, Long userId) {
+        return redisTemplate.delete(RedisKeyGenerator.userLedgerKey(scheduleId, userId)).then();
+    }
+
+    /**
+     * 원장이 없을 때만 reservations 집계로 채운다 (동시 요청은 먼저 채운 쪽을 그대로 사용)
+     */
+    public Mono<Void> hydrate(Long scheduleId, Long userId) {
+        return userLedgerQueryRepository.findLedger(scheduleId, userId)
+                .flatMap(ledger -> redisTemplate.execute(hydrateScript,
+                                List.of(RedisKeyGenerator.userLedgerKey(scheduleId, userId)),
+                                List.of(ledger.getTrack(),
+                                        String.valueOf(ledger.getLiveQuantity()),
+                                        String.valueOf(ledger.getLotteryQuantity()),
+                                        ledger.isLotteryPaid() ? "1" : "0",
+                                        String.valueOf(LEDGER_TTL.toSeconds()),
+                                        ledger.getLiveReservationId() != null ? ledger.getLiveReservationId().toString() : ""))
+                        .next())
+                .doOnNext(filled -> {
+                    if (filled == 1) {
+                        log.debug("참여 원장 적재: scheduleId={}, userId={}", scheduleId, userId);
+                    }
+                })
+                .then();
+    }
+
+    // resetTrack: 0 유지, 1 항상 비움, 2 남은 수량이 0일 때만 비움
+    private Mono<Void> executeRelease(Long scheduleId, Long userId, TrackType track, int quantity, String resetTrack) {
+        if (quantity <= 0 && "0".equals(resetTrack)) {
+            return Mono.empty();
+        }
+        return redisTemplate.execute(releaseScript,
+                        List.of(RedisKeyGenerator.userLedgerKey(scheduleId, userId)),
+                        List.of(track.name(), String.valueOf(quantity), resetTrack))
+                .then();
+    }
+}
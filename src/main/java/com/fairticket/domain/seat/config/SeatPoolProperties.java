@@ -0,0 +1,48 @@
+package com.fairticket.domain.seat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.seat-pool")
+public class SeatPoolProperties {
+
+    // 초기화 시 한 번에 SADD 하는 좌석 수 (메모리·Redis 블로킹 상한)
+    private int initChunkSize = 1000;
+    // 회차 하나를 초기화할 때 동시에 적재하는 청크 수
+    private int initChunkConcurrency = 4;
+    // 여러 회차 일괄 초기화 시 동시 처리 회차 수
+    private int initScheduleConcurrency = 4;
+    // Redis 유실 복구 재구축 시 동시 처리 회차 수
+    private int rebuildScheduleConcurrency = 16;
+    // 교체 전 임시 키 TTL (분). 초기화 중 장애 시 자동 정리
+    private int buildKeyTtlMinutes = 60;
+    // 좌석 수가 이 값 이상인 구역은 하위 풀로 샤딩 (0이면 샤딩 안 함)
+    private int hotZoneShardThreshold = 0;
+    // 인기 구역 하위 풀 수
+    private int hotZoneShards = 8;
+    // 인스턴스 로컬 잔여석 복제본 사용 여부 (이미 점유된 좌석 선행 거절)
+    private boolean replicaEnabled = true;
+    // 변경 알림 묶음 발행 주기 (ms)
+    private int replicaBatchMillis = 20;
+    // 복제본 재동기화 주기 (ms)
+    private int replicaResyncMs = 10000;
+    // 접근 없는 복제본 폐기 시간 (분)
+    private int replicaIdleMinutes = 30;
+    // 단일 작성자 엔진: 회차별 링 버퍼 크기
+    private int engineRingCapacity = 65536;
+    // 단일 작성자 엔진: 한 번에 처리·저널 기록하는 명령 수
+    private int engineBatchSize = 256;
+    // 단일 작성자 엔진: 결과 대기 제한 (ms)
+    private int engineTimeoutMs = 2000;
+    // 회차별 재고 모드 갱신 주기 (ms)
+    private int engineModeRefreshMs = 2000;
+    // 단일 작성자 엔진: 스냅샷 주기 (ms). 스냅샷 후 그 이전 저널은 잘라낸다
+    private int engineSnapshotIntervalMs = 30000;
+    // 단일 작성자 엔진: 소유 노드가 전달 명령을 처리하는 작업자 수
+    private int engineRemoteWorkers = 16;
+}
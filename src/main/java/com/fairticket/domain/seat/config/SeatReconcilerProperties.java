@@ -0,0 +1,26 @@
+package com.fairticket.domain.seat.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.seat-reconciler")
+public class SeatReconcilerProperties {
+
+    // 활성 회차 주기 점검 사용 여부
+    private boolean enabled = true;
+    // 주기 점검 시 불일치 자동 복구 여부 (false면 보고만)
+    private boolean repair = false;
+    // 주기 점검 간격 (ms)
+    private int intervalMs = 60000;
+    // DB 키셋 페이지 / SSCAN 한 번에 비교하는 좌석 수
+    private int chunkSize = 500;
+    // 1차 의심 좌석 재확인까지 대기 (ms). 좌석 선택처럼 진행 중인 전이를 오탐하지 않기 위함
+    private int recheckDelayMs = 2000;
+    // 보고서에 담는 유형별 예시 좌석 수
+    private int sampleLimit = 20;
+}
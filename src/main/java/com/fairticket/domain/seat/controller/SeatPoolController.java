@@ -1,6 +1,15 @@
 package com.fairticket.domain.seat.controller;
 
+import com.fairticket.domain.seat.dto.SeatPoolInitializeRequest;
+import com.fairticket.domain.seat.dto.SeatPoolRebuildProgress;
+import com.fairticket.domain.seat.dto.SeatReconcileReport;
+import com.fairticket.domain.seat.entity.InventoryMode;
+import com.fairticket.domain.seat.service.SeatInventoryEngine;
+import com.fairticket.domain.seat.service.SeatPoolRebuildService;
 import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.domain.seat.service.SeatStateReconciler;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,6 +25,9 @@ import reactor.core.publisher.Mono;
 public class SeatPoolController {
 
     private final SeatPoolService seatPoolService;
+    private final SeatInventoryEngine inventoryEngine;
+    private final SeatStateReconciler seatStateReconciler;
+    private final SeatPoolRebuildService seatPoolRebuildService;
 
     @PostMapping("/{scheduleId}/initialize")
     public Mono<ResponseEntity<Void>> initializeSeatPools(
@@ -24,4 +36,55 @@ public class SeatPoolController {
         return seatPoolService.initializeSeatPools(scheduleId)
                 .then(Mono.just(ResponseEntity.ok().build()));
     }
+
+    @Operation(summary = "여러 회차 좌석 풀 일괄 초기화")
+    @PostMapping("/initialize")
+    public Mono<ResponseEntity<Void>> initializeSeatPools(@RequestBody SeatPoolInitializeRequest request) {
+        if (request.getScheduleIds() == null || request.getScheduleIds().isEmpty()) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT));
+        }
+        return seatPoolService.initializeSeatPools(request.getScheduleIds())
+                .then(Mono.just(ResponseEntity.ok().build()));
+    }
+
+    @Operation(summary = "잔여석 기준 좌석 풀 재구축 (Redis 유실 복구)",
+            description = "판매·진행 중 예약 좌석을 제외한 잔여석만 Postgres에서 읽어 재구축. 본문 생략 시 판매 중인 전체 회차")
+    @PostMapping("/rebuild")
+    public Mono<ResponseEntity<SeatPoolRebuildProgress>> rebuildSeatPools(
+            @RequestBody(required = false) SeatPoolInitializeRequest request) {
+        return seatPoolRebuildService.start(request != null ? request.getScheduleIds() : null)
+                .map(progress -> ResponseEntity.accepted().body(progress));
+    }
+
+    @Operation(summary = "좌석 풀 재구축 진행 상황")
+    @GetMapping("/rebuild")
+    public Mono<ResponseEntity<SeatPoolRebuildProgress>> getRebuildProgress() {
+        return seatPoolRebuildService.getProgress().map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "회차 좌석 재고 모드 조회", description = "REDIS / ENGINE(단일 작성자) / DRAINING")
+    @GetMapping("/{scheduleId}/inventory-mode")
+    public Mono<ResponseEntity<InventoryMode>> getInventoryMode(@PathVariable Long scheduleId) {
+        return inventoryEngine.getMode(scheduleId).map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "회차 좌석 재고 모드 전환", description = "ENGINE 전환은 티켓 오픈 전에 수행. REDIS 전환은 소유 노드가 상태를 풀로 되돌린 뒤 완료된다.")
+    @PutMapping("/{scheduleId}/inventory-mode")
+    public Mono<ResponseEntity<Void>> changeInventoryMode(
+            @PathVariable Long scheduleId,
+            @RequestParam InventoryMode mode) {
+        if (mode == InventoryMode.DRAINING) {
+            return Mono.error(new BusinessException(ErrorCode.INVALID_INPUT));
+        }
+        return inventoryEngine.changeMode(scheduleId, mode)
+                .then(Mono.just(ResponseEntity.accepted().build()));
+    }
+
+    @Operation(summary = "회차 좌석 정합성 점검", description = "Redis 좌석 풀·홀드와 Postgres 좌석 상태를 비교. repair=true면 확정된 불일치를 복구")
+    @PostMapping("/{scheduleId}/reconcile")
+    public Mono<ResponseEntity<SeatReconcileReport>> reconcile(
+            @PathVariable Long scheduleId,
+            @RequestParam(defaultValue = "false") boolean repair) {
+        return seatStateReconciler.reconcile(scheduleId, repair).map(ResponseEntity::ok);
+    }
 }
@@ -0,0 +1,29 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 등급(또는 단일 구역)의 잔여석 스냅샷. 구역별로 좌석 배치 문서에 맞춘 비트맵을 담는다
+@Getter
+@Builder
+public class SeatAvailabilityResponse {
+    private Long scheduleId;
+    private String grade;
+    // 응답 전체의 버전 (ETag와 동일). 변경이 없으면 304로 재검증
+    private String version;
+    private List<ZoneAvailability> zones;
+
+    @Getter
+    @Builder
+    public static class ZoneAvailability {
+        private String zone;
+        // 기준 좌석 배치 버전 (GET /api/v1/live/{scheduleId}/layout 의 version, 요청 시 v로 넘기면 영구 캐시)
+        private String layoutVersion;
+        private int seatCount;
+        private int availableCount;
+        // base64 비트맵. i번째 좌석 = byte[i / 8]의 (7 - i % 8)번 비트 (MSB 우선), 1이면 선택 가능
+        private String bitmap;
+    }
+}
@@ -0,0 +1,69 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+// 구역별 정적 좌석 배치 (seats 테이블 기준, 판매 중 불변).
+// 좌석 번호의 순서(index)가 잔여석 비트맵의 비트 위치가 된다.
+@Getter
+public class SeatLayout {
+
+    private final Long scheduleId;
+    private final String zone;
+    private final String grade;
+    private final String version;
+    private final List<String> seatNumbers;
+    private final long[] seatIds;
+    private final Map<String, Integer> indexBySeatNumber;
+
+    public SeatLayout(Long scheduleId, String zone, String grade, List<String> seatNumbers, long[] seatIds) {
+        this.scheduleId = scheduleId;
+        this.zone = zone;
+        this.grade = grade;
+        this.seatNumbers = Collections.unmodifiableList(seatNumbers);
+        this.seatIds = seatIds;
+        Map<String, Integer> index = new HashMap<>(seatNumbers.size() * 2);
+        for (int i = 0; i < seatNumbers.size(); i++) {
+            index.put(seatNumbers.get(i), i);
+        }
+        this.indexBySeatNumber = Collections.unmodifiableMap(index);
+        this.version = computeVersion(zone, seatNumbers);
+    }
+
+    public int size() {
+        return seatNumbers.size();
+    }
+
+    // 좌석 번호의 비트 위치. 배치에 없는 좌석이면 -1
+    public int indexOf(String seatNumber) {
+        Integer idx = indexBySeatNumber.get(seatNumber);
+        return idx != null ? idx : -1;
+    }
+
+    public long seatIdAt(int index) {
+        return seatIds[index];
+    }
+
+    // 배치 내용(구역 + 좌석 순서)의 해시. ETag·비트맵 정합성 확인용
+    private static String computeVersion(String zone, List<String> seatNumbers) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(zone.getBytes(StandardCharsets.UTF_8));
+            for (String seatNumber : seatNumbers) {
+                digest.update((byte) 0);
+                digest.update(seatNumber.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 구역 좌석 배치 문서 (불변). seatNumbers의 순서가 잔여석 비트맵의 비트 순서와 같다
+@Getter
+@Builder
+public class SeatLayoutResponse {
+    private Long scheduleId;
+    private String zone;
+    private String grade;
+    private String version;
+    private List<String> seatNumbers;
+}
@@ -0,0 +1,12 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class SeatPoolInitializeRequest {
+    private List<Long> scheduleIds;
+}
@@ -0,0 +1,24 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 잔여석 기준 좌석 풀 재구축 진행 상황
+@Getter
+@Builder
+public class SeatPoolRebuildProgress {
+
+    // IDLE / RUNNING / COMPLETED / FAILED
+    private String status;
+    private String runId;
+    private int schedulesTotal;
+    private int schedulesDone;
+    private int schedulesFailed;
+    private long seatsLoaded;
+    private List<Long> failedScheduleIds;
+    private String startedAt;
+    private String finishedAt;
+    private long elapsedMs;
+}
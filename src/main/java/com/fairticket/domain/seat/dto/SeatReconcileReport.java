@@ -0,0 +1,27 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// Redis 좌석 풀 ↔ Postgres 정합성 점검 결과
+@Getter
+@Builder
+public class SeatReconcileReport {
+
+    private Long scheduleId;
+    // 점검을 건너뛴 사유 (엔진 모드 등). 정상 점검 시 null
+    private String skippedReason;
+    private boolean repair;
+    private long scannedSeats;
+    private long scannedPoolMembers;
+    // 불일치 유형 → 재확인 후 확정된 좌석 수
+    private Map<String, Long> drift;
+    // 불일치 유형 → 복구한 좌석 수
+    private Map<String, Long> repaired;
+    // 불일치 유형 → 예시 좌석 (zone:seatNumber)
+    private Map<String, List<String>> samples;
+    private long elapsedMs;
+}
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 public class SeatSelectionResponse {
+    // 결제 요청에 쓰는 예약 ID (쓰기 지연 모드에서도 선할당되어 바로 사용 가능)
+    private Long reservationId;
     private Long scheduleId;
     private String grade;
     private String zone;
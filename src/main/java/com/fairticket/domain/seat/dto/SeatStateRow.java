@@ -0,0 +1,16 @@
+package com.fairticket.domain.seat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 정합성 점검용 좌석 상태 행 (seats + 판매 여부)
+@Getter
+@AllArgsConstructor
+public class SeatStateRow {
+
+    private Long id;
+    private String seatNumber;
+    private String status;
+    // 배정 완료 또는 결제 완료된 예약 좌석 존재 여부
+    private boolean sold;
+}
@@ -0,0 +1,8 @@
+package com.fairticket.domain.seat.entity;
+
+// 회차별 좌석 재고 처리 방식
+public enum InventoryMode {
+    REDIS,    // 기본: Redis 좌석 풀·홀드 키
+    ENGINE,   // 단일 작성자 인메모리 엔진 (소유 노드 1대가 직렬 처리)
+    DRAINING  // 엔진 → Redis 전환 중 (소유 노드가 상태를 Redis 풀로 되돌리는 중)
+}
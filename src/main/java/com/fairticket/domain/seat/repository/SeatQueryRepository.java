@@ -0,0 +1,104 @@
+package com.fairticket.domain.seat.repository;
+
+import com.fairticket.domain.seat.dto.SeatStateRow;
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 좌석 정합성 점검용 쿼리 (seats + reservation_seats JOIN reservations).
+ * 판매 여부: 배정 완료(ASSIGNED) 좌석이거나 결제된 예약의 좌석
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatQueryRepository {
+
+    private static final String SELECT_STATE = """
+            SELECT s.id, s.seat_number, s.status,
+                   EXISTS (
+                       SELECT 1
+                       FROM reservation_seats rs
+                       JOIN reservations r ON r.id = rs.reservation_id
+                       WHERE r.schedule_id = s.schedule_id
+                         AND rs.zone = s.zone
+                         AND rs.seat_number = s.seat_number
+                         AND (rs.status = 'ASSIGNED'
+                              OR (rs.status = 'PENDING' AND r.status IN ('PAID', 'PAID_PENDING_SEAT', 'ASSIGNED')))
+                   ) AS sold
+            FROM seats s
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    // 구역 좌석 상태 키셋 페이지 (id > afterId, id 오름차순)
+    public Flux<SeatStateRow> findZoneStates(Long scheduleId, String zone, long afterId, int limit) {
+        return databaseClient.sql(SELECT_STATE + """
+                WHERE s.schedule_id = :scheduleId
+                  AND s.zone = :zone
+                  AND s.id > :afterId
+                ORDER BY s.id
+                LIMIT :limit
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("zone", zone)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map((row, metadata) -> toRow(row))
+                .all();
+    }
+
+    // 지정한 좌석 번호들의 상태 (재확인·풀 역방향 점검용)
+    public Flux<SeatStateRow> findStates(Long scheduleId, String zone, List<String> seatNumbers) {
+        return databaseClient.sql(SELECT_STATE + """
+                WHERE s.schedule_id = :scheduleId
+                  AND s.zone = :zone
+                  AND s.seat_number = ANY(:seatNumbers)
+                """)
+                .bind("scheduleId", scheduleId)
+                .bind("zone", zone)
+                .bind("seatNumbers", seatNumbers.toArray(new String[0]))
+                .map((row, metadata) -> toRow(row))
+                .all();
+    }
+
+    /**
+     * 회차 잔여석 (좌석 풀 재구축용). SOLD 좌석과 진행 중인(PENDING/ASSIGNED) 예약 좌석 제외.
+     * 구역 순으로 스트리밍한다
+     */
+    public Flux<ZoneSeatAssignmentResponse> findFreeSeats(Long scheduleId) {
+        return databaseClient.sql("""
+                SELECT s.zone, s.seat_number
+                FROM seats s
+                WHERE s.schedule_id = :scheduleId
+                  AND s.status <> 'SOLD'
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM reservation_seats rs
+                      JOIN reservations r ON r.id = rs.reservation_id
+                      WHERE r.schedule_id = s.schedule_id
+                        AND rs.zone = s.zone
+                        AND rs.seat_number = s.seat_number
+                        AND rs.status IN ('PENDING', 'ASSIGNED')
+                  )
+                ORDER BY s.zone, s.id
+                """)
+                .bind("scheduleId", scheduleId)
+                .map((row, metadata) -> new ZoneSeatAssignmentResponse(
+                        row.get("zone", String.class),
+                        row.get("seat_number", String.class)))
+                .all();
+    }
+
+    private static SeatStateRow toRow(Row row) {
+        return new SeatStateRow(
+                row.get("id", Long.class),
+                row.get("seat_number", String.class),
+                row.get("status", String.class),
+                Boolean.TRUE.equals(row.get("sold", Boolean.class)));
+    }
+}
@@ -22,6 +22,26 @@ public interface SeatRepository extends ReactiveCrudRepository<Seat, Long> {
             @Param("zone") String zone,
             @Param("seatNumber") String seatNumber);
 
+    // 구역 내 여러 좌석 상태를 한 번에 갱신 (fromStatus인 좌석만)
+    @Modifying
+    @Query("UPDATE seats SET status = :status WHERE schedule_id = :scheduleId AND zone = :zone " +
+            "AND seat_number IN (:seatNumbers) AND status = :fromStatus")
+    Mono<Integer> updateStatusByScheduleIdAndZoneAndSeatNumberIn(
+            @Param("status") String status,
+            @Param("fromStatus") String fromStatus,
+            @Param("scheduleId") Long scheduleId,
+            @Param("zone") String zone,
+            @Param("seatNumbers") List<String> seatNumbers);
+
+    // 결제 완료된 라이브 예약의 좌석을 판매 처리 (취소되지 않은 예약 좌석만)
+    @Modifying
+    @Query("UPDATE seats s SET status = 'SOLD' FROM reservation_seats rs " +
+            "WHERE rs.reservation_id = :reservationId AND rs.status <> 'CANCELLED' " +
+            "AND s.schedule_id = :scheduleId AND s.zone = rs.zone AND s.seat_number = rs.seat_number")
+    Mono<Integer> markSoldByReservationId(
+            @Param("scheduleId") Long scheduleId,
+            @Param("reservationId") Long reservationId);
+
     Mono<Long> countByScheduleIdAndGrade(Long scheduleId, String grade);
 
     Flux<Seat> findByScheduleId(Long scheduleId);
@@ -0,0 +1,70 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 단일 작성자 좌석 엔진 명령. 소비자 스레드가 처리 후 result를 완료한다
+@Getter
+final class InventoryCommand {
+
+    enum Op {
+        // 변경 (저널 기록 대상)
+        TAKE, PUT, HOLD, RELEASE_HOLD, POP,
+        // 조회
+        MEMBERS, COUNT, HOLD_OWNER, HOLD_TTL
+    }
+
+    private final Op op;
+    private final String zone;
+    private final String seatNumber;
+    private final Long userId;
+    private final long expiresAt;
+    private final List<String> zones;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    // 처리 결과 (저널 기록 후 result 완료에 사용). POP은 실제 꺼낸 좌석을 seatNumber 대신 여기에 둔다
+    private Object outcome;
+
+    InventoryCommand(Op op, String zone, String seatNumber, Long userId, long expiresAt, List<String> zones) {
+        this.op = op;
+        this.zone = zone;
+        this.seatNumber = seatNumber;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.zones = zones;
+    }
+
+    static InventoryCommand of(Op op, String zone, String seatNumber) {
+        return new InventoryCommand(op, zone, seatNumber, null, 0L, null);
+    }
+
+    static InventoryCommand hold(String zone, String seatNumber, Long userId, long expiresAt) {
+        return new InventoryCommand(Op.HOLD, zone, seatNumber, userId, expiresAt, null);
+    }
+
+    static InventoryCommand pop(List<String> zones) {
+        return new InventoryCommand(Op.POP, null, null, null, 0L, zones);
+    }
+
+    void setOutcome(Object outcome) {
+        this.outcome = outcome;
+    }
+
+    // 저널 한 줄: op|zone|seat|userId|expiresAt (POP은 꺼낸 좌석의 TAKE로 기록)
+    String toJournalLine() {
+        if (op == Op.POP) {
+            ZoneSeatAssignmentResponse popped = (ZoneSeatAssignmentResponse) outcome;
+            return Op.TAKE + "|" + popped.getZone() + "|" + popped.getSeatNumber() + "||0";
+        }
+        return op + "|" + zone + "|" + seatNumber + "|" + (userId != null ? userId : "") + "|" + expiresAt;
+    }
+
+    static InventoryCommand fromJournalLine(String line) {
+        String[] parts = line.split("\\|", -1);
+        Long userId = parts[3].isEmpty() ? null : Long.parseLong(parts[3]);
+        return new InventoryCommand(Op.valueOf(parts[0]), parts[1], parts[2], userId, Long.parseLong(parts[4]), null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fairticket.domain.seat.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 다중 생산자·단일 소비자 고정 크기 링 버퍼 (락 없음).
+ * 생산자는 tail CAS로 슬롯을 확보한 뒤 값을 게시하고, 소비자는 게시된 슬롯만 순서대로 꺼낸다.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    MpscRingBuffer(int requestedCapacity) {
+        int cap = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.capacity = cap;
+        this.mask = cap - 1;
+        this.slots = new AtomicReferenceArray<>(cap);
+    }
+
+    /**
+     * @return false: 버퍼가 가득 참
+     */
+    boolean offer(E element) {
+        long t;
+        do {
+            t = tail.get();
+            if (t - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        slots.lazySet((int) (t & mask), element);
+        return true;
+    }
+
+    /**
+     * 최대 max개를 꺼내 consumer에 전달 (소비자 스레드 전용)
+     */
+    int drain(Consumer<E> consumer, int max) {
+        long h = head;
+        int count = 0;
+        while (count < max) {
+            int idx = (int) (h & mask);
+            E element = slots.get(idx);
+            if (element == null) {
+                // 비었거나 생산자가 아직 게시 전
+                break;
+            }
+            slots.lazySet(idx, null);
+            h++;
+            count++;
+            consumer.accept(element);
+        }
+        head = h;
+        return count;
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+}
@@ -0,0 +1,331 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 회차 하나의 좌석 재고 (단일 작성자).
+ * 모든 명령은 링 버퍼를 거쳐 소유 스레드 하나가 순서대로 처리하므로 상태에 락이 없다.
+ * 명령을 묶음으로 처리하고, 변경분을 저널에 기록한 뒤에야 결과를 돌려준다.
+ * 스냅샷 주기마다 묶음 사이(저널과 상태가 일치하는 시점)에서 스냅샷 콜백을 호출한다.
+ */
+final class ScheduleInventory implements Runnable {
+
+    private static final long IDLE_PARK_NANOS = 50_000L;
+    private static final String ZONE_FIELD_PREFIX = "zone:";
+    private static final String HOLDS_FIELD = "holds";
+
+    private final Long scheduleId;
+    private final MpscRingBuffer<InventoryCommand> ring;
+    private final int batchSize;
+    // 변경분 기록. 반환: 저널 엔트리 ID
+    private final Function<List<InventoryCommand>, String> journal;
+    private final Consumer<ScheduleInventory> snapshotter;
+    private final long snapshotIntervalMs;
+
+    // 구역별 잔여 좌석, 홀드 (zone|seatNumber → 홀드). 소유 스레드에서만 접근
+    private final Map<String, Set<String>> available = new HashMap<>();
+    private final Map<String, Hold> holds = new HashMap<>();
+
+    private volatile boolean open;
+    private volatile boolean running = true;
+    private volatile boolean draining;
+    private volatile boolean failed;
+
+    // 마지막으로 기록한 저널 ID와 마지막 스냅샷의 저널 ID. 소유 스레드에서만 접근
+    private String lastJournalId;
+    private String snapshotJournalId;
+    private long nextSnapshotAt;
+
+    ScheduleInventory(Long scheduleId, int capacity, int batchSize,
+                      Function<List<InventoryCommand>, String> journal,
+                      Consumer<ScheduleInventory> snapshotter, long snapshotIntervalMs) {
+        this.scheduleId = scheduleId;
+        this.ring = new MpscRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.journal = journal;
+        this.snapshotter = snapshotter;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+    }
+
+    Long getScheduleId() {
+        return scheduleId;
+    }
+
+    // ---- 적재 (소유 스레드에서 run 이전에만 호출) ----
+
+    void restore(String zone, List<String> seatNumbers) {
+        available.computeIfAbsent(zone, z -> new HashSet<>()).addAll(seatNumbers);
+    }
+
+    void replay(InventoryCommand command) {
+        apply(command);
+    }
+
+    // 스냅샷 복구 (zone:{zone} → 좌석 목록, holds → zone|seat|userId|expiresAt 줄 목록)
+    void restoreSnapshot(Map<String, String> snapshot) {
+        snapshot.forEach((field, value) -> {
+            if (field.startsWith(ZONE_FIELD_PREFIX)) {
+                restore(field.substring(ZONE_FIELD_PREFIX.length()),
+                        value.isEmpty() ? List.of() : List.of(value.split("\n")));
+            } else if (HOLDS_FIELD.equals(field) && !value.isEmpty()) {
+                for (String line : value.split("\n")) {
+                    String[] parts = line.split("\\|", -1);
+                    holds.put(holdKey(parts[0], parts[1]), new Hold(Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+                }
+            }
+        });
+        snapshotJournalId = snapshot.get(SeatInventoryJournal.SNAPSHOT_JOURNAL_ID);
+        lastJournalId = snapshotJournalId;
+    }
+
+    // 복구 직후 저널 끝 위치 (재생한 마지막 엔트리)
+    void restoredUpTo(String journalId) {
+        if (journalId != null) {
+            lastJournalId = journalId;
+        }
+    }
+
+    void open() {
+        nextSnapshotAt = System.currentTimeMillis() + snapshotIntervalMs;
+        open = true;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    boolean offer(InventoryCommand command) {
+        return open && ring.offer(command);
+    }
+
+    /**
+     * 명령 수신을 멈추고 남은 명령까지 처리한 뒤 run을 끝낸다.
+     * drain=true면 소유자가 종료 후 상태를 Redis 풀로 되돌린다
+     */
+    void stop(boolean drain) {
+        this.draining = drain;
+        this.open = false;
+        this.running = false;
+    }
+
+    boolean isDraining() {
+        return draining && !failed;
+    }
+
+    @Override
+    public void run() {
+        List<InventoryCommand> batch = new ArrayList<>(batchSize);
+        List<InventoryCommand> changes = new ArrayList<>(batchSize);
+        while (!failed && (running || !ring.isEmpty())) {
+            int drained = ring.drain(command -> {
+                Object outcome = apply(command);
+                command.setOutcome(outcome);
+                batch.add(command);
+                if (isChange(command, outcome)) {
+                    changes.add(command);
+                }
+            }, batchSize);
+            if (drained > 0) {
+                complete(batch, changes);
+            }
+            maybeSnapshot();
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    // 주기가 됐고 마지막 스냅샷 이후 변경이 있으면 스냅샷 (실패해도 저널이 남아 있으므로 다음 주기에 재시도)
+    private void maybeSnapshot() {
+        if (failed || snapshotter == null || System.currentTimeMillis() < nextSnapshotAt) {
+            return;
+        }
+        nextSnapshotAt = System.currentTimeMillis() + snapshotIntervalMs;
+        if (lastJournalId == null || lastJournalId.equals(snapshotJournalId)) {
+            return;
+        }
+        snapshotter.accept(this);
+    }
+
+    // 스냅샷 대상 저널 ID (이 시점까지의 변경이 상태에 모두 반영됨)
+    String lastJournalId() {
+        return lastJournalId;
+    }
+
+    void snapshotTaken(String journalId) {
+        snapshotJournalId = journalId;
+    }
+
+    // 스냅샷 필드 (소유 스레드에서 호출)
+    Map<String, String> snapshotFields() {
+        Map<String, String> fields = new HashMap<>();
+        available.forEach((zone, seats) -> fields.put(ZONE_FIELD_PREFIX + zone, String.join("\n", seats)));
+        StringBuilder holdLines = new StringBuilder();
+        holdSnapshot().forEach((key, hold) -> {
+            if (holdLines.length() > 0) {
+                holdLines.append('\n');
+            }
+            holdLines.append(key).append('|').append(hold.userId).append('|').append(hold.expiresAt);
+        });
+        fields.put(HOLDS_FIELD, holdLines.toString());
+        return fields;
+    }
+
+    /**
+     * 처리되지 못한 명령 실패 처리 (소유 스레드 종료 시)
+     */
+    void failPending(Throwable error) {
+        ring.drain(command -> command.getResult().completeExceptionally(error), Integer.MAX_VALUE);
+    }
+
+    // 재고 스냅샷 (run 종료 후 소유 스레드에서 호출)
+    Map<String, Set<String>> availableSnapshot() {
+        return available;
+    }
+
+    // 유효한 홀드 스냅샷 (zone|seatNumber → 홀드)
+    Map<String, Hold> holdSnapshot() {
+        long now = System.currentTimeMillis();
+        Map<String, Hold> result = new HashMap<>();
+        holds.forEach((key, hold) -> {
+            if (hold.expiresAt > now) {
+                result.put(key, hold);
+            }
+        });
+        return result;
+    }
+
+    private void complete(List<InventoryCommand> batch, List<InventoryCommand> changes) {
+        try {
+            if (!changes.isEmpty()) {
+                lastJournalId = journal.apply(changes);
+            }
+            for (InventoryCommand command : batch) {
+                command.getResult().complete(command.getOutcome());
+            }
+        } catch (RuntimeException e) {
+            // 저널에 남지 않은 변경은 응답하지 않는다. 메모리 상태를 버리고 엔진을 내려
+            // 새 소유자가 저널 기준으로 복구하게 한다
+            for (InventoryCommand command : batch) {
+                command.getResult().completeExceptionally(e);
+            }
+            failed = true;
+            stop(false);
+        } finally {
+            batch.clear();
+            changes.clear();
+        }
+    }
+
+    private static boolean isChange(InventoryCommand command, Object outcome) {
+        switch (command.getOp()) {
+            case TAKE:
+            case PUT:
+            case HOLD:
+            case RELEASE_HOLD:
+                return Boolean.TRUE.equals(outcome);
+            case POP:
+                return outcome != null;
+            default:
+                return false;
+        }
+    }
+
+    private Object apply(InventoryCommand command) {
+        String zone = command.getZone();
+        switch (command.getOp()) {
+            case TAKE: {
+                Set<String> seats = available.get(zone);
+                return seats != null && seats.remove(command.getSeatNumber());
+            }
+            case PUT:
+                return available.computeIfAbsent(zone, z -> new HashSet<>()).add(command.getSeatNumber());
+            case HOLD: {
+                String key = holdKey(zone, command.getSeatNumber());
+                Hold existing = holds.get(key);
+                if (existing != null && existing.expiresAt > System.currentTimeMillis()) {
+                    return false;
+                }
+                holds.put(key, new Hold(command.getUserId(), command.getExpiresAt()));
+                return true;
+            }
+            case RELEASE_HOLD:
+                return holds.remove(holdKey(zone, command.getSeatNumber())) != null;
+            case POP:
+                return pop(command.getZones());
+            case MEMBERS: {
+                Set<String> seats = available.get(zone);
+                return seats != null ? List.copyOf(seats) : List.of();
+            }
+            case COUNT: {
+                if (zone != null) {
+                    Set<String> seats = available.get(zone);
+                    return seats != null ? (long) seats.size() : 0L;
+                }
+                long total = 0;
+                for (Set<String> seats : available.values()) {
+                    total += seats.size();
+                }
+                return total;
+            }
+            case HOLD_OWNER: {
+                Hold hold = holds.get(holdKey(zone, command.getSeatNumber()));
+                return hold != null && hold.expiresAt > System.currentTimeMillis() ? hold.userId : null;
+            }
+            case HOLD_TTL: {
+                Hold hold = holds.get(holdKey(zone, command.getSeatNumber()));
+                long remainingMs = hold != null ? hold.expiresAt - System.currentTimeMillis() : -1;
+                // Redis TTL과 동일하게 키가 없으면 -2초
+                return remainingMs > 0 ? remainingMs / 1000 : -2L;
+            }
+            default:
+                throw new IllegalStateException("알 수 없는 명령: " + command.getOp());
+        }
+    }
+
+    // 등급 구역 중 임의 구역부터 시작해, 비어 있으면 다음 구역으로 넘어가 임의 좌석 추출 (Redis 모드와 동일)
+    private ZoneSeatAssignmentResponse pop(List<String> zones) {
+        if (zones == null || zones.isEmpty()) {
+            return null;
+        }
+        int offset = ThreadLocalRandom.current().nextInt(zones.size());
+        for (int i = 0; i < zones.size(); i++) {
+            String zone = zones.get((i + offset) % zones.size());
+            Set<String> seats = available.get(zone);
+            if (seats == null || seats.isEmpty()) {
+                continue;
+            }
+            Iterator<String> it = seats.iterator();
+            String seatNumber = it.next();
+            it.remove();
+            return new ZoneSeatAssignmentResponse(zone, seatNumber);
+        }
+        return null;
+    }
+
+    static String holdKey(String zone, String seatNumber) {
+        return zone + "|" + seatNumber;
+    }
+
+    static final class Hold {
+        final Long userId;
+        final long expiresAt;
+
+        Hold(Long userId, long expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
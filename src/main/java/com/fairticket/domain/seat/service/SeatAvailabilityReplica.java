@@ -0,0 +1,275 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.config.SeatPoolProperties;
+import com.fairticket.domain.seat.dto.SeatLayout;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 인스턴스 로컬 잔여석 복제본 (구역별 비트셋, 좌석 배치 순서).
+ * 이미 점유된 좌석 선택을 Redis·Postgres 작업 전에 거절하기 위한 용도이며,
+ * 최종 점유 판단은 항상 Redis 풀(SREM)이 한다.
+ * 변경 알림(pub/sub)으로 갱신하고, 알림 유실은 주기 재동기화로 보정한다.
+ * 풀 조회(적재·재동기화)는 진행 중 도착한 변경을 덮어쓰고 조회 결과 자체도 최대 SingleFlight 창만큼 오래됐을 수 있으므로,
+ * 최근 변경을 구역별로 도착 순서대로 보관해 두었다가 조회 시작 전 여유 구간부터의 해당 구역 변경만 새 복제본에 재적용한 뒤 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityReplica {
+
+    private final SeatLayoutService seatLayoutService;
+    private final SeatPoolService seatPoolService;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final SeatPoolProperties properties;
+
+    // 풀 조회 결과가 조회 시작보다 오래됐을 수 있는 최대 시간 (SingleFlight 창 + 여유)
+    private static final long SNAPSHOT_STALENESS_MS = 500;
+    // 최근 변경 보관 시간. 이보다 오래 걸린 조회 결과는 재적용할 변경이 빠졌을 수 있어 버린다
+    private static final long RECENT_CHANGES_MS = 5000;
+
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+    // 복제본 교체와 변경 적용을 직렬화 (둘 다 짧은 메모리 작업)
+    private final Object mutex = new Object();
+    // 구역(복제본 키)별 최근 변경. 교체 시 해당 구역 변경만 훑도록 나눠 보관한다
+    private final Map<String, ArrayDeque<Change>> recentChanges = new HashMap<>();
+    private Cache<String, ZoneReplica> replicas;
+    private Disposable subscription;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isReplicaEnabled()) {
+            return;
+        }
+        // 판매가 끝난 회차는 접근이 끊기면 자연히 정리된다
+        replicas = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(properties.getReplicaIdleMinutes()))
+                .build();
+        subscription = redisTemplate.listenToChannel(RedisKeyGenerator.seatChangesChannel())
+                // (재)구독 전 변경분은 알 수 없으므로 전체 폐기 후 지연 적재
+                .doOnSubscribe(s -> replicas.invalidateAll())
+                .flatMapIterable(message -> List.of(message.getMessage().split("\n")))
+                .doOnNext(this::apply)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("좌석 변경 채널 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 복제본 기준 이미 점유된 좌석이면 true.
+     * 복제본이 없거나 배치에 없는 좌석이면 false (판단 보류, 복제본은 비동기 적재)
+     */
+    public boolean isKnownTaken(Long scheduleId, String zone, String seatNumber) {
+        if (replicas == null || zone == null || seatNumber == null) {
+            return false;
+        }
+        String key = replicaKey(scheduleId, zone);
+        ZoneReplica replica = replicas.getIfPresent(key);
+        if (replica == null) {
+            loadAsync(scheduleId, zone, key);
+            return false;
+        }
+        int idx = replica.layout.indexOf(seatNumber);
+        return idx >= 0 && !replica.isAvailable(idx);
+    }
+
+    /**
+     * 적재된 복제본을 Redis 풀 기준으로 다시 맞춘다
+     */
+    @Scheduled(fixedDelayString = "${fairticket.seat-pool.replica-resync-ms:10000}")
+    public void resync() {
+        if (replicas == null) {
+            return;
+        }
+        trimRecentChanges();
+        Flux.fromIterable(replicas.asMap().values())
+                .flatMap(replica -> {
+                    String key = replicaKey(replica.layout.getScheduleId(), replica.layout.getZone());
+                    long startedAt = System.currentTimeMillis();
+                    return fetch(replica.layout.getScheduleId(), replica.layout.getZone())
+                            .doOnNext(fresh -> install(key, fresh, startedAt, true));
+                }, 4)
+                .onErrorResume(e -> {
+                    log.warn("좌석 복제본 재동기화 오류: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    private void loadAsync(Long scheduleId, String zone, String key) {
+        if (!loading.add(key)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        fetch(scheduleId, zone)
+                .doFinally(signal -> loading.remove(key))
+                .subscribe(
+                        replica -> install(key, replica, startedAt, false),
+                        e -> log.debug("좌석 복제본 적재 실패: scheduleId={}, zone={}, error={}", scheduleId, zone, e.getMessage()));
+    }
+
+    /**
+     * 조회 시작 전 여유 구간부터 도착한 변경을 새 복제본에 도착 순서대로 재적용한 뒤 교체한다.
+     * 좌석별 최종 상태는 마지막 변경이 정하므로, 조회 결과에 이미 반영된 변경을 다시 적용해도 결과는 같다.
+     * @param onlyIfPresent 재동기화: 그 사이 폐기된 복제본은 되살리지 않음
+     */
+    private void install(String key, ZoneReplica fresh, long fetchStartedAt, boolean onlyIfPresent) {
+        long now = System.currentTimeMillis();
+        if (now - fetchStartedAt > RECENT_CHANGES_MS - SNAPSHOT_STALENESS_MS) {
+            log.debug("좌석 복제본 조회 지연으로 교체 생략: key={}, elapsedMs={}", key, now - fetchStartedAt);
+            return;
+        }
+        long replayFrom = fetchStartedAt - SNAPSHOT_STALENESS_MS;
+        synchronized (mutex) {
+            ArrayDeque<Change> changes = recentChanges.get(key);
+            if (changes != null) {
+                for (Change change : changes) {
+                    if (change.at() >= replayFrom) {
+                        fresh.apply(change.seatNumber(), change.available());
+                    }
+                }
+            }
+            if (onlyIfPresent) {
+                replicas.asMap().computeIfPresent(key, (k, old) -> fresh);
+            } else {
+                replicas.put(key, fresh);
+            }
+        }
+    }
+
+    private Mono<ZoneReplica> fetch(Long scheduleId, String zone) {
+        return seatLayoutService.getLayout(scheduleId, zone)
+                .flatMap(layout -> seatPoolService.getAvailableSeats(scheduleId, zone)
+                        .collectList()
+                        .map(available -> {
+                            ZoneReplica replica = new ZoneReplica(layout);
+                            for (String seatNumber : available) {
+                                int idx = layout.indexOf(seatNumber);
+                                if (idx >= 0) {
+                                    replica.set(idx, true);
+                                }
+                            }
+                            return replica;
+                        }));
+    }
+
+    private void apply(String line) {
+        String[] parts = line.split("\\|");
+        try {
+            if (parts.length == 2 && SeatChangePublisher.RESET.equals(parts[1])) {
+                String prefix = parts[0] + ":";
+                replicas.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+                return;
+            }
+            if (parts.length != 4) {
+                return;
+            }
+            String key = replicaKey(Long.parseLong(parts[0]), parts[1]);
+            boolean available = SeatChangePublisher.AVAILABLE.equals(parts[3]);
+            long now = System.currentTimeMillis();
+            synchronized (mutex) {
+                // 적재·재동기화 중인 복제본에 재적용할 수 있도록 복제본 유무와 관계없이 보관
+                ArrayDeque<Change> changes = recentChanges.computeIfAbsent(key, k -> new ArrayDeque<>());
+                changes.addLast(new Change(now, parts[2], available));
+                trimExpired(changes, now);
+                ZoneReplica replica = replicas.getIfPresent(key);
+                if (replica != null) {
+                    replica.apply(parts[2], available);
+                }
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 좌석 변경 메시지: {}", line);
+        }
+    }
+
+    // 변경이 끊긴 구역의 보관분 정리 (구역별 보관분은 변경 도착 시에만 잘리므로)
+    private void trimRecentChanges() {
+        long now = System.currentTimeMillis();
+        synchronized (mutex) {
+            Iterator<ArrayDeque<Change>> it = recentChanges.values().iterator();
+            while (it.hasNext()) {
+                ArrayDeque<Change> changes = it.next();
+                trimExpired(changes, now);
+                if (changes.isEmpty()) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    private static void trimExpired(ArrayDeque<Change> changes, long now) {
+        while (!changes.isEmpty() && changes.peekFirst().at() < now - RECENT_CHANGES_MS) {
+            changes.pollFirst();
+        }
+    }
+
+    private static String replicaKey(Long scheduleId, String zone) {
+        return scheduleId + ":" + zone;
+    }
+
+    private record Change(long at, String seatNumber, boolean available) {
+    }
+
+    // 배치 인덱스별 잔여 여부 비트셋 (락 없이 비트 단위 갱신)
+    private static final class ZoneReplica {
+
+        private final SeatLayout layout;
+        private final AtomicLongArray bits;
+
+        private ZoneReplica(SeatLayout layout) {
+            this.layout = layout;
+            this.bits = new AtomicLongArray((layout.size() + 63) >>> 6);
+        }
+
+        private void apply(String seatNumber, boolean available) {
+            int idx = layout.indexOf(seatNumber);
+            if (idx >= 0) {
+                set(idx, available);
+            }
+        }
+
+        private boolean isAvailable(int idx) {
+            return (bits.get(idx >>> 6) & (1L << (idx & 63))) != 0;
+        }
+
+        private void set(int idx, boolean available) {
+            int word = idx >>> 6;
+            long mask = 1L << (idx & 63);
+            long prev;
+            long next;
+            do {
+                prev = bits.get(word);
+                next = available ? (prev | mask) : (prev & ~mask);
+            } while (prev != next && !bits.compareAndSet(word, prev, next));
+        }
+    }
+}
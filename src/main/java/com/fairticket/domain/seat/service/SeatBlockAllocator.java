@@ -0,0 +1,128 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 연석 블록 할당기. 구역 안에서 배치 순서로 이어진 잔여석 구간(run)을 길이별 버킷에 나눠 담고,
+ * 요청 수량 이상인 가장 짧은 구간의 앞에서 좌석을 떼어 준다 (best-fit). 남은 구간은 다시 버킷에 넣는다.
+ * 구간은 시드 기반으로 섞어 버킷에 넣으므로 당첨자 사이의 좌석 위치는 무작위지만 같은 시드면 재현된다.
+ * 수량이 큰 요청부터 배치해 긴 구간을 보존하고, 들어갈 구간이 없으면 짧은 구간부터 흩어 채운다.
+ * 비용: 구간 구성 O(좌석 수), 요청당 O(최대 수량).
+ */
+public final class SeatBlockAllocator {
+
+    private SeatBlockAllocator() {
+    }
+
+    /**
+     * @param runs       구역별 연속 잔여석 구간 (각 구간은 배치 순서)
+     * @param quantities 요청별 수량 (합이 잔여석 수 이하여야 전부 배치됨)
+     * @return 요청과 같은 순서의 좌석 목록. 잔여석이 모자라 배치하지 못한 요청은 빈 목록
+     */
+    public static List<List<ZoneSeatAssignmentResponse>> allocate(List<List<ZoneSeatAssignmentResponse>> runs,
+                                                                  int[] quantities, SplittableRandom random) {
+        int maxQuantity = 1;
+        for (int quantity : quantities) {
+            maxQuantity = Math.max(maxQuantity, quantity);
+        }
+
+        // 버킷 k: 길이 k인 구간 (마지막 버킷은 maxQuantity 이상)
+        List<ArrayDeque<Block>> buckets = new ArrayList<>(maxQuantity + 1);
+        for (int k = 0; k <= maxQuantity; k++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        // 구간 순서를 시드 기반 Fisher-Yates로 섞는다
+        List<List<ZoneSeatAssignmentResponse>> shuffled = new ArrayList<>(runs);
+        for (int i = shuffled.size() - 1; i >= 1; i--) {
+            Collections.swap(shuffled, i, random.nextInt(i + 1));
+        }
+        int remaining = 0;
+        for (List<ZoneSeatAssignmentResponse> run : shuffled) {
+            if (!run.isEmpty()) {
+                buckets.get(Math.min(run.size(), maxQuantity)).addLast(new Block(run, 0, run.size()));
+                remaining += run.size();
+            }
+        }
+
+        // 수량 내림차순 (같은 수량은 요청 순서 유지) — 수량별 계수 정렬
+        List<List<Integer>> byQuantity = new ArrayList<>(maxQuantity + 1);
+        for (int k = 0; k <= maxQuantity; k++) {
+            byQuantity.add(new ArrayList<>());
+        }
+        for (int i = 0; i < quantities.length; i++) {
+            byQuantity.get(Math.max(0, quantities[i])).add(i);
+        }
+
+        List<List<ZoneSeatAssignmentResponse>> result = new ArrayList<>(Collections.nCopies(quantities.length, List.of()));
+        for (int quantity = maxQuantity; quantity >= 1; quantity--) {
+            for (int request : byQuantity.get(quantity)) {
+                if (quantity > remaining) {
+                    continue;
+                }
+                List<ZoneSeatAssignmentResponse> seats = takeContiguous(buckets, quantity, maxQuantity);
+                if (seats == null) {
+                    seats = takeScattered(buckets, quantity, maxQuantity);
+                }
+                remaining -= seats.size();
+                result.set(request, seats);
+            }
+        }
+        return result;
+    }
+
+    // 수량 이상인 가장 짧은 구간의 앞에서 떼어 준다. 없으면 null
+    private static List<ZoneSeatAssignmentResponse> takeContiguous(List<ArrayDeque<Block>> buckets,
+                                                                   int quantity, int maxQuantity) {
+        for (int k = quantity; k <= maxQuantity; k++) {
+            Block block = buckets.get(k).pollFirst();
+            if (block != null) {
+                return block.take(quantity, buckets, maxQuantity);
+            }
+        }
+        return null;
+    }
+
+    // 연석이 없으면 짧은 구간부터 채운다 (긴 구간은 다음 요청을 위해 남김)
+    private static List<ZoneSeatAssignmentResponse> takeScattered(List<ArrayDeque<Block>> buckets,
+                                                                  int quantity, int maxQuantity) {
+        List<ZoneSeatAssignmentResponse> seats = new ArrayList<>(quantity);
+        for (int k = 1; k <= maxQuantity && seats.size() < quantity; k++) {
+            ArrayDeque<Block> bucket = buckets.get(k);
+            while (!bucket.isEmpty() && seats.size() < quantity) {
+                Block block = bucket.pollFirst();
+                seats.addAll(block.take(Math.min(block.length, quantity - seats.size()), buckets, maxQuantity));
+            }
+        }
+        return seats;
+    }
+
+    private static final class Block {
+
+        private final List<ZoneSeatAssignmentResponse> run;
+        private int start;
+        private int length;
+
+        private Block(List<ZoneSeatAssignmentResponse> run, int start, int length) {
+            this.run = run;
+            this.start = start;
+            this.length = length;
+        }
+
+        // 앞에서 count석을 떼고, 남은 구간은 길이에 맞는 버킷 뒤에 다시 넣는다
+        List<ZoneSeatAssignmentResponse> take(int count, List<ArrayDeque<Block>> buckets, int maxQuantity) {
+            List<ZoneSeatAssignmentResponse> seats = run.subList(start, start + count);
+            start += count;
+            length -= count;
+            if (length > 0) {
+                buckets.get(Math.min(length, maxQuantity)).addLast(this);
+            }
+            return seats;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.config.SeatPoolProperties;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+/**
+ * 좌석 풀 변경 알림 발행 (인스턴스 로컬 잔여석 복제본 갱신용).
+ * 변경을 짧은 주기로 모아 한 메시지(줄 단위)로 발행한다.
+ * 메시지 한 줄: {scheduleId}|{zone}|{seatNumber}|{+:반환, -:점유}, 회차 전체 재적재는 {scheduleId}|*
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatChangePublisher {
+
+    static final String TAKEN = "-";
+    static final String AVAILABLE = "+";
+    static final String RESET = "*";
+
+    private static final int MAX_BATCH = 256;
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final SeatPoolProperties properties;
+
+    private final Sinks.Many<String> changes = Sinks.many().unicast().onBackpressureBuffer();
+    // 여러 요청 스레드의 발행을 직렬화 (버퍼 적재만 하므로 짧다). 바쁜 대기로 Netty 스레드를 붙잡지 않는다
+    private final Object emitLock = new Object();
+    private Disposable subscription;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isReplicaEnabled()) {
+            return;
+        }
+        subscription = changes.asFlux()
+                .bufferTimeout(MAX_BATCH, Duration.ofMillis(properties.getReplicaBatchMillis()))
+                .concatMap(batch -> redisTemplate.convertAndSend(RedisKeyGenerator.seatChangesChannel(), String.join("\n", batch))
+                        .onErrorResume(e -> {
+                            // 유실분은 복제본 주기 재동기화로 보정
+                            log.warn("좌석 변경 알림 발행 실패: size={}, error={}", batch.size(), e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public void taken(Long scheduleId, String zone, String seatNumber) {
+        emit(scheduleId + "|" + zone + "|" + seatNumber + "|" + TAKEN);
+    }
+
+    public void available(Long scheduleId, String zone, String seatNumber) {
+        emit(scheduleId + "|" + zone + "|" + seatNumber + "|" + AVAILABLE);
+    }
+
+    // 좌석 풀 재구축 후: 해당 회차 복제본을 버리고 다시 적재하게 한다
+    public void reset(Long scheduleId) {
+        emit(scheduleId + "|" + RESET);
+    }
+
+    private void emit(String line) {
+        if (!properties.isReplicaEnabled()) {
+            return;
+        }
+        Sinks.EmitResult result;
+        synchronized (emitLock) {
+            result = changes.tryEmitNext(line);
+        }
+        if (result.isFailure()) {
+            // 호출 측(좌석 점유·반환) 흐름을 깨지 않도록 예외 없이 넘긴다. 유실분은 복제본 주기 재동기화로 보정
+            log.debug("좌석 변경 알림 적재 실패: result={}, line={}", result, line);
+        }
+    }
+}
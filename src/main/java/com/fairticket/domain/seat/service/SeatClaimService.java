@@ -0,0 +1,181 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.reservation.constants.ReservationConstants;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.service.UserLedgerService;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+
+import java.util.List;
+
+/**
+ * 라이브 좌석 선점.
+ * 좌석 쪽(마감 플래그, 풀 제거, 잔여석 카운터, 홀드)은 live_seat_claim.lua 한 번으로, 참여 원장(트랙 정책·1인 한도)은
+ * user_ledger_reserve.lua 한 번으로 처리하고 두 호출을 동시에 보낸다. 한쪽만 성공하면 성공한 쪽을 되돌린다.
+ * 좌석 풀을 교체(재구축)하는 동안에는 선점을 거절한다 (교체가 선점을 덮어쓰지 않게).
+ * 엔진 모드 회차는 마감 확인 → 엔진 제거 → 엔진 홀드를 원장 예약과 동시에 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatClaimService {
+
+    public enum Result {
+        CLAIMED, TAKEN, LIVE_CLOSED, REBUILDING, ALREADY_PARTICIPATED, QUANTITY_EXCEEDED
+    }
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final SeatPoolKeyResolver keyResolver;
+    private final SeatInventoryEngine inventoryEngine;
+    private final SeatPoolService seatPoolService;
+    private final SeatHoldService seatHoldService;
+    private final SeatChangePublisher changePublisher;
+    private final SeatCountService seatCountService;
+    private final UserLedgerService userLedgerService;
+
+    private RedisScript<List> claimScript;
+    private RedisScript<Long> holdReleaseScript;
+
+    @PostConstruct
+    public void init() {
+        claimScript = RedisScript.of(new ClassPathResource("scripts/live_seat_claim.lua"), List.class);
+        holdReleaseScript = RedisScript.of(new ClassPathResource("scripts/owned_lock_release.lua"), Long.class);
+    }
+
+    /**
+     * 좌석 선점 + 홀드. grade는 구역이 속한 등급이어야 한다 (등급·구역 검증 후 호출).
+     * 결과 우선순위: 라이브 마감 → 풀 교체 중 → 원장 거절 → 이미 선점된 좌석. 어느 쪽이든 오류면 성공한 쪽을 되돌린 뒤 오류를 전달한다.
+     * 홀드 후처리(seats.status, 만료 작업 예약)가 실패하면 홀드·좌석·원장을 되돌리고 오류를 그대로 전달한다.
+     */
+    public Mono<Result> claim(Long scheduleId, String zone, String grade, String seatNumber, Long userId) {
+        Mono<Result> seat = inventoryEngine.handles(scheduleId)
+                ? claimWithEngine(scheduleId, zone, seatNumber, userId)
+                : claimWithScript(scheduleId, zone, grade, seatNumber, userId);
+        Mono<UserLedgerService.Result> ledger = userLedgerService.reserve(scheduleId, userId, TrackType.LIVE, 1,
+                ReservationConstants.LIVE_MAX_QUANTITY_PER_USER);
+        // 풀 키를 못 정했으면(메타데이터 없음) 선점 실패, 원장 응답이 없으면 참여 불가로 본다
+        seat = seat.defaultIfEmpty(Result.TAKEN);
+        ledger = ledger.defaultIfEmpty(UserLedgerService.Result.ALREADY_PARTICIPATED);
+        return Mono.zip(seat.materialize(), ledger.materialize())
+                .flatMap(signals -> settle(scheduleId, zone, seatNumber, userId, signals.getT1(), signals.getT2()))
+                .flatMap(result -> result == Result.CLAIMED
+                        ? seatHoldService.markHeld(scheduleId, zone, seatNumber, userId)
+                                .onErrorResume(e -> undoClaim(scheduleId, zone, seatNumber, userId).then(Mono.error(e)))
+                                .thenReturn(result)
+                        : Mono.just(result))
+                .doOnNext(result -> log.info("좌석 선점: scheduleId={}, zone={}, seat={}, userId={}, result={}",
+                        scheduleId, zone, seatNumber, userId, result));
+    }
+
+    // 좌석·원장 결과 합치기: 한쪽만 성공했으면 그쪽을 되돌린다
+    private Mono<Result> settle(Long scheduleId, String zone, String seatNumber, Long userId,
+                                Signal<Result> seat, Signal<UserLedgerService.Result> ledger) {
+        boolean seatClaimed = seat.get() == Result.CLAIMED;
+        boolean ledgerReserved = ledger.get() == UserLedgerService.Result.RESERVED;
+        Mono<Void> compensation = Mono.empty();
+        if (seatClaimed && !ledgerReserved) {
+            compensation = undoSeat(scheduleId, zone, seatNumber, userId);
+        } else if (ledgerReserved && !seatClaimed) {
+            // 첫 좌석이었다면 트랙도 비워 추첨 참여가 막히지 않게 한다
+            compensation = rollbackLedger(scheduleId, userId);
+        }
+        Throwable error = seat.isOnError() ? seat.getThrowable() : ledger.getThrowable();
+        if (error != null) {
+            return compensation.then(Mono.error(error));
+        }
+        return compensation.thenReturn(resultOf(seat.get(), ledger.get()));
+    }
+
+    private static Result resultOf(Result seat, UserLedgerService.Result ledger) {
+        if (seat == Result.LIVE_CLOSED || seat == Result.REBUILDING) {
+            return seat;
+        }
+        return switch (ledger) {
+            case ALREADY_PARTICIPATED -> Result.ALREADY_PARTICIPATED;
+            case QUANTITY_EXCEEDED -> Result.QUANTITY_EXCEEDED;
+            case RESERVED -> seat;
+        };
+    }
+
+    // Redis 모드: 마감·교체 중 확인 + 풀 제거 + 카운터 차감 + 홀드를 스크립트 한 번으로
+    private Mono<Result> claimWithScript(Long scheduleId, String zone, String grade, String seatNumber, Long userId) {
+        return keyResolver.poolKey(scheduleId, zone, seatNumber)
+                .flatMap(poolKey -> redisTemplate.execute(claimScript,
+                                List.of(poolKey,
+                                        RedisKeyGenerator.seatCountKey(poolKey),
+                                        RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber),
+                                        RedisKeyGenerator.liveClosedKey(scheduleId),
+                                        RedisKeyGenerator.seatsRebuildingKey(scheduleId)),
+                                List.of(seatNumber, userId.toString(),
+                                        String.valueOf(SeatHoldService.HOLD_TTL.toMillis())))
+                        .next())
+                .flatMap(result -> {
+                    long code = ((Number) result.get(0)).longValue();
+                    if (code == -1) {
+                        return Mono.just(Result.LIVE_CLOSED);
+                    }
+                    if (code == -2) {
+                        return Mono.just(Result.REBUILDING);
+                    }
+                    if (code != 1) {
+                        return Mono.just(Result.TAKEN);
+                    }
+                    changePublisher.taken(scheduleId, zone, seatNumber);
+                    // 이 풀이 방금 비었을 때만 매진 여부를 다시 본다
+                    long poolLeft = ((Number) result.get(1)).longValue();
+                    return (poolLeft == 0 ? seatCountService.observe(scheduleId, grade) : Mono.<Void>empty())
+                            .thenReturn(Result.CLAIMED);
+                });
+    }
+
+    // 엔진 모드: 마감 확인 → 엔진에서 제거 → 홀드. 홀드 실패 시 좌석을 되돌린다
+    private Mono<Result> claimWithEngine(Long scheduleId, String zone, String seatNumber, Long userId) {
+        return redisTemplate.hasKey(RedisKeyGenerator.liveClosedKey(scheduleId))
+                .flatMap(closed -> closed
+                        ? Mono.just(Result.LIVE_CLOSED)
+                        : seatPoolService.selectSeat(scheduleId, zone, seatNumber)
+                                .flatMap(selected -> !selected
+                                        ? Mono.just(Result.TAKEN)
+                                        : inventoryEngine.hold(scheduleId, zone, seatNumber, userId, SeatHoldService.HOLD_TTL)
+                                                .flatMap(held -> held
+                                                        ? Mono.just(Result.CLAIMED)
+                                                        : seatPoolService.returnSeat(scheduleId, zone, seatNumber)
+                                                                .thenReturn(Result.TAKEN))));
+    }
+
+    // 원장 거절·오류로 좌석만 잡힌 경우: 이 요청이 잡은 홀드 해제 → 좌석 반환 (seats.status는 아직 바꾸지 않았다)
+    private Mono<Void> undoSeat(Long scheduleId, String zone, String seatNumber, Long userId) {
+        Mono<?> released = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.releaseHold(scheduleId, zone, seatNumber)
+                : releaseOwnHold(RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber), userId);
+        return released
+                .then(seatPoolService.returnSeat(scheduleId, zone, seatNumber))
+                .then();
+    }
+
+    // 홀드 후처리 실패 시 선점 되돌리기: 홀드 해제 → 좌석 반환 → 원장 차감 (좌석 저장 실패 경로와 같은 순서)
+    private Mono<Void> undoClaim(Long scheduleId, String zone, String seatNumber, Long userId) {
+        return seatHoldService.releaseHold(scheduleId, zone, seatNumber)
+                .then(seatPoolService.returnSeat(scheduleId, zone, seatNumber))
+                .then(rollbackLedger(scheduleId, userId))
+                .doOnSuccess(v -> log.warn("홀드 후처리 실패로 선점 취소: scheduleId={}, zone={}, seat={}, userId={}",
+                        scheduleId, zone, seatNumber, userId));
+    }
+
+    private Mono<Void> rollbackLedger(Long scheduleId, Long userId) {
+        return userLedgerService.rollbackIfEmpty(scheduleId, userId, TrackType.LIVE, 1);
+    }
+
+    // 이 요청이 잡은 홀드만 삭제 (그 사이 만료 후 다른 사용자가 잡은 홀드는 유지)
+    private Mono<Void> releaseOwnHold(String holdKey, Long userId) {
+        return redisTemplate.execute(holdReleaseScript, List.of(holdKey), List.of(userId.toString())).then();
+    }
+}
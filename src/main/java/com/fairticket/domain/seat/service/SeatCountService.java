@@ -0,0 +1,254 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
+import com.fairticket.domain.concert.entity.Zone;
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.seat.entity.InventoryMode;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 풀별 잔여석 카운터 (seat-count:{poolKey} String).
+ * 카운터는 풀 키를 해시 태그로 두어 풀과 같은 슬롯에 있으므로, 풀 변경(SREM/SADD/SPOP)과 카운터 증감을
+ * 같은 Lua 스크립트에서 수행해 클러스터에서도 항상 일치시킨다. 인기 구역 하위 풀마다 카운터가 따로 있어
+ * 회차 단위 핫 키가 생기지 않는다. 구역·등급·회차 잔여석은 해당 풀 카운터를 합산해 읽는다.
+ * 카운터가 하나라도 없으면(풀 구축 전) 조회는 empty를 반환하므로 호출 측이 대체 경로를 쓴다.
+ * 풀이 비거나 빈 풀이 다시 채워질 때만 등급·회차 잔여석을 합산해 SoldOutRegistry에 넘겨 매진 진입/해제를 전파한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatCountService {
+
+    private static final long MISSING = Long.MIN_VALUE;
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ScheduleMetadataCache metadataCache;
+    private final SeatPoolKeyResolver keyResolver;
+    private final SoldOutRegistry soldOutRegistry;
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    // 제거/추가 반환: { 풀 잔여석, 실제로 바뀐 좌석 번호... }, 추출 반환: { 좌석 번호, 풀 잔여석 } (카운터 없으면 잔여석 -1)
+    private RedisScript<List> removeScript;
+    private RedisScript<List> addScript;
+    private RedisScript<List> popScript;
+    private RedisScript<Long> resyncScript;
+
+    @PostConstruct
+    public void init() {
+        removeScript = RedisScript.of(new ClassPathResource("scripts/seat_pool_remove.lua"), List.class);
+        addScript = RedisScript.of(new ClassPathResource("scripts/seat_pool_add.lua"), List.class);
+        popScript = RedisScript.of(new ClassPathResource("scripts/seat_pool_pop.lua"), List.class);
+        resyncScript = RedisScript.of(new ClassPathResource("scripts/seat_counts_resync.lua"), Long.class);
+    }
+
+    // 풀에서 좌석 제거 + 카운터 차감. 반환: 실제로 제거된 좌석 번호
+    public Mono<List<String>> remove(Long scheduleId, String poolKey, String grade, List<String> seatNumbers) {
+        return redisTemplate.execute(removeScript, poolKeys(poolKey), seatNumbers)
+                .next()
+                .flatMap(result -> {
+                    List<String> removed = changedSeats(result);
+                    // 이 풀이 방금 비었을 때만 매진 여부를 다시 본다
+                    return (!removed.isEmpty() && leftOf(result, 0) == 0 ? observe(scheduleId, grade) : Mono.<Void>empty())
+                            .thenReturn(removed);
+                })
+                .defaultIfEmpty(List.of());
+    }
+
+    // 풀에 좌석 추가 + 카운터 증가. 반환: 실제로 추가된 좌석 번호
+    public Mono<List<String>> add(Long scheduleId, String poolKey, String grade, List<String> seatNumbers) {
+        return redisTemplate.execute(addScript, poolKeys(poolKey), seatNumbers)
+                .next()
+                .flatMap(result -> {
+                    List<String> added = changedSeats(result);
+                    // 빈 풀이 다시 채워졌을 때만 매진 해제 여부를 다시 본다
+                    return (!added.isEmpty() && leftOf(result, 0) == added.size() ? observe(scheduleId, grade) : Mono.<Void>empty())
+                            .thenReturn(added);
+                })
+                .defaultIfEmpty(List.of());
+    }
+
+    // 풀에서 임의 좌석 1개 추출 + 카운터 차감. 풀이 비었으면 empty
+    public Mono<String> pop(Long scheduleId, String poolKey, String grade) {
+        return redisTemplate.execute(popScript, poolKeys(poolKey), List.of())
+                .next()
+                .flatMap(result -> {
+                    String seat = String.valueOf(result.get(0));
+                    if (seat.isEmpty()) {
+                        return Mono.<String>empty();
+                    }
+                    return (leftOf(result, 1) == 0 ? observe(scheduleId, grade) : Mono.<Void>empty())
+                            .thenReturn(seat);
+                });
+    }
+
+    /**
+     * 회차의 모든 풀 카운터를 풀마다 다시 계산하고 매진 상태를 맞춘다. 반환: 회차 잔여석
+     */
+    public Mono<Long> resync(ScheduleMetadata metadata) {
+        Long scheduleId = metadata.getScheduleId();
+        return Flux.fromIterable(metadata.getZones())
+                .flatMap(zone -> Flux.fromIterable(keyResolver.poolKeys(scheduleId, zone.getZone(), keyResolver.shardCount(zone)))
+                        .flatMap(poolKey -> redisTemplate.execute(resyncScript, poolKeys(poolKey), List.of()).next())
+                        .reduce(0L, Long::sum)
+                        .map(count -> Map.entry(gradeOrEmpty(zone.getGrade()), count)))
+                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingLong(Map.Entry::getValue)))
+                .map(byGrade -> {
+                    Map<String, Long> counts = new HashMap<>(byGrade);
+                    long total = byGrade.values().stream().mapToLong(Long::longValue).sum();
+                    counts.put(SoldOutRegistry.SCHEDULE, total);
+                    log.debug("잔여석 카운터 재계산: scheduleId={}, total={}", scheduleId, total);
+                    soldOutRegistry.refresh(scheduleId, counts);
+                    return total;
+                });
+    }
+
+    // 카운터가 이미 있는 회차만 재계산 (풀 구축 전 회차에 0 카운터를 만들지 않음)
+    public Mono<Long> resyncIfPresent(ScheduleMetadata metadata) {
+        Long scheduleId = metadata.getScheduleId();
+        return Flux.fromIterable(metadata.getZones())
+                .flatMapIterable(zone -> keyResolver.poolKeys(scheduleId, zone.getZone(), keyResolver.shardCount(zone)))
+                .flatMap(poolKey -> redisTemplate.hasKey(RedisKeyGenerator.seatCountKey(poolKey)))
+                .any(Boolean::booleanValue)
+                .filter(Boolean::booleanValue)
+                .flatMap(present -> resync(metadata));
+    }
+
+    public Mono<Long> getTotal(Long scheduleId) {
+        return getCounts(scheduleId).map(counts -> counts.get(SoldOutRegistry.SCHEDULE));
+    }
+
+    public Mono<Long> getZone(Long scheduleId, String zone) {
+        return keyResolver.poolKeys(scheduleId, zone)
+                .flatMap(this::readCounters)
+                .map(values -> Math.max(0L, values.stream().mapToLong(Long::longValue).sum()));
+    }
+
+    // 등급별 잔여석
+    public Mono<Map<String, Long>> getByGrade(Long scheduleId) {
+        return getCounts(scheduleId)
+                .map(counts -> {
+                    Map<String, Long> byGrade = new HashMap<>(counts);
+                    byGrade.remove(SoldOutRegistry.SCHEDULE);
+                    return byGrade;
+                })
+                .filter(byGrade -> !byGrade.isEmpty());
+    }
+
+    /**
+     * 등급별·회차 잔여석 ({"*": 회차, grade: 등급}). 카운터가 하나라도 없으면 empty
+     */
+    public Mono<Map<String, Long>> getCounts(Long scheduleId) {
+        return metadataCache.get(scheduleId).flatMap(metadata -> {
+            List<String> poolKeys = new ArrayList<>();
+            List<String> grades = new ArrayList<>();
+            for (Zone zone : metadata.getZones()) {
+                for (String poolKey : keyResolver.poolKeys(scheduleId, zone.getZone(), keyResolver.shardCount(zone))) {
+                    poolKeys.add(poolKey);
+                    grades.add(gradeOrEmpty(zone.getGrade()));
+                }
+            }
+            return readCounters(poolKeys).map(values -> {
+                Map<String, Long> counts = new HashMap<>();
+                long total = 0;
+                for (int i = 0; i < values.size(); i++) {
+                    long count = Math.max(0L, values.get(i));
+                    counts.merge(grades.get(i), count, Long::sum);
+                    total += count;
+                }
+                counts.put(SoldOutRegistry.SCHEDULE, total);
+                return counts;
+            });
+        });
+    }
+
+    // 활성 회차 매진 상태 주기 재적재 (로컬만 갱신, 전파 없음). 채널 메시지 유실·재시작 직후 상태 보정
+    // SeatInventoryEngine이 이 클래스에 의존하므로 모드는 Hash를 직접 읽는다
+    // 스케줄러 스레드를 막지 않도록 구독만 하고 반환하며, 이전 실행이 끝나지 않았으면 이번 주기는 건너뛴다
+    @Scheduled(fixedDelay = 5000)
+    public void reloadSoldOut() {
+        if (!reloading.compareAndSet(false, true)) {
+            return;
+        }
+        redisTemplate.<String, String>opsForHash()
+                .entries(RedisKeyGenerator.inventoryModeKey())
+                .filter(entry -> !InventoryMode.REDIS.name().equals(entry.getValue()))
+                .map(entry -> Long.parseLong(entry.getKey()))
+                .collect(Collectors.toSet())
+                .flatMapMany(engineSchedules -> redisTemplate.opsForSet()
+                        .members(RedisKeyGenerator.activeSchedulesKey())
+                        .map(Long::parseLong)
+                        .flatMap(scheduleId -> {
+                            if (engineSchedules.contains(scheduleId)) {
+                                // 엔진 모드 회차는 카운터를 갱신하지 않으므로 매진 판단에서 제외
+                                soldOutRegistry.forget(scheduleId);
+                                return Mono.empty();
+                            }
+                            return getCounts(scheduleId)
+                                    .doOnNext(counts -> soldOutRegistry.load(scheduleId, counts));
+                        }))
+                .onErrorResume(e -> {
+                    log.warn("매진 상태 재적재 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> reloading.set(false))
+                .subscribe();
+    }
+
+    // 등급·회차 잔여석을 합산해 매진 진입/해제 전파 (실패해도 변경 결과에는 영향 없음, 주기 재적재가 보정)
+    Mono<Void> observe(Long scheduleId, String grade) {
+        return getCounts(scheduleId)
+                .doOnNext(counts -> soldOutRegistry.observe(scheduleId, grade,
+                        counts.getOrDefault(gradeOrEmpty(grade), 0L), counts.get(SoldOutRegistry.SCHEDULE)))
+                .onErrorResume(e -> {
+                    log.warn("매진 상태 확인 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 풀 카운터 값 (풀 키 순서, MGET 한 번). 하나라도 없으면 empty
+    private Mono<List<Long>> readCounters(List<String> poolKeys) {
+        if (poolKeys.isEmpty()) {
+            return Mono.empty();
+        }
+        return redisTemplate.opsForValue()
+                .multiGet(poolKeys.stream().map(RedisKeyGenerator::seatCountKey).toList())
+                .map(values -> values.stream()
+                        .map(value -> value != null ? Long.parseLong(value) : MISSING)
+                        .toList())
+                .filter(values -> values.stream().allMatch(value -> value != MISSING));
+    }
+
+    private static List<String> poolKeys(String poolKey) {
+        return List.of(poolKey, RedisKeyGenerator.seatCountKey(poolKey));
+    }
+
+    private static long leftOf(List<?> result, int index) {
+        return result.size() <= index ? -1L : ((Number) result.get(index)).longValue();
+    }
+
+    private static List<String> changedSeats(List<?> result) {
+        return result.stream().skip(1).map(String::valueOf).toList();
+    }
+
+    private static String gradeOrEmpty(String grade) {
+        return grade != null ? grade : "";
+    }
+}
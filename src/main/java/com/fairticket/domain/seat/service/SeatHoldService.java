@@ -4,13 +4,20 @@ import com.fairticket.domain.reservation.constants.ReservationConstants;
 import com.fairticket.domain.seat.entity.SeatStatus;
 import com.fairticket.domain.seat.repository.SeatRepository;
 import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.infra.redis.DelayedJobService;
+import com.fairticket.infra.redis.DelayedJobType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -18,31 +25,71 @@ import java.time.Duration;
 public class SeatHoldService {
     private final ReactiveRedisTemplate<String, String> redisTemplate;
     private final SeatRepository seatRepository;
-    private static final Duration HOLD_TTL = Duration.ofMinutes(ReservationConstants.HOLD_MINUTES);
+    private final SeatInventoryEngine inventoryEngine;
+    private final DelayedJobService delayedJobService;
+    static final Duration HOLD_TTL = Duration.ofMinutes(ReservationConstants.HOLD_MINUTES);
+    // 재예약한 만료 작업이 홀드 키 만료 직후에 돌도록 더하는 여유
+    private static final Duration EXPIRY_GRACE = Duration.ofMillis(500);
 
     // 좌석 임시 홀드 (라이브 트랙, 구역 기준). Redis + seats.status 동기화.
     // @return true: 홀드 성공, false: 이미 홀드된 좌석
     public Mono<Boolean> holdSeat(Long scheduleId, String zone, String seatNumber, Long userId) {
-        String holdKey = RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber);
-        return redisTemplate.opsForValue()
-                .setIfAbsent(holdKey, userId.toString(), HOLD_TTL)
+        Mono<Boolean> acquired = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.hold(scheduleId, zone, seatNumber, userId, HOLD_TTL)
+                : redisTemplate.opsForValue().setIfAbsent(
+                        RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber), userId.toString(), HOLD_TTL);
+        return acquired
                 .flatMap(success -> {
                     if (Boolean.TRUE.equals(success)) {
-                        log.info("좌석 홀드 성공: scheduleId={}, zone={}, seat={}, userId={}",
-                                scheduleId, zone, seatNumber, userId);
-                        return seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumber(
-                                        SeatStatus.HELD.name(), scheduleId, zone, seatNumber)
-                                .thenReturn(true);
+                        return markHeld(scheduleId, zone, seatNumber, userId).thenReturn(true);
                     }
                     return Mono.just(false);
                 });
     }
 
+    // 홀드 성립 후처리: seats.status HELD + 만료 작업 예약 (Redis 홀드 키는 호출 측이 이미 설정)
+    public Mono<Void> markHeld(Long scheduleId, String zone, String seatNumber, Long userId) {
+        log.info("좌석 홀드 성공: scheduleId={}, zone={}, seat={}, userId={}",
+                scheduleId, zone, seatNumber, userId);
+        return seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumber(
+                        SeatStatus.HELD.name(), scheduleId, zone, seatNumber)
+                .then(delayedJobService.schedule(DelayedJobType.HOLD_EXPIRY,
+                        holdJobPayload(scheduleId, zone, seatNumber), HOLD_TTL))
+                .then();
+    }
+
+    /**
+     * 홀드가 아직 남아 있으면 남은 시간(Redis PTTL, 엔진은 남은 초) 뒤로 만료 작업을 다시 예약한다.
+     * 작업 만기는 앱 시계, 홀드 수명은 Redis TTL 기준이라 시계 차이로 작업이 먼저 도착할 수 있다.
+     * @return true: 홀드가 남아 있어 재예약함, false: 홀드 없음 (만료 처리 대상)
+     */
+    public Mono<Boolean> rescheduleExpiryIfHeld(Long scheduleId, String zone, String seatNumber) {
+        Mono<Duration> remaining = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.holdTtlSeconds(scheduleId, zone, seatNumber)
+                        .filter(seconds -> seconds >= 0)
+                        .map(seconds -> Duration.ofSeconds(seconds + 1))
+                // getExpire는 PTTL: 키가 없으면 empty, TTL이 없으면 0
+                : redisTemplate.getExpire(RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber));
+        return remaining
+                .flatMap(left -> {
+                    Duration delay = (left.isZero() ? HOLD_TTL : left).plus(EXPIRY_GRACE);
+                    log.debug("홀드 만료 작업 재예약: scheduleId={}, zone={}, seat={}, delay={}ms",
+                            scheduleId, zone, seatNumber, delay.toMillis());
+                    return delayedJobService.schedule(DelayedJobType.HOLD_EXPIRY,
+                                    holdJobPayload(scheduleId, zone, seatNumber), delay)
+                            .thenReturn(true);
+                })
+                .defaultIfEmpty(false);
+    }
+
     // 홀드 해제. Redis 삭제 후 seats.status를 AVAILABLE로 복구 (단일 출처 유지).
     public Mono<Boolean> releaseHold(Long scheduleId, String zone, String seatNumber) {
-        String holdKey = RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber);
-        return redisTemplate.delete(holdKey)
-                .flatMap(deleted -> deleted > 0
+        Mono<Boolean> released = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.releaseHold(scheduleId, zone, seatNumber)
+                : redisTemplate.delete(RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber)).map(deleted -> deleted > 0);
+        return delayedJobService.cancel(DelayedJobType.HOLD_EXPIRY, holdJobPayload(scheduleId, zone, seatNumber))
+                .then(released)
+                .flatMap(deleted -> deleted
                         ? seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumber(
                                 SeatStatus.AVAILABLE.name(), scheduleId, zone, seatNumber)
                                 .thenReturn(true)
@@ -54,8 +101,80 @@ public class SeatHoldService {
                 });
     }
 
+    // 결제 완료 좌석의 홀드 정리: 홀드 키와 만료 작업만 지운다.
+    // seats.status는 결제 트랜잭션에서 이미 SOLD가 되었으므로 건드리지 않고, 풀에도 돌려놓지 않는다.
+    public Mono<Void> finalizeHold(Long scheduleId, String zone, String seatNumber) {
+        Mono<?> removed = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.releaseHold(scheduleId, zone, seatNumber)
+                : redisTemplate.delete(RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber));
+        return delayedJobService.cancel(DelayedJobType.HOLD_EXPIRY, holdJobPayload(scheduleId, zone, seatNumber))
+                .then(removed)
+                .then();
+    }
+
+    /**
+     * 구역 내 홀드 일괄 해제 (만료 스윕용). 홀드가 없거나 기대한 사용자가 잡고 있는 좌석만 해제하고,
+     * 다른 사용자가 다시 잡은 좌석은 건드리지 않는다.
+     * @param expectedOwners 좌석 번호 → 홀드했던 사용자
+     * @return 해제된(풀에 돌려도 되는) 좌석 번호
+     */
+    public Mono<List<String>> releaseHolds(Long scheduleId, String zone, Map<String, Long> expectedOwners) {
+        List<String> seatNumbers = new ArrayList<>(expectedOwners.keySet());
+        if (seatNumbers.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        Mono<List<String>> released = inventoryEngine.handles(scheduleId)
+                ? Flux.fromIterable(seatNumbers)
+                        .concatMap(seatNumber -> inventoryEngine.holdOwner(scheduleId, zone, seatNumber)
+                                .map(owner -> owner.equals(expectedOwners.get(seatNumber)))
+                                .defaultIfEmpty(true)
+                                .filter(Boolean::booleanValue)
+                                .flatMap(mine -> inventoryEngine.releaseHold(scheduleId, zone, seatNumber)
+                                        .thenReturn(seatNumber)))
+                        .collectList()
+                : releaseRedisHolds(scheduleId, zone, seatNumbers, expectedOwners);
+        return released
+                .flatMap(seats -> seats.isEmpty()
+                        ? Mono.just(seats)
+                        : delayedJobService.cancelAll(DelayedJobType.HOLD_EXPIRY, seats.stream()
+                                        .map(seatNumber -> holdJobPayload(scheduleId, zone, seatNumber))
+                                        .toList())
+                                .then(seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumberIn(
+                                        SeatStatus.AVAILABLE.name(), SeatStatus.HELD.name(), scheduleId, zone, seats))
+                                .thenReturn(seats));
+    }
+
+    // MGET으로 소유자를 한 번에 읽고, 기대 소유자의 홀드만 DEL 한 번으로 삭제
+    private Mono<List<String>> releaseRedisHolds(Long scheduleId, String zone, List<String> seatNumbers,
+                                                 Map<String, Long> expectedOwners) {
+        List<String> holdKeys = seatNumbers.stream()
+                .map(seatNumber -> RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber))
+                .toList();
+        return redisTemplate.opsForValue().multiGet(holdKeys)
+                .flatMap(owners -> {
+                    List<String> released = new ArrayList<>();
+                    List<String> keysToDelete = new ArrayList<>();
+                    for (int i = 0; i < seatNumbers.size(); i++) {
+                        String owner = owners.get(i);
+                        String seatNumber = seatNumbers.get(i);
+                        if (owner == null) {
+                            released.add(seatNumber);
+                        } else if (Objects.equals(owner, String.valueOf(expectedOwners.get(seatNumber)))) {
+                            released.add(seatNumber);
+                            keysToDelete.add(holdKeys.get(i));
+                        }
+                    }
+                    return keysToDelete.isEmpty()
+                            ? Mono.just(released)
+                            : redisTemplate.delete(keysToDelete.toArray(new String[0])).thenReturn(released);
+                });
+    }
+
     // 홀드 소유자 확인
     public Mono<Long> getHoldOwner(Long scheduleId, String zone, String seatNumber) {
+        if (inventoryEngine.handles(scheduleId)) {
+            return inventoryEngine.holdOwner(scheduleId, zone, seatNumber);
+        }
         String holdKey = RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber);
         return redisTemplate.opsForValue().get(holdKey)
                 .map(Long::parseLong);
@@ -63,9 +182,16 @@ public class SeatHoldService {
 
     // 남은 홀드 시간 조회 (초 단위). API에서 "결제 마감까지 N초" 표시용    
     public Mono<Long> getRemainingHoldTime(Long scheduleId, String zone, String seatNumber) {
+        if (inventoryEngine.handles(scheduleId)) {
+            return inventoryEngine.holdTtlSeconds(scheduleId, zone, seatNumber);
+        }
         String holdKey = RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber);
         return redisTemplate.getExpire(holdKey)
                 .map(Duration::getSeconds);
     }
 
+    // 홀드 만료 지연 작업 payload: scheduleId|zone|seatNumber
+    public static String holdJobPayload(Long scheduleId, String zone, String seatNumber) {
+        return scheduleId + "|" + zone + "|" + seatNumber;
+    }
 }
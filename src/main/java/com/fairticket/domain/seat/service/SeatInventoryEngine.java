@@ -0,0 +1,405 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
+import com.fairticket.domain.concert.entity.Zone;
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.seat.config.SeatPoolProperties;
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import com.fairticket.domain.seat.entity.InventoryMode;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RRemoteService;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.RemoteInvocationOptions;
+import org.redisson.api.annotation.RRemoteAsync;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 단일 작성자 좌석 재고 엔진 (회차별 선택 모드).
+ * ENGINE 모드 회차는 Redisson 락을 쥔 노드 한 대가 메모리에서 모든 좌석 점유·홀드를 직렬 처리한다.
+ * 상태는 스냅샷(없으면 엔진 시작 시점 Redis 좌석 풀) + 이후 저널 재생으로 복구된다. 스냅샷은 주기적으로 남기고
+ * 그 이전 저널은 잘라내므로 저널 길이와 인수인계 시간이 스냅샷 주기 안으로 묶인다.
+ * 소유 노드가 아닌 노드의 명령은 회차별 RemoteService로 소유 노드에 전달되며, 소유 노드가 없을 때만 INVENTORY_NOT_OWNER.
+ * SeatPoolService·SeatHoldService가 handles()로 분기해 위임한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryEngine {
+
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(30);
+    // 전달 명령 수신 확인 제한 (소유 노드 부재 판단)
+    private static final long FORWARD_ACK_TIMEOUT_MS = 500;
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ScheduleMetadataCache metadataCache;
+    private final SeatPoolKeyResolver keyResolver;
+    private final SeatInventoryJournal journal;
+    private final SeatPoolProperties properties;
+    private final SeatCountService seatCountService;
+
+    // Redis에 저장된 회차별 모드의 로컬 사본 (주기 갱신)
+    private final Map<Long, InventoryMode> modes = new ConcurrentHashMap<>();
+    // 이 노드가 소유(또는 소유 시도) 중인 엔진
+    private final Map<Long, ScheduleInventory> inventories = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 회차가 엔진 모드인지 (로컬 조회만 수행)
+     */
+    public boolean handles(Long scheduleId) {
+        InventoryMode mode = modes.get(scheduleId);
+        return mode != null && mode != InventoryMode.REDIS;
+    }
+
+    public Mono<InventoryMode> getMode(Long scheduleId) {
+        return redisTemplate.<String, String>opsForHash()
+                .get(RedisKeyGenerator.inventoryModeKey(), scheduleId.toString())
+                .map(InventoryMode::valueOf)
+                .defaultIfEmpty(InventoryMode.REDIS);
+    }
+
+    /**
+     * 모드 전환. ENGINE 전환은 티켓 오픈 전에 할 것 (기존 Redis 홀드 키는 엔진으로 옮기지 않음).
+     * REDIS 전환은 DRAINING으로 표시하고, 소유 노드가 상태를 풀로 되돌린 뒤 REDIS로 바꾼다.
+     */
+    public Mono<Void> changeMode(Long scheduleId, InventoryMode target) {
+        String field = scheduleId.toString();
+        if (target == InventoryMode.ENGINE) {
+            return redisTemplate.<String, String>opsForHash()
+                    .put(RedisKeyGenerator.inventoryModeKey(), field, InventoryMode.ENGINE.name())
+                    .doOnSuccess(v -> log.info("좌석 재고 엔진 모드 전환: scheduleId={}", scheduleId))
+                    .then();
+        }
+        return getMode(scheduleId)
+                .flatMap(current -> current == InventoryMode.ENGINE
+                        ? redisTemplate.<String, String>opsForHash()
+                                .put(RedisKeyGenerator.inventoryModeKey(), field, InventoryMode.DRAINING.name())
+                                .doOnSuccess(v -> log.info("좌석 재고 Redis 모드 전환 요청: scheduleId={}", scheduleId))
+                                .then()
+                        : Mono.<Void>empty());
+    }
+
+    @Scheduled(fixedDelayString = "${fairticket.seat-pool.engine-mode-refresh-ms:2000}")
+    public void refreshModes() {
+        redisTemplate.<String, String>opsForHash()
+                .entries(RedisKeyGenerator.inventoryModeKey())
+                .collectMap(entry -> Long.parseLong(entry.getKey()), entry -> InventoryMode.valueOf(entry.getValue()))
+                .subscribe(this::applyModes, e -> log.warn("좌석 재고 모드 갱신 실패: {}", e.getMessage()));
+    }
+
+    private void applyModes(Map<Long, InventoryMode> fresh) {
+        modes.keySet().retainAll(fresh.keySet());
+        modes.putAll(fresh);
+        fresh.forEach((scheduleId, mode) -> {
+            ScheduleInventory local = inventories.get(scheduleId);
+            if (mode == InventoryMode.ENGINE && local == null) {
+                tryBecomeOwner(scheduleId);
+            } else if (mode == InventoryMode.DRAINING && local != null && local.isOpen()) {
+                local.stop(true);
+            }
+        });
+        inventories.forEach((scheduleId, local) -> {
+            if (!fresh.containsKey(scheduleId) || fresh.get(scheduleId) == InventoryMode.REDIS) {
+                local.stop(false);
+            }
+        });
+    }
+
+    // 소유 스레드 시작. 락을 얻지 못하면 바로 종료 (다음 갱신 주기에 재시도)
+    private void tryBecomeOwner(Long scheduleId) {
+        ScheduleInventory inventory = new ScheduleInventory(scheduleId,
+                properties.getEngineRingCapacity(), properties.getEngineBatchSize(),
+                changes -> journal.append(scheduleId, changes),
+                this::snapshot, properties.getEngineSnapshotIntervalMs());
+        if (inventories.putIfAbsent(scheduleId, inventory) != null) {
+            return;
+        }
+        Thread owner = new Thread(() -> runAsOwner(inventory), "seat-inventory-" + scheduleId);
+        owner.setDaemon(true);
+        owner.start();
+    }
+
+    private void runAsOwner(ScheduleInventory inventory) {
+        Long scheduleId = inventory.getScheduleId();
+        // 락은 이 스레드가 보유하며 watchdog이 갱신한다
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.inventoryOwnerLockKey(scheduleId));
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock();
+            if (!acquired) {
+                return;
+            }
+            restore(inventory);
+            inventory.open();
+            remoteService(scheduleId).register(InventoryRemote.class,
+                    new OwnerRemote(scheduleId), properties.getEngineRemoteWorkers());
+            log.info("좌석 재고 엔진 소유 시작: scheduleId={}", scheduleId);
+            inventory.run();
+            if (inventory.isDraining()) {
+                drainToRedis(inventory);
+            }
+        } catch (Exception e) {
+            log.error("좌석 재고 엔진 오류: scheduleId={}", scheduleId, e);
+        } finally {
+            remoteService(scheduleId).deregister(InventoryRemote.class);
+            inventory.stop(false);
+            inventory.failPending(new BusinessException(ErrorCode.INVENTORY_NOT_OWNER));
+            inventories.remove(scheduleId, inventory);
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+                log.info("좌석 재고 엔진 소유 종료: scheduleId={}", scheduleId);
+            }
+        }
+    }
+
+    // 스냅샷(없으면 엔진 시작 시점 Redis 풀) + 이후 저널 재생으로 상태 복구
+    private void restore(ScheduleInventory inventory) {
+        Long scheduleId = inventory.getScheduleId();
+        Map<String, String> snapshot = journal.loadSnapshot(scheduleId);
+        String snapshotJournalId = snapshot.get(SeatInventoryJournal.SNAPSHOT_JOURNAL_ID);
+        if (snapshotJournalId != null) {
+            inventory.restoreSnapshot(snapshot);
+            journal.replay(scheduleId, snapshotJournalId, inventory::replay);
+            inventory.restoredUpTo(journal.lastId(scheduleId));
+            return;
+        }
+        ScheduleMetadata metadata = metadataCache.get(scheduleId).block(LOAD_TIMEOUT);
+        for (Zone zone : metadata.getZones()) {
+            List<String> poolKeys = keyResolver.poolKeys(scheduleId, zone.getZone(), keyResolver.shardCount(zone));
+            List<String> seats = Flux.fromIterable(poolKeys)
+                    .flatMap(poolKey -> redisTemplate.opsForSet().members(poolKey))
+                    .collectList()
+                    .block(LOAD_TIMEOUT);
+            inventory.restore(zone.getZone(), seats);
+        }
+        journal.replay(scheduleId, null, inventory::replay);
+        inventory.restoredUpTo(journal.lastId(scheduleId));
+    }
+
+    // 소유 스레드에서 스냅샷 기록 + 이전 저널 잘라내기
+    private void snapshot(ScheduleInventory inventory) {
+        Long scheduleId = inventory.getScheduleId();
+        String journalId = inventory.lastJournalId();
+        try {
+            long trimmed = journal.snapshot(scheduleId, journalId, inventory.snapshotFields());
+            inventory.snapshotTaken(journalId);
+            log.debug("좌석 재고 엔진 스냅샷: scheduleId={}, journalId={}, trimmed={}", scheduleId, journalId, trimmed);
+        } catch (Exception e) {
+            log.warn("좌석 재고 엔진 스냅샷 실패 (다음 주기 재시도): scheduleId={}, error={}", scheduleId, e.getMessage());
+        }
+    }
+
+    // 엔진 상태를 Redis 풀·홀드 키로 되돌리고 REDIS 모드로 전환
+    private void drainToRedis(ScheduleInventory inventory) {
+        Long scheduleId = inventory.getScheduleId();
+        Map<String, List<String>> byPoolKey = new HashMap<>();
+        ScheduleMetadata metadata = metadataCache.get(scheduleId).block(LOAD_TIMEOUT);
+        List<String> allPoolKeys = new ArrayList<>();
+        for (Zone zone : metadata.getZones()) {
+            allPoolKeys.addAll(keyResolver.poolKeys(scheduleId, zone.getZone(), keyResolver.shardCount(zone)));
+        }
+        inventory.availableSnapshot().forEach((zone, seats) -> {
+            int shards = keyResolver.shardCount(metadata, zone);
+            for (String seatNumber : seats) {
+                byPoolKey.computeIfAbsent(keyResolver.poolKey(scheduleId, zone, seatNumber, shards),
+                        k -> new ArrayList<>()).add(seatNumber);
+            }
+        });
+        // DRAINING 동안에는 어느 노드도 풀을 읽거나 쓰지 않으므로 교체 대신 덮어쓴다
+        Flux.fromIterable(allPoolKeys)
+                .flatMap(redisTemplate::delete)
+                .thenMany(Flux.fromIterable(byPoolKey.entrySet()))
+                .flatMap(entry -> Flux.fromIterable(entry.getValue())
+                        .buffer(properties.getInitChunkSize())
+                        .concatMap(chunk -> redisTemplate.opsForSet().add(entry.getKey(), chunk.toArray(new String[0]))))
+                .then()
+                .block(LOAD_TIMEOUT);
+        seatCountService.resync(metadata).block(LOAD_TIMEOUT);
+        long now = System.currentTimeMillis();
+        Flux.fromIterable(inventory.holdSnapshot().entrySet())
+                .flatMap(entry -> {
+                    String[] zoneSeat = entry.getKey().split("\\|", 2);
+                    return redisTemplate.opsForValue().set(
+                            RedisKeyGenerator.holdKey(scheduleId, zoneSeat[0], zoneSeat[1]),
+                            entry.getValue().userId.toString(),
+                            Duration.ofMillis(entry.getValue().expiresAt - now));
+                })
+                .then()
+                .block(LOAD_TIMEOUT);
+        journal.delete(scheduleId);
+        redisTemplate.<String, String>opsForHash()
+                .put(RedisKeyGenerator.inventoryModeKey(), scheduleId.toString(), InventoryMode.REDIS.name())
+                .block(LOAD_TIMEOUT);
+        log.info("좌석 재고 Redis 모드 복귀: scheduleId={}", scheduleId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        inventories.values().forEach(inventory -> inventory.stop(false));
+    }
+
+    // ---- SeatPoolService 위임 ----
+
+    public Mono<Boolean> take(Long scheduleId, String zone, String seatNumber) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.TAKE, zone, seatNumber), Boolean.class);
+    }
+
+    public Mono<Boolean> put(Long scheduleId, String zone, String seatNumber) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.PUT, zone, seatNumber), Boolean.class);
+    }
+
+    public Mono<ZoneSeatAssignmentResponse> pop(Long scheduleId, List<String> zones) {
+        return submit(scheduleId, InventoryCommand.pop(zones), ZoneSeatAssignmentResponse.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Flux<String> members(Long scheduleId, String zone) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.MEMBERS, zone, null), List.class)
+                .flatMapMany(seats -> Flux.fromIterable((List<String>) seats));
+    }
+
+    // zone이 null이면 회차 전체
+    public Mono<Long> count(Long scheduleId, String zone) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.COUNT, zone, null), Long.class);
+    }
+
+    // ---- SeatHoldService 위임 ----
+
+    public Mono<Boolean> hold(Long scheduleId, String zone, String seatNumber, Long userId, Duration ttl) {
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        return submit(scheduleId, InventoryCommand.hold(zone, seatNumber, userId, expiresAt), Boolean.class);
+    }
+
+    public Mono<Boolean> releaseHold(Long scheduleId, String zone, String seatNumber) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.RELEASE_HOLD, zone, seatNumber), Boolean.class);
+    }
+
+    public Mono<Long> holdOwner(Long scheduleId, String zone, String seatNumber) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.HOLD_OWNER, zone, seatNumber), Long.class);
+    }
+
+    public Mono<Long> holdTtlSeconds(Long scheduleId, String zone, String seatNumber) {
+        return submit(scheduleId, InventoryCommand.of(InventoryCommand.Op.HOLD_TTL, zone, seatNumber), Long.class);
+    }
+
+    // 이 노드가 소유자면 링 버퍼로, 아니면 소유 노드로 전달한다
+    private <T> Mono<T> submit(Long scheduleId, InventoryCommand command, Class<T> type) {
+        return Mono.defer(() -> {
+            ScheduleInventory inventory = inventories.get(scheduleId);
+            if (inventory == null || !inventory.isOpen()) {
+                return forward(scheduleId, command).cast(type);
+            }
+            return submitLocal(inventory, command).cast(type);
+        });
+    }
+
+    private Mono<Object> submitLocal(ScheduleInventory inventory, InventoryCommand command) {
+        if (!inventory.offer(command)) {
+            return Mono.error(new BusinessException(inventory.isOpen()
+                    ? ErrorCode.INVENTORY_BUSY : ErrorCode.INVENTORY_NOT_OWNER));
+        }
+        return Mono.fromFuture(command.getResult())
+                .timeout(Duration.ofMillis(properties.getEngineTimeoutMs()))
+                .onErrorMap(TimeoutException.class, e -> new BusinessException(ErrorCode.INVENTORY_NOT_OWNER));
+    }
+
+    /**
+     * 소유 노드로 명령 전달 (회차별 Redisson RemoteService). 소유 노드가 없으면(전환 중) 수신 확인 제한 안에
+     * 응답이 없으므로 INVENTORY_NOT_OWNER. 앞단에서 scheduleId로 소유 노드에 라우팅하면 이 왕복을 줄일 수 있다.
+     */
+    private Mono<Object> forward(Long scheduleId, InventoryCommand command) {
+        RemoteInvocationOptions options = RemoteInvocationOptions.defaults()
+                .expectAckWithin(FORWARD_ACK_TIMEOUT_MS)
+                .expectResultWithin(properties.getEngineTimeoutMs());
+        InventoryRemoteAsync remote = remoteService(scheduleId).get(InventoryRemoteAsync.class, options);
+        return Mono.fromCompletionStage(() -> remote.execute(command.getOp().name(), command.getZone(),
+                        command.getSeatNumber(), command.getUserId(), command.getExpiresAt(),
+                        command.getZones() != null ? new ArrayList<>(command.getZones()) : null))
+                .map(SeatInventoryEngine::fromWire)
+                .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                    log.debug("좌석 재고 명령 전달 실패: scheduleId={}, op={}, error={}", scheduleId, command.getOp(), e.getMessage());
+                    return new BusinessException(ErrorCode.INVENTORY_NOT_OWNER);
+                });
+    }
+
+    private RRemoteService remoteService(Long scheduleId) {
+        return redissonClient.getRemoteService(RedisKeyGenerator.inventoryRemoteName(scheduleId));
+    }
+
+    // 전달 응답은 기본 타입으로만 주고받는다 (POP 결과는 zone|seatNumber 문자열, 목록은 ArrayList)
+    private static Object toWire(Object outcome) {
+        if (outcome instanceof ZoneSeatAssignmentResponse seat) {
+            return seat.getZone() + "|" + seat.getSeatNumber();
+        }
+        if (outcome instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        return outcome;
+    }
+
+    private static Object fromWire(Object value) {
+        if (value instanceof String popped) {
+            String[] zoneSeat = popped.split("\\|", 2);
+            return new ZoneSeatAssignmentResponse(zoneSeat[0], zoneSeat[1]);
+        }
+        return value;
+    }
+
+    /**
+     * 전달 명령 수신 인터페이스 (소유 노드가 회차별 RemoteService에 등록)
+     */
+    public interface InventoryRemote {
+        Object execute(String op, String zone, String seatNumber, Long userId, long expiresAt, List<String> zones);
+    }
+
+    @RRemoteAsync(InventoryRemote.class)
+    public interface InventoryRemoteAsync {
+        RFuture<Object> execute(String op, String zone, String seatNumber, Long userId, long expiresAt, List<String> zones);
+    }
+
+    // 소유 노드 측 처리: 로컬 링 버퍼에 넣고 결과를 기다린다 (Redisson 작업자 스레드)
+    public final class OwnerRemote implements InventoryRemote {
+
+        private final Long scheduleId;
+
+        private OwnerRemote(Long scheduleId) {
+            this.scheduleId = scheduleId;
+        }
+
+        @Override
+        public Object execute(String op, String zone, String seatNumber, Long userId, long expiresAt, List<String> zones) {
+            ScheduleInventory inventory = inventories.get(scheduleId);
+            if (inventory == null || !inventory.isOpen()) {
+                throw new BusinessException(ErrorCode.INVENTORY_NOT_OWNER);
+            }
+            InventoryCommand command = new InventoryCommand(
+                    InventoryCommand.Op.valueOf(op), zone, seatNumber, userId, expiresAt, zones);
+            return toWire(submitLocal(inventory, command).block());
+        }
+    }
+
+    // 관리/모니터링용: 이 노드가 소유 중인 회차
+    public Set<Long> ownedSchedules() {
+        return Set.copyOf(inventories.keySet());
+    }
+}
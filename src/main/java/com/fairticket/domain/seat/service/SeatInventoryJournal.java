@@ -0,0 +1,119 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 단일 작성자 좌석 엔진의 추가 전용 저널 (Redis Stream, Redis 복제로 이중화).
+ * 처리 묶음 하나를 엔트리 하나(ops 필드에 줄 단위 명령)로 기록해 왕복 1회로 끝낸다.
+ * 주기적으로 엔진 상태 스냅샷을 남기고 그 이전 엔트리를 잘라내므로, 복구는 스냅샷 + 이후 저널 재생이다.
+ * 소유 스레드에서 동기 호출된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatInventoryJournal {
+
+    private static final String OPS_FIELD = "ops";
+    static final String SNAPSHOT_JOURNAL_ID = "journalId";
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+
+    private RedisScript<Long> snapshotScript;
+
+    @PostConstruct
+    public void init() {
+        snapshotScript = RedisScript.of(new ClassPathResource("scripts/inventory_snapshot.lua"), Long.class);
+    }
+
+    // 반환: 기록한 엔트리 ID
+    String append(Long scheduleId, List<InventoryCommand> changes) {
+        String ops = changes.stream().map(InventoryCommand::toJournalLine).collect(Collectors.joining("\n"));
+        RecordId id = redisTemplate.opsForStream()
+                .add(StreamRecords.string(Map.of(OPS_FIELD, ops))
+                        .withStreamKey(RedisKeyGenerator.inventoryJournalKey(scheduleId)))
+                .block(WRITE_TIMEOUT);
+        return id != null ? id.getValue() : null;
+    }
+
+    // 기록 순서대로 명령 재생. afterId가 있으면 그 이후 엔트리만 (스냅샷 이후분)
+    void replay(Long scheduleId, String afterId, Consumer<InventoryCommand> consumer) {
+        Range<String> range = afterId != null
+                ? Range.rightUnbounded(Range.Bound.exclusive(afterId))
+                : Range.unbounded();
+        redisTemplate.opsForStream()
+                .range(RedisKeyGenerator.inventoryJournalKey(scheduleId), range)
+                .doOnNext(record -> {
+                    Object ops = record.getValue().get(OPS_FIELD);
+                    if (ops == null) {
+                        return;
+                    }
+                    for (String line : ops.toString().split("\n")) {
+                        consumer.accept(InventoryCommand.fromJournalLine(line));
+                    }
+                })
+                .then()
+                .block(READ_TIMEOUT);
+    }
+
+    // 마지막 엔트리 ID (없으면 null)
+    String lastId(Long scheduleId) {
+        return redisTemplate.opsForStream()
+                .reverseRange(RedisKeyGenerator.inventoryJournalKey(scheduleId), Range.unbounded(), Limit.limit().count(1))
+                .next()
+                .map(record -> record.getId().getValue())
+                .block(READ_TIMEOUT);
+    }
+
+    /**
+     * 스냅샷 기록 후 journalId 이전 저널을 잘라낸다 (한 스크립트로 원자 처리).
+     * @return 잘라낸 엔트리 수
+     */
+    long snapshot(Long scheduleId, String journalId, Map<String, String> fields) {
+        List<String> args = new ArrayList<>(fields.size() * 2 + 1);
+        args.add(journalId);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        Long trimmed = redisTemplate.execute(snapshotScript,
+                        List.of(RedisKeyGenerator.inventorySnapshotKey(scheduleId),
+                                RedisKeyGenerator.inventoryJournalKey(scheduleId)),
+                        args)
+                .next()
+                .block(READ_TIMEOUT);
+        return trimmed != null ? trimmed : 0L;
+    }
+
+    // 스냅샷 (없으면 빈 Map)
+    Map<String, String> loadSnapshot(Long scheduleId) {
+        Map<String, String> snapshot = redisTemplate.<String, String>opsForHash()
+                .entries(RedisKeyGenerator.inventorySnapshotKey(scheduleId))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block(READ_TIMEOUT);
+        return snapshot != null ? snapshot : Map.of();
+    }
+
+    void delete(Long scheduleId) {
+        redisTemplate.delete(RedisKeyGenerator.inventoryJournalKey(scheduleId),
+                        RedisKeyGenerator.inventorySnapshotKey(scheduleId))
+                .block(WRITE_TIMEOUT);
+    }
+}
@@ -0,0 +1,127 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.dto.SeatAvailabilityResponse;
+import com.fairticket.domain.seat.dto.SeatLayout;
+import com.fairticket.domain.seat.entity.Seat;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 좌석 배치 문서와 잔여석 비트맵 스냅샷.
+ * 배치는 판매 중 불변이므로 인스턴스 메모리에 한 번만 올리고(조회가 끊긴 회차는 만료로 내린다),
+ * 잔여석은 Redis 풀을 배치 순서에 맞춘 비트맵으로 압축해 내려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatLayoutService {
+
+    // 좌석 번호 정렬: 숫자 좌석은 자릿수 → 사전순 (1, 2, ..., 10, 11)
+    private static final Comparator<Seat> SEAT_ORDER = Comparator
+            .comparingInt((Seat s) -> s.getSeatNumber().length())
+            .thenComparing(Seat::getSeatNumber);
+    // 인스턴스당 보관할 구역 배치 수 상한과, 조회가 끊긴(판매 종료) 배치의 보관 시간
+    private static final int MAX_LAYOUTS = 10_000;
+    private static final Duration LAYOUT_IDLE = Duration.ofMinutes(30);
+
+    private final SeatRepository seatRepository;
+    private final SeatPoolService seatPoolService;
+
+    private final Cache<String, SeatLayout> layouts = Caffeine.newBuilder()
+            .maximumSize(MAX_LAYOUTS)
+            .expireAfterAccess(LAYOUT_IDLE)
+            .build();
+
+    /**
+     * 구역 좌석 배치 조회. 최초 1회만 seats 테이블을 읽는다.
+     */
+    public Mono<SeatLayout> getLayout(Long scheduleId, String zone) {
+        String cacheKey = scheduleId + ":" + zone;
+        SeatLayout cached = layouts.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return seatRepository.findByScheduleIdAndZone(scheduleId, zone)
+                .collectSortedList(SEAT_ORDER)
+                .flatMap(seats -> {
+                    if (seats.isEmpty()) {
+                        return Mono.error(new BusinessException(ErrorCode.INVALID_ZONE));
+                    }
+                    List<String> seatNumbers = new ArrayList<>(seats.size());
+                    long[] seatIds = new long[seats.size()];
+                    for (int i = 0; i < seats.size(); i++) {
+                        seatNumbers.add(seats.get(i).getSeatNumber());
+                        seatIds[i] = seats.get(i).getId();
+                    }
+                    SeatLayout layout = new SeatLayout(scheduleId, zone, seats.get(0).getGrade(), seatNumbers, seatIds);
+                    SeatLayout existing = layouts.asMap().putIfAbsent(cacheKey, layout);
+                    log.debug("좌석 배치 로드: scheduleId={}, zone={}, seats={}, version={}",
+                            scheduleId, zone, layout.size(), layout.getVersion());
+                    return Mono.just(existing != null ? existing : layout);
+                });
+    }
+
+    /**
+     * 구역 잔여석 비트맵. Redis 풀 멤버를 배치 순서의 비트로 변환한다.
+     */
+    public Mono<SeatAvailabilityResponse.ZoneAvailability> getZoneAvailability(Long scheduleId, String zone) {
+        return getLayout(scheduleId, zone)
+                .flatMap(layout -> seatPoolService.getAvailableSeats(scheduleId, zone)
+                        .collectList()
+                        .map(available -> toZoneAvailability(layout, available)));
+    }
+
+    /**
+     * 여러 구역 스냅샷을 하나의 응답으로 묶고 ETag용 버전을 계산한다.
+     */
+    public SeatAvailabilityResponse toAvailabilityResponse(Long scheduleId, String grade,
+                                                           List<SeatAvailabilityResponse.ZoneAvailability> zones) {
+        CRC32 crc = new CRC32();
+        for (SeatAvailabilityResponse.ZoneAvailability z : zones) {
+            crc.update(z.getLayoutVersion().getBytes(StandardCharsets.UTF_8));
+            crc.update(z.getBitmap().getBytes(StandardCharsets.UTF_8));
+        }
+        return SeatAvailabilityResponse.builder()
+                .scheduleId(scheduleId)
+                .grade(grade)
+                .version(Long.toHexString(crc.getValue()))
+                .zones(zones)
+                .build();
+    }
+
+    private SeatAvailabilityResponse.ZoneAvailability toZoneAvailability(SeatLayout layout, List<String> available) {
+        byte[] bitmap = new byte[(layout.size() + 7) / 8];
+        int count = 0;
+        for (String seatNumber : available) {
+            int idx = layout.indexOf(seatNumber);
+            if (idx < 0) {
+                // 배치에 없는 좌석이 풀에 있음 (데이터 불일치). 스냅샷에서는 제외
+                continue;
+            }
+            bitmap[idx >> 3] |= (byte) (0x80 >>> (idx & 7));
+            count++;
+        }
+        return SeatAvailabilityResponse.ZoneAvailability.builder()
+                .zone(layout.getZone())
+                .layoutVersion(layout.getVersion())
+                .seatCount(layout.size())
+                .availableCount(count)
+                .bitmap(Base64.getEncoder().encodeToString(bitmap))
+                .build();
+    }
+}
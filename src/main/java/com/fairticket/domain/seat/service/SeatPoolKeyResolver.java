@@ -0,0 +1,92 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
+import com.fairticket.domain.concert.entity.Zone;
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.seat.config.SeatPoolProperties;
+import com.fairticket.global.util.RedisKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 좌석 풀 키 라우팅.
+ * 좌석 수가 임계값 이상인 인기 구역은 K개 하위 풀(seats:{scheduleId}:{zone}:{shard})로 나눠
+ * 클러스터 노드에 분산하고, 좌석 번호 해시로 하위 풀을 고른다.
+ * 샤드 수는 회차 메타데이터와 설정으로만 결정되므로 모든 인스턴스가 같은 키를 계산한다.
+ * (설정 변경 시 좌석 풀 재초기화 필요)
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatPoolKeyResolver {
+
+    private final ScheduleMetadataCache metadataCache;
+    private final SeatPoolProperties properties;
+
+    /**
+     * 구역의 하위 풀 수. 샤딩 비활성 또는 임계값 미만이면 1
+     */
+    public int shardCount(Zone zone) {
+        int threshold = properties.getHotZoneShardThreshold();
+        if (threshold <= 0 || properties.getHotZoneShards() <= 1 || zone == null || zone.getSeatCount() == null) {
+            return 1;
+        }
+        return zone.getSeatCount() >= threshold ? properties.getHotZoneShards() : 1;
+    }
+
+    public int shardCount(ScheduleMetadata metadata, String zone) {
+        return shardCount(metadata.findZone(zone).orElse(null));
+    }
+
+    public Mono<Integer> shardCount(Long scheduleId, String zone) {
+        return metadataCache.get(scheduleId).map(metadata -> shardCount(metadata, zone));
+    }
+
+    /**
+     * 좌석이 속한 풀 키
+     */
+    public String poolKey(Long scheduleId, String zone, String seatNumber, int shards) {
+        if (shards <= 1) {
+            return RedisKeyGenerator.seatsKey(scheduleId, zone);
+        }
+        return RedisKeyGenerator.seatsShardKey(scheduleId, zone, Math.floorMod(seatNumber.hashCode(), shards));
+    }
+
+    public Mono<String> poolKey(Long scheduleId, String zone, String seatNumber) {
+        return shardCount(scheduleId, zone).map(shards -> poolKey(scheduleId, zone, seatNumber, shards));
+    }
+
+    /**
+     * 구역을 구성하는 모든 풀 키 (샤딩되지 않은 구역은 1개)
+     */
+    public List<String> poolKeys(Long scheduleId, String zone, int shards) {
+        if (shards <= 1) {
+            return List.of(RedisKeyGenerator.seatsKey(scheduleId, zone));
+        }
+        List<String> keys = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(RedisKeyGenerator.seatsShardKey(scheduleId, zone, shard));
+        }
+        return keys;
+    }
+
+    public Mono<List<String>> poolKeys(Long scheduleId, String zone) {
+        return shardCount(scheduleId, zone).map(shards -> poolKeys(scheduleId, zone, shards));
+    }
+
+    /**
+     * 회차 전체 구역의 풀 키 (잔여석 합계용)
+     */
+    public Mono<List<String>> allPoolKeys(Long scheduleId) {
+        return metadataCache.get(scheduleId).map(metadata -> {
+            List<String> keys = new ArrayList<>();
+            for (Zone zone : metadata.getZones()) {
+                keys.addAll(poolKeys(scheduleId, zone.getZone(), shardCount(zone)));
+            }
+            return keys;
+        });
+    }
+}
@@ -0,0 +1,266 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.concert.entity.Schedule;
+import com.fairticket.domain.concert.repository.ScheduleRepository;
+import com.fairticket.domain.seat.config.SeatPoolProperties;
+import com.fairticket.domain.seat.dto.SeatPoolRebuildProgress;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 유실 후 잔여석 기준 좌석 풀 재구축.
+ * 판매 중인 회차(active-schedules ∪ Postgres 오픈 회차)를 동시에 재구축하고,
+ * 진행 상황은 Redis Hash에 주기적으로 기록해 어느 인스턴스에서든 조회할 수 있게 한다.
+ * 단일 실행 락은 짧은 TTL로 잡고 실행 중 주기적으로 연장하므로, 실행 시간과 무관하게 유지되고 인스턴스가 죽으면 곧 풀린다.
+ * 락은 Mono.usingWhen으로 실행 전체(대상 조회 포함)에 묶어, 완료·오류·취소 어느 경우에도 이 실행이 잡은 락을 해제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatPoolRebuildService {
+
+    private static final Duration PROGRESS_FLUSH_INTERVAL = Duration.ofMillis(500);
+    private static final Duration RUN_LOCK_TTL = Duration.ofMinutes(1);
+    private static final Duration RUN_LOCK_REFRESH_INTERVAL = Duration.ofSeconds(20);
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ScheduleRepository scheduleRepository;
+    private final SeatPoolService seatPoolService;
+    private final SeatInventoryEngine inventoryEngine;
+    private final SeatPoolProperties properties;
+
+    private RedisScript<Long> lockRefreshScript;
+    private RedisScript<Long> lockReleaseScript;
+
+    @PostConstruct
+    public void init() {
+        lockRefreshScript = RedisScript.of(new ClassPathResource("scripts/owned_lock_refresh.lua"), Long.class);
+        lockReleaseScript = RedisScript.of(new ClassPathResource("scripts/owned_lock_release.lua"), Long.class);
+    }
+
+    /**
+     * 재구축 시작. 실행은 백그라운드로 진행되고 시작 시점 진행 상황을 바로 반환한다.
+     * @param scheduleIds 대상 회차 (비어 있으면 판매 중인 전체 회차)
+     */
+    public Mono<SeatPoolRebuildProgress> start(List<Long> scheduleIds) {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        Sinks.One<SeatPoolRebuildProgress> started = Sinks.one();
+        Mono.usingWhen(
+                        acquireLock(runId),
+                        lockedRunId -> resolveTargets(scheduleIds)
+                                .flatMap(targets -> {
+                                    Run run = new Run(lockedRunId, targets.size());
+                                    return writeProgress(run, "RUNNING")
+                                            .doOnSuccess(v -> started.tryEmitValue(run.toProgress("RUNNING")))
+                                            .then(Mono.defer(() -> execute(run, targets)));
+                                }),
+                        this::releaseLock,
+                        (lockedRunId, e) -> releaseLock(lockedRunId),
+                        this::releaseLock)
+                .subscribe(
+                        v -> { },
+                        e -> {
+                            // 시작 전 오류(락 경합 등)는 호출자에게, 실행 중 오류는 로그로
+                            if (started.tryEmitError(e).isFailure()) {
+                                log.error("좌석 풀 재구축 오류: runId={}", runId, e);
+                            }
+                        });
+        return started.asMono();
+    }
+
+    public Mono<SeatPoolRebuildProgress> getProgress() {
+        return redisTemplate.<String, String>opsForHash()
+                .entries(RedisKeyGenerator.seatPoolRebuildKey())
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(SeatPoolRebuildService::toProgress);
+    }
+
+    // 대상 회차: 지정 목록 또는 (active-schedules ∪ 오픈했고 공연 전인 회차). 엔진 모드 회차는 제외
+    private Mono<List<Long>> resolveTargets(List<Long> scheduleIds) {
+        Flux<Long> candidates;
+        if (scheduleIds != null && !scheduleIds.isEmpty()) {
+            candidates = Flux.fromIterable(scheduleIds);
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            Flux<Long> onSale = scheduleRepository.findByTicketOpenAtLessThanEqual(now)
+                    .filter(schedule -> schedule.getDateTime() == null || schedule.getDateTime().isAfter(now))
+                    .filter(schedule -> schedule.getTicketCloseAt() == null || schedule.getTicketCloseAt().isAfter(now))
+                    .map(Schedule::getId)
+                    // Redis와 함께 유실된 활성 회차 목록 복구 (대기열 스케줄러 대상)
+                    .flatMap(id -> redisTemplate.opsForSet()
+                            .add(RedisKeyGenerator.activeSchedulesKey(), id.toString())
+                            .thenReturn(id));
+            Flux<Long> active = redisTemplate.opsForSet()
+                    .members(RedisKeyGenerator.activeSchedulesKey())
+                    .map(Long::parseLong);
+            candidates = Flux.concat(active, onSale);
+        }
+        return candidates
+                .distinct()
+                .filter(id -> {
+                    if (inventoryEngine.handles(id)) {
+                        log.warn("좌석 풀 재구축 제외 (엔진 모드): scheduleId={}", id);
+                        return false;
+                    }
+                    return true;
+                })
+                .collectList();
+    }
+
+    private Mono<String> acquireLock(String runId) {
+        return redisTemplate.opsForValue()
+                .setIfAbsent(RedisKeyGenerator.seatPoolRebuildLockKey(), runId, RUN_LOCK_TTL)
+                .flatMap(acquired -> Boolean.TRUE.equals(acquired)
+                        ? Mono.just(runId)
+                        : Mono.error(new BusinessException(ErrorCode.SEAT_POOL_REBUILD_RUNNING)));
+    }
+
+    private Mono<Void> execute(Run run, List<Long> targets) {
+        log.info("좌석 풀 재구축 시작: runId={}, schedules={}", run.runId, targets.size());
+        Flux<Void> progressTicks = Flux.interval(PROGRESS_FLUSH_INTERVAL)
+                .concatMap(tick -> writeProgress(run, "RUNNING").onErrorResume(e -> Mono.empty()));
+        Flux<Void> lockRefreshes = Flux.interval(RUN_LOCK_REFRESH_INTERVAL)
+                .concatMap(tick -> refreshLock(run).onErrorResume(e -> {
+                    log.warn("좌석 풀 재구축 락 연장 실패: runId={}, error={}", run.runId, e.getMessage());
+                    return Mono.empty();
+                }));
+        Disposable ticker = Flux.merge(progressTicks, lockRefreshes).subscribe();
+        return Flux.fromIterable(targets)
+                .flatMap(scheduleId -> seatPoolService.rebuildFreeSeatPools(scheduleId, run.seatsLoaded)
+                                .doOnSuccess(v -> run.done.incrementAndGet())
+                                .onErrorResume(e -> {
+                                    log.error("좌석 풀 재구축 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+                                    run.failed.add(scheduleId);
+                                    return Mono.empty();
+                                }),
+                        properties.getRebuildScheduleConcurrency())
+                .then()
+                // 최종 상태를 쓰기 전에 주기 기록을 멈춰, 늦게 도착한 RUNNING이 최종 상태를 덮지 않게 한다
+                .then(Mono.defer(() -> {
+                    ticker.dispose();
+                    return writeProgress(run, run.failed.isEmpty() ? "COMPLETED" : "FAILED");
+                }))
+                .doOnSuccess(v -> log.info("좌석 풀 재구축 종료: runId={}, done={}, failed={}, seats={}, elapsed={}ms",
+                        run.runId, run.done.get(), run.failed.size(), run.seatsLoaded.get(),
+                        System.currentTimeMillis() - run.startedAtMs))
+                .doFinally(signal -> ticker.dispose());
+    }
+
+    private Mono<Void> refreshLock(Run run) {
+        return redisTemplate.execute(lockRefreshScript,
+                        List.of(RedisKeyGenerator.seatPoolRebuildLockKey()),
+                        List.of(run.runId, String.valueOf(RUN_LOCK_TTL.toMillis())))
+                .next()
+                .doOnNext(refreshed -> {
+                    if (refreshed == 0L) {
+                        log.warn("좌석 풀 재구축 락을 잃음 (만료 또는 다른 실행): runId={}", run.runId);
+                    }
+                })
+                .then();
+    }
+
+    // 이 실행이 잡은 락만 해제
+    private Mono<Long> releaseLock(String runId) {
+        return redisTemplate.execute(lockReleaseScript,
+                        List.of(RedisKeyGenerator.seatPoolRebuildLockKey()),
+                        List.of(runId))
+                .next()
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Void> writeProgress(Run run, String status) {
+        SeatPoolRebuildProgress progress = run.toProgress(status);
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", progress.getStatus());
+        fields.put("runId", progress.getRunId());
+        fields.put("schedulesTotal", String.valueOf(progress.getSchedulesTotal()));
+        fields.put("schedulesDone", String.valueOf(progress.getSchedulesDone()));
+        fields.put("schedulesFailed", String.valueOf(progress.getSchedulesFailed()));
+        fields.put("seatsLoaded", String.valueOf(progress.getSeatsLoaded()));
+        fields.put("failedScheduleIds", progress.getFailedScheduleIds().stream()
+                .map(String::valueOf).collect(Collectors.joining(",")));
+        fields.put("startedAt", progress.getStartedAt());
+        fields.put("finishedAt", progress.getFinishedAt() != null ? progress.getFinishedAt() : "");
+        fields.put("elapsedMs", String.valueOf(progress.getElapsedMs()));
+        return redisTemplate.opsForHash().putAll(RedisKeyGenerator.seatPoolRebuildKey(), fields).then();
+    }
+
+    private static SeatPoolRebuildProgress toProgress(Map<String, String> fields) {
+        if (fields.isEmpty()) {
+            return SeatPoolRebuildProgress.builder().status("IDLE").failedScheduleIds(List.of()).build();
+        }
+        String failedIds = fields.getOrDefault("failedScheduleIds", "");
+        String finishedAt = fields.getOrDefault("finishedAt", "");
+        return SeatPoolRebuildProgress.builder()
+                .status(fields.get("status"))
+                .runId(fields.get("runId"))
+                .schedulesTotal(Integer.parseInt(fields.getOrDefault("schedulesTotal", "0")))
+                .schedulesDone(Integer.parseInt(fields.getOrDefault("schedulesDone", "0")))
+                .schedulesFailed(Integer.parseInt(fields.getOrDefault("schedulesFailed", "0")))
+                .seatsLoaded(Long.parseLong(fields.getOrDefault("seatsLoaded", "0")))
+                .failedScheduleIds(failedIds.isEmpty()
+                        ? List.of()
+                        : Arrays.stream(failedIds.split(",")).map(Long::parseLong).toList())
+                .startedAt(fields.get("startedAt"))
+                .finishedAt(finishedAt.isEmpty() ? null : finishedAt)
+                .elapsedMs(Long.parseLong(fields.getOrDefault("elapsedMs", "0")))
+                .build();
+    }
+
+    // 재구축 1회 실행 상태
+    private static class Run {
+        private final String runId;
+        private final int total;
+        private final long startedAtMs = System.currentTimeMillis();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger done = new AtomicInteger();
+        private final AtomicLong seatsLoaded = new AtomicLong();
+        private final Queue<Long> failed = new ConcurrentLinkedQueue<>();
+
+        Run(String runId, int total) {
+            this.runId = runId;
+            this.total = total;
+        }
+
+        SeatPoolRebuildProgress toProgress(String status) {
+            boolean finished = !"RUNNING".equals(status);
+            return SeatPoolRebuildProgress.builder()
+                    .status(status)
+                    .runId(runId)
+                    .schedulesTotal(total)
+                    .schedulesDone(done.get())
+                    .schedulesFailed(failed.size())
+                    .seatsLoaded(seatsLoaded.get())
+                    .failedScheduleIds(List.copyOf(failed))
+                    .startedAt(startedAt.toString())
+                    .finishedAt(finished ? LocalDateTime.now().toString() : null)
+                    .elapsedMs(System.currentTimeMillis() - startedAtMs)
+                    .build();
+        }
+    }
+}
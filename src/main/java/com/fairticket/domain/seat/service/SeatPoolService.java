@@ -1,23 +1,38 @@
 package com.fairticket.domain.seat.service;
 
+import com.fairticket.domain.concert.dto.ScheduleMetadata;
 import com.fairticket.domain.concert.entity.Zone;
-import com.fairticket.domain.concert.repository.ZoneRepository;
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.seat.config.SeatPoolProperties;
 import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
-import com.fairticket.domain.seat.entity.Seat;
+import com.fairticket.domain.seat.repository.SeatQueryRepository;
 import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.global.exception.BusinessException;
+import com.fairticket.global.exception.ErrorCode;
 import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.global.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,80 +40,263 @@ import java.util.concurrent.ThreadLocalRandom;
 public class SeatPoolService {
 
     private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final ZoneRepository zoneRepository;
+    private final ScheduleMetadataCache metadataCache;
     private final SeatRepository seatRepository;
+    private final SeatQueryRepository seatQueryRepository;
+    private final SeatPoolProperties properties;
+    private final SeatPoolKeyResolver keyResolver;
+    private final SeatChangePublisher changePublisher;
+    private final SeatInventoryEngine inventoryEngine;
+    private final SeatCountService seatCountService;
+
+    // 같은 구역 잔여석 동시 조회 병합 (최종 판단은 SREM이므로 짧은 재사용 허용)
+    private final SingleFlight<String, List<String>> availableSeatsFlight = new SingleFlight<>(Duration.ofMillis(100));
+
+    private RedisScript<Long> swapScript;
+
+    @PostConstruct
+    public void init() {
+        swapScript = RedisScript.of(new ClassPathResource("scripts/seat_pool_swap.lua"), Long.class);
+    }
 
     /**
      * seats 테이블 기준으로 해당 회차 좌석 풀 초기화.
-     * 단일 출처는 seats 테이블만 사용한다.
+     * 단일 출처는 seats 테이블만 사용한다. 행을 스트리밍으로 읽어 청크 단위로 적재한다.
      */
     public Mono<Void> initializeSeatPools(Long scheduleId) {
-        return seatRepository.findByScheduleId(scheduleId)
-                .collectMultimap(Seat::getZone, Seat::getSeatNumber)
-                .flatMap(zoneToNumbers -> Flux.fromIterable(zoneToNumbers.entrySet())
-                        .flatMap(entry -> initializeSeatPoolWithNumbers(
-                                scheduleId, 
-                                entry.getKey(), 
-                                new ArrayList<>(entry.getValue())
-                        ))
-                        .then())
+        if (inventoryEngine.handles(scheduleId)) {
+            return Mono.error(new BusinessException(ErrorCode.INVENTORY_ENGINE_MODE));
+        }
+        Flux<ZoneSeatAssignmentResponse> seats = seatRepository.findByScheduleId(scheduleId)
+                .map(seat -> new ZoneSeatAssignmentResponse(seat.getZone(), seat.getSeatNumber()));
+        return rebuildPools(scheduleId, seats, true)
                 .doOnSuccess(v -> log.info("좌석 풀 초기화 완료: scheduleId={}", scheduleId));
     }
 
+    /**
+     * 잔여석만으로 좌석 풀 재구축 (Redis 유실 복구용).
+     * 판매된 좌석과 진행 중인(PENDING/ASSIGNED) 예약 좌석은 제외하고 스트리밍으로 적재한다.
+     * @param loaded 적재한 좌석 수를 누적할 카운터 (진행률 보고용)
+     */
+    public Mono<Void> rebuildFreeSeatPools(Long scheduleId, AtomicLong loaded) {
+        if (inventoryEngine.handles(scheduleId)) {
+            return Mono.error(new BusinessException(ErrorCode.INVENTORY_ENGINE_MODE));
+        }
+        Flux<ZoneSeatAssignmentResponse> seats = seatQueryRepository.findFreeSeats(scheduleId)
+                .doOnNext(seat -> loaded.incrementAndGet());
+        return rebuildPools(scheduleId, seats, true)
+                .doOnSuccess(v -> log.info("잔여석 기준 좌석 풀 재구축 완료: scheduleId={}", scheduleId));
+    }
+
+    /**
+     * 여러 회차 좌석 풀 일괄 초기화 (회차 단위 동시 처리)
+     */
+    public Mono<Void> initializeSeatPools(List<Long> scheduleIds) {
+        return Flux.fromIterable(scheduleIds)
+                .distinct()
+                .flatMap(this::initializeSeatPools, properties.getInitScheduleConcurrency())
+                .then();
+    }
+
     /**
      * 지정한 구역·좌석 번호 목록으로 Redis 풀 초기화
-     * 기존 데이터를 삭제하고 새로 초기화합니다.
+     * 기존 데이터를 새 목록으로 원자 교체합니다.
      */
     public Mono<Void> initializeSeatPoolWithNumbers(Long scheduleId, String zone, List<String> seatNumbers) {
         if (seatNumbers.isEmpty()) {
             return Mono.empty();
         }
-        String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-        // 기존 키 삭제 후 새로 추가
-        return redisTemplate.delete(poolKey)
-                .then(redisTemplate.opsForSet()
-                        .add(poolKey, seatNumbers.toArray(new String[0])))
-                .doOnSuccess(c -> log.info("좌석 풀 초기화: scheduleId={}, zone={}, count={}", 
-                        scheduleId, zone, seatNumbers.size()))
+        return rebuildPools(scheduleId, Flux.fromIterable(seatNumbers)
+                        .map(seatNumber -> new ZoneSeatAssignmentResponse(zone, seatNumber)), false)
+                .doOnSuccess(v -> log.info("좌석 풀 초기화: scheduleId={}, zone={}, count={}",
+                        scheduleId, zone, seatNumbers.size()));
+    }
+
+    /**
+     * 좌석 스트림을 청크 단위로 임시 키에 적재한 뒤 운영 키와 원자 교체한다.
+     * 메모리에는 처리 중인 청크와 풀 키만 유지하고, 교체 전까지 기존 풀이 그대로 서비스된다.
+     * 스냅샷을 읽기 전에 회차를 교체 중으로 표시해, 그동안의 변경이 교체로 사라지지 않게 한다.
+     * 라이브 선점은 표시가 있는 동안 거절되고(선점 스크립트가 확인), 반환은 기록해 두었다가 교체 직후 새 풀에 다시 넣는다.
+     * 표시는 다시 넣기가 끝난 뒤 지우며, 실패해도 지운다 (인스턴스가 죽으면 임시 키와 같은 TTL로 풀린다).
+     * @param wholeSchedule true면 스트림이 회차 전체 스냅샷이므로 좌석이 하나도 없는 풀은 비운다
+     */
+    private Mono<Void> rebuildPools(Long scheduleId, Flux<ZoneSeatAssignmentResponse> seats, boolean wholeSchedule) {
+        String buildId = UUID.randomUUID().toString().substring(0, 8);
+        Set<String> poolKeys = ConcurrentHashMap.newKeySet();
+        Duration buildTtl = Duration.ofMinutes(properties.getBuildKeyTtlMinutes());
+        String rebuildingKey = RedisKeyGenerator.seatsRebuildingKey(scheduleId);
+        return metadataCache.get(scheduleId)
+                .flatMap(metadata -> redisTemplate.delete(RedisKeyGenerator.seatsRebuildReturnsKey(scheduleId))
+                        .then(redisTemplate.opsForValue().set(rebuildingKey, buildId, buildTtl))
+                        .thenMany(seats.buffer(properties.getInitChunkSize()))
+                        .flatMap(chunk -> writeChunk(scheduleId, metadata, buildId, chunk, poolKeys, buildTtl),
+                                properties.getInitChunkConcurrency())
+                        .then(Mono.defer(() -> swapBuildKeys(scheduleId, buildId, poolKeys)))
+                        .then(wholeSchedule
+                                ? Mono.defer(() -> deleteEmptyPools(metadata, poolKeys))
+                                : Mono.empty())
+                        .then(Mono.defer(() -> replayRebuildReturns(scheduleId)))
+                        .then(Mono.defer(() -> redisTemplate.delete(rebuildingKey)))
+                        .onErrorResume(e -> redisTemplate.delete(rebuildingKey).then(Mono.error(e)))
+                        .then(Mono.defer(() -> seatCountService.resync(metadata)))
+                        .then());
+    }
+
+    // 교체 중 반환된 좌석을 새 풀에 다시 넣는다 (교체 전 풀에 넣은 반환은 RENAME으로 덮였으므로)
+    private Mono<Void> replayRebuildReturns(Long scheduleId) {
+        String returnsKey = RedisKeyGenerator.seatsRebuildReturnsKey(scheduleId);
+        return redisTemplate.opsForSet().members(returnsKey)
+                .collectList()
+                .filter(members -> !members.isEmpty())
+                .flatMap(members -> Flux.fromIterable(members.stream()
+                                .collect(Collectors.groupingBy(
+                                        member -> member.substring(0, member.indexOf('|')),
+                                        Collectors.mapping(member -> member.substring(member.indexOf('|') + 1),
+                                                Collectors.toList())))
+                                .entrySet())
+                        .flatMap(entry -> applyToPools(scheduleId, entry.getKey(), entry.getValue(), seatCountService::add)
+                                .doOnNext(added -> added.forEach(seatNumber ->
+                                        changePublisher.available(scheduleId, entry.getKey(), seatNumber))))
+                        .then(redisTemplate.opsForSet().remove(returnsKey, members.toArray()))
+                        .doOnSuccess(removed -> log.info("풀 교체 중 반환 좌석 반영: scheduleId={}, seats={}",
+                                scheduleId, members.size())))
+                .then();
+    }
+
+    // 반환 전에 호출: 회차가 교체 중이면 반환 좌석을 기록해 교체 직후 다시 넣게 한다
+    private Mono<Void> recordReturnIfRebuilding(Long scheduleId, String zone, List<String> seatNumbers) {
+        return redisTemplate.opsForValue().get(RedisKeyGenerator.seatsRebuildingKey(scheduleId))
+                .flatMap(buildId -> {
+                    String returnsKey = RedisKeyGenerator.seatsRebuildReturnsKey(scheduleId);
+                    return redisTemplate.opsForSet()
+                            .add(returnsKey, seatNumbers.stream().map(seatNumber -> zone + "|" + seatNumber)
+                                    .toArray(String[]::new))
+                            .then(redisTemplate.expire(returnsKey, Duration.ofMinutes(properties.getBuildKeyTtlMinutes())));
+                })
+                .then();
+    }
+
+    // Redis 모드 반환: 교체 중 기록 → 풀 추가 (기록이 먼저여야 교체 전에 넣은 반환도 다시 넣을 수 있다)
+    private Mono<List<String>> returnToPools(Long scheduleId, String zone, List<String> seatNumbers) {
+        return recordReturnIfRebuilding(scheduleId, zone, seatNumbers)
+                .then(Mono.defer(() -> applyToPools(scheduleId, zone, seatNumbers, seatCountService::add)));
+    }
+
+    // 스냅샷에 좌석이 없던 풀(매진 구역 등)은 이전 내용이 남지 않도록 삭제
+    private Mono<Void> deleteEmptyPools(ScheduleMetadata metadata, Set<String> writtenPoolKeys) {
+        List<String> emptyPools = new ArrayList<>();
+        for (String zone : metadata.getZoneNames()) {
+            for (String poolKey : keyResolver.poolKeys(metadata.getScheduleId(), zone, keyResolver.shardCount(metadata, zone))) {
+                if (!writtenPoolKeys.contains(poolKey)) {
+                    emptyPools.add(poolKey);
+                }
+            }
+        }
+        return emptyPools.isEmpty()
+                ? Mono.empty()
+                : redisTemplate.delete(emptyPools.toArray(new String[0])).then();
+    }
+
+    private Mono<Void> writeChunk(Long scheduleId, ScheduleMetadata metadata, String buildId,
+                                  List<ZoneSeatAssignmentResponse> chunk, Set<String> poolKeys, Duration buildTtl) {
+        Map<String, List<String>> byPoolKey = chunk.stream()
+                .collect(Collectors.groupingBy(
+                        seat -> keyResolver.poolKey(scheduleId, seat.getZone(), seat.getSeatNumber(),
+                                keyResolver.shardCount(metadata, seat.getZone())),
+                        Collectors.mapping(ZoneSeatAssignmentResponse::getSeatNumber, Collectors.toList())));
+        return Flux.fromIterable(byPoolKey.entrySet())
+                .flatMap(entry -> {
+                    poolKeys.add(entry.getKey());
+                    String buildKey = RedisKeyGenerator.seatsBuildKey(entry.getKey(), buildId);
+                    return redisTemplate.opsForSet()
+                            .add(buildKey, entry.getValue().toArray(new String[0]))
+                            .then(redisTemplate.expire(buildKey, buildTtl));
+                })
+                .then();
+    }
+
+    // 풀 단위로 교체 (임시 키와 풀 키는 같은 슬롯)
+    private Mono<Void> swapBuildKeys(Long scheduleId, String buildId, Set<String> poolKeys) {
+        return Flux.fromIterable(poolKeys)
+                .flatMap(poolKey -> redisTemplate.execute(swapScript,
+                                List.of(RedisKeyGenerator.seatsBuildKey(poolKey, buildId), poolKey), List.of())
+                        .next())
+                .reduce(0L, Long::sum)
+                .doOnSuccess(swapped -> {
+                    log.info("좌석 풀 교체: scheduleId={}, pools={}", scheduleId, swapped);
+                    changePublisher.reset(scheduleId);
+                })
                 .then();
     }
 
     /**
-     * 잔여 좌석 수 (단일 구역 풀)
+     * 잔여 좌석 수 (단일 구역, 하위 풀 합계)
      */
     public Mono<Long> getRemainingSeats(Long scheduleId, String zone) {
-        String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-        return redisTemplate.opsForSet().size(poolKey);
+        if (inventoryEngine.handles(scheduleId)) {
+            return inventoryEngine.count(scheduleId, zone);
+        }
+        return seatCountService.getZone(scheduleId, zone)
+                .switchIfEmpty(Mono.defer(() -> keyResolver.poolKeys(scheduleId, zone).flatMap(this::sumCardinality)));
     }
 
     /**
-     * 해당 회차 전체 구역의 잔여 좌석 수 합계.
-     * Redis pipeline 효과를 위해 execute를 활용하여 sCard 요청을 수행한다.
+     * 해당 회차 전체 구역의 잔여 좌석 수 합계 (풀 카운터 합산).
+     * 카운터가 없으면 풀 SCARD를 파이프라인으로 합산한다.
      */
     public Mono<Long> getRemainingSeatsTotal(Long scheduleId) {
-        return zoneRepository.findByScheduleId(scheduleId)
-                .map(Zone::getZone)
-                .collectList()
-                .flatMap(zones -> {
-                    if (zones.isEmpty()) {
-                        return Mono.just(0L);
-                    }
-                    return redisTemplate.execute(connection ->
-                            Flux.fromIterable(zones)
-                                    .map(z -> ByteBuffer.wrap(RedisKeyGenerator.seatsKey(scheduleId, z)
-                                            .getBytes(StandardCharsets.UTF_8)))
-                                    .flatMap(key -> connection.setCommands().sCard(key))
-                                    .reduce(0L, Long::sum)
-                    ).next();
-                });
+        if (inventoryEngine.handles(scheduleId)) {
+            return inventoryEngine.count(scheduleId, null);
+        }
+        return seatCountService.getTotal(scheduleId)
+                .switchIfEmpty(Mono.defer(() -> keyResolver.allPoolKeys(scheduleId).flatMap(this::sumCardinality)));
+    }
+
+    /**
+     * 등급별 잔여 좌석 수. 풀 구축 전(카운터 없음)이면 empty
+     */
+    public Mono<Map<String, Long>> getRemainingSeatsByGrade(Long scheduleId) {
+        if (inventoryEngine.handles(scheduleId)) {
+            return metadataCache.get(scheduleId)
+                    .flatMapMany(metadata -> Flux.fromIterable(metadata.getZones()))
+                    .flatMap(zone -> inventoryEngine.count(scheduleId, zone.getZone())
+                            .map(count -> Map.entry(zone.getGrade(), count)))
+                    .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingLong(Map.Entry::getValue)));
+        }
+        return seatCountService.getByGrade(scheduleId);
+    }
+
+    private Mono<Long> sumCardinality(List<String> poolKeys) {
+        if (poolKeys.isEmpty()) {
+            return Mono.just(0L);
+        }
+        if (poolKeys.size() == 1) {
+            return redisTemplate.opsForSet().size(poolKeys.get(0));
+        }
+        return redisTemplate.execute(connection ->
+                Flux.fromIterable(poolKeys)
+                        .map(key -> ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)))
+                        .flatMap(key -> connection.setCommands().sCard(key))
+                        .reduce(0L, Long::sum)
+        ).next();
     }
 
     /**
      * 잔여 좌석 목록 (구역별)
      */
     public Flux<String> getAvailableSeats(Long scheduleId, String zone) {
-        String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-        return redisTemplate.opsForSet().members(poolKey);
+        return availableSeatsFlight.execute(scheduleId + ":" + zone,
+                        () -> loadAvailableSeats(scheduleId, zone).collectList())
+                .flatMapIterable(seats -> seats);
+    }
+
+    private Flux<String> loadAvailableSeats(Long scheduleId, String zone) {
+        if (inventoryEngine.handles(scheduleId)) {
+            return inventoryEngine.members(scheduleId, zone);
+        }
+        return keyResolver.poolKeys(scheduleId, zone)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(poolKey -> redisTemplate.opsForSet().members(poolKey));
     }
 
     /**
@@ -106,24 +304,102 @@ public class SeatPoolService {
      * @return true: 성공, false: 이미 없음
      */
     public Mono<Boolean> selectSeat(Long scheduleId, String zone, String seatNumber) {
-        String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-        return redisTemplate.opsForSet()
-                .remove(poolKey, seatNumber)
-                .map(removed -> removed > 0)
-                .doOnSuccess(success -> log.info("좌석 선택: scheduleId={}, zone={}, seat={}, success={}",
-                        scheduleId, zone, seatNumber, success));
+        Mono<Boolean> removed = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.take(scheduleId, zone, seatNumber)
+                : applyToPools(scheduleId, zone, List.of(seatNumber), seatCountService::remove)
+                        .map(removedSeats -> !removedSeats.isEmpty());
+        return removed
+                .doOnSuccess(success -> {
+                    log.info("좌석 선택: scheduleId={}, zone={}, seat={}, success={}",
+                            scheduleId, zone, seatNumber, success);
+                    if (Boolean.TRUE.equals(success)) {
+                        changePublisher.taken(scheduleId, zone, seatNumber);
+                    }
+                });
     }
 
     /**
      * 좌석 반환 (취소/홀드 해제 시)
      */
     public Mono<Boolean> returnSeat(Long scheduleId, String zone, String seatNumber) {
-        String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-        return redisTemplate.opsForSet()
-                .add(poolKey, seatNumber)
-                .map(added -> added > 0)
-                .doOnSuccess(success -> log.info("좌석 반환: scheduleId={}, zone={}, seat={}",
-                        scheduleId, zone, seatNumber));
+        Mono<Boolean> added = inventoryEngine.handles(scheduleId)
+                ? inventoryEngine.put(scheduleId, zone, seatNumber)
+                : returnToPools(scheduleId, zone, List.of(seatNumber))
+                        .map(addedSeats -> !addedSeats.isEmpty());
+        return added
+                .doOnSuccess(success -> {
+                    log.info("좌석 반환: scheduleId={}, zone={}, seat={}",
+                            scheduleId, zone, seatNumber);
+                    if (Boolean.TRUE.equals(success)) {
+                        changePublisher.available(scheduleId, zone, seatNumber);
+                    }
+                });
+    }
+
+    /**
+     * 좌석 일괄 반환 (같은 구역). 풀(샤드)별로 스크립트를 한 번씩만 보낸다.
+     * 실제로 풀에 추가된 좌석만 변경 이벤트로 발행한다 (이미 있던 좌석은 재발행하지 않음)
+     * @return 실제로 풀에 추가된 좌석 수
+     */
+    public Mono<Long> returnSeats(Long scheduleId, String zone, List<String> seatNumbers) {
+        if (seatNumbers.isEmpty()) {
+            return Mono.just(0L);
+        }
+        Mono<List<String>> added = inventoryEngine.handles(scheduleId)
+                ? Flux.fromIterable(seatNumbers)
+                        .filterWhen(seatNumber -> inventoryEngine.put(scheduleId, zone, seatNumber), 1)
+                        .collectList()
+                : returnToPools(scheduleId, zone, seatNumbers);
+        return added
+                .doOnNext(addedSeats -> {
+                    log.info("좌석 일괄 반환: scheduleId={}, zone={}, requested={}, added={}",
+                            scheduleId, zone, seatNumbers.size(), addedSeats.size());
+                    addedSeats.forEach(seatNumber -> changePublisher.available(scheduleId, zone, seatNumber));
+                })
+                .map(addedSeats -> (long) addedSeats.size());
+    }
+
+    /**
+     * 좌석 일괄 제거 (같은 구역, 정합성 복구·추첨 일괄 배정용). 풀(샤드)별로 스크립트를 한 번씩만 보낸다.
+     * 실제로 풀에서 빠진 좌석만 변경 이벤트로 발행한다
+     * @return 실제로 풀에서 제거된 좌석 번호 (이미 없던 좌석은 제외)
+     */
+    public Mono<List<String>> removeSeats(Long scheduleId, String zone, List<String> seatNumbers) {
+        if (seatNumbers.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        Mono<List<String>> removed = inventoryEngine.handles(scheduleId)
+                ? Flux.fromIterable(seatNumbers)
+                        .filterWhen(seatNumber -> inventoryEngine.take(scheduleId, zone, seatNumber), 1)
+                        .collectList()
+                : applyToPools(scheduleId, zone, seatNumbers, seatCountService::remove);
+        return removed
+                .doOnNext(removedSeats -> {
+                    log.info("좌석 일괄 제거: scheduleId={}, zone={}, requested={}, removed={}",
+                            scheduleId, zone, seatNumbers.size(), removedSeats.size());
+                    removedSeats.forEach(seatNumber -> changePublisher.taken(scheduleId, zone, seatNumber));
+                });
+    }
+
+    // 좌석을 풀(샤드)별로 묶어 카운터 스크립트(SREM/SADD + 풀 카운터 증감)를 풀당 한 번씩 실행. 반환: 실제로 바뀐 좌석
+    private Mono<List<String>> applyToPools(Long scheduleId, String zone, List<String> seatNumbers, PoolMutation mutation) {
+        return metadataCache.get(scheduleId)
+                .flatMap(metadata -> {
+                    int shards = keyResolver.shardCount(metadata, zone);
+                    String grade = metadata.findZone(zone).map(Zone::getGrade).orElse(null);
+                    Map<String, List<String>> byPoolKey = seatNumbers.stream()
+                            .collect(Collectors.groupingBy(
+                                    seatNumber -> keyResolver.poolKey(scheduleId, zone, seatNumber, shards)));
+                    return Flux.fromIterable(byPoolKey.entrySet())
+                            .flatMap(entry -> mutation.apply(scheduleId, entry.getKey(), grade, entry.getValue()))
+                            .flatMapIterable(changed -> changed)
+                            .collectList();
+                });
+    }
+
+    @FunctionalInterface
+    private interface PoolMutation {
+        Mono<List<String>> apply(Long scheduleId, String poolKey, String grade, List<String> seatNumbers);
     }
 
     /**
@@ -131,43 +407,51 @@ public class SeatPoolService {
      * 라이브 종료 후 추첨 배정 시 사용
      */
     public Mono<ZoneSeatAssignmentResponse> popRandomSeat(Long scheduleId, String grade) {
-        return zoneRepository.findByScheduleIdAndGrade(scheduleId, grade)
-                .collectList()
-                .flatMap(zones -> {
+        return metadataCache.get(scheduleId)
+                .flatMap(metadata -> {
+                    List<String> zones = metadata.zoneNamesOf(grade);
                     if (zones.isEmpty()) {
                         return Mono.empty();
                     }
-                    int idx = ThreadLocalRandom.current().nextInt(zones.size());
-                    String zone = zones.get(idx).getZone();
-                    String poolKey = RedisKeyGenerator.seatsKey(scheduleId, zone);
-                    
-                    return redisTemplate.opsForSet().pop(poolKey)
-                            .map(seatNumber -> {
-                                log.info("좌석 추출: scheduleId={}, grade={}, zone={}, seat={}", 
-                                        scheduleId, grade, zone, seatNumber);
-                                return new ZoneSeatAssignmentResponse(zone, seatNumber);
+                    if (inventoryEngine.handles(scheduleId)) {
+                        return inventoryEngine.pop(scheduleId, zones)
+                                .doOnNext(popped -> changePublisher.taken(scheduleId, popped.getZone(), popped.getSeatNumber()));
+                    }
+                    // 임의 구역·샤드부터 시작해, 비어 있으면 다음 샤드와 다음 구역으로 넘어간다
+                    int zoneOffset = ThreadLocalRandom.current().nextInt(zones.size());
+                    return Flux.range(0, zones.size())
+                            .map(i -> zones.get((i + zoneOffset) % zones.size()))
+                            .concatMap(zone -> popFromZone(metadata, scheduleId, zone, grade), 1)
+                            .next()
+                            .doOnNext(popped -> {
+                                log.info("좌석 추출: scheduleId={}, grade={}, zone={}, seat={}",
+                                        scheduleId, grade, popped.getZone(), popped.getSeatNumber());
+                                changePublisher.taken(scheduleId, popped.getZone(), popped.getSeatNumber());
                             });
                 });
     }
 
+    // 구역의 샤드를 임의 위치부터 차례로 시도해 처음 꺼낸 좌석 하나 (모두 비면 empty)
+    private Mono<ZoneSeatAssignmentResponse> popFromZone(ScheduleMetadata metadata, Long scheduleId, String zone, String grade) {
+        List<String> poolKeys = keyResolver.poolKeys(scheduleId, zone, keyResolver.shardCount(metadata, zone));
+        String zoneGrade = metadata.findZone(zone).map(Zone::getGrade).orElse(grade);
+        int shardOffset = ThreadLocalRandom.current().nextInt(poolKeys.size());
+        return Flux.range(0, poolKeys.size())
+                .map(i -> poolKeys.get((i + shardOffset) % poolKeys.size()))
+                .concatMap(poolKey -> seatCountService.pop(scheduleId, poolKey, zoneGrade), 1)
+                .next()
+                .map(seatNumber -> new ZoneSeatAssignmentResponse(zone, seatNumber));
+    }
+
     /**
      * 해당 등급의 모든 잔여 좌석을 구역·좌석번호 목록으로 반환.
      * Fisher-Yates 셔플 후 순서대로 배정할 때 사용.
      */
     public Mono<List<ZoneSeatAssignmentResponse>> getAvailableSeatsForGrade(Long scheduleId, String grade) {
-        return zoneRepository.findByScheduleIdAndGrade(scheduleId, grade)
-                .flatMap(zone -> getAvailableSeats(scheduleId, zone.getZone())
-                        .map(seatNumber -> new ZoneSeatAssignmentResponse(zone.getZone(), seatNumber)))
+        return metadataCache.get(scheduleId)
+                .flatMapIterable(metadata -> metadata.zoneNamesOf(grade))
+                .flatMap(zone -> loadAvailableSeats(scheduleId, zone)
+                        .map(seatNumber -> new ZoneSeatAssignmentResponse(zone, seatNumber)))
                 .collectList();
     }
-
-    /**
-     * 추첨 쿼터: 등급별 추첨에 쓸 수 있는 최대 좌석 수. 
-     * seats 테이블 기준 해당 등급 좌석 수의 절반.
-     */
-    public Mono<Long> getRemainingSeatsLottery(Long scheduleId, String grade) {
-        return seatRepository.countByScheduleIdAndGrade(scheduleId, grade)
-                .map(total -> total / 2)
-                .defaultIfEmpty(0L);
-    }
 }
\ No newline at end of file
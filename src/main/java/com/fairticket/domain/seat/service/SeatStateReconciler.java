@@ -0,0 +1,352 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.concert.service.ScheduleMetadataCache;
+import com.fairticket.domain.seat.config.SeatReconcilerProperties;
+import com.fairticket.domain.seat.dto.SeatReconcileReport;
+import com.fairticket.domain.seat.dto.SeatStateRow;
+import com.fairticket.domain.seat.entity.SeatStatus;
+import com.fairticket.domain.seat.repository.SeatQueryRepository;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 좌석 풀 ↔ Postgres 좌석 상태 정합성 점검.
+ * 구역 단위로 seats를 id 키셋 청크로 읽어 SMISMEMBER·MGET(홀드)과 비교하고,
+ * 풀은 SSCAN 청크로 역방향 점검(DB에 없는 좌석)한다. 메모리에는 청크와 의심 좌석만 둔다.
+ * 1차에서 걸린 좌석은 잠시 후 다시 읽어 같은 불일치일 때만 확정하므로
+ * 좌석 선택처럼 진행 중인 전이는 오탐하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatStateReconciler {
+
+    // 불일치 유형
+    enum Drift {
+        MISSING_FROM_POOL,   // 판매·홀드 안 된 AVAILABLE 좌석이 풀에 없음 → 풀에 추가
+        SOLD_IN_POOL,        // 판매된 좌석이 풀에 있음 → 풀에서 제거
+        HELD_IN_POOL,        // 홀드 중인 좌석이 풀에 있음 → 풀에서 제거
+        ORPHAN_IN_POOL,      // DB에 없는 좌석이 풀에 있음 → 풀에서 제거
+        STATUS_NOT_SOLD,     // 판매된 좌석의 seats.status가 SOLD가 아님 → SOLD로 갱신
+        STALE_HELD           // seats.status는 HELD인데 홀드 키가 없음 → 보고만 (홀드 만료 작업/스윕 담당)
+    }
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ScheduleMetadataCache metadataCache;
+    private final SeatQueryRepository seatQueryRepository;
+    private final SeatRepository seatRepository;
+    private final SeatPoolKeyResolver keyResolver;
+    private final SeatPoolService seatPoolService;
+    private final SeatCountService seatCountService;
+    private final SeatInventoryEngine inventoryEngine;
+    private final SeatReconcilerProperties properties;
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 활성 회차 주기 점검. 회차별 분산 락을 잡은 인스턴스만 점검한다.
+     */
+    @Scheduled(fixedDelayString = "${fairticket.seat-reconciler.interval-ms:60000}")
+    public void reconcileActiveSchedules() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        List<String> scheduleIds;
+        try {
+            scheduleIds = redisTemplate.opsForSet()
+                    .members(RedisKeyGenerator.activeSchedulesKey())
+                    .collectList()
+                    .block(Duration.ofSeconds(5));
+        } catch (Exception e) {
+            log.warn("좌석 정합성 점검 대상 조회 실패: {}", e.getMessage());
+            return;
+        }
+        if (scheduleIds == null) {
+            return;
+        }
+        long leaseMs = Math.max(properties.getIntervalMs(), 10000);
+        for (String scheduleIdStr : scheduleIds) {
+            Long scheduleId = Long.parseLong(scheduleIdStr);
+            RLock lock = redissonClient.getLock(RedisKeyGenerator.seatReconcileLockKey(scheduleId));
+            boolean acquired = false;
+            try {
+                acquired = lock.tryLock(0, leaseMs, TimeUnit.MILLISECONDS);
+                if (!acquired) continue;
+                reconcile(scheduleId, properties.isRepair()).block(Duration.ofMillis(leaseMs - 1000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("좌석 정합성 점검 실패: scheduleId={}, error={}", scheduleId, e.getMessage());
+            } finally {
+                if (acquired && lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 회차 점검. repair=true면 확정된 불일치를 복구한다.
+     */
+    public Mono<SeatReconcileReport> reconcile(Long scheduleId, boolean repair) {
+        if (inventoryEngine.handles(scheduleId)) {
+            // 엔진 모드에서는 엔진 메모리가 단일 출처이므로 Redis 풀과 비교하지 않음
+            return Mono.just(SeatReconcileReport.builder()
+                    .scheduleId(scheduleId)
+                    .skippedReason("ENGINE_MODE")
+                    .repair(repair)
+                    .drift(Map.of())
+                    .repaired(Map.of())
+                    .samples(Map.of())
+                    .build());
+        }
+        long startedAt = System.currentTimeMillis();
+        Tally tally = new Tally(properties.getSampleLimit());
+        return metadataCache.get(scheduleId)
+                .flatMapMany(metadata -> Flux.fromIterable(metadata.getZoneNames())
+                        .map(zone -> Map.entry(zone, keyResolver.shardCount(metadata, zone))))
+                .concatMap(zone -> reconcileZone(scheduleId, zone.getKey(), zone.getValue(), repair, tally))
+                // 점검 후 잔여석 카운터도 풀 기준으로 다시 맞춤
+                .then(Mono.defer(() -> metadataCache.get(scheduleId).flatMap(seatCountService::resyncIfPresent)))
+                .then(Mono.fromSupplier(() -> tally.toReport(scheduleId, repair, System.currentTimeMillis() - startedAt)))
+                .doOnSuccess(report -> {
+                    meterRegistry.timer("fairticket.seat.reconcile.duration").record(Duration.ofMillis(report.getElapsedMs()));
+                    long total = report.getDrift().values().stream().mapToLong(Long::longValue).sum();
+                    if (total > 0) {
+                        log.warn("좌석 정합성 불일치: scheduleId={}, drift={}, repaired={}",
+                                scheduleId, report.getDrift(), report.getRepaired());
+                    } else {
+                        log.debug("좌석 정합성 점검 완료: scheduleId={}, seats={}, elapsed={}ms",
+                                scheduleId, report.getScannedSeats(), report.getElapsedMs());
+                    }
+                });
+    }
+
+    private Mono<Void> reconcileZone(Long scheduleId, String zone, int shards, boolean repair, Tally tally) {
+        int chunkSize = properties.getChunkSize();
+
+        // 1차: DB 청크 → 풀/홀드 비교
+        Flux<String> forwardSuspects = fetchChunk(scheduleId, zone, 0L)
+                .expand(chunk -> chunk.size() < chunkSize
+                        ? Mono.empty()
+                        : fetchChunk(scheduleId, zone, chunk.get(chunk.size() - 1).getId()))
+                .concatMap(chunk -> {
+                    tally.scannedSeats.addAndGet(chunk.size());
+                    return classify(scheduleId, zone, shards, seatNumbersOf(chunk), indexBySeat(chunk))
+                            .flatMapIterable(Map::keySet);
+                });
+
+        // 역방향: 풀 SSCAN 청크 → DB에 없는 좌석
+        Flux<String> orphanSuspects = Flux.fromIterable(keyResolver.poolKeys(scheduleId, zone, shards))
+                .concatMap(poolKey -> redisTemplate.opsForSet()
+                        .scan(poolKey, ScanOptions.scanOptions().count(chunkSize).build())
+                        .buffer(chunkSize)
+                        .concatMap(members -> {
+                            tally.scannedPoolMembers.addAndGet(members.size());
+                            return seatQueryRepository.findStates(scheduleId, zone, members)
+                                    .map(SeatStateRow::getSeatNumber)
+                                    .collectList()
+                                    .flatMapIterable(existing -> {
+                                        List<String> orphans = new ArrayList<>(members);
+                                        orphans.removeAll(existing);
+                                        return orphans;
+                                    });
+                        }));
+
+        // 2차: 의심 좌석만 잠시 후 재확인해 확정 → 복구
+        return Flux.concat(forwardSuspects, orphanSuspects)
+                .distinct()
+                .collectList()
+                .filter(suspects -> !suspects.isEmpty())
+                .delayElement(Duration.ofMillis(properties.getRecheckDelayMs()))
+                .flatMapMany(Flux::fromIterable)
+                .buffer(chunkSize)
+                .concatMap(suspects -> seatQueryRepository.findStates(scheduleId, zone, suspects)
+                        .collectList()
+                        .flatMap(rows -> classify(scheduleId, zone, shards, suspects, indexBySeat(rows)))
+                        .flatMap(confirmed -> {
+                            confirmed.forEach((seatNumber, drift) -> tally.record(drift, zone, seatNumber));
+                            confirmed.values().forEach(drift -> counter("fairticket.seat.reconcile.drift", drift).increment());
+                            return repair ? repair(scheduleId, zone, confirmed, tally) : Mono.empty();
+                        }))
+                .then();
+    }
+
+    private Mono<List<SeatStateRow>> fetchChunk(Long scheduleId, String zone, long afterId) {
+        return seatQueryRepository.findZoneStates(scheduleId, zone, afterId, properties.getChunkSize())
+                .collectList()
+                .filter(chunk -> !chunk.isEmpty());
+    }
+
+    /**
+     * 좌석 번호 목록을 풀 멤버십(SMISMEMBER)·홀드(MGET)와 DB 행으로 분류.
+     * rows에 없는 좌석은 DB에 없는 좌석으로 본다.
+     * @return 불일치 좌석 → 유형
+     */
+    private Mono<Map<String, Drift>> classify(Long scheduleId, String zone, int shards,
+                                              List<String> seatNumbers, Map<String, SeatStateRow> rows) {
+        Map<String, List<String>> seatsByPool = new HashMap<>();
+        for (String seatNumber : seatNumbers) {
+            seatsByPool.computeIfAbsent(keyResolver.poolKey(scheduleId, zone, seatNumber, shards), k -> new ArrayList<>())
+                    .add(seatNumber);
+        }
+        Mono<Map<Object, Boolean>> inPoolMono = Flux.fromIterable(seatsByPool.entrySet())
+                .flatMap(entry -> redisTemplate.opsForSet().isMember(entry.getKey(), entry.getValue().toArray()))
+                .<Map<Object, Boolean>>reduceWith(HashMap::new, (acc, m) -> {
+                    acc.putAll(m);
+                    return acc;
+                });
+        List<String> holdKeys = seatNumbers.stream()
+                .map(seatNumber -> RedisKeyGenerator.holdKey(scheduleId, zone, seatNumber))
+                .toList();
+        Mono<List<String>> holdsMono = redisTemplate.opsForValue().multiGet(holdKeys);
+
+        return Mono.zip(inPoolMono, holdsMono).map(tuple -> {
+            Map<Object, Boolean> inPool = tuple.getT1();
+            List<String> holds = tuple.getT2();
+            Map<String, Drift> drift = new LinkedHashMap<>();
+            for (int i = 0; i < seatNumbers.size(); i++) {
+                String seatNumber = seatNumbers.get(i);
+                boolean pooled = Boolean.TRUE.equals(inPool.get(seatNumber));
+                boolean held = holds.get(i) != null;
+                SeatStateRow row = rows.get(seatNumber);
+                Drift d = classifyOne(row, pooled, held);
+                if (d != null) {
+                    drift.put(seatNumber, d);
+                }
+            }
+            return drift;
+        });
+    }
+
+    private static Drift classifyOne(SeatStateRow row, boolean pooled, boolean held) {
+        if (row == null) {
+            return pooled ? Drift.ORPHAN_IN_POOL : null;
+        }
+        boolean sold = row.isSold() || SeatStatus.SOLD.name().equals(row.getStatus());
+        if (sold) {
+            if (pooled) return Drift.SOLD_IN_POOL;
+            return SeatStatus.SOLD.name().equals(row.getStatus()) ? null : Drift.STATUS_NOT_SOLD;
+        }
+        if (held) {
+            return pooled ? Drift.HELD_IN_POOL : null;
+        }
+        if (SeatStatus.HELD.name().equals(row.getStatus())) {
+            return pooled ? null : Drift.STALE_HELD;
+        }
+        return pooled ? null : Drift.MISSING_FROM_POOL;
+    }
+
+    private Mono<Void> repair(Long scheduleId, String zone, Map<String, Drift> confirmed, Tally tally) {
+        Map<Drift, List<String>> byDrift = new EnumMap<>(Drift.class);
+        confirmed.forEach((seatNumber, drift) -> byDrift.computeIfAbsent(drift, d -> new ArrayList<>()).add(seatNumber));
+
+        List<String> toRemove = new ArrayList<>();
+        for (Drift d : List.of(Drift.SOLD_IN_POOL, Drift.HELD_IN_POOL, Drift.ORPHAN_IN_POOL)) {
+            toRemove.addAll(byDrift.getOrDefault(d, List.of()));
+        }
+        List<String> toAdd = byDrift.getOrDefault(Drift.MISSING_FROM_POOL, List.of());
+        List<String> toMarkSold = byDrift.getOrDefault(Drift.STATUS_NOT_SOLD, List.of());
+
+        return seatPoolService.removeSeats(scheduleId, zone, toRemove)
+                .then(seatPoolService.returnSeats(scheduleId, zone, toAdd))
+                .thenMany(Flux.fromIterable(toMarkSold)
+                        .flatMap(seatNumber -> seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumber(
+                                SeatStatus.SOLD.name(), scheduleId, zone, seatNumber)))
+                .then(Mono.fromRunnable(() -> byDrift.forEach((drift, seats) -> {
+                    if (drift == Drift.STALE_HELD) {
+                        return;
+                    }
+                    tally.repaired(drift, seats.size());
+                    counter("fairticket.seat.reconcile.repaired", drift).increment(seats.size());
+                })));
+    }
+
+    private Counter counter(String name, Drift drift) {
+        return counters.computeIfAbsent(name + ":" + drift,
+                k -> Counter.builder(name).tag("type", drift.name()).register(meterRegistry));
+    }
+
+    private static List<String> seatNumbersOf(List<SeatStateRow> rows) {
+        return rows.stream().map(SeatStateRow::getSeatNumber).toList();
+    }
+
+    private static Map<String, SeatStateRow> indexBySeat(List<SeatStateRow> rows) {
+        Map<String, SeatStateRow> index = new HashMap<>(rows.size() * 2);
+        for (SeatStateRow row : rows) {
+            index.put(row.getSeatNumber(), row);
+        }
+        return index;
+    }
+
+    // 점검 1회 집계 (구역을 순차 처리하지만 청크 내부 신호는 여러 스레드에서 올 수 있음)
+    private static class Tally {
+        private final int sampleLimit;
+        private final AtomicLong scannedSeats = new AtomicLong();
+        private final AtomicLong scannedPoolMembers = new AtomicLong();
+        private final Map<String, AtomicLong> drift = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> repaired = new ConcurrentHashMap<>();
+        private final Map<String, List<String>> samples = new ConcurrentHashMap<>();
+
+        Tally(int sampleLimit) {
+            this.sampleLimit = sampleLimit;
+        }
+
+        void record(Drift d, String zone, String seatNumber) {
+            drift.computeIfAbsent(d.name(), k -> new AtomicLong()).incrementAndGet();
+            List<String> list = samples.computeIfAbsent(d.name(), k -> new ArrayList<>());
+            synchronized (list) {
+                if (list.size() < sampleLimit) {
+                    list.add(zone + ":" + seatNumber);
+                }
+            }
+        }
+
+        void repaired(Drift d, long count) {
+            repaired.computeIfAbsent(d.name(), k -> new AtomicLong()).addAndGet(count);
+        }
+
+        SeatReconcileReport toReport(Long scheduleId, boolean repair, long elapsedMs) {
+            Map<String, Long> driftCounts = new LinkedHashMap<>();
+            drift.forEach((k, v) -> driftCounts.put(k, v.get()));
+            Map<String, Long> repairedCounts = new LinkedHashMap<>();
+            repaired.forEach((k, v) -> repairedCounts.put(k, v.get()));
+            return SeatReconcileReport.builder()
+                    .scheduleId(scheduleId)
+                    .repair(repair)
+                    .scannedSeats(scannedSeats.get())
+                    .scannedPoolMembers(scannedPoolMembers.get())
+                    .drift(driftCounts)
+                    .repaired(repairedCounts)
+                    .samples(Map.copyOf(samples))
+                    .elapsedMs(elapsedMs)
+                    .build();
+        }
+    }
+}
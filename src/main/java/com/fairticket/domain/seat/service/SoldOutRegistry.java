@@ -0,0 +1,141 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (회차, 등급) 매진 상태의 인스턴스 로컬 사본.
+ * SeatCountService가 풀 카운터 합산으로 0 진입/이탈을 알려 주면 Pub/Sub으로 전 인스턴스에 전파하고,
+ * 메시지 유실은 SeatCountService의 활성 회차 카운터 주기 재적재(load)로 보정한다.
+ * 조회(isSoldOut)는 메모리만 읽으므로 WebFilter에서 Redis/DB 호출 없이 쓸 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SoldOutRegistry {
+
+    // 잔여석 맵에서 회차 전체를 나타내는 키
+    static final String SCHEDULE = "*";
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+
+    // scheduleId → 매진된 등급 집합 (회차 전체 매진은 "*")
+    private final Map<Long, Set<String>> soldOut = new ConcurrentHashMap<>();
+    private Disposable subscription;
+
+    @PostConstruct
+    public void init() {
+        subscription = redisTemplate.listenToChannel(RedisKeyGenerator.soldOutChannel())
+                .map(message -> message.getMessage())
+                .doOnNext(this::apply)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("매진 상태 채널 재구독: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 매진 여부 (메모리 조회). grade가 null이면 회차 전체 매진만 확인
+     */
+    public boolean isSoldOut(Long scheduleId, String grade) {
+        Set<String> grades = soldOut.get(scheduleId);
+        if (grades == null) {
+            return false;
+        }
+        return grades.contains(SCHEDULE) || (grade != null && grades.contains(grade));
+    }
+
+    /**
+     * 풀 카운터 합산 결과 반영. 로컬 상태와 달라졌을 때만 전파한다.
+     * @param gradeLeft 등급 잔여석 (-1이면 카운터 없음)
+     * @param totalLeft 회차 잔여석 (-1이면 카운터 없음)
+     */
+    public void observe(Long scheduleId, String grade, long gradeLeft, long totalLeft) {
+        if (gradeLeft < 0 || totalLeft < 0) {
+            return;
+        }
+        if (grade != null && !grade.isEmpty()) {
+            publishIfChanged(scheduleId, grade, gradeLeft <= 0);
+        }
+        publishIfChanged(scheduleId, SCHEDULE, totalLeft <= 0);
+    }
+
+    /**
+     * 재계산한 잔여석({"*": 회차, grade: 등급})으로 로컬 상태를 맞추고 변화가 있으면 전파 (카운터 재계산 후 호출)
+     */
+    public void refresh(Long scheduleId, Map<String, Long> counts) {
+        counts.forEach((grade, left) -> publishIfChanged(scheduleId, grade, left <= 0));
+    }
+
+    // 주기 재적재 (로컬만 갱신, 전파 없음)
+    void load(Long scheduleId, Map<String, Long> counts) {
+        counts.forEach((grade, left) -> set(scheduleId, grade, left <= 0));
+    }
+
+    // 매진 판단 대상에서 제외 (엔진 모드 회차)
+    void forget(Long scheduleId) {
+        soldOut.remove(scheduleId);
+    }
+
+    private void publishIfChanged(Long scheduleId, String grade, boolean nowSoldOut) {
+        if (isMarked(scheduleId, grade) == nowSoldOut) {
+            return;
+        }
+        set(scheduleId, grade, nowSoldOut);
+        String message = scheduleId + "|" + grade + "|" + (nowSoldOut ? "1" : "0");
+        redisTemplate.convertAndSend(RedisKeyGenerator.soldOutChannel(), message)
+                .doOnSuccess(n -> log.info("매진 상태 변경: scheduleId={}, grade={}, soldOut={}", scheduleId, grade, nowSoldOut))
+                .onErrorResume(e -> {
+                    log.warn("매진 상태 전파 실패: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    private void apply(String message) {
+        String[] parts = message.split("\\|");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            set(Long.parseLong(parts[0]), parts[1], "1".equals(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 매진 상태 메시지: {}", message);
+        }
+    }
+
+    private boolean isMarked(Long scheduleId, String grade) {
+        Set<String> grades = soldOut.get(scheduleId);
+        return grades != null && grades.contains(grade);
+    }
+
+    private void set(Long scheduleId, String grade, boolean value) {
+        if (value) {
+            soldOut.computeIfAbsent(scheduleId, id -> ConcurrentHashMap.newKeySet()).add(grade);
+        } else {
+            Set<String> grades = soldOut.get(scheduleId);
+            if (grades != null) {
+                grades.remove(grade);
+            }
+        }
+    }
+}
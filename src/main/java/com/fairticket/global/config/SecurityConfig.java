@@ -35,6 +35,8 @@ public class SecurityConfig {
                         // 공연·스케줄 조회 (비인증 허용)
                         .pathMatchers(HttpMethod.GET, "/api/v1/concerts/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/schedules/**").permitAll()
+                        // 좌석 배치 문서 (불변, CDN 캐시 대상)
+                        .pathMatchers(HttpMethod.GET, "/api/v1/live/*/layout").permitAll()
                         // 결제 Webhook (PortOne 서버→서버 호출)
                         .pathMatchers(HttpMethod.POST, "/api/v1/payment/webhook").permitAll()
                         // Actuator
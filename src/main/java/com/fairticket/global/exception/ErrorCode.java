@@ -41,6 +41,11 @@ public enum ErrorCode {
     SEAT_HOLD_NOT_OWNED(HttpStatus.FORBIDDEN, "S006", "본인이 홀드한 좌석만 해제할 수 있습니다"),
     NO_AVAILABLE_SEATS(HttpStatus.NOT_FOUND, "S003", "잔여 좌석이 없습니다"),
     SOLD_OUT(HttpStatus.GONE, "S004", "매진되었습니다"),
+    INVENTORY_NOT_OWNER(HttpStatus.SERVICE_UNAVAILABLE, "S007", "좌석 처리 담당 서버가 아닙니다. 잠시 후 다시 시도해주세요"),
+    INVENTORY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "S008", "좌석 처리 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+    INVENTORY_ENGINE_MODE(HttpStatus.CONFLICT, "S009", "단일 작성자 모드인 회차는 좌석 풀을 재구축할 수 없습니다"),
+    SEAT_POOL_REBUILD_RUNNING(HttpStatus.CONFLICT, "S010", "좌석 풀 재구축이 이미 진행 중입니다"),
+    SEAT_POOL_REBUILDING(HttpStatus.SERVICE_UNAVAILABLE, "S011", "좌석 정보를 갱신하는 중입니다. 잠시 후 다시 시도해주세요"),
 
     // Track
     LIVE_TRACK_CLOSED(HttpStatus.FORBIDDEN, "T001", "라이브 트랙이 마감되었습니다"),
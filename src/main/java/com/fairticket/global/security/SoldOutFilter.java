@@ -0,0 +1,80 @@
+package com.fairticket.global.security;
+
+import com.fairticket.domain.seat.service.SoldOutRegistry;
+import com.fairticket.global.exception.ErrorCode;
+import com.fairticket.global.exception.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 매진 회차/등급 요청을 인증·Rate Limit·Redis·DB 이전에 410으로 차단하는 WebFilter.
+ * 판단은 SoldOutRegistry의 메모리 사본만 사용하므로 요청당 I/O가 없다.
+ * 등급은 grade 쿼리 파라미터 또는 X-Seat-Grade 헤더로 받으며, 없으면 회차 전체 매진만 본다.
+ * 좌석 선점(POST /live/{id})은 등급이 JSON 본문에 있어 필터가 읽지 않으므로, 클라이언트가 같은 등급을
+ * X-Seat-Grade 헤더로도 보내야 등급 매진이 여기서 걸러진다. 헤더가 없으면 LiveTrackService.selectSeat가 본문 등급으로 다시 확인한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SoldOutFilter implements WebFilter {
+
+    // 좌석 선점(/live/{id}), 대기열 진입(/queue/{id}/enter)
+    private static final Pattern GUARDED_PATH = Pattern.compile("^/api/v1/(?:live/(\\d+)|queue/(\\d+)/enter)$");
+    public static final String GRADE_HEADER = "X-Seat-Grade";
+
+    private final SoldOutRegistry soldOutRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.POST) {
+            return chain.filter(exchange);
+        }
+        Matcher matcher = GUARDED_PATH.matcher(request.getPath().value());
+        if (!matcher.matches()) {
+            return chain.filter(exchange);
+        }
+        Long scheduleId = Long.parseLong(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+        String grade = request.getQueryParams().getFirst("grade");
+        if (grade == null) {
+            grade = request.getHeaders().getFirst(GRADE_HEADER);
+        }
+        if (!soldOutRegistry.isSoldOut(scheduleId, grade)) {
+            return chain.filter(exchange);
+        }
+        log.debug("매진 요청 차단: scheduleId={}, grade={}", scheduleId, grade);
+        return writeSoldOut(exchange.getResponse());
+    }
+
+    private Mono<Void> writeSoldOut(ServerHttpResponse response) {
+        response.setStatusCode(ErrorCode.SOLD_OUT.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(ErrorResponse.of(ErrorCode.SOLD_OUT));
+        } catch (JsonProcessingException e) {
+            return response.setComplete();
+        }
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
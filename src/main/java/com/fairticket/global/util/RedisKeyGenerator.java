@@ -19,6 +19,17 @@ public class RedisKeyGenerator {
         return String.format("seats:%d:%s", scheduleId, zone);
     }
 
+    // 인기 구역 하위 풀 키 (Set) - seats:{scheduleId}:{zone}:{shard}
+    public static String seatsShardKey(Long scheduleId, String zone, int shard) {
+        return String.format("seats:%d:%s:%d", scheduleId, zone, shard);
+    }
+
+    // 좌석 풀 초기화용 임시 키 (Set+TTL, 완료 시 풀 키로 RENAME) - seats-build:{poolKey}:{buildId}
+    // 해시 태그로 풀 키와 같은 슬롯에 두어 클러스터에서도 RENAME 가능
+    public static String seatsBuildKey(String poolKey, String buildId) {
+        return String.format("seats-build:{%s}:%s", poolKey, buildId);
+    }
+
     // 좌석 임시 홀드 키 (String+TTL, 660초) - hold:{scheduleId}:{zone}:{seatNo}
     public static String holdKey(Long scheduleId, String zone, String seatNo) {
         return String.format("hold:%d:%s:%s", scheduleId, zone, seatNo);
@@ -44,9 +55,35 @@ public class RedisKeyGenerator {
         return String.format("active:%d", scheduleId);
     }
 
-    // 추첨 결제 성공자 목록 키 (Set) - lottery-paid:{scheduleId}
-    public static String lotteryPaidKey(Long scheduleId) {
-        return String.format("lottery-paid:%d", scheduleId);
+    // 추첨 잔여 쿼터 키 (Hash: grade → 남은 수량) - lottery-quota:{scheduleId}
+    public static String lotteryQuotaKey(Long scheduleId) {
+        return String.format("lottery-quota:%d", scheduleId);
+    }
+
+    // 사용자별 회차 참여 원장 키 (Hash: track, live, lottery, lotteryPaid) - user-ledger:{scheduleId}:{userId}
+    public static String userLedgerKey(Long scheduleId, Long userId) {
+        return String.format("user-ledger:%d:%d", scheduleId, userId);
+    }
+
+    // 지연 작업 대기열 샤드 (SortedSet: score=만기 시각 ms, member=TYPE:payload) - delayed-jobs:{shard}
+    // 처리 중 키와 같은 슬롯이 되도록 샤드 번호를 해시 태그로 둔다
+    public static String delayedJobsKey(int shard) {
+        return String.format("delayed-jobs:{%d}", shard);
+    }
+
+    // 점유된 지연 작업 (SortedSet: score=처리 시한 ms) - delayed-jobs:{shard}:processing
+    public static String delayedJobsProcessingKey(int shard) {
+        return String.format("delayed-jobs:{%d}:processing", shard);
+    }
+
+    // 지연 작업 점유 횟수 (Hash: field=member, value=횟수) - delayed-jobs:{shard}:attempts
+    public static String delayedJobsAttemptsKey(int shard) {
+        return String.format("delayed-jobs:{%d}:attempts", shard);
+    }
+
+    // 재시도 소진·처리 불가 지연 작업 (SortedSet: score=데드레터 시각 ms) - delayed-jobs:{shard}:dead
+    public static String delayedJobsDeadKey(int shard) {
+        return String.format("delayed-jobs:{%d}:dead", shard);
     }
 
     // 미결제 자동 취소 타이머 키 (String+TTL) - payment-timer:{reservationId}
@@ -69,6 +106,113 @@ public class RedisKeyGenerator {
         return String.format("lottery-assigned:%d", scheduleId);
     }
 
+    // 추첨 결과 사전 계산본 (Hash, field=userId, value=결과 목록 JSON) - lottery-results:{scheduleId}
+    public static String lotteryResultsKey(Long scheduleId) {
+        return String.format("lottery-results:%d", scheduleId);
+    }
+
+    // 좌석 풀 변경 알림 채널 (Pub/Sub, 인스턴스 복제본 갱신용) - seat-changes
+    public static String seatChangesChannel() {
+        return "seat-changes";
+    }
+
+    // 회차별 좌석 재고 모드 (Hash, field=scheduleId, value=REDIS/ENGINE/DRAINING) - inventory-mode
+    public static String inventoryModeKey() {
+        return "inventory-mode";
+    }
+
+    // 단일 작성자 좌석 엔진 저널 (Stream) - inventory-journal:{scheduleId}
+    // 스냅샷 키와 한 스크립트에서 다루므로 회차 ID를 해시 태그로 둔다
+    public static String inventoryJournalKey(Long scheduleId) {
+        return String.format("inventory-journal:{%d}", scheduleId);
+    }
+
+    // 단일 작성자 좌석 엔진 스냅샷 (Hash, journalId + zone:{zone} + holds) - inventory-snapshot:{scheduleId}
+    public static String inventorySnapshotKey(Long scheduleId) {
+        return String.format("inventory-snapshot:{%d}", scheduleId);
+    }
+
+    // 단일 작성자 좌석 엔진 명령 전달 (Redisson RemoteService 이름) - inventory-remote:{scheduleId}
+    public static String inventoryRemoteName(Long scheduleId) {
+        return String.format("inventory-remote:%d", scheduleId);
+    }
+
+    // 단일 작성자 좌석 엔진 소유 락 (Lock) - lock:inventory:{scheduleId}
+    public static String inventoryOwnerLockKey(Long scheduleId) {
+        return String.format("lock:inventory:%d", scheduleId);
+    }
+
+    // 라이브 홀드 만료 스윕 락 (Lock) - lock:hold-sweep:{scheduleId}
+    public static String holdSweepLockKey(Long scheduleId) {
+        return String.format("lock:hold-sweep:%d", scheduleId);
+    }
+
+    // 추첨 좌석 배정 작업 락 (Lock) - lock:lottery-assign:{scheduleId}
+    public static String lotteryAssignLockKey(Long scheduleId) {
+        return String.format("lock:lottery-assign:%d", scheduleId);
+    }
+
+    // 아웃박스 릴레이 락 (Lock) - lock:outbox-relay
+    public static String outboxRelayLockKey() {
+        return "lock:outbox-relay";
+    }
+
+    // 알림 발송 초당 한도 (RateLimiter, 전체 인스턴스 공유) - rate:notification
+    public static String notificationRateLimiterKey() {
+        return "rate:notification";
+    }
+
+    // 알림 발송 상태 표시 (String: SENDING(짧은 TTL) → SENT) - notification-sent:{type}:{scheduleId}:{reservationId}
+    public static String notificationSentKey(String type, Long scheduleId, Long reservationId) {
+        return String.format("notification-sent:%s:%d:%d", type, scheduleId, reservationId);
+    }
+
+    // 좌석 정합성 점검 락 (Lock) - lock:seat-reconcile:{scheduleId}
+    public static String seatReconcileLockKey(Long scheduleId) {
+        return String.format("lock:seat-reconcile:%d", scheduleId);
+    }
+
+    // 좌석 풀 재구축 진행 상황 (Hash) - seat-pool-rebuild
+    public static String seatPoolRebuildKey() {
+        return "seat-pool-rebuild";
+    }
+
+    // 좌석 풀 재구축 단일 실행 락 (String: value=runId, TTL 실행 중 연장) - lock:seat-pool-rebuild
+    public static String seatPoolRebuildLockKey() {
+        return "lock:seat-pool-rebuild";
+    }
+
+    // 회차 좌석 풀 교체 중 표시 (String+TTL, value=buildId). 있는 동안 라이브 선점은 거절되고 반환은 기록된다 - seats-rebuilding:{scheduleId}
+    public static String seatsRebuildingKey(Long scheduleId) {
+        return String.format("seats-rebuilding:%d", scheduleId);
+    }
+
+    // 풀 교체 중 반환된 좌석 (Set+TTL, member=zone|seatNumber). 교체 직후 새 풀에 다시 반영 - seats-rebuild-returns:{scheduleId}
+    public static String seatsRebuildReturnsKey(Long scheduleId) {
+        return String.format("seats-rebuild-returns:%d", scheduleId);
+    }
+
+    // 좌석 풀별 잔여석 카운터 (String) - seat-count:{poolKey}
+    // 해시 태그로 풀 키와 같은 슬롯에 두어 풀 변경과 한 스크립트에서 증감
+    public static String seatCountKey(String poolKey) {
+        return String.format("seat-count:{%s}", poolKey);
+    }
+
+    // 매진 상태 변경 채널 (Pub/Sub, 메시지=scheduleId|grade 또는 *|1=매진,0=해제) - sold-out-changes
+    public static String soldOutChannel() {
+        return "sold-out-changes";
+    }
+
+    // 오픈 전 공용 준비(좌석 풀 구축) 1회 실행 플래그 - pre-open-prepared:{scheduleId}
+    public static String preOpenPreparedKey(Long scheduleId) {
+        return String.format("pre-open-prepared:%d", scheduleId);
+    }
+
+    // 쓰기 지연 모드 미반영 예약 이벤트 (List, JSON) - reservation-pending:{reservationId}
+    public static String reservationPendingKey(Long reservationId) {
+        return String.format("reservation-pending:%d", reservationId);
+    }
+
     // 활성 스케줄 목록 (KEYS 명령어 대체) - active-schedules
     public static String activeSchedulesKey() {
         return "active-schedules";
@@ -78,4 +222,9 @@ public class RedisKeyGenerator {
     public static String blacklistKey(String token) {
         return "blacklist:" + token;
     }
-}
\ No newline at end of file
+
+    // 회차 메타데이터 캐시 무효화 채널 (Pub/Sub, 메시지=scheduleId 또는 "*") - schedule-metadata-invalidate
+    public static String scheduleMetadataChannel() {
+        return "schedule-metadata-invalidate";
+    }
+}
@@ -0,0 +1,63 @@
+package com.fairticket.global.util;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 조회 병합 (single-flight).
+ * 같은 키로 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 함께 받는다.
+ * resultTtl이 0보다 크면 완료된 결과를 그 시간 동안 재사용하고, 오류는 재사용하지 않는다.
+ * 최종 판단을 Redis 원자 연산 등이 따로 하는 읽기 전용 조회에만 쓸 것.
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, Flight> flights = new ConcurrentHashMap<>();
+    private final long resultTtlNanos;
+
+    public SingleFlight(Duration resultTtl) {
+        this.resultTtlNanos = resultTtl.toNanos();
+    }
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            return flights.compute(key, (k, existing) ->
+                    existing != null && !existing.isExpired(now) ? existing : new Flight(k, loader)).result;
+        });
+    }
+
+    // 진행 중이거나 TTL 내 결과가 남은 키 수 (모니터링용)
+    public int size() {
+        return flights.size();
+    }
+
+    private final class Flight {
+
+        private final Mono<V> result;
+        // 진행 중에는 만료되지 않음
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private Flight(K key, Supplier<Mono<V>> loader) {
+            this.result = Mono.defer(loader)
+                    .doOnError(e -> flights.remove(key, this))
+                    .doOnSuccess(value -> {
+                        if (resultTtlNanos <= 0) {
+                            flights.remove(key, this);
+                            return;
+                        }
+                        expiresAt = System.nanoTime() + resultTtlNanos;
+                        Mono.delay(Duration.ofNanos(resultTtlNanos))
+                                .subscribe(tick -> flights.remove(key, this));
+                    })
+                    .cache();
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.fairticket.infra.kafka;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 쓰기 지연 모드 토픽 생성. 모드를 켠 경우에만 등록된다
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "fairticket.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindKafkaConfig {
+
+    private final WriteBehindProperties properties;
+
+    @Bean
+    public NewTopic reservationEventsTopic() {
+        return TopicBuilder.name(properties.getTopic())
+                .partitions(properties.getPartitions())
+                .replicas(1)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fairticket.infra.kafka;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.write-behind")
+public class WriteBehindProperties {
+
+    // 쓰기 지연 모드 사용 여부 (false면 클릭 경로에서 DB에 바로 저장)
+    private boolean enabled = false;
+    // 예약 이벤트 토픽 (키=reservationId, 같은 예약의 이벤트는 같은 파티션에서 순서 보장)
+    private String topic = "reservation-events";
+    // 토픽 파티션 수 (컨슈머 병렬도 상한)
+    private int partitions = 12;
+    // 컨슈머 동시성 (파티션 수 이하)
+    private int concurrency = 4;
+    // 컨슈머 poll 1회 최대 레코드 수 (묶음 INSERT 크기, 이 컨슈머에만 적용)
+    private int maxPollRecords = 1000;
+    // 예약 ID 선할당 블록 크기 (시퀀스 조회 1회당)
+    private int idBlockSize = 500;
+    // 미반영 이벤트 보관 시간 (분). 컨슈머가 이 안에 반영하지 못하면 결제 진입 시 동기 반영으로 보완
+    private int pendingTtlMinutes = 60;
+}
@@ -0,0 +1,27 @@
+package com.fairticket.infra.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 로컬·테스트용 발송 스텁. 실제로 보내지 않고 로그만 남긴다 (기본 채널)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "fairticket.notification", name = "sender", havingValue = "log", matchIfMissing = true)
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public Mono<List<NotificationMessage>> send(List<NotificationMessage> batch) {
+        for (NotificationMessage message : batch) {
+            log.info("[알림 스텁] type={}, userId={}, scheduleId={}, reservationId={}, title={}",
+                    message.getType(), message.getUserId(), message.getScheduleId(),
+                    message.getReservationId(), message.getTitle());
+        }
+        return Mono.just(List.of());
+    }
+}
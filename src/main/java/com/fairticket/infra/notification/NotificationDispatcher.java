@@ -0,0 +1,180 @@
+package com.fairticket.infra.notification;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 발송 컨슈머. poll 한 번의 알림을 받아
+ * 1) 발송 상태 표시를 두 단계로 둔다. 짧은 TTL의 SENDING을 SET NX로 선점하고, 발송에 성공한 알림만 SENT(긴 TTL)로 바꾼다.
+ *    SENT인 알림은 중복으로 거르고, 다른 컨슈머가 SENDING 중이면 SENT가 되거나 표시가 만료될 때까지 기다렸다 다시 선점한다.
+ * 2) 발송 묶음마다 전체 인스턴스 공유 초당 한도(RateLimiter)만큼 허가를 받아 발송기에 넘기며,
+ * 3) 실패한 알림만 지수 백오프로 재시도한다. 끝내 실패한 알림은 표시를 지워 재전달 시 다시 보낼 수 있게 한다.
+ * 반환 후 오프셋이 커밋되므로 발송 중 인스턴스가 죽으면 재전달되고, 남은 SENDING 표시가 만료되면 다시 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final Duration BATCH_TIMEOUT = Duration.ofMinutes(5);
+    private static final String SENDING = "SENDING";
+    private static final String SENT = "SENT";
+    // 다른 컨슈머가 발송 중인 알림의 상태 재확인 주기
+    private static final Duration CLAIM_RECHECK = Duration.ofSeconds(1);
+
+    private final NotificationProperties properties;
+    private final NotificationSender sender;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private RRateLimiter rateLimiter;
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        rateLimiter = redissonClient.getRateLimiter(RedisKeyGenerator.notificationRateLimiterKey());
+        // 이미 설정돼 있으면 유지된다 (한도 변경 시 키를 지우고 재기동)
+        rateLimiter.trySetRate(RateType.OVERALL, properties.getRatePerSecond(), 1, RateIntervalUnit.SECONDS);
+    }
+
+    @KafkaListener(
+            topics = "${fairticket.notification.topic:notifications}",
+            groupId = "fairticket-notification-dispatcher",
+            batch = "true",
+            concurrency = "${fairticket.notification.concurrency:4}",
+            autoStartup = "${fairticket.notification.enabled:false}")
+    public void consume(List<String> payloads) {
+        long startedAt = System.nanoTime();
+        List<NotificationMessage> messages = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            try {
+                messages.add(objectMapper.readValue(payload, NotificationMessage.class));
+            } catch (JsonProcessingException e) {
+                // 형식이 깨진 알림은 재시도해도 보낼 수 없으므로 건너뛴다
+                log.error("알림 메시지 파싱 실패, 건너뜀: payload={}", payload, e);
+            }
+        }
+        // 리스너 스레드는 블로킹 가능. 발송이 끝나야 오프셋을 커밋한다
+        dispatch(messages).block(BATCH_TIMEOUT);
+        meterRegistry.timer("fairticket.notification.batch.duration")
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+        log.debug("알림 배치 처리: records={}", payloads.size());
+    }
+
+    private Mono<Void> dispatch(List<NotificationMessage> messages) {
+        int batchSize = Math.max(1, Math.min(properties.getSendBatchSize(), properties.getRatePerSecond()));
+        return Flux.fromIterable(messages)
+                .flatMap(message -> claim(message).filter(Boolean::booleanValue).map(claimed -> message))
+                .buffer(batchSize)
+                .concatMap(batch -> sendWithRetry(batch, 1))
+                .then();
+    }
+
+    // 발송 선점. false면 이미 보낸 알림
+    private Mono<Boolean> claim(NotificationMessage message) {
+        long deadline = System.currentTimeMillis() + properties.getSendingTtlSeconds() * 1000L + CLAIM_RECHECK.toMillis();
+        return tryClaim(message, deadline);
+    }
+
+    private Mono<Boolean> tryClaim(NotificationMessage message, long deadline) {
+        String key = sentKey(message);
+        return redisTemplate.opsForValue()
+                .setIfAbsent(key, SENDING, Duration.ofSeconds(properties.getSendingTtlSeconds()))
+                .defaultIfEmpty(false)
+                .flatMap(claimed -> claimed
+                        ? Mono.just(true)
+                        : redisTemplate.opsForValue().get(key).defaultIfEmpty("").flatMap(state -> {
+                            if (!SENDING.equals(state) && !state.isEmpty()) {
+                                meterRegistry.counter("fairticket.notification.sent", "result", "duplicate").increment();
+                                return Mono.just(false);
+                            }
+                            // 다른 컨슈머가 보내는 중(또는 발송 중 중단). 기한을 넘기면 배치를 실패시켜 재전달에 맡긴다
+                            if (System.currentTimeMillis() >= deadline) {
+                                return Mono.error(new IllegalStateException("알림 발송 중 표시가 풀리지 않음: " + key));
+                            }
+                            return Mono.delay(CLAIM_RECHECK).then(Mono.defer(() -> tryClaim(message, deadline)));
+                        }));
+    }
+
+    private Mono<Void> sendWithRetry(List<NotificationMessage> batch, int attempt) {
+        return Mono.fromCompletionStage(rateLimiter.acquireAsync(batch.size()))
+                .then(Mono.defer(() -> sender.send(batch)))
+                .onErrorResume(e -> {
+                    log.warn("알림 발송기 오류: attempt={}, size={}, error={}", attempt, batch.size(), e.getMessage());
+                    return Mono.just(batch);
+                })
+                .flatMap(failed -> {
+                    recordSent(batch, failed);
+                    Mono<Void> marked = markSent(batch, failed);
+                    if (failed.isEmpty()) {
+                        return marked;
+                    }
+                    if (attempt >= properties.getMaxAttempts()) {
+                        return marked.then(giveUp(failed));
+                    }
+                    Duration backoff = Duration.ofMillis(properties.getRetryBackoffMs() << (attempt - 1));
+                    return marked.then(Mono.delay(backoff)).then(sendWithRetry(failed, attempt + 1));
+                });
+    }
+
+    private void recordSent(List<NotificationMessage> batch, List<NotificationMessage> failed) {
+        long now = System.currentTimeMillis();
+        Timer lag = meterRegistry.timer("fairticket.notification.lag");
+        for (NotificationMessage message : batch) {
+            if (!failed.contains(message)) {
+                lag.record(Duration.ofMillis(Math.max(0, now - message.getEnqueuedAt())));
+            }
+        }
+        meterRegistry.counter("fairticket.notification.sent", "result", "success").increment(batch.size() - failed.size());
+    }
+
+    // 보낸 알림만 SENT로 확정. 실패해도 오프셋은 커밋되므로 재전달은 없고, SENDING 표시만 먼저 만료된다
+    private Mono<Void> markSent(List<NotificationMessage> batch, List<NotificationMessage> failed) {
+        Duration ttl = Duration.ofHours(properties.getDedupTtlHours());
+        return Flux.fromIterable(batch)
+                .filter(message -> !failed.contains(message))
+                .flatMap(message -> redisTemplate.opsForValue().set(sentKey(message), SENT, ttl))
+                .onErrorResume(e -> {
+                    log.warn("알림 발송 완료 표시 실패: size={}, error={}", batch.size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    // 재시도 소진: 실패로 집계하고 발송 표시를 지운다
+    private Mono<Void> giveUp(List<NotificationMessage> failed) {
+        meterRegistry.counter("fairticket.notification.sent", "result", "failed").increment(failed.size());
+        log.error("알림 발송 최종 실패: count={}, first(userId={}, reservationId={})",
+                failed.size(), failed.get(0).getUserId(), failed.get(0).getReservationId());
+        return Flux.fromIterable(failed)
+                .flatMap(message -> redisTemplate.delete(sentKey(message)))
+                .then();
+    }
+
+    private static String sentKey(NotificationMessage message) {
+        return RedisKeyGenerator.notificationSentKey(message.getType(), message.getScheduleId(), message.getReservationId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.fairticket.infra.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 알림 토픽 생성. 파이프라인을 켠 경우에만 등록된다
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "fairticket.notification", name = "enabled", havingValue = "true")
+public class NotificationKafkaConfig {
+
+    private final NotificationProperties properties;
+
+    @Bean
+    public NewTopic notificationsTopic() {
+        return TopicBuilder.name(properties.getTopic())
+                .partitions(properties.getPartitions())
+                .replicas(1)
+                .build();
+    }
+}
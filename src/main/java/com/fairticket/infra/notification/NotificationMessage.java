@@ -0,0 +1,25 @@
+package com.fairticket.infra.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 알림 Kafka 메시지. (type, scheduleId, reservationId)로 중복 발송을 막고, enqueuedAt으로 발송 지연을 잰다
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationMessage {
+
+    public static final String LOTTERY_SEAT_ASSIGNED = "LOTTERY_SEAT_ASSIGNED";
+
+    private String type;
+    private Long userId;
+    private Long scheduleId;
+    private Long reservationId;
+    private String title;
+    private String body;
+    // 발행 시각 (epoch ms)
+    private long enqueuedAt;
+}
@@ -0,0 +1,36 @@
+package com.fairticket.infra.notification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.notification")
+public class NotificationProperties {
+
+    // 알림 파이프라인 사용 여부 (false면 발행하지 않고 컨슈머도 시작하지 않음)
+    private boolean enabled = false;
+    // 알림 토픽 (키=userId, 같은 사용자 알림은 같은 파티션에서 순서 보장)
+    private String topic = "notifications";
+    // 토픽 파티션 수 (컨슈머 병렬도 상한)
+    private int partitions = 12;
+    // 컨슈머 동시성 (파티션 수 이하)
+    private int concurrency = 4;
+    // 발송 채널 (log: 로그만 남기는 로컬 스텁. 실제 채널은 NotificationSender 구현을 다른 값으로 등록)
+    private String sender = "log";
+    // 발송기 1회 호출당 알림 수 (초당 발송 한도 이하)
+    private int sendBatchSize = 100;
+    // 전체 인스턴스 합산 초당 발송 한도
+    private int ratePerSecond = 500;
+    // 발송 실패 알림의 최대 시도 횟수 (첫 시도 포함)
+    private int maxAttempts = 3;
+    // 재시도 대기 (ms, 시도마다 2배)
+    private long retryBackoffMs = 500;
+    // 발송 중 표시(SENDING) 보관 시간 (초). 발송 도중 인스턴스가 죽으면 이 시간 뒤 재전달분이 다시 보낸다
+    private int sendingTtlSeconds = 60;
+    // 중복 발송 방지 표시(SENT) 보관 시간 (시간)
+    private int dedupTtlHours = 48;
+}
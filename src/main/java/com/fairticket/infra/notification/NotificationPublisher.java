@@ -0,0 +1,59 @@
+package com.fairticket.infra.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 알림 발행. 대상 스트림을 사용자 키로 알림 토픽에 넣기만 하고 발송은 NotificationDispatcher가 맡으므로,
+ * 호출 측(스케줄러)은 대상 수와 무관하게 Kafka 적재 시간만 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    // 동시에 응답을 기다리는 Kafka 전송 수 (프로듀서가 내부에서 묶어 보낸다)
+    private static final int SEND_CONCURRENCY = 256;
+
+    private final NotificationProperties properties;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return 발행한 알림 수 (파이프라인이 꺼져 있으면 0)
+     */
+    public Mono<Long> enqueue(Flux<NotificationMessage> messages) {
+        if (!isEnabled()) {
+            return Mono.just(0L);
+        }
+        return messages
+                .flatMap(message -> {
+                    String payload;
+                    try {
+                        payload = objectMapper.writeValueAsString(message);
+                    } catch (JsonProcessingException e) {
+                        return Mono.error(e);
+                    }
+                    // send는 메타데이터 대기·버퍼 포화 시 호출 스레드를 막으므로 이벤트 루프 밖에서 호출
+                    return Mono.fromFuture(() -> kafkaTemplate.send(
+                                    properties.getTopic(), message.getUserId().toString(), payload))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .doOnSuccess(result -> meterRegistry.counter(
+                                    "fairticket.notification.enqueued", "type", message.getType()).increment());
+                }, SEND_CONCURRENCY)
+                .count();
+    }
+}
@@ -0,0 +1,17 @@
+package com.fairticket.infra.notification;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 알림 발송 채널 (푸시/이메일/SMS 등). 구현은 fairticket.notification.sender 값으로 골라 등록한다.
+ * 묶음 단위로 받아 발송하고, 실패한 알림만 돌려준다 (디스패처가 재시도).
+ */
+public interface NotificationSender {
+
+    /**
+     * @return 발송 실패 알림 (받은 인스턴스 그대로, 모두 성공이면 빈 목록)
+     */
+    Mono<List<NotificationMessage>> send(List<NotificationMessage> batch);
+}
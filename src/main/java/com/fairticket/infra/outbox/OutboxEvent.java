@@ -0,0 +1,27 @@
+package com.fairticket.infra.outbox;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("outbox_events")
+public class OutboxEvent {
+
+    @Id
+    private Long id;
+
+    private String aggregateType;            // RESERVATION
+    private Long aggregateId;                // Kafka 메시지 키
+    private String eventType;                // OutboxEventType
+    private String payload;                  // JSON
+
+    private LocalDateTime createdAt;
+    private LocalDateTime publishedAt;       // 릴레이 발행 시각 (미발행이면 null)
+}
@@ -0,0 +1,6 @@
+package com.fairticket.infra.outbox;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+public interface OutboxEventRepository extends ReactiveCrudRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,11 @@
+package com.fairticket.infra.outbox;
+
+// 아웃박스 도메인 이벤트 종류 (aggregate는 모두 예약)
+public enum OutboxEventType {
+    PAYMENT_COMPLETED,      // 결제 완료 (라이브/추첨 공통)
+    LOTTERY_PAID,           // 추첨 예약 결제 완료 → 좌석 배정 대기
+    RESERVATION_CANCELLED,  // 미결제 취소 (결제 타임아웃, 추첨 결제 마감)
+    RESERVATION_REFUNDED,   // 사용자 취소·환불
+    LOTTERY_LOST,           // 추첨 미당첨 → 결제 환불
+    LIVE_SEATS_EXPIRED      // 라이브 좌석 홀드 만료 (예약 수량 감소, 0이면 예약 취소)
+}
@@ -0,0 +1,23 @@
+package com.fairticket.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+// 도메인 이벤트 토픽 생성
+@Configuration
+@RequiredArgsConstructor
+public class OutboxKafkaConfig {
+
+    private final OutboxProperties properties;
+
+    @Bean
+    public NewTopic domainEventsTopic() {
+        return TopicBuilder.name(properties.getTopic())
+                .partitions(properties.getPartitions())
+                .replicas(1)
+                .build();
+    }
+}
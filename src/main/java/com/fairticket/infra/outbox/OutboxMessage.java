@@ -0,0 +1,24 @@
+package com.fairticket.infra.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 도메인 이벤트 Kafka 메시지 (릴레이가 아웃박스 행을 감싸 발행). eventId로 컨슈머 측 중복 제거 가능
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+    private Long eventId;
+    private String eventType;
+    private String aggregateType;
+    private Long aggregateId;
+    private LocalDateTime occurredAt;
+    private JsonNode payload;
+}
@@ -0,0 +1,26 @@
+package com.fairticket.infra.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.outbox")
+public class OutboxProperties {
+
+    // 릴레이 실행 여부 (false면 이벤트는 테이블에만 쌓이고 발행되지 않음)
+    private boolean relayEnabled = true;
+    // 도메인 이벤트 토픽 (키=예약 ID, 같은 예약의 이벤트는 한 파티션에서 순서 보장)
+    private String topic = "domain-events";
+    // 토픽 파티션 수
+    private int partitions = 12;
+    // 릴레이 폴링 주기 (ms)
+    private int pollIntervalMs = 500;
+    // 릴레이 1회 발행 최대 건수
+    private int batchSize = 500;
+    // 발행 완료 이벤트 보관 시간 (시간). 이후 정리 (재처리는 Kafka 보존 기간 내 오프셋 재설정으로)
+    private int retentionHours = 72;
+}
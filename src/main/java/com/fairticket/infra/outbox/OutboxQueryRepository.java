@@ -0,0 +1,53 @@
+package com.fairticket.infra.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxQueryRepository {
+
+    private final DatabaseClient databaseClient;
+
+    // 미발행 이벤트 (id 순 = 커밋 순서에 가까운 발행 순서)
+    public Flux<OutboxEvent> findUnpublished(int limit) {
+        return databaseClient.sql("""
+                SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at
+                FROM outbox_events
+                WHERE published_at IS NULL
+                ORDER BY id
+                LIMIT :limit
+                """)
+                .bind("limit", limit)
+                .map((row, metadata) -> OutboxEvent.builder()
+                        .id(row.get("id", Long.class))
+                        .aggregateType(row.get("aggregate_type", String.class))
+                        .aggregateId(row.get("aggregate_id", Long.class))
+                        .eventType(row.get("event_type", String.class))
+                        .payload(row.get("payload", String.class))
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .build())
+                .all();
+    }
+
+    public Mono<Long> markPublished(List<Long> ids, LocalDateTime now) {
+        return databaseClient.sql("UPDATE outbox_events SET published_at = :now WHERE id = ANY(:ids)")
+                .bind("ids", ids.toArray(new Long[0]))
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deletePublishedBefore(LocalDateTime threshold) {
+        return databaseClient.sql("DELETE FROM outbox_events WHERE published_at < :threshold")
+                .bind("threshold", threshold)
+                .fetch()
+                .rowsUpdated();
+    }
+}
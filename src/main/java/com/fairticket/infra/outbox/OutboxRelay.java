@@ -0,0 +1,111 @@
+package com.fairticket.infra.outbox;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 릴레이: 미발행 이벤트를 id 순으로 묶어 Kafka에 발행하고 발행 시각을 기록한다.
+ * 분산 락으로 한 인스턴스만 발행해 같은 예약(메시지 키)의 이벤트 순서를 지킨다.
+ * 묶음 중 하나라도 실패하면 발행 표시를 하지 않고 다음 주기에 묶음 전체를 다시 보낸다 (최소 1회, 컨슈머는 eventId로 중복 제거).
+ * 메시지로 만들 수 없는 행(깨진 payload)은 재시도해도 같으므로 오류로 남기고 발행 표시해 묶음이 막히지 않게 한다.
+ * 락은 임대 시간 없이 잡아 Redisson 감시(watchdog)가 작업 중 연장하므로, 조회·전송·표시가 길어져도 다른 인스턴스와 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final long SEND_TIMEOUT_SECONDS = 20;
+
+    private final OutboxProperties properties;
+    private final OutboxQueryRepository outboxQueryRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${fairticket.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        RLock lock = redissonClient.getLock(RedisKeyGenerator.outboxRelayLockKey());
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock();
+            if (!acquired) return;
+
+            List<OutboxEvent> events = outboxQueryRepository.findUnpublished(properties.getBatchSize())
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+            if (events == null || events.isEmpty()) {
+                return;
+            }
+            List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+            for (OutboxEvent event : events) {
+                String message;
+                try {
+                    message = toMessage(event);
+                } catch (Exception e) {
+                    log.error("아웃박스 메시지 변환 실패, 발행 표시 후 건너뜀: id={}, type={}, payload={}",
+                            event.getId(), event.getEventType(), event.getPayload(), e);
+                    continue;
+                }
+                sends.add(kafkaTemplate.send(properties.getTopic(), event.getAggregateId().toString(), message));
+            }
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            outboxQueryRepository.markPublished(events.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now())
+                    .block(Duration.ofSeconds(10));
+            log.debug("아웃박스 발행: events={}, lastId={}", events.size(), events.get(events.size() - 1).getId());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 오류 (다음 주기에 재발행): {}", e.getMessage());
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 발행 완료 이벤트 정리
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void purgePublished() {
+        outboxQueryRepository.deletePublishedBefore(LocalDateTime.now().minusHours(properties.getRetentionHours()))
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("발행 완료 아웃박스 정리: {}건", deleted);
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("아웃박스 정리 오류: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    private String toMessage(OutboxEvent event) throws Exception {
+        return objectMapper.writeValueAsString(OutboxMessage.builder()
+                .eventId(event.getId())
+                .eventType(event.getEventType())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .occurredAt(event.getCreatedAt())
+                .payload(objectMapper.readTree(event.getPayload()))
+                .build());
+    }
+}
@@ -0,0 +1,40 @@
+package com.fairticket.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 트랜잭션 아웃박스 기록. 상태 변경과 같은 R2DBC 트랜잭션 안에서 호출해야
+ * 커밋된 변경만 이벤트로 남는다 (TransactionalOperator로 묶을 것). 발행은 OutboxRelay가 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final String AGGREGATE_RESERVATION = "RESERVATION";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> append(OutboxEventType type, Long reservationId, Map<String, Object> payload) {
+        return Mono.fromCallable(() -> toJson(payload))
+                .flatMap(json -> outboxEventRepository.save(OutboxEvent.builder()
+                        .aggregateType(AGGREGATE_RESERVATION)
+                        .aggregateId(reservationId)
+                        .eventType(type.name())
+                        .payload(json)
+                        .createdAt(LocalDateTime.now())
+                        .build()))
+                .then();
+    }
+
+    private String toJson(Map<String, Object> payload) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,16 @@
+package com.fairticket.infra.redis;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 지연 작업 처리기. 만기된 같은 종류 작업을 묶음으로 받는다.
+ * 처리 시한 초과 시 재전달될 수 있으므로 멱등하게 구현할 것
+ */
+public interface DelayedJobHandler {
+
+    DelayedJobType type();
+
+    Mono<Void> handle(List<String> payloads);
+}
@@ -0,0 +1,24 @@
+package com.fairticket.infra.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "fairticket.delayed-job")
+public class DelayedJobProperties {
+
+    // 작업 ZSET 샤드 수
+    private int shards = 8;
+    // 만기 작업 폴링 주기 (ms)
+    private int pollIntervalMs = 200;
+    // 샤드당 1회 점유 최대 작업 수
+    private int batchSize = 200;
+    // 점유 후 ack 없이 이 시간이 지나면 재전달 (초)
+    private int visibilityTimeoutSeconds = 30;
+    // 최대 점유 횟수. 이만큼 실패하면 데드레터(delayed-jobs:{shard}:dead)로 옮긴다
+    private int maxAttempts = 5;
+}
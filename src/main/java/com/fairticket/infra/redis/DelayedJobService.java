@@ -0,0 +1,75 @@
+package com.fairticket.infra.redis;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내구성 있는 지연 작업 등록/취소 (Redis ZSET, score=만기 시각).
+ * 키스페이스 만료 알림과 달리 유실·중복 전달이 없고, DelayedJobWorker가 만기 시각에 묶음으로 실행한다.
+ * 같은 작업을 다시 등록하면 만기 시각만 갱신된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DelayedJobService {
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final DelayedJobProperties properties;
+
+    public Mono<Void> schedule(DelayedJobType type, String payload, Duration delay) {
+        String member = member(type, payload);
+        long dueAt = System.currentTimeMillis() + delay.toMillis();
+        return redisTemplate.opsForZSet()
+                .add(RedisKeyGenerator.delayedJobsKey(shardOf(member)), member, dueAt)
+                .doOnSuccess(added -> log.debug("지연 작업 등록: {}, dueAt={}", member, dueAt))
+                .then();
+    }
+
+    public Mono<Void> cancel(DelayedJobType type, String payload) {
+        String member = member(type, payload);
+        int shard = shardOf(member);
+        return redisTemplate.opsForZSet().remove(RedisKeyGenerator.delayedJobsKey(shard), member)
+                .then(redisTemplate.opsForZSet().remove(RedisKeyGenerator.delayedJobsProcessingKey(shard), member))
+                .then(redisTemplate.opsForHash().remove(RedisKeyGenerator.delayedJobsAttemptsKey(shard), member))
+                .then();
+    }
+
+    // 일괄 취소: 샤드별로 ZREM 한 번씩
+    public Mono<Void> cancelAll(DelayedJobType type, Collection<String> payloads) {
+        Map<Integer, List<String>> membersByShard = new HashMap<>();
+        for (String payload : payloads) {
+            String member = member(type, payload);
+            membersByShard.computeIfAbsent(shardOf(member), k -> new ArrayList<>()).add(member);
+        }
+        return Flux.fromIterable(membersByShard.entrySet())
+                .flatMap(entry -> {
+                    Object[] members = entry.getValue().toArray();
+                    return redisTemplate.opsForZSet().remove(RedisKeyGenerator.delayedJobsKey(entry.getKey()), members)
+                            .then(redisTemplate.opsForZSet().remove(
+                                    RedisKeyGenerator.delayedJobsProcessingKey(entry.getKey()), members))
+                            .then(redisTemplate.opsForHash().remove(
+                                    RedisKeyGenerator.delayedJobsAttemptsKey(entry.getKey()), members));
+                })
+                .then();
+    }
+
+    int shardOf(String member) {
+        return Math.floorMod(member.hashCode(), properties.getShards());
+    }
+
+    static String member(DelayedJobType type, String payload) {
+        return type.name() + ":" + payload;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fairticket.infra.redis;
+
+// 지연 작업 종류. payload 형식은 종류별로 정한다
+public enum DelayedJobType {
+    PAYMENT_TIMEOUT,  // payload = reservationId
+    HOLD_EXPIRY       // payload = scheduleId|zone|seatNumber
+}
@@ -0,0 +1,187 @@
+package com.fairticket.infra.redis;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지연 작업 실행기. 모든 인스턴스가 샤드를 돌며 만기 작업을 Lua로 점유(claim)하고,
+ * 종류별로 묶어 처리기에 넘긴 뒤 성공한 묶음만 ack 한다.
+ * ack 되지 않은 작업은 처리 시한이 지나면 재전달되고, 점유 횟수가 최대치에 이른 묶음이 다시 실패하면
+ * 데드레터(delayed-jobs:{shard}:dead)로 옮긴다. 종류를 알 수 없거나 처리기가 없는 작업은 바로 데드레터로 보낸다.
+ * 폴링은 @Scheduled 공용 스레드가 아닌 자체 주기(Flux.interval)로 돌아, 블로킹 스케줄 작업에 밀리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelayedJobWorker {
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final DelayedJobProperties properties;
+    private final List<DelayedJobHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<DelayedJobType, DelayedJobHandler> handlerByType = new EnumMap<>(DelayedJobType.class);
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> claimScript;
+    private RedisScript<Long> settleScript;
+    private Disposable subscription;
+
+    @PostConstruct
+    public void init() {
+        claimScript = RedisScript.of(new ClassPathResource("scripts/delayed_job_claim.lua"), List.class);
+        settleScript = RedisScript.of(new ClassPathResource("scripts/delayed_job_settle.lua"), Long.class);
+        for (DelayedJobHandler handler : handlers) {
+            handlerByType.put(handler.type(), handler);
+        }
+        // 이전 폴링이 끝나지 않았으면 그 사이 틱은 버린다
+        subscription = Flux.interval(Duration.ofMillis(properties.getPollIntervalMs()))
+                .onBackpressureDrop()
+                .concatMap(tick -> poll()
+                        .onErrorResume(e -> {
+                            log.warn("지연 작업 폴링 오류: {}", e.getMessage());
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Mono<Void> poll() {
+        int shards = properties.getShards();
+        // 인스턴스마다 시작 샤드를 달리해 경합을 줄인다
+        int offset = ThreadLocalRandom.current().nextInt(shards);
+        return Flux.range(0, shards)
+                .map(i -> (i + offset) % shards)
+                .concatMap(shard -> claim(shard).flatMap(attempts -> fire(shard, attempts)))
+                .then();
+    }
+
+    // 반환: member → 점유 횟수 (점유 순서 유지)
+    @SuppressWarnings("unchecked")
+    private Mono<Map<String, Integer>> claim(int shard) {
+        return redisTemplate.execute(
+                        claimScript,
+                        List.of(RedisKeyGenerator.delayedJobsKey(shard),
+                                RedisKeyGenerator.delayedJobsProcessingKey(shard),
+                                RedisKeyGenerator.delayedJobsAttemptsKey(shard)),
+                        List.of(
+                                String.valueOf(System.currentTimeMillis()),
+                                String.valueOf(properties.getBatchSize()),
+                                String.valueOf(properties.getVisibilityTimeoutSeconds() * 1000L)))
+                .next()
+                .map(result -> {
+                    List<Object> flat = (List<Object>) result;
+                    Map<String, Integer> attempts = new LinkedHashMap<>(flat.size());
+                    for (int i = 0; i + 1 < flat.size(); i += 2) {
+                        attempts.put(flat.get(i).toString(), Integer.parseInt(flat.get(i + 1).toString()));
+                    }
+                    return attempts;
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    private Mono<Void> fire(int shard, Map<String, Integer> attempts) {
+        if (attempts.isEmpty()) {
+            return Mono.empty();
+        }
+        Map<DelayedJobType, List<String>> membersByType = new EnumMap<>(DelayedJobType.class);
+        List<String> unknown = new ArrayList<>();
+        for (String member : attempts.keySet()) {
+            int sep = member.indexOf(':');
+            try {
+                membersByType.computeIfAbsent(DelayedJobType.valueOf(member.substring(0, sep)), t -> new ArrayList<>())
+                        .add(member);
+            } catch (IllegalArgumentException | StringIndexOutOfBoundsException e) {
+                unknown.add(member);
+            }
+        }
+        Mono<Void> discardUnknown = unknown.isEmpty()
+                ? Mono.empty()
+                : deadLetter(shard, "unknown", unknown);
+        return discardUnknown.then(Flux.fromIterable(membersByType.entrySet())
+                .flatMap(entry -> {
+                    DelayedJobHandler handler = handlerByType.get(entry.getKey());
+                    if (handler == null) {
+                        return deadLetter(shard, entry.getKey().name(), entry.getValue());
+                    }
+                    List<String> payloads = entry.getValue().stream()
+                            .map(member -> member.substring(member.indexOf(':') + 1))
+                            .toList();
+                    return Mono.defer(() -> handler.handle(payloads))
+                            .thenReturn(true)
+                            .onErrorResume(e -> onFailure(shard, entry.getKey(), entry.getValue(), attempts, e)
+                                    .thenReturn(false))
+                            .flatMap(handled -> handled
+                                    ? settle(shard, false, entry.getValue())
+                                            .doOnSuccess(v -> log.info("지연 작업 실행: type={}, count={}",
+                                                    entry.getKey(), payloads.size()))
+                                            .onErrorResume(e -> {
+                                                // ack 실패 시 처리 시한 후 재전달 (처리기는 멱등)
+                                                log.warn("지연 작업 ack 실패: type={}, error={}", entry.getKey(), e.getMessage());
+                                                return Mono.empty();
+                                            })
+                                    : Mono.<Void>empty());
+                })
+                .then());
+    }
+
+    // 재시도 가능한 작업은 ack 하지 않아 처리 시한 후 재전달, 점유 횟수를 소진한 작업은 데드레터
+    private Mono<Void> onFailure(int shard, DelayedJobType type, List<String> members,
+                                 Map<String, Integer> attempts, Throwable error) {
+        List<String> exhausted = members.stream()
+                .filter(member -> attempts.getOrDefault(member, 0) >= properties.getMaxAttempts())
+                .toList();
+        log.warn("지연 작업 실패: type={}, count={}, exhausted={}, error={}",
+                type, members.size(), exhausted.size(), error.getMessage());
+        return exhausted.isEmpty() ? Mono.empty() : deadLetter(shard, type.name(), exhausted);
+    }
+
+    private Mono<Void> deadLetter(int shard, String type, List<String> members) {
+        log.error("지연 작업 데드레터: type={}, count={}, first={}", type, members.size(), members.get(0));
+        meterRegistry.counter("fairticket.delayedjob.deadletter", "type", type).increment(members.size());
+        return settle(shard, true, members)
+                .onErrorResume(e -> {
+                    // 처리 중으로 남으므로 처리 시한 후 재전달되어 다시 데드레터 대상이 된다
+                    log.warn("지연 작업 데드레터 기록 실패: type={}, error={}", type, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> settle(int shard, boolean deadLetter, List<String> members) {
+        List<String> args = new ArrayList<>(members.size() + 2);
+        args.add(deadLetter ? "1" : "0");
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.addAll(members);
+        return redisTemplate.execute(
+                        settleScript,
+                        List.of(RedisKeyGenerator.delayedJobsProcessingKey(shard),
+                                RedisKeyGenerator.delayedJobsAttemptsKey(shard),
+                                RedisKeyGenerator.delayedJobsDeadKey(shard)),
+                        args)
+                .then();
+    }
+}
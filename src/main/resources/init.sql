@@ -118,6 +118,41 @@ CREATE TABLE IF NOT EXISTS payments (
 CREATE UNIQUE INDEX IF NOT EXISTS uq_payments_reservation_completed
     ON payments(reservation_id) WHERE status = 'COMPLETED';
 
+-- 추첨 좌석 배정 작업 (회차당 1건). 청크 체크포인트(next_chunk)는 청크 반영과 같은 문장에서 전진
+CREATE TABLE IF NOT EXISTS lottery_assignment_jobs (
+    schedule_id BIGINT PRIMARY KEY REFERENCES schedules(id),
+    seed BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING',
+    total_chunks INT NOT NULL,
+    next_chunk INT NOT NULL DEFAULT 0,
+    total_seats INT NOT NULL,
+    assigned_seats INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- 추첨 배정 계획 (작업 생성 시 셔플 결과를 고정, 좌석당 1행)
+CREATE TABLE IF NOT EXISTS lottery_assignment_plan (
+    schedule_id BIGINT NOT NULL REFERENCES lottery_assignment_jobs(schedule_id),
+    chunk_no INT NOT NULL,
+    reservation_id BIGINT NOT NULL REFERENCES reservations(id),
+    zone VARCHAR(20) NOT NULL,
+    seat_number VARCHAR(20) NOT NULL,
+    PRIMARY KEY (schedule_id, zone, seat_number)
+);
+
+-- 트랜잭션 아웃박스 (상태 변경과 같은 트랜잭션에 기록, 릴레이가 Kafka로 발행)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(30) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP
+);
+
 -- =============================================
 -- 인덱스
 -- =============================================
@@ -132,8 +167,12 @@ CREATE INDEX IF NOT EXISTS idx_reservations_user ON reservations(user_id);
 CREATE INDEX IF NOT EXISTS idx_reservations_schedule ON reservations(schedule_id);
 CREATE INDEX IF NOT EXISTS idx_reservations_status ON reservations(status);
 CREATE INDEX IF NOT EXISTS idx_reservation_seats_reservation ON reservation_seats(reservation_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_seats_pending ON reservation_seats(id) WHERE status = 'PENDING';
 CREATE INDEX IF NOT EXISTS idx_payments_reservation ON payments(reservation_id);
 CREATE INDEX IF NOT EXISTS idx_payments_status ON payments(status);
+CREATE INDEX IF NOT EXISTS idx_lottery_assignment_plan_chunk ON lottery_assignment_plan(schedule_id, chunk_no);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events(id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published ON outbox_events(published_at) WHERE published_at IS NOT NULL;
 
 -- =============================================
 -- 테스트 데이터
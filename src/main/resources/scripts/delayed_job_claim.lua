@@ -0,0 +1,32 @@
+-- delayed_job_claim.lua
+-- 지연 작업 샤드에서 만기 작업을 원자적으로 점유 (대기 ZSET → 처리 중 ZSET), 작업별 시도 횟수 증가
+--
+-- KEYS[1] = delayed-jobs:{shard}             (SortedSet: score=만기 시각 ms, member=TYPE:payload)
+-- KEYS[2] = delayed-jobs:{shard}:processing  (SortedSet: score=처리 시한 ms)
+-- KEYS[3] = delayed-jobs:{shard}:attempts    (Hash: field=member, value=점유 횟수)
+-- ARGV[1] = now (ms)
+-- ARGV[2] = batchSize
+-- ARGV[3] = visibilityTimeout (ms)
+-- 반환: 점유한 작업 [member1, attempts1, member2, attempts2, ...]
+
+local now = tonumber(ARGV[1])
+local batchSize = tonumber(ARGV[2])
+local deadline = now + tonumber(ARGV[3])
+
+-- 1. 처리 시한이 지난 작업은 대기 ZSET으로 되돌림 (처리 중 장애 복구)
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now, 'LIMIT', 0, batchSize)
+for _, member in ipairs(expired) do
+    redis.call('ZREM', KEYS[2], member)
+    redis.call('ZADD', KEYS[1], 'NX', now, member)
+end
+
+-- 2. 만기 작업 점유
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now, 'LIMIT', 0, batchSize)
+local result = {}
+for _, member in ipairs(due) do
+    redis.call('ZREM', KEYS[1], member)
+    redis.call('ZADD', KEYS[2], deadline, member)
+    table.insert(result, member)
+    table.insert(result, tostring(redis.call('HINCRBY', KEYS[3], member, 1)))
+end
+return result
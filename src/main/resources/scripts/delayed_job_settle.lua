@@ -0,0 +1,23 @@
+-- delayed_job_settle.lua
+-- 점유한 지연 작업 종료: 처리 중 ZSET·시도 횟수에서 지우고, 데드레터면 데드레터 ZSET에 남긴다
+--
+-- KEYS[1] = delayed-jobs:{shard}:processing  (SortedSet: score=처리 시한 ms)
+-- KEYS[2] = delayed-jobs:{shard}:attempts    (Hash: field=member, value=점유 횟수)
+-- KEYS[3] = delayed-jobs:{shard}:dead        (SortedSet: score=데드레터 시각 ms)
+-- ARGV[1] = 1이면 데드레터, 0이면 ack
+-- ARGV[2] = now (ms)
+-- ARGV[3..] = member 목록
+-- 반환: 처리 중 ZSET에서 지운 수
+
+local deadLetter = ARGV[1] == '1'
+local now = tonumber(ARGV[2])
+local removed = 0
+for i = 3, #ARGV do
+    local member = ARGV[i]
+    removed = removed + redis.call('ZREM', KEYS[1], member)
+    redis.call('HDEL', KEYS[2], member)
+    if deadLetter then
+        redis.call('ZADD', KEYS[3], now, member)
+    end
+end
+return removed
@@ -0,0 +1,17 @@
+-- inventory_snapshot.lua
+-- 단일 작성자 좌석 엔진 스냅샷 기록 + 그 이전 저널 잘라내기 (원자적)
+--
+-- KEYS[1] = inventory-snapshot:{scheduleId}  (Hash)
+-- KEYS[2] = inventory-journal:{scheduleId}   (Stream)
+-- 두 키 모두 회차 ID를 해시 태그로 두어 클러스터에서도 같은 슬롯
+-- ARGV[1] = 스냅샷 시점의 마지막 저널 ID
+-- ARGV[2..n] = field, value 쌍 (zone:{zone} → 좌석 목록, holds → 홀드 목록)
+-- 반환: 잘라낸 저널 엔트리 수
+
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'journalId', ARGV[1])
+for i = 2, #ARGV, 2 do
+    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+end
+-- MINID는 해당 ID 미만만 지운다. 스냅샷 시점 엔트리는 재생 시 배타 범위로 건너뛴다
+return redis.call('XTRIM', KEYS[2], 'MINID', ARGV[1])
@@ -0,0 +1,34 @@
+-- live_seat_claim.lua
+-- 라이브 좌석 선점: 마감 플래그 확인 + 풀 제거 + 카운터 차감 + 홀드 설정을 원자적으로 수행
+-- 참여 원장(트랙·1인 한도)은 user_ledger_reserve.lua로 이 스크립트와 동시에 예약하고, 한쪽만 성공하면 호출 측이 되돌린다.
+-- 키가 여러 슬롯에 걸치므로 단일 Redis(docker-compose 구성) 전제다.
+--
+-- KEYS[1] = seats:{scheduleId}:{zone}[:{shard}]  (Set)
+-- KEYS[2] = seat-count:{poolKey}                 (String: 풀 잔여석)
+-- KEYS[3] = hold:{scheduleId}:{zone}:{seatNumber}
+-- KEYS[4] = live-closed:{scheduleId}
+-- KEYS[5] = seats-rebuilding:{scheduleId}        (풀 교체 중 표시)
+-- ARGV[1] = seatNumber
+-- ARGV[2] = userId
+-- ARGV[3] = 홀드 TTL (ms)
+-- 반환: {결과, 풀 잔여석}
+--   결과 1=선점, 0=이미 선점된 좌석, -1=라이브 마감, -2=풀 교체 중 (실패 시·카운터 없으면 잔여석은 -1)
+
+if redis.call('EXISTS', KEYS[4]) == 1 then
+    return { -1, -1 }
+end
+-- 교체 중에 뺀 좌석은 RENAME으로 되살아나므로 교체가 끝날 때까지 선점하지 않는다
+if redis.call('EXISTS', KEYS[5]) == 1 then
+    return { -2, -1 }
+end
+-- 홀드 키를 먼저 확인해 풀 제거 후 되돌리는 경우를 없앤다
+if redis.call('EXISTS', KEYS[3]) == 1 or redis.call('SREM', KEYS[1], ARGV[1]) == 0 then
+    return { 0, -1 }
+end
+redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[3])
+
+local poolLeft = -1
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    poolLeft = redis.call('DECR', KEYS[2])
+end
+return { 1, poolLeft }
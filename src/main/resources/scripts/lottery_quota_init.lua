@@ -0,0 +1,17 @@
+-- lottery_quota_init.lua
+-- 추첨 잔여 쿼터 초기화 (seats 기준 등급별 절반 - 기존 추첨 예약 수량). 이미 있으면 그대로 둔다
+--
+-- KEYS[1] = lottery-quota:{scheduleId}  (Hash: grade → 남은 수량)
+-- ARGV[1] = TTL (초)
+-- ARGV[2..] = grade, 남은 수량 쌍
+-- 반환: 1=초기화, 0=이미 있음
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+if #ARGV < 3 then
+    return 0
+end
+redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,12 @@
+-- lottery_quota_release.lua
+-- 추첨 쿼터 반환 (취소·만료·예약 실패). 쿼터가 없으면 다음 초기화 때 DB 기준으로 다시 계산되므로 무시
+--
+-- KEYS[1] = lottery-quota:{scheduleId}  (Hash: grade → 남은 수량)
+-- ARGV[1] = grade
+-- ARGV[2] = 수량
+-- 반환: 반환 후 남은 수량, 쿼터가 없으면 -1
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+    return -1
+end
+return redis.call('HINCRBY', KEYS[1], ARGV[1], tonumber(ARGV[2]))
@@ -0,0 +1,17 @@
+-- lottery_quota_take.lua
+-- 추첨 쿼터 차감 (잔여 확인 + 차감을 원자적으로 수행)
+--
+-- KEYS[1] = lottery-quota:{scheduleId}  (Hash: grade → 남은 수량)
+-- ARGV[1] = grade
+-- ARGV[2] = 수량
+-- 반환: 1=차감, 0=쿼터 부족(또는 없는 등급), -1=쿼터 미초기화
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local remaining = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+if remaining < tonumber(ARGV[2]) then
+    return 0
+end
+redis.call('HINCRBY', KEYS[1], ARGV[1], -tonumber(ARGV[2]))
+return 1
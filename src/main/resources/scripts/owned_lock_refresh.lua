@@ -0,0 +1,12 @@
+-- owned_lock_refresh.lua
+-- 소유자 확인 후 잠금 TTL 연장 (다른 실행이 잡은 잠금은 건드리지 않는다)
+--
+-- KEYS[1] = 잠금 키  (String: value=소유자 ID)
+-- ARGV[1] = 소유자 ID
+-- ARGV[2] = TTL (ms)
+-- 반환: 연장했으면 1, 소유자가 아니거나 잠금이 없으면 0
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+return redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2]))
@@ -0,0 +1,12 @@
+-- owned_lock_release.lua
+-- 소유자 확인 후 잠금 해제 (만료 후 다른 실행이 잡은 잠금은 지우지 않는다)
+-- 선점에 실패한 라이브 홀드 회수에도 쓴다 (value=userId)
+--
+-- KEYS[1] = 잠금 키  (String: value=소유자 ID)
+-- ARGV[1] = 소유자 ID
+-- 반환: 해제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+return redis.call('DEL', KEYS[1])
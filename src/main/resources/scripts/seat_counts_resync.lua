@@ -0,0 +1,11 @@
+-- seat_counts_resync.lua
+-- 좌석 풀 하나를 SCARD 해 해당 풀 잔여석 카운터를 다시 설정
+-- (풀 교체·엔진 복귀·정합성 점검 후 풀마다 호출)
+--
+-- KEYS[1] = seats:{scheduleId}:{zone}[:{shard}]  (Set)
+-- KEYS[2] = seat-count:{poolKey}                 (String, 풀 키 해시 태그로 같은 슬롯)
+-- 반환: 풀 잔여석 수
+
+local count = redis.call('SCARD', KEYS[1])
+redis.call('SET', KEYS[2], count)
+return count
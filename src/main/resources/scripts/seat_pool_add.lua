@@ -0,0 +1,24 @@
+-- seat_pool_add.lua
+-- 좌석 풀에 좌석 반환 + 해당 풀 잔여석 카운터 증가를 원자적으로 수행
+--
+-- KEYS[1] = seats:{scheduleId}:{zone}[:{shard}]  (Set)
+-- KEYS[2] = seat-count:{poolKey}                 (String, 풀 키 해시 태그로 같은 슬롯)
+-- ARGV[1..] = seatNumbers
+-- 반환: {풀 잔여석, 실제로 추가된 좌석 번호...} (카운터가 없으면 잔여석은 -1)
+
+local result = { -1 }
+for i = 1, #ARGV do
+    if redis.call('SADD', KEYS[1], ARGV[i]) == 1 then
+        result[#result + 1] = ARGV[i]
+    end
+end
+local added = #result - 1
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return result
+end
+if added > 0 then
+    result[1] = redis.call('INCRBY', KEYS[2], added)
+else
+    result[1] = tonumber(redis.call('GET', KEYS[2]))
+end
+return result
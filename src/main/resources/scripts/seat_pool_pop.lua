@@ -0,0 +1,15 @@
+-- seat_pool_pop.lua
+-- 좌석 풀에서 임의 좌석 1개 추출 + 해당 풀 잔여석 카운터 차감 (추첨 배정)
+--
+-- KEYS[1] = seats:{scheduleId}:{zone}[:{shard}]  (Set)
+-- KEYS[2] = seat-count:{poolKey}                 (String, 풀 키 해시 태그로 같은 슬롯)
+-- 반환: {좌석 번호(풀이 비었으면 ''), 풀 잔여석} (카운터가 없으면 잔여석은 -1)
+
+local seat = redis.call('SPOP', KEYS[1])
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return { seat or '', -1 }
+end
+if seat then
+    return { seat, redis.call('DECR', KEYS[2]) }
+end
+return { '', tonumber(redis.call('GET', KEYS[2])) }
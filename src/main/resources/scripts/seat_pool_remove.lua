@@ -0,0 +1,25 @@
+-- seat_pool_remove.lua
+-- 좌석 풀에서 좌석 제거 + 해당 풀 잔여석 카운터 차감을 원자적으로 수행
+--
+-- KEYS[1] = seats:{scheduleId}:{zone}[:{shard}]  (Set)
+-- KEYS[2] = seat-count:{poolKey}                 (String, 풀 키 해시 태그로 같은 슬롯)
+-- ARGV[1..] = seatNumbers
+-- 반환: {풀 잔여석, 실제로 제거된 좌석 번호...} (카운터가 없으면 잔여석은 -1)
+
+local result = { -1 }
+for i = 1, #ARGV do
+    if redis.call('SREM', KEYS[1], ARGV[i]) == 1 then
+        result[#result + 1] = ARGV[i]
+    end
+end
+local removed = #result - 1
+-- 카운터가 아직 만들어지지 않았으면 (풀 구축 전) 건드리지 않음
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    return result
+end
+if removed > 0 then
+    result[1] = redis.call('DECRBY', KEYS[2], removed)
+else
+    result[1] = tonumber(redis.call('GET', KEYS[2]))
+end
+return result
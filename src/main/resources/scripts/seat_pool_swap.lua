@@ -0,0 +1,16 @@
+-- seat_pool_swap.lua
+-- 임시 키에 적재한 좌석 풀을 운영 키로 원자 교체 (교체 중 빈 풀 노출 없음)
+--
+-- KEYS = [build1, live1, build2, live2, ...]  (seats-build:{poolKey}:{buildId} → poolKey)
+-- 클러스터에서는 같은 슬롯인 한 쌍씩 호출한다
+-- 반환: 교체된 풀 수
+
+local swapped = 0
+for i = 1, #KEYS, 2 do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('RENAME', KEYS[i], KEYS[i + 1])
+        redis.call('PERSIST', KEYS[i + 1])
+        swapped = swapped + 1
+    end
+end
+return swapped
@@ -0,0 +1,21 @@
+-- user_ledger_hydrate.lua
+-- 사용자 참여 원장을 DB 집계값으로 채움. 이미 있으면 (동시 요청이 먼저 채움) 그대로 둔다
+--
+-- KEYS[1] = user-ledger:{scheduleId}:{userId}  (Hash)
+-- ARGV[1] = track (LIVE/LOTTERY/'')
+-- ARGV[2] = live 수량
+-- ARGV[3] = lottery 수량
+-- ARGV[4] = lotteryPaid (0/1)
+-- ARGV[5] = TTL (초)
+-- ARGV[6] = 라이브 예약 ID (없으면 '')
+-- 반환: 1=채움, 0=이미 있음
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'track', ARGV[1], 'live', ARGV[2], 'lottery', ARGV[3], 'lotteryPaid', ARGV[4])
+if ARGV[6] ~= '' then
+    redis.call('HSET', KEYS[1], 'liveReservationId', ARGV[6])
+end
+redis.call('EXPIRE', KEYS[1], ARGV[5])
+return 1
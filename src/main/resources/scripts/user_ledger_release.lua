@@ -0,0 +1,23 @@
+-- user_ledger_release.lua
+-- 참여 원장 수량 차감 (취소·만료·예약 실패 보상). 원장이 없으면 다음 조회 때 DB에서 다시 채워지므로 무시
+--
+-- KEYS[1] = user-ledger:{scheduleId}:{userId}  (Hash)
+-- ARGV[1] = track (LIVE/LOTTERY)
+-- ARGV[2] = 수량
+-- ARGV[3] = 1이면 트랙도 비움 (예약 생성 자체가 실패한 경우)
+--           2이면 차감 후 수량이 0일 때만 비움 (첫 좌석 저장이 실패한 경우, 보유 좌석이 남아 있으면 트랙 유지)
+-- 반환: 차감 후 수량, 원장이 없으면 -1
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+local field = string.lower(ARGV[1])
+local left = redis.call('HINCRBY', KEYS[1], field, -tonumber(ARGV[2]))
+if left < 0 then
+    redis.call('HSET', KEYS[1], field, 0)
+    left = 0
+end
+if ARGV[3] == '1' or (ARGV[3] == '2' and left == 0) then
+    redis.call('HSET', KEYS[1], 'track', '')
+end
+return left
@@ -0,0 +1,29 @@
+-- user_ledger_reserve.lua
+-- 참여 원장에서 트랙 수량 예약 (트랙 정책·1인 한도 검사 + 증가를 원자적으로 수행)
+--
+-- KEYS[1] = user-ledger:{scheduleId}:{userId}  (Hash)
+-- ARGV[1] = track (LIVE/LOTTERY)
+-- ARGV[2] = 수량
+-- ARGV[3] = 1인 최대 수량
+-- ARGV[4] = TTL (초)
+-- 반환: 1=예약, -2=이미 참여(다른 트랙, 추첨 재신청, 추첨 결제자의 라이브), -3=원장 없음, -4=한도 초과
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -3
+end
+local track = redis.call('HGET', KEYS[1], 'track') or ''
+if track ~= '' and (track ~= ARGV[1] or ARGV[1] == 'LOTTERY') then
+    return -2
+end
+if ARGV[1] == 'LIVE' and redis.call('HGET', KEYS[1], 'lotteryPaid') == '1' then
+    return -2
+end
+local field = string.lower(ARGV[1])
+local current = tonumber(redis.call('HGET', KEYS[1], field) or '0')
+if current + tonumber(ARGV[2]) > tonumber(ARGV[3]) then
+    return -4
+end
+redis.call('HSET', KEYS[1], 'track', ARGV[1])
+redis.call('HINCRBY', KEYS[1], field, ARGV[2])
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+return 1
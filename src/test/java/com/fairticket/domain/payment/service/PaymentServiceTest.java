@@ -0,0 +1,130 @@
+package com.fairticket.domain.payment.service;
+
+import com.fairticket.domain.payment.dto.WebhookRequest;
+import com.fairticket.domain.payment.entity.Payment;
+import com.fairticket.domain.payment.entity.PaymentStatus;
+import com.fairticket.domain.payment.repository.PaymentQueryRepository;
+import com.fairticket.domain.payment.repository.PaymentRepository;
+import com.fairticket.domain.reservation.entity.Reservation;
+import com.fairticket.domain.reservation.entity.ReservationStatus;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.domain.reservation.service.LotteryTrackService;
+import com.fairticket.domain.reservation.service.ReservationWriteBehindService;
+import com.fairticket.domain.seat.entity.SeatStatus;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.domain.seat.service.SeatHoldService;
+import com.fairticket.domain.seat.service.SeatInventoryEngine;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.infra.outbox.OutboxEventType;
+import com.fairticket.infra.outbox.OutboxService;
+import com.fairticket.infra.redis.DelayedJobService;
+import com.fairticket.infra.redis.DelayedJobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceTest {
+
+	private static final Long SCHEDULE_ID = 1L;
+	private static final Long RESERVATION_ID = 10L;
+
+	private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+	private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+	private final SeatRepository seatRepository = mock(SeatRepository.class);
+	private final PortOneClient portOneClient = mock(PortOneClient.class);
+	private final PaymentTimerService timerService = mock(PaymentTimerService.class);
+	private final OutboxService outboxService = mock(OutboxService.class);
+	private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+	// seats.status (zone-seatNumber → status)
+	private final Map<String, String> seats = new HashMap<>();
+	private PaymentService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		service = new PaymentService(paymentRepository, mock(PaymentQueryRepository.class), reservationRepository,
+				seatRepository, portOneClient, timerService, mock(LotteryTrackService.class),
+				mock(ReservationWriteBehindService.class), outboxService, transactionalOperator);
+		seats.put("A-1", SeatStatus.HELD.name());
+		seats.put("A-2", SeatStatus.HELD.name());
+
+		Payment payment = Payment.builder().id(100L).reservationId(RESERVATION_ID).merchantUid("FAIR_1")
+				.amount(300000).status(PaymentStatus.PENDING.name()).build();
+		Reservation reservation = Reservation.builder().id(RESERVATION_ID).userId(7L).scheduleId(SCHEDULE_ID)
+				.grade("VIP").quantity(2).trackType(TrackType.LIVE.name()).status(ReservationStatus.PENDING.name()).build();
+		when(paymentRepository.findByMerchantUid("FAIR_1")).thenReturn(Mono.just(payment));
+		when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+		when(portOneClient.verifyPayment("imp_1")).thenReturn(Mono.just(
+				PortOneClient.PaymentVerificationResult.builder().impUid("imp_1").amount(300000).build()));
+		when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Mono.just(reservation));
+		when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+		when(outboxService.append(eq(OutboxEventType.PAYMENT_COMPLETED), eq(RESERVATION_ID), anyMap())).thenReturn(Mono.empty());
+		when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(timerService.cancelPaymentTimer(RESERVATION_ID)).thenReturn(Mono.just(true));
+		// 예약 좌석 A-1, A-2를 판매 처리
+		when(seatRepository.markSoldByReservationId(SCHEDULE_ID, RESERVATION_ID)).thenAnswer(invocation -> Mono.fromSupplier(() -> {
+			seats.replaceAll((seat, status) -> SeatStatus.SOLD.name());
+			return seats.size();
+		}));
+		when(seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumber(anyString(), anyLong(), anyString(), anyString()))
+				.thenAnswer(invocation -> Mono.fromSupplier(() -> {
+					seats.put(invocation.getArgument(2) + "-" + invocation.getArgument(3), invocation.getArgument(0));
+					return 1;
+				}));
+	}
+
+	@Test
+	void livePaymentMarksSeatsSoldInTheTransaction() {
+		StepVerifier.create(service.completePayment(webhook()))
+				.assertNext(payment -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED.name()))
+				.verifyComplete();
+
+		assertThat(seats).containsOnly(Map.entry("A-1", "SOLD"), Map.entry("A-2", "SOLD"));
+		verify(transactionalOperator).transactional(any(Mono.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void holdCleanupAfterPaymentKeepsSeatsSold() {
+		ReactiveRedisTemplate<String, String> redis = mock(ReactiveRedisTemplate.class);
+		DelayedJobService delayedJobService = mock(DelayedJobService.class);
+		SeatHoldService seatHoldService = new SeatHoldService(redis, seatRepository, mock(SeatInventoryEngine.class),
+				delayedJobService);
+		when(redis.delete(anyString())).thenReturn(Mono.just(1L));
+		when(delayedJobService.cancel(eq(DelayedJobType.HOLD_EXPIRY), anyString())).thenReturn(Mono.empty());
+
+		service.completePayment(webhook()).block();
+		// 결제 완료 이벤트 컨슈머가 하는 정리
+		seatHoldService.finalizeHold(SCHEDULE_ID, "A", "1").block();
+		seatHoldService.finalizeHold(SCHEDULE_ID, "A", "2").block();
+
+		assertThat(seats).containsOnly(Map.entry("A-1", "SOLD"), Map.entry("A-2", "SOLD"));
+		verify(redis).delete(RedisKeyGenerator.holdKey(SCHEDULE_ID, "A", "1"));
+		verify(seatRepository, never()).updateStatusByScheduleIdAndZoneAndSeatNumber(anyString(), anyLong(), anyString(), anyString());
+	}
+
+	private static WebhookRequest webhook() {
+		WebhookRequest request = new WebhookRequest();
+		request.setImpUid("imp_1");
+		request.setMerchantUid("FAIR_1");
+		return request;
+	}
+}
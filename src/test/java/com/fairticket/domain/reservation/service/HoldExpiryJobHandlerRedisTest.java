@@ -0,0 +1,96 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.ExpiredHoldSeat;
+import com.fairticket.domain.reservation.entity.ReservationSeat;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.LiveHoldQueryRepository;
+import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.domain.seat.service.SeatHoldService;
+import com.fairticket.domain.seat.service.SeatInventoryEngine;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.infra.redis.DelayedJobProperties;
+import com.fairticket.infra.redis.DelayedJobService;
+import com.fairticket.infra.redis.DelayedJobType;
+import com.fairticket.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 홀드 만료 지연 작업: 실제 홀드 키의 PTTL로 재예약할지 만료 처리할지 결정하는지 검증
+class HoldExpiryJobHandlerRedisTest extends RedisContainerTest {
+
+	private static final Long SCHEDULE_ID = 990_004L;
+	private static final String HOLD = RedisKeyGenerator.holdKey(SCHEDULE_ID, "A", "1");
+	private static final String MEMBER = DelayedJobType.HOLD_EXPIRY.name() + ":"
+			+ SeatHoldService.holdJobPayload(SCHEDULE_ID, "A", "1");
+	private static final String JOBS = RedisKeyGenerator.delayedJobsKey(
+			Math.floorMod(MEMBER.hashCode(), new DelayedJobProperties().getShards()));
+
+	private final SeatRepository seatRepository = mock(SeatRepository.class);
+	private final SeatPoolService seatPoolService = mock(SeatPoolService.class);
+	private final ReservationSeatRepository reservationSeatRepository = mock(ReservationSeatRepository.class);
+	private final LiveHoldQueryRepository liveHoldQueryRepository = mock(LiveHoldQueryRepository.class);
+	private final UserLedgerService userLedgerService = mock(UserLedgerService.class);
+	private HoldExpiryJobHandler handler;
+
+	@BeforeEach
+	void setUp() {
+		SeatHoldService seatHoldService = new SeatHoldService(redis, seatRepository, mock(SeatInventoryEngine.class),
+				new DelayedJobService(redis, new DelayedJobProperties()));
+		handler = new HoldExpiryJobHandler(seatHoldService, seatPoolService, seatRepository,
+				reservationSeatRepository, liveHoldQueryRepository, userLedgerService);
+		when(reservationSeatRepository.findPendingByScheduleIdAndZoneAndSeatNumber(SCHEDULE_ID, "A", "1"))
+				.thenReturn(Flux.just(ReservationSeat.builder()
+						.id(30L).zone("A").seatNumber("1").status("PENDING").build()));
+		when(liveHoldQueryRepository.cancelExpiredSeats(anyList(), any()))
+				.thenReturn(Flux.just(new ExpiredHoldSeat(30L, 7L, "A", "1", true)));
+		when(seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumberIn(anyString(), anyString(), anyLong(), anyString(), anyList()))
+				.thenReturn(Mono.just(1));
+		when(seatPoolService.returnSeats(eq(SCHEDULE_ID), anyString(), anyList())).thenReturn(Mono.just(1L));
+		when(userLedgerService.release(anyLong(), anyLong(), any(), anyInt())).thenReturn(Mono.empty());
+	}
+
+	@Test
+	void earlyJobIsPushedBackByRemainingHoldTtl() {
+		redis.opsForValue().set(HOLD, "7", Duration.ofSeconds(30)).block();
+		long before = System.currentTimeMillis();
+
+		StepVerifier.create(handler.handle(List.of("990004|A|1"))).verifyComplete();
+
+		Double dueAt = redis.opsForZSet().score(JOBS, MEMBER).block();
+		assertThat(dueAt).isNotNull();
+		// 남은 PTTL(≤30초) + 여유 500ms 뒤
+		assertThat(dueAt.longValue()).isBetween(before + 29_000, System.currentTimeMillis() + 30_500);
+		verify(liveHoldQueryRepository, never()).cancelExpiredSeats(anyList(), any());
+		verify(seatPoolService, never()).returnSeats(anyLong(), anyString(), anyList());
+	}
+
+	@Test
+	void expiredHoldIsCancelledAndReturned() {
+		StepVerifier.create(handler.handle(List.of("990004|A|1"))).verifyComplete();
+
+		assertThat(redis.opsForZSet().score(JOBS, MEMBER).block()).isNull();
+		verify(liveHoldQueryRepository).cancelExpiredSeats(eq(List.of(30L)), any());
+		verify(userLedgerService).release(SCHEDULE_ID, 7L, TrackType.LIVE, 1);
+		verify(seatPoolService).returnSeats(SCHEDULE_ID, "A", List.of("1"));
+	}
+}
@@ -0,0 +1,129 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.ExpiredHoldSeat;
+import com.fairticket.domain.reservation.entity.ReservationSeat;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.LiveHoldQueryRepository;
+import com.fairticket.domain.reservation.repository.ReservationSeatRepository;
+import com.fairticket.domain.seat.entity.Seat;
+import com.fairticket.domain.seat.entity.SeatStatus;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.domain.seat.service.SeatHoldService;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HoldExpiryJobHandlerTest {
+
+	private static final Long SCHEDULE_ID = 1L;
+
+	private final SeatHoldService seatHoldService = mock(SeatHoldService.class);
+	private final SeatPoolService seatPoolService = mock(SeatPoolService.class);
+	private final SeatRepository seatRepository = mock(SeatRepository.class);
+	private final ReservationSeatRepository reservationSeatRepository = mock(ReservationSeatRepository.class);
+	private final LiveHoldQueryRepository liveHoldQueryRepository = mock(LiveHoldQueryRepository.class);
+	private final UserLedgerService userLedgerService = mock(UserLedgerService.class);
+	private HoldExpiryJobHandler handler;
+
+	@BeforeEach
+	void setUp() {
+		handler = new HoldExpiryJobHandler(seatHoldService, seatPoolService, seatRepository,
+				reservationSeatRepository, liveHoldQueryRepository, userLedgerService);
+		when(seatHoldService.rescheduleExpiryIfHeld(eq(SCHEDULE_ID), anyString(), anyString())).thenReturn(Mono.just(false));
+		when(reservationSeatRepository.findPendingByScheduleIdAndZoneAndSeatNumber(eq(SCHEDULE_ID), anyString(), anyString()))
+				.thenReturn(Flux.empty());
+		when(seatRepository.findByScheduleIdAndZoneAndSeatNumber(eq(SCHEDULE_ID), anyString(), anyString()))
+				.thenReturn(Mono.empty());
+		when(seatRepository.updateStatusByScheduleIdAndZoneAndSeatNumberIn(anyString(), anyString(), anyLong(), anyString(), anyList()))
+				.thenReturn(Mono.just(1));
+		when(seatPoolService.returnSeats(eq(SCHEDULE_ID), anyString(), anyList())).thenReturn(Mono.just(1L));
+		when(userLedgerService.release(anyLong(), anyLong(), any(), anyInt())).thenReturn(Mono.empty());
+	}
+
+	@Test
+	void liveHoldIsRescheduledInsteadOfExpired() {
+		when(seatHoldService.rescheduleExpiryIfHeld(SCHEDULE_ID, "A", "1")).thenReturn(Mono.just(true));
+
+		StepVerifier.create(handler.handle(List.of("1|A|1"))).verifyComplete();
+
+		verify(reservationSeatRepository, never()).findPendingByScheduleIdAndZoneAndSeatNumber(any(), any(), any());
+		verify(liveHoldQueryRepository, never()).cancelExpiredSeats(anyList(), any());
+		verify(seatPoolService, never()).returnSeats(anyLong(), anyString(), anyList());
+	}
+
+	@Test
+	void releasesLedgerAndPoolOnlyForSeatsTheStatementCancelled() {
+		givenPending("A", "2", 10L);
+		givenPending("A", "3", 11L);
+		// 11은 만료 스윕이 먼저 취소해 이번 문장에서 돌려받지 못함
+		when(liveHoldQueryRepository.cancelExpiredSeats(anyList(), any()))
+				.thenReturn(Flux.just(new ExpiredHoldSeat(10L, 7L, "A", "2", true)));
+
+		StepVerifier.create(handler.handle(List.of("1|A|2", "1|A|3"))).verifyComplete();
+
+		ArgumentCaptor<List<Long>> ids = idsCaptor();
+		verify(liveHoldQueryRepository).cancelExpiredSeats(ids.capture(), any());
+		assertThat(ids.getValue()).containsExactlyInAnyOrder(10L, 11L);
+		verify(userLedgerService).release(SCHEDULE_ID, 7L, TrackType.LIVE, 1);
+		verify(seatRepository).updateStatusByScheduleIdAndZoneAndSeatNumberIn(
+				SeatStatus.AVAILABLE.name(), SeatStatus.HELD.name(), SCHEDULE_ID, "A", List.of("2"));
+		verify(seatPoolService).returnSeats(SCHEDULE_ID, "A", List.of("2"));
+	}
+
+	@Test
+	void uncountedCancellationDoesNotTouchLedger() {
+		givenPending("A", "5", 20L);
+		// 결제 타임아웃으로 예약이 이미 CANCELLED였던 좌석: 좌석은 반환하지만 원장은 그때 차감됨
+		when(liveHoldQueryRepository.cancelExpiredSeats(anyList(), any()))
+				.thenReturn(Flux.just(new ExpiredHoldSeat(20L, 7L, "A", "5", false)));
+
+		StepVerifier.create(handler.handle(List.of("1|A|5"))).verifyComplete();
+
+		verify(userLedgerService, never()).release(anyLong(), anyLong(), any(), anyInt());
+		verify(seatPoolService).returnSeats(SCHEDULE_ID, "A", List.of("5"));
+	}
+
+	@Test
+	void orphanHoldIsReturnedOnlyWhileSeatIsHeld() {
+		when(seatRepository.findByScheduleIdAndZoneAndSeatNumber(SCHEDULE_ID, "B", "4"))
+				.thenReturn(Mono.just(Seat.builder().scheduleId(SCHEDULE_ID).zone("B").seatNumber("4")
+						.status(SeatStatus.HELD.name()).build()));
+		when(seatRepository.findByScheduleIdAndZoneAndSeatNumber(SCHEDULE_ID, "B", "6"))
+				.thenReturn(Mono.just(Seat.builder().scheduleId(SCHEDULE_ID).zone("B").seatNumber("6")
+						.status(SeatStatus.SOLD.name()).build()));
+
+		StepVerifier.create(handler.handle(List.of("1|B|4", "1|B|6"))).verifyComplete();
+
+		verify(liveHoldQueryRepository, never()).cancelExpiredSeats(anyList(), any());
+		verify(seatPoolService).returnSeats(SCHEDULE_ID, "B", List.of("4"));
+	}
+
+	private void givenPending(String zone, String seatNumber, Long reservationSeatId) {
+		when(reservationSeatRepository.findPendingByScheduleIdAndZoneAndSeatNumber(SCHEDULE_ID, zone, seatNumber))
+				.thenReturn(Flux.just(ReservationSeat.builder()
+						.id(reservationSeatId).zone(zone).seatNumber(seatNumber).status("PENDING").build()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ArgumentCaptor<List<Long>> idsCaptor() {
+		return ArgumentCaptor.forClass(List.class);
+	}
+}
@@ -0,0 +1,170 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.LotteryAssignmentJob;
+import com.fairticket.domain.reservation.dto.LotterySeatAssignment;
+import com.fairticket.domain.reservation.repository.LotteryAssignmentQueryRepository;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LotteryAssignmentJobServiceTest {
+
+	private static final Long SCHEDULE_ID = 1L;
+
+	private final LotteryAssignmentQueryRepository repository = mock(LotteryAssignmentQueryRepository.class);
+	private final LotteryDrawEngine drawEngine = mock(LotteryDrawEngine.class);
+	private final SeatPoolService seatPoolService = mock(SeatPoolService.class);
+	// lottery_assignment_jobs 행 (체크포인트)
+	private final AtomicReference<LotteryAssignmentJob> job = new AtomicReference<>();
+	private final List<Integer> committedChunks = new ArrayList<>();
+	private LotteryAssignmentJobService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new LotteryAssignmentJobService(repository, drawEngine, seatPoolService, new SimpleMeterRegistry());
+		when(repository.findJob(SCHEDULE_ID)).thenAnswer(invocation -> Mono.defer(() -> Mono.justOrEmpty(job.get())));
+		when(repository.findPlanChunk(eq(SCHEDULE_ID), anyInt())).thenAnswer(invocation -> {
+			int chunkNo = invocation.getArgument(1);
+			return Flux.just(new LotterySeatAssignment(chunkNo, 100L + chunkNo, "A", String.valueOf(chunkNo)));
+		});
+		// 풀에 있던 좌석은 모두 빠진다고 가정 (요청한 좌석 그대로 반환)
+		when(seatPoolService.removeSeats(eq(SCHEDULE_ID), anyString(), anyList()))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(2)));
+		// 체크포인트가 chunkNo일 때만 전진 (조건부 UPDATE와 같은 규칙)
+		when(repository.assignChunk(eq(SCHEDULE_ID), anyInt(), anyList(), any())).thenAnswer(invocation -> Mono.fromSupplier(() -> {
+			int chunkNo = invocation.getArgument(1);
+			LotteryAssignmentJob current = job.get();
+			if (current.getNextChunk() != chunkNo) {
+				return 0L;
+			}
+			int next = chunkNo + 1;
+			job.set(new LotteryAssignmentJob(SCHEDULE_ID, current.getSeed(),
+					next >= current.getTotalChunks() ? LotteryAssignmentJob.COMPLETED : LotteryAssignmentJob.RUNNING,
+					current.getTotalChunks(), next, current.getTotalSeats(), current.getAssignedSeats() + 1));
+			committedChunks.add(chunkNo);
+			return 1L;
+		}));
+	}
+
+	@Test
+	void resumesFromCheckpointAndCompletes() {
+		job.set(new LotteryAssignmentJob(SCHEDULE_ID, 42L, LotteryAssignmentJob.RUNNING, 5, 2, 5, 2));
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ofMinutes(1)))
+				.expectNext(true)
+				.verifyComplete();
+
+		assertThat(committedChunks).containsExactly(2, 3, 4);
+		verify(repository, never()).findPlanChunk(SCHEDULE_ID, 0);
+		verify(repository, never()).findPlanChunk(SCHEDULE_ID, 1);
+		verify(drawEngine, never()).draw(anyLong(), anyLong());
+	}
+
+	@Test
+	void exhaustedBudgetLeavesRemainingChunksForNextRun() {
+		job.set(new LotteryAssignmentJob(SCHEDULE_ID, 42L, LotteryAssignmentJob.RUNNING, 3, 0, 3, 0));
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ZERO))
+				.expectNext(false)
+				.verifyComplete();
+		assertThat(committedChunks).isEmpty();
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ofMinutes(1)))
+				.expectNext(true)
+				.verifyComplete();
+		assertThat(committedChunks).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void completedJobIsNotRunAgain() {
+		job.set(new LotteryAssignmentJob(SCHEDULE_ID, 42L, LotteryAssignmentJob.COMPLETED, 2, 2, 2, 2));
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ofMinutes(1)))
+				.expectNext(true)
+				.verifyComplete();
+
+		verify(repository, never()).findPlanChunk(eq(SCHEDULE_ID), anyInt());
+		verify(seatPoolService, never()).removeSeats(anyLong(), anyString(), anyList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void onlySeatsActuallyRemovedFromPoolAreAssigned() {
+		job.set(new LotteryAssignmentJob(SCHEDULE_ID, 42L, LotteryAssignmentJob.RUNNING, 1, 0, 3, 0));
+		when(repository.findPlanChunk(SCHEDULE_ID, 0)).thenReturn(Flux.just(
+				new LotterySeatAssignment(0, 100L, "A", "1"),
+				new LotterySeatAssignment(0, 100L, "A", "2"),
+				new LotterySeatAssignment(0, 101L, "B", "7")));
+		// A-2는 계획 이후 라이브 선점으로 이미 풀에서 빠짐
+		when(seatPoolService.removeSeats(SCHEDULE_ID, "A", List.of("1", "2"))).thenReturn(Mono.just(List.of("1")));
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ofMinutes(1)))
+				.expectNext(true)
+				.verifyComplete();
+
+		ArgumentCaptor<List<LotterySeatAssignment>> pulled = ArgumentCaptor.forClass(List.class);
+		verify(repository).assignChunk(eq(SCHEDULE_ID), eq(0), pulled.capture(), any());
+		assertThat(pulled.getValue())
+				.extracting(seat -> seat.getReservationId() + ":" + seat.getZone() + "-" + seat.getSeatNumber())
+				.containsExactlyInAnyOrder("100:A-1", "101:B-7");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void newJobChunksOnlyAtReservationBoundaries() {
+		// 3석 예약 400건 = 1200석: 1000석째가 예약 중간이므로 그 예약을 마저 채운 1002석이 청크 0, 나머지 198석이 청크 1
+		List<LotterySeatAssignment> drawn = new ArrayList<>();
+		for (long reservationId = 1; reservationId <= 400; reservationId++) {
+			for (int seat = 1; seat <= 3; seat++) {
+				drawn.add(new LotterySeatAssignment(0, reservationId, "A", reservationId + "-" + seat));
+			}
+		}
+		when(drawEngine.draw(eq(SCHEDULE_ID), anyLong())).thenReturn(Mono.just(drawn));
+		when(repository.createJob(eq(SCHEDULE_ID), anyLong(), anyInt(), anyList(), any()))
+				.thenAnswer(invocation -> Mono.fromSupplier(() -> {
+					job.set(new LotteryAssignmentJob(SCHEDULE_ID, invocation.getArgument(1), LotteryAssignmentJob.RUNNING,
+							invocation.getArgument(2), 0, drawn.size(), 0));
+					return 0L;
+				}));
+
+		StepVerifier.create(service.runOrResume(SCHEDULE_ID, Duration.ofMinutes(1)))
+				.expectNext(true)
+				.verifyComplete();
+
+		ArgumentCaptor<List<LotterySeatAssignment>> planCaptor = ArgumentCaptor.forClass(List.class);
+		verify(repository, times(1)).createJob(eq(SCHEDULE_ID), anyLong(), eq(2), planCaptor.capture(), any());
+		List<LotterySeatAssignment> plan = planCaptor.getValue();
+		assertThat(plan).hasSize(drawn.size());
+		// 같은 예약의 좌석은 항상 같은 청크
+		for (int i = 1; i < plan.size(); i++) {
+			if (plan.get(i).getReservationId().equals(plan.get(i - 1).getReservationId())) {
+				assertThat(plan.get(i).getChunkNo()).isEqualTo(plan.get(i - 1).getChunkNo());
+			}
+		}
+		assertThat(plan.stream().filter(seat -> seat.getChunkNo() == 0).count()).isEqualTo(1002);
+		assertThat(committedChunks).containsExactly(0, 1);
+	}
+}
@@ -0,0 +1,169 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.LotteryDrawEntry;
+import com.fairticket.domain.reservation.dto.LotterySeatAssignment;
+import com.fairticket.domain.reservation.repository.LotteryAssignmentQueryRepository;
+import com.fairticket.domain.seat.dto.SeatLayout;
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import com.fairticket.domain.seat.service.SeatLayoutService;
+import com.fairticket.domain.seat.service.SeatPoolService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LotteryDrawEngineTest {
+
+	private static final Long SCHEDULE_ID = 1L;
+	private static final String GRADE = "VIP";
+	private static final String ZONE = "A";
+
+	private final LotteryAssignmentQueryRepository repository = mock(LotteryAssignmentQueryRepository.class);
+	private final SeatPoolService seatPoolService = mock(SeatPoolService.class);
+	private final SeatLayoutService seatLayoutService = mock(SeatLayoutService.class);
+	private LotteryDrawEngine engine;
+	private List<LotteryDrawEntry> entries;
+
+	@BeforeEach
+	void setUp() {
+		engine = new LotteryDrawEngine(repository, seatPoolService, seatLayoutService, new SimpleMeterRegistry());
+		entries = new ArrayList<>();
+		when(repository.findDrawGrades(SCHEDULE_ID)).thenReturn(Flux.just(GRADE));
+		// 실제 저장소처럼 id 키셋 페이지로 돌려준다
+		when(repository.findDrawEntries(eq(SCHEDULE_ID), eq(GRADE), anyLong(), anyInt()))
+				.thenAnswer(invocation -> {
+					long afterId = invocation.getArgument(2);
+					int limit = invocation.getArgument(3);
+					return Flux.fromIterable(entries)
+							.filter(entry -> entry.getReservationId() > afterId)
+							.sort(Comparator.comparing(LotteryDrawEntry::getReservationId))
+							.take(limit);
+				});
+	}
+
+	@Test
+	void sameSeedGivesSamePlan() {
+		givenSeats(40);
+		givenEntries(300, 11L);
+
+		List<String> first = keys(engine.draw(SCHEDULE_ID, 1234L).block());
+		List<String> second = keys(engine.draw(SCHEDULE_ID, 1234L).block());
+		List<String> otherSeed = keys(engine.draw(SCHEDULE_ID, 4321L).block());
+
+		assertThat(second).isEqualTo(first);
+		assertThat(otherSeed).isNotEqualTo(first);
+	}
+
+	@Test
+	void winnersMatchGreedyOverFullRanking() {
+		givenSeats(37);
+		givenEntries(12_000, 7L);
+
+		for (long seed = 0; seed < 10; seed++) {
+			List<LotterySeatAssignment> plan = engine.draw(SCHEDULE_ID, seed).block();
+
+			Set<Long> winners = plan.stream().map(LotterySeatAssignment::getReservationId).collect(Collectors.toSet());
+			assertThat(winners).isEqualTo(expectedWinners(seed, 37));
+		}
+	}
+
+	@Test
+	void eachWinnerGetsAllSeatsContiguouslyWithoutOverbooking() {
+		givenSeats(50);
+		givenEntries(500, 3L);
+
+		List<LotterySeatAssignment> plan = engine.draw(SCHEDULE_ID, 99L).block();
+
+		assertThat(plan).hasSizeLessThanOrEqualTo(50);
+		assertThat(plan.stream().map(LotterySeatAssignment::getSeatNumber).distinct().count()).isEqualTo(plan.size());
+		Map<Long, List<Integer>> seatsByWinner = new LinkedHashMap<>();
+		for (LotterySeatAssignment seat : plan) {
+			seatsByWinner.computeIfAbsent(seat.getReservationId(), id -> new ArrayList<>())
+					.add(Integer.parseInt(seat.getSeatNumber()));
+		}
+		Map<Long, Integer> quantities = entries.stream()
+				.collect(Collectors.toMap(LotteryDrawEntry::getReservationId, LotteryDrawEntry::getQuantity));
+		seatsByWinner.forEach((reservationId, seats) -> {
+			assertThat(seats).hasSize(quantities.get(reservationId));
+			List<Integer> sorted = seats.stream().sorted().toList();
+			assertThat(sorted.get(sorted.size() - 1) - sorted.get(0)).isEqualTo(sorted.size() - 1);
+		});
+	}
+
+	@Test
+	void everyoneWinsWhenSeatsSuffice() {
+		givenSeats(1000);
+		givenEntries(100, 5L);
+
+		List<LotterySeatAssignment> plan = engine.draw(SCHEDULE_ID, 1L).block();
+
+		int requested = entries.stream().mapToInt(LotteryDrawEntry::getQuantity).sum();
+		assertThat(plan).hasSize(requested);
+	}
+
+	private void givenSeats(int count) {
+		List<String> seatNumbers = new ArrayList<>();
+		for (int n = 1; n <= count; n++) {
+			seatNumbers.add(String.valueOf(n));
+		}
+		when(seatPoolService.getAvailableSeatsForGrade(SCHEDULE_ID, GRADE)).thenAnswer(invocation -> Mono.just(
+				seatNumbers.stream().map(seat -> new ZoneSeatAssignmentResponse(ZONE, seat)).collect(Collectors.toList())));
+		long[] seatIds = new long[count];
+		for (int i = 0; i < count; i++) {
+			seatIds[i] = i + 1;
+		}
+		when(seatLayoutService.getLayout(SCHEDULE_ID, ZONE))
+				.thenReturn(Mono.just(new SeatLayout(SCHEDULE_ID, ZONE, GRADE, seatNumbers, seatIds)));
+	}
+
+	private void givenEntries(int count, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		for (int i = 1; i <= count; i++) {
+			entries.add(new LotteryDrawEntry((long) i * 3, 1 + random.nextInt(4)));
+		}
+	}
+
+	// 전체 응모를 키 순으로 정렬해 남은 좌석 안에 드는 응모를 고르는 기준 구현
+	private Set<Long> expectedWinners(long seed, int seats) {
+		List<LotteryDrawEntry> ranked = new ArrayList<>(entries);
+		ranked.sort(Comparator.comparingDouble((LotteryDrawEntry entry) -> drawKey(seed, entry)).reversed()
+				.thenComparing(LotteryDrawEntry::getReservationId));
+		int left = seats;
+		List<Long> winners = new ArrayList<>();
+		for (LotteryDrawEntry entry : ranked) {
+			if (entry.getQuantity() <= left) {
+				winners.add(entry.getReservationId());
+				left -= entry.getQuantity();
+			}
+		}
+		return Set.copyOf(winners);
+	}
+
+	private static double drawKey(long seed, LotteryDrawEntry entry) {
+		double u = new SplittableRandom(seed ^ (entry.getReservationId() * 0x9E3779B97F4A7C15L)).nextDouble();
+		return Math.log(Math.max(u, Double.MIN_VALUE)) / Math.max(1, entry.getQuantity());
+	}
+
+	private static List<String> keys(List<LotterySeatAssignment> plan) {
+		return plan.stream()
+				.map(seat -> seat.getReservationId() + ":" + seat.getZone() + ":" + seat.getSeatNumber())
+				.toList();
+	}
+}
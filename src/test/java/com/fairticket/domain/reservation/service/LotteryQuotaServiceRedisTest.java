@@ -0,0 +1,113 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.GradeReservedSum;
+import com.fairticket.domain.reservation.repository.ReservationRepository;
+import com.fairticket.domain.seat.dto.GradeSeatCount;
+import com.fairticket.domain.seat.repository.SeatRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 추첨 쿼터 스크립트 흐름 (초기화 → 차감 → 소진 → 반환)
+class LotteryQuotaServiceRedisTest extends RedisContainerTest {
+
+	private static final Long SCHEDULE_ID = 990_003L;
+	private static final String QUOTA = RedisKeyGenerator.lotteryQuotaKey(SCHEDULE_ID);
+
+	private final SeatRepository seatRepository = mock(SeatRepository.class);
+	private final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+	private LotteryQuotaService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new LotteryQuotaService(redis, seatRepository, reservationRepository);
+		service.init();
+		// VIP 10석 → 쿼터 5, 기존 추첨 1석 → 4 / R 7석 → 3
+		when(seatRepository.findSeatCountByScheduleIdGroupByGrade(SCHEDULE_ID))
+				.thenReturn(Flux.just(seatCount("VIP", 10), seatCount("R", 7)));
+		when(reservationRepository.findLotteryReservedSumByScheduleIdGroupByGrade(SCHEDULE_ID))
+				.thenReturn(Flux.just(reservedSum("VIP", 1)));
+	}
+
+	@Test
+	void quotaIsInitializedOnceFromSeatsMinusExistingApplications() {
+		assertThat(service.getAll(SCHEDULE_ID).block()).isEqualTo(Map.of("VIP", 4L, "R", 3L));
+		assertThat(service.take(SCHEDULE_ID, "VIP", 1).block()).isTrue();
+
+		verify(seatRepository, times(1)).findSeatCountByScheduleIdGroupByGrade(SCHEDULE_ID);
+		assertThat(service.getRemaining(SCHEDULE_ID, "VIP").block()).isEqualTo(3L);
+	}
+
+	@Test
+	void takeStopsAtExhaustionWithoutGoingNegative() {
+		assertThat(service.take(SCHEDULE_ID, "VIP", 3).block()).isTrue();
+		assertThat(service.take(SCHEDULE_ID, "VIP", 2).block()).isFalse();
+		assertThat(service.take(SCHEDULE_ID, "VIP", 1).block()).isTrue();
+		assertThat(service.take(SCHEDULE_ID, "VIP", 1).block()).isFalse();
+
+		assertThat(service.getRemaining(SCHEDULE_ID, "VIP").block()).isZero();
+		assertThat(service.getRemaining(SCHEDULE_ID, "R").block()).isEqualTo(3L);
+	}
+
+	@Test
+	void unknownGradeHasNoQuota() {
+		assertThat(service.take(SCHEDULE_ID, "S", 1).block()).isFalse();
+	}
+
+	@Test
+	void releaseRestoresQuota() {
+		service.take(SCHEDULE_ID, "R", 3).block();
+		assertThat(service.take(SCHEDULE_ID, "R", 1).block()).isFalse();
+
+		service.release(SCHEDULE_ID, "R", 2).block();
+
+		assertThat(service.getRemaining(SCHEDULE_ID, "R").block()).isEqualTo(2L);
+		assertThat(service.take(SCHEDULE_ID, "R", 2).block()).isTrue();
+	}
+
+	@Test
+	void releaseIsIgnoredBeforeInitialization() {
+		service.release(SCHEDULE_ID, "VIP", 2).block();
+
+		assertThat(redis.hasKey(QUOTA).block()).isFalse();
+		assertThat(service.getRemaining(SCHEDULE_ID, "VIP").block()).isEqualTo(4L);
+	}
+
+	private static GradeSeatCount seatCount(String grade, long count) {
+		return new GradeSeatCount() {
+			@Override
+			public String getGrade() {
+				return grade;
+			}
+
+			@Override
+			public long getCount() {
+				return count;
+			}
+		};
+	}
+
+	private static GradeReservedSum reservedSum(String grade, long total) {
+		return new GradeReservedSum() {
+			@Override
+			public String getGrade() {
+				return grade;
+			}
+
+			@Override
+			public long getTotal() {
+				return total;
+			}
+		};
+	}
+}
@@ -0,0 +1,111 @@
+package com.fairticket.domain.reservation.service;
+
+import com.fairticket.domain.reservation.dto.UserLedger;
+import com.fairticket.domain.reservation.entity.TrackType;
+import com.fairticket.domain.reservation.repository.UserLedgerQueryRepository;
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 참여 원장 스크립트 흐름 (채움 → 예약 → 한도 → 차감/보상)
+class UserLedgerServiceRedisTest extends RedisContainerTest {
+
+	private static final Long SCHEDULE_ID = 990_002L;
+	private static final Long USER_ID = 7L;
+	private static final String LEDGER = RedisKeyGenerator.userLedgerKey(SCHEDULE_ID, USER_ID);
+
+	private final UserLedgerQueryRepository queryRepository = mock(UserLedgerQueryRepository.class);
+	private UserLedgerService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new UserLedgerService(redis, queryRepository);
+		service.init();
+		when(queryRepository.findLedger(SCHEDULE_ID, USER_ID))
+				.thenReturn(Mono.just(new UserLedger("", 0, 0, false, null)));
+	}
+
+	@Test
+	void missingLedgerIsHydratedOnceThenReserved() {
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block())
+				.isEqualTo(UserLedgerService.Result.RESERVED);
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block())
+				.isEqualTo(UserLedgerService.Result.RESERVED);
+
+		verify(queryRepository, times(1)).findLedger(SCHEDULE_ID, USER_ID);
+		assertThat(field("live")).isEqualTo("2");
+		assertThat(field("track")).isEqualTo("LIVE");
+	}
+
+	@Test
+	void liveQuantityIsCappedPerUser() {
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 3, 4).block())
+				.isEqualTo(UserLedgerService.Result.RESERVED);
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 2, 4).block())
+				.isEqualTo(UserLedgerService.Result.QUANTITY_EXCEEDED);
+		assertThat(field("live")).isEqualTo("3");
+	}
+
+	@Test
+	void otherTrackIsRejectedAfterParticipation() {
+		service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block();
+
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LOTTERY, 1, 4).block())
+				.isEqualTo(UserLedgerService.Result.ALREADY_PARTICIPATED);
+	}
+
+	@Test
+	void lotteryCannotBeAppliedTwice() {
+		service.reserve(SCHEDULE_ID, USER_ID, TrackType.LOTTERY, 2, 4).block();
+
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LOTTERY, 1, 4).block())
+				.isEqualTo(UserLedgerService.Result.ALREADY_PARTICIPATED);
+	}
+
+	@Test
+	void releaseKeepsTrackButRollbackIfEmptyClearsItOnLastSeat() {
+		service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block();
+		service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block();
+
+		service.release(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1).block();
+		assertThat(field("live")).isEqualTo("1");
+		assertThat(field("track")).isEqualTo("LIVE");
+
+		service.rollbackIfEmpty(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1).block();
+		assertThat(field("live")).isEqualTo("0");
+		assertThat(field("track")).isEmpty();
+		// 트랙이 비었으므로 추첨으로 다시 참여할 수 있다
+		assertThat(service.reserve(SCHEDULE_ID, USER_ID, TrackType.LOTTERY, 1, 4).block())
+				.isEqualTo(UserLedgerService.Result.RESERVED);
+	}
+
+	@Test
+	void releaseNeverGoesNegative() {
+		service.reserve(SCHEDULE_ID, USER_ID, TrackType.LIVE, 1, 4).block();
+
+		service.release(SCHEDULE_ID, USER_ID, TrackType.LIVE, 3).block();
+
+		assertThat(field("live")).isEqualTo("0");
+	}
+
+	@Test
+	void liveReservationIdIsSharedByConcurrentClicks() {
+		Long first = service.getOrAssignLiveReservationId(SCHEDULE_ID, USER_ID, Mono.just(100L)).block();
+		Long second = service.getOrAssignLiveReservationId(SCHEDULE_ID, USER_ID, Mono.just(200L)).block();
+
+		assertThat(first).isEqualTo(100L);
+		assertThat(second).isEqualTo(100L);
+	}
+
+	private String field(String name) {
+		return redis.<String, String>opsForHash().get(LEDGER, name).block();
+	}
+}
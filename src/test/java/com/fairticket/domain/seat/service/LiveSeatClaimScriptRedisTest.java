@@ -0,0 +1,86 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.support.RedisContainerTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 라이브 좌석 선점 스크립트: 마감·풀 교체 중·홀드·풀·카운터를 한 번에 확인하고 갱신하는지 검증
+class LiveSeatClaimScriptRedisTest extends RedisContainerTest {
+
+	private static final long SCHEDULE_ID = 990_005L;
+	private static final String POOL = RedisKeyGenerator.seatsShardKey(SCHEDULE_ID, "A", 0);
+	private static final String COUNTER = RedisKeyGenerator.seatCountKey(POOL);
+	private static final String HOLD = RedisKeyGenerator.holdKey(SCHEDULE_ID, "A", "1");
+	private static final String CLOSED = RedisKeyGenerator.liveClosedKey(SCHEDULE_ID);
+	private static final String REBUILDING = RedisKeyGenerator.seatsRebuildingKey(SCHEDULE_ID);
+
+	private final RedisScript<List> claimScript =
+			RedisScript.of(new ClassPathResource("scripts/live_seat_claim.lua"), List.class);
+
+	@Test
+	void claimRemovesSeatSetsHoldAndDecrementsCounter() {
+		redis.opsForSet().add(POOL, "1", "2").block();
+		redis.opsForValue().set(COUNTER, "2").block();
+
+		assertThat(claim("1", 7L)).containsExactly(1L, 1L);
+		assertThat(redis.opsForValue().get(HOLD).block()).isEqualTo("7");
+		assertThat(redis.getExpire(HOLD).block()).isPositive();
+		assertThat(redis.opsForSet().members(POOL).collectList().block()).containsExactly("2");
+		assertThat(redis.opsForValue().get(COUNTER).block()).isEqualTo("1");
+	}
+
+	@Test
+	void heldOrMissingSeatIsTakenWithoutTouchingPool() {
+		redis.opsForSet().add(POOL, "1").block();
+		redis.opsForValue().set(COUNTER, "1").block();
+		redis.opsForValue().set(HOLD, "8").block();
+
+		assertThat(claim("1", 7L)).containsExactly(0L, -1L);
+		assertThat(claim("9", 7L)).containsExactly(0L, -1L);
+		assertThat(redis.opsForValue().get(HOLD).block()).isEqualTo("8");
+		assertThat(redis.opsForSet().isMember(POOL, "1").block()).isTrue();
+		assertThat(redis.opsForValue().get(COUNTER).block()).isEqualTo("1");
+	}
+
+	@Test
+	void closedLiveTrackRejectsBeforeAnyChange() {
+		redis.opsForSet().add(POOL, "1").block();
+		redis.opsForValue().set(CLOSED, String.valueOf(System.currentTimeMillis())).block();
+
+		assertThat(claim("1", 7L)).containsExactly(-1L, -1L);
+		assertThat(redis.hasKey(HOLD).block()).isFalse();
+		assertThat(redis.opsForSet().isMember(POOL, "1").block()).isTrue();
+	}
+
+	@Test
+	void claimIsRejectedWhilePoolIsBeingRebuilt() {
+		redis.opsForSet().add(POOL, "1").block();
+		redis.opsForValue().set(REBUILDING, "build1").block();
+
+		assertThat(claim("1", 7L)).containsExactly(-2L, -1L);
+		assertThat(redis.hasKey(HOLD).block()).isFalse();
+		assertThat(redis.opsForSet().isMember(POOL, "1").block()).isTrue();
+	}
+
+	@Test
+	void claimWithoutCounterLeavesCounterMissing() {
+		redis.opsForSet().add(POOL, "1").block();
+
+		assertThat(claim("1", 7L)).containsExactly(1L, -1L);
+		assertThat(redis.hasKey(COUNTER).block()).isFalse();
+	}
+
+	private List<?> claim(String seatNumber, Long userId) {
+		return redis.execute(claimScript,
+						List.of(POOL, COUNTER, RedisKeyGenerator.holdKey(SCHEDULE_ID, "A", seatNumber), CLOSED, REBUILDING),
+						List.of(seatNumber, userId.toString(), String.valueOf(SeatHoldService.HOLD_TTL.toMillis())))
+				.next()
+				.block();
+	}
+}
@@ -0,0 +1,53 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.support.RedisContainerTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 재구축 실행 잠금의 소유자 확인 연장·해제 스크립트 검증
+class OwnedLockScriptsRedisTest extends RedisContainerTest {
+
+	private static final String LOCK = RedisKeyGenerator.seatPoolRebuildLockKey();
+
+	private final RedisScript<Long> refreshScript =
+			RedisScript.of(new ClassPathResource("scripts/owned_lock_refresh.lua"), Long.class);
+	private final RedisScript<Long> releaseScript =
+			RedisScript.of(new ClassPathResource("scripts/owned_lock_release.lua"), Long.class);
+
+	@Test
+	void lockIsRefreshedOnlyByItsOwner() {
+		redis.opsForValue().set(LOCK, "run-1", Duration.ofSeconds(5)).block();
+
+		assertThat(run(refreshScript, "run-2", "60000")).isZero();
+		assertThat(redis.getExpire(LOCK).block()).isLessThanOrEqualTo(Duration.ofSeconds(5));
+		assertThat(run(refreshScript, "run-1", "60000")).isEqualTo(1L);
+		assertThat(redis.getExpire(LOCK).block()).isGreaterThan(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void lockIsReleasedOnlyByItsOwner() {
+		redis.opsForValue().set(LOCK, "run-1", Duration.ofMinutes(1)).block();
+
+		assertThat(run(releaseScript, "run-2")).isZero();
+		assertThat(redis.hasKey(LOCK).block()).isTrue();
+		assertThat(run(releaseScript, "run-1")).isEqualTo(1L);
+		assertThat(redis.hasKey(LOCK).block()).isFalse();
+	}
+
+	@Test
+	void expiredLockIsNotRevived() {
+		assertThat(run(refreshScript, "run-1", "60000")).isZero();
+		assertThat(redis.hasKey(LOCK).block()).isFalse();
+	}
+
+	private Long run(RedisScript<Long> script, String... args) {
+		return redis.execute(script, List.of(LOCK), List.of(args)).next().block();
+	}
+}
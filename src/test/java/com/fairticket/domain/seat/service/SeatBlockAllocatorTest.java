@@ -0,0 +1,109 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.domain.seat.dto.ZoneSeatAssignmentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatBlockAllocatorTest {
+
+	@Test
+	void placesEachRequestInOneRunWhenRunsAreLongEnough() {
+		List<List<ZoneSeatAssignmentResponse>> runs = List.of(run("A", 1, 4), run("A", 6, 10), run("B", 1, 3));
+
+		List<List<ZoneSeatAssignmentResponse>> result =
+				SeatBlockAllocator.allocate(runs, new int[]{4, 2, 3, 1}, new SplittableRandom(7));
+
+		assertThat(result).extracting(List::size).containsExactly(4, 2, 3, 1);
+		for (List<ZoneSeatAssignmentResponse> seats : result) {
+			assertContiguous(seats);
+		}
+		assertNoSeatTwice(result);
+	}
+
+	@Test
+	void bestFitKeepsLongRunForLargerRequest() {
+		// 2매는 길이 2 구간에, 4매는 길이 4 구간에 들어가야 둘 다 연석이 된다
+		List<List<ZoneSeatAssignmentResponse>> runs = List.of(run("A", 1, 4), run("A", 10, 11));
+
+		List<List<ZoneSeatAssignmentResponse>> result =
+				SeatBlockAllocator.allocate(runs, new int[]{2, 4}, new SplittableRandom(1));
+
+		assertContiguous(result.get(0));
+		assertContiguous(result.get(1));
+		assertThat(result.get(1)).extracting(ZoneSeatAssignmentResponse::getSeatNumber).containsExactly("1", "2", "3", "4");
+	}
+
+	@Test
+	void scattersWhenNoRunFits() {
+		List<List<ZoneSeatAssignmentResponse>> runs = List.of(run("A", 1, 2), run("A", 5, 5), run("B", 1, 1));
+
+		List<List<ZoneSeatAssignmentResponse>> result =
+				SeatBlockAllocator.allocate(runs, new int[]{3}, new SplittableRandom(3));
+
+		assertThat(result.get(0)).hasSize(3);
+		assertNoSeatTwice(result);
+	}
+
+	@Test
+	void leavesRequestEmptyWhenSeatsRunOut() {
+		List<List<ZoneSeatAssignmentResponse>> runs = List.of(run("A", 1, 3));
+
+		List<List<ZoneSeatAssignmentResponse>> result =
+				SeatBlockAllocator.allocate(runs, new int[]{2, 2}, new SplittableRandom(5));
+
+		assertThat(result.get(0)).hasSize(2);
+		assertThat(result.get(1)).isEmpty();
+	}
+
+	@Test
+	void sameSeedGivesSameAllocation() {
+		List<List<ZoneSeatAssignmentResponse>> runs = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			runs.add(run("Z" + (i % 3), i * 10 + 1, i * 10 + 1 + (i % 5)));
+		}
+		int[] quantities = {1, 2, 3, 4, 2, 1, 1, 3, 2, 4};
+
+		List<List<ZoneSeatAssignmentResponse>> first = SeatBlockAllocator.allocate(runs, quantities, new SplittableRandom(42));
+		List<List<ZoneSeatAssignmentResponse>> second = SeatBlockAllocator.allocate(runs, quantities, new SplittableRandom(42));
+
+		assertThat(keys(second)).isEqualTo(keys(first));
+	}
+
+	private static List<ZoneSeatAssignmentResponse> run(String zone, int from, int to) {
+		List<ZoneSeatAssignmentResponse> seats = new ArrayList<>();
+		for (int n = from; n <= to; n++) {
+			seats.add(new ZoneSeatAssignmentResponse(zone, String.valueOf(n)));
+		}
+		return seats;
+	}
+
+	private static void assertContiguous(List<ZoneSeatAssignmentResponse> seats) {
+		for (int i = 1; i < seats.size(); i++) {
+			assertThat(seats.get(i).getZone()).isEqualTo(seats.get(0).getZone());
+			assertThat(Integer.parseInt(seats.get(i).getSeatNumber()))
+					.isEqualTo(Integer.parseInt(seats.get(i - 1).getSeatNumber()) + 1);
+		}
+	}
+
+	private static void assertNoSeatTwice(List<List<ZoneSeatAssignmentResponse>> result) {
+		Set<String> seen = new HashSet<>();
+		for (List<ZoneSeatAssignmentResponse> seats : result) {
+			for (ZoneSeatAssignmentResponse seat : seats) {
+				assertThat(seen.add(seat.getZone() + ":" + seat.getSeatNumber())).isTrue();
+			}
+		}
+	}
+
+	private static List<List<String>> keys(List<List<ZoneSeatAssignmentResponse>> result) {
+		return result.stream()
+				.map(seats -> seats.stream().map(seat -> seat.getZone() + ":" + seat.getSeatNumber()).toList())
+				.toList();
+	}
+}
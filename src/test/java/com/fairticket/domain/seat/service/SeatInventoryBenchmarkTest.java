@@ -0,0 +1,157 @@
+package com.fairticket.domain.seat.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 좌석 점유 경로 벤치마크: 단일 작성자 엔진 vs Redis (SREM + SET NX).
+ * 로컬 Redis(localhost:6379) 필요. 기본 빌드에서는 실행되지 않는다.
+ * ./gradlew test --tests '*SeatInventoryBenchmarkTest' -Dfairticket.benchmark=true
+ */
+@EnabledIfSystemProperty(named = "fairticket.benchmark", matches = "true")
+class SeatInventoryBenchmarkTest {
+
+	private static final long SCHEDULE_ID = 999_999L;
+	private static final String ZONE = "BENCH";
+	private static final int SEATS = 20_000;
+	private static final int CLIENTS = 64;
+	private static final int ATTEMPTS_PER_CLIENT = 2_000;
+	private static final long SNAPSHOT_INTERVAL_MS = 1_000L;
+
+	private long totalElapsedNanos;
+
+	@Test
+	void compareEngineAndRedis() throws Exception {
+		LettuceConnectionFactory factory = new LettuceConnectionFactory("localhost", 6379);
+		factory.afterPropertiesSet();
+		ReactiveRedisTemplate<String, String> redis = new ReactiveRedisTemplate<>(factory, RedisSerializationContext.string());
+		try {
+			report("engine (no journal)", runEngine(changes -> null, inventory -> { }));
+			SeatInventoryJournal journal = new SeatInventoryJournal(redis);
+			journal.init();
+			journal.delete(SCHEDULE_ID);
+			report("engine (redis journal)", runEngine(changes -> journal.append(SCHEDULE_ID, changes),
+					inventory -> {
+						String journalId = inventory.lastJournalId();
+						journal.snapshot(SCHEDULE_ID, journalId, inventory.snapshotFields());
+						inventory.snapshotTaken(journalId);
+					}));
+			journal.delete(SCHEDULE_ID);
+			report("redis (SREM + SET NX)", runRedis(redis));
+		} finally {
+			factory.destroy();
+		}
+	}
+
+	private long[] runEngine(Function<List<InventoryCommand>, String> journal,
+							 Consumer<ScheduleInventory> snapshotter) throws Exception {
+		ScheduleInventory inventory = new ScheduleInventory(SCHEDULE_ID, 65_536, 256, journal,
+				snapshotter, SNAPSHOT_INTERVAL_MS);
+		inventory.restore(ZONE, seatNumbers());
+		inventory.open();
+		Thread owner = new Thread(inventory, "bench-inventory");
+		owner.start();
+		long[] latencies = runClients(seat -> {
+			InventoryCommand take = InventoryCommand.of(InventoryCommand.Op.TAKE, ZONE, seat);
+			while (!inventory.offer(take)) {
+				Thread.onSpinWait();
+			}
+			if (Boolean.TRUE.equals(take.getResult().join())) {
+				InventoryCommand hold = InventoryCommand.hold(ZONE, seat, 1L, System.currentTimeMillis() + 600_000);
+				while (!inventory.offer(hold)) {
+					Thread.onSpinWait();
+				}
+				hold.getResult().join();
+			}
+		});
+		inventory.stop(false);
+		owner.join();
+		return latencies;
+	}
+
+	private long[] runRedis(ReactiveRedisTemplate<String, String> redis) throws Exception {
+		String poolKey = "bench:seats:" + SCHEDULE_ID;
+		redis.delete(poolKey).block();
+		redis.opsForSet().add(poolKey, seatNumbers().toArray(new String[0])).block();
+		long[] latencies = runClients(seat -> {
+			Long removed = redis.opsForSet().remove(poolKey, seat).block();
+			if (removed != null && removed > 0) {
+				redis.opsForValue().setIfAbsent("bench:hold:" + seat, "1", Duration.ofMinutes(10)).block();
+			}
+		});
+		redis.delete(poolKey).block();
+		redis.delete(redis.scan(ScanOptions.scanOptions().match("bench:hold:*").build())).block();
+		return latencies;
+	}
+
+	// 클라이언트들이 무작위 좌석을 동시에 시도. 시도별 지연(ns) 반환
+	private long[] runClients(SeatAttempt attempt) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+		long[] latencies = new long[CLIENTS * ATTEMPTS_PER_CLIENT];
+		AtomicInteger cursor = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(CLIENTS);
+		long started = System.nanoTime();
+		for (int c = 0; c < CLIENTS; c++) {
+			pool.execute(() -> {
+				try {
+					for (int i = 0; i < ATTEMPTS_PER_CLIENT; i++) {
+						String seat = String.valueOf(ThreadLocalRandom.current().nextInt(1, SEATS + 1));
+						long t0 = System.nanoTime();
+						attempt.run(seat);
+						latencies[cursor.getAndIncrement()] = System.nanoTime() - t0;
+					}
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		done.await(5, TimeUnit.MINUTES);
+		long elapsed = System.nanoTime() - started;
+		pool.shutdown();
+		totalElapsedNanos = elapsed;
+		return latencies;
+	}
+
+	private void report(String name, long[] latencies) {
+		long[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		double throughput = sorted.length / (totalElapsedNanos / 1_000_000_000.0);
+		System.out.printf("%-24s attempts=%d throughput=%.0f/s p50=%dus p99=%dus max=%dus%n",
+				name, sorted.length, throughput,
+				sorted[sorted.length / 2] / 1000,
+				sorted[(int) (sorted.length * 0.99)] / 1000,
+				sorted[sorted.length - 1] / 1000);
+	}
+
+	private static List<String> seatNumbers() {
+		List<String> seats = new ArrayList<>(SEATS);
+		for (int i = 1; i <= SEATS; i++) {
+			seats.add(String.valueOf(i));
+		}
+		return seats;
+	}
+
+	@FunctionalInterface
+	private interface SeatAttempt {
+		void run(String seatNumber) throws Exception;
+	}
+}
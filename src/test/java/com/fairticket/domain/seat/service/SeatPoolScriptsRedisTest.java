@@ -0,0 +1,83 @@
+package com.fairticket.domain.seat.service;
+
+import com.fairticket.global.util.RedisKeyGenerator;
+import com.fairticket.support.RedisContainerTest;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 좌석 풀·잔여석 카운터 스크립트 검증 (풀 샤드와 카운터가 같은 슬롯에서 함께 갱신되는지)
+class SeatPoolScriptsRedisTest extends RedisContainerTest {
+
+	private static final long SCHEDULE_ID = 990_001L;
+	private static final String POOL = RedisKeyGenerator.seatsShardKey(SCHEDULE_ID, "A", 3);
+	private static final String COUNTER = RedisKeyGenerator.seatCountKey(POOL);
+
+	private final RedisScript<List> addScript = script("seat_pool_add.lua", List.class);
+	private final RedisScript<List> removeScript = script("seat_pool_remove.lua", List.class);
+	private final RedisScript<List> popScript = script("seat_pool_pop.lua", List.class);
+	private final RedisScript<Long> resyncScript = script("seat_counts_resync.lua", Long.class);
+
+	@Test
+	void counterSharesThePoolSlot() {
+		assertThat(SlotHash.getSlot(COUNTER)).isEqualTo(SlotHash.getSlot(POOL));
+	}
+
+	@Test
+	void addReturnsOnlyNewSeatsAndLeavesMissingCounterAlone() {
+		List<?> result = run(addScript, "1", "2");
+		assertThat(result).containsExactly(-1L, "1", "2");
+		assertThat(redis.hasKey(COUNTER).block()).isFalse();
+
+		assertThat(run(resyncScript)).isEqualTo(2L);
+		assertThat(run(addScript, "2", "3")).containsExactly(3L, "3");
+		assertThat(counter()).isEqualTo(3L);
+	}
+
+	@Test
+	void removeReturnsOnlyRemovedSeatsAndDecrementsCounter() {
+		run(addScript, "1", "2", "3");
+		run(resyncScript);
+
+		assertThat(run(removeScript, "2", "9")).containsExactly(2L, "2");
+		assertThat(run(removeScript, "2")).containsExactly(2L);
+		assertThat(counter()).isEqualTo(2L);
+		assertThat(redis.opsForSet().members(POOL).collectList().block()).containsExactlyInAnyOrder("1", "3");
+	}
+
+	@Test
+	void popTakesOneSeatUntilPoolIsEmpty() {
+		run(addScript, "1");
+		run(resyncScript);
+
+		assertThat(run(popScript)).containsExactly("1", 0L);
+		assertThat(run(popScript)).containsExactly("", 0L);
+		assertThat(counter()).isZero();
+	}
+
+	@Test
+	void resyncRepairsDriftedCounter() {
+		run(addScript, "1", "2", "3");
+		redis.opsForValue().set(COUNTER, "42").block();
+
+		assertThat(run(resyncScript)).isEqualTo(3L);
+		assertThat(counter()).isEqualTo(3L);
+	}
+
+	private <T> T run(RedisScript<T> script, String... seatNumbers) {
+		return redis.execute(script, List.of(POOL, COUNTER), List.of(seatNumbers)).next().block();
+	}
+
+	private long counter() {
+		return Long.parseLong(redis.opsForValue().get(COUNTER).block());
+	}
+
+	private static <T> RedisScript<T> script(String name, Class<T> type) {
+		return RedisScript.of(new ClassPathResource("scripts/" + name), type);
+	}
+}
@@ -0,0 +1,89 @@
+package com.fairticket.global.security;
+
+import com.fairticket.domain.seat.service.SoldOutRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SoldOutFilterTest {
+
+	private static final String BODY = "{\"grade\":\"VIP\",\"zone\":\"A\",\"seatNumber\":\"1\"}";
+
+	private final SoldOutRegistry soldOutRegistry = mock(SoldOutRegistry.class);
+	private final SoldOutFilter filter = new SoldOutFilter(soldOutRegistry, new ObjectMapper());
+	private final AtomicBoolean passed = new AtomicBoolean();
+	private final WebFilterChain chain = exchange -> {
+		passed.set(true);
+		return Mono.empty();
+	};
+
+	@BeforeEach
+	void setUp() {
+		when(soldOutRegistry.isSoldOut(anyLong(), any())).thenReturn(false);
+		when(soldOutRegistry.isSoldOut(1L, "VIP")).thenReturn(true);
+	}
+
+	@Test
+	void seatSelectionForSoldOutGradeIsRejectedByHeader() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/live/1")
+				.header(SoldOutFilter.GRADE_HEADER, "VIP")
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(BODY));
+
+		StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.GONE);
+		assertThat(passed).isFalse();
+	}
+
+	@Test
+	void queueEntryForSoldOutGradeIsRejectedByQueryParam() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(
+				MockServerHttpRequest.post("/api/v1/queue/1/enter").queryParam("grade", "VIP"));
+
+		StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.GONE);
+		assertThat(passed).isFalse();
+	}
+
+	@Test
+	void otherGradePassesThrough() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/live/1")
+				.header(SoldOutFilter.GRADE_HEADER, "R")
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(BODY));
+
+		StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+		assertThat(exchange.getResponse().getStatusCode()).isNull();
+		assertThat(passed).isTrue();
+	}
+
+	@Test
+	void bodyGradeWithoutHeaderIsLeftToTheHandler() {
+		// 본문은 읽지 않는다: 헤더가 없으면 회차 전체 매진만 보고 통과시키고, 서비스가 본문 등급으로 거절한다
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/live/1")
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(BODY));
+
+		StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+		assertThat(passed).isTrue();
+	}
+}
@@ -0,0 +1,67 @@
+package com.fairticket.global.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+	@Test
+	void concurrentCallsShareOneLoad() {
+		SingleFlight<String, String> flight = new SingleFlight<>(Duration.ZERO);
+		AtomicInteger loads = new AtomicInteger();
+		Sinks.One<String> source = Sinks.one();
+
+		Mono<String> first = flight.execute("k", () -> {
+			loads.incrementAndGet();
+			return source.asMono();
+		}).cache();
+		Mono<String> second = flight.execute("k", () -> {
+			loads.incrementAndGet();
+			return Mono.just("other");
+		}).cache();
+		first.subscribe();
+		second.subscribe();
+
+		source.tryEmitValue("value");
+
+		StepVerifier.create(first).expectNext("value").verifyComplete();
+		StepVerifier.create(second).expectNext("value").verifyComplete();
+		assertThat(loads).hasValue(1);
+		assertThat(flight.size()).isZero();
+	}
+
+	@Test
+	void zeroTtlReloadsAfterCompletion() {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ZERO);
+		AtomicInteger loads = new AtomicInteger();
+
+		StepVerifier.create(flight.execute("k", () -> Mono.just(loads.incrementAndGet()))).expectNext(1).verifyComplete();
+		StepVerifier.create(flight.execute("k", () -> Mono.just(loads.incrementAndGet()))).expectNext(2).verifyComplete();
+	}
+
+	@Test
+	void positiveTtlReusesCompletedResult() {
+		SingleFlight<String, Integer> flight = new SingleFlight<>(Duration.ofMinutes(1));
+		AtomicInteger loads = new AtomicInteger();
+
+		StepVerifier.create(flight.execute("k", () -> Mono.just(loads.incrementAndGet()))).expectNext(1).verifyComplete();
+		StepVerifier.create(flight.execute("k", () -> Mono.just(loads.incrementAndGet()))).expectNext(1).verifyComplete();
+		StepVerifier.create(flight.execute("other", () -> Mono.just(loads.incrementAndGet()))).expectNext(2).verifyComplete();
+	}
+
+	@Test
+	void errorsAreNotReused() {
+		SingleFlight<String, String> flight = new SingleFlight<>(Duration.ofMinutes(1));
+
+		StepVerifier.create(flight.execute("k", () -> Mono.error(new IllegalStateException("down"))))
+				.verifyError(IllegalStateException.class);
+		StepVerifier.create(flight.execute("k", () -> Mono.just("ok"))).expectNext("ok").verifyComplete();
+	}
+}
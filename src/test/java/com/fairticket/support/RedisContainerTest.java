@@ -0,0 +1,44 @@
+package com.fairticket.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Lua 스크립트를 실제 Redis(docker-compose와 같은 redis:7-alpine 컨테이너)에서 실행하는 테스트의 공통 설정.
+ * 기본 빌드에서 실행되며, Docker가 없는 환경에서는 건너뛴다. 테스트마다 끝나면 FLUSHALL로 비운다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+			.withExposedPorts(6379);
+
+	private static LettuceConnectionFactory factory;
+	protected static ReactiveRedisTemplate<String, String> redis;
+
+	@BeforeAll
+	static void connect() {
+		factory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+		factory.afterPropertiesSet();
+		redis = new ReactiveRedisTemplate<>(factory, RedisSerializationContext.string());
+	}
+
+	@AfterAll
+	static void disconnect() {
+		factory.destroy();
+	}
+
+	@AfterEach
+	void flush() {
+		redis.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+	}
+}